@@ -0,0 +1,81 @@
+package net.arinoru.collections.benchmark;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * <p>Reproducible element and probe data shared by the benchmarks. Every data
+ * set is generated from a fixed seed, so that runs on different machines and
+ * different revisions of the library measure exactly the same operations.</p>
+ * <p>Elements are distinct and nonnegative, so that every implementation,
+ * including those restricted to nonnegative values, can hold them. A
+ * {@code "dense"} distribution draws elements from {@code [0, 2 * size)}, and a
+ * {@code "sparse"} distribution from {@code [0, 64 * size)}; the immutable set
+ * factories choose a bitmap for the former and a hashed array for the latter.
+ * Misses are drawn from the same range as the elements, so that they exercise
+ * the same parts of a table, bitmap or search space as hits do.</p>
+ */
+final class BenchmarkData {
+    static final int PROBES = 1024;
+    private static final long SEED = 0x5DEECE66DL;
+
+    private BenchmarkData() {}
+
+    /**
+     * <p>Distinct {@code int} elements together with probes which are, and
+     * are not, among them.</p>
+     * @param elements the elements, in random order
+     * @param hits {@link #PROBES} values drawn from the elements
+     * @param misses {@link #PROBES} values not among the elements
+     * @param others elements of a second set, half of which are shared with
+     *               the first, for use by bulk operations
+     */
+    record Ints(int[] elements, int[] hits, int[] misses, int[] others) {}
+
+    static Ints ints(int size, String distribution) {
+        int range = switch (distribution) {
+            case "dense" -> 2 * size;
+            case "sparse" -> 64 * size;
+            default -> throw new IllegalArgumentException(distribution);
+        };
+        var random = new Random(SEED);
+        var candidates = distinct(random, 2 * size, range);
+        var elements = Arrays.copyOf(candidates, size);
+        var absent = Arrays.copyOfRange(candidates, size, 2 * size);
+        var others = new int[size];
+        System.arraycopy(elements, 0, others, 0, size / 2);
+        System.arraycopy(absent, 0, others, size / 2, size - size / 2);
+        return new Ints(elements, sample(random, elements), sample(random, absent), others);
+    }
+
+    static long[] toLongs(int[] a) {
+        // Spread the values over the whole long range while keeping them
+        // distinct, so that longs are not merely ints in disguise
+        return Arrays.stream(a).mapToLong(v -> v * 0x9E3779B97F4A7C15L).toArray();
+    }
+
+    static double[] toDoubles(int[] a) {
+        return Arrays.stream(a).mapToDouble(v -> v * 0.5).toArray();
+    }
+
+    private static int[] distinct(Random random, int n, int range) {
+        Set<Integer> seen = new HashSet<>();
+        var result = new int[n];
+        int i = 0;
+        while (i < n) {
+            int v = random.nextInt(range);
+            if (seen.add(v))
+                result[i++] = v;
+        }
+        return result;
+    }
+
+    private static int[] sample(Random random, int[] values) {
+        var result = new int[PROBES];
+        for (int i = 0; i < PROBES; i++)
+            result[i] = values[random.nextInt(values.length)];
+        return result;
+    }
+}
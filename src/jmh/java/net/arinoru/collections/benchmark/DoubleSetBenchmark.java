@@ -0,0 +1,143 @@
+package net.arinoru.collections.benchmark;
+
+import net.arinoru.collections.DoubleHashSet;
+import net.arinoru.collections.PrimitiveCollections;
+import net.arinoru.collections.PrimitiveSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Read-only operations on every {@code double} set implementation, with a
+ * boxed {@link HashSet} baseline. The elements are those of
+ * {@link IntSetBenchmark}, halved.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DoubleSetBenchmark {
+    @Param({ "DoubleHashSet", "setOf", "sortedSetOf", "HashSet" })
+    public String implementation;
+
+    @Param({ "16", "1024", "65536", "1048576" })
+    public int size;
+
+    @Param({ "dense", "sparse" })
+    public String distribution;
+
+    // Exactly one of set and boxed is non-null
+    private PrimitiveSet.OfDouble set;
+    private PrimitiveSet.OfDouble equalSet;
+    private Set<Double> boxed;
+    private Set<Double> equalBoxed;
+    private double[] hits;
+    private double[] misses;
+
+    private static PrimitiveSet.OfDouble create(String implementation, double[] elements) {
+        return switch (implementation) {
+            case "DoubleHashSet" -> {
+                var set = new DoubleHashSet();
+                for (double v : elements)
+                    set.addDouble(v);
+                yield set;
+            }
+            case "setOf" -> PrimitiveSet.OfDouble.of(elements);
+            case "sortedSetOf" -> PrimitiveCollections.sortedSetOf(elements);
+            default -> throw new IllegalArgumentException(implementation);
+        };
+    }
+
+    private static Set<Double> boxed(double[] elements) {
+        Set<Double> result = new HashSet<>();
+        for (double v : elements)
+            result.add(v);
+        return result;
+    }
+
+    @Setup
+    public void setUp() {
+        var data = BenchmarkData.ints(size, distribution);
+        var elements = BenchmarkData.toDoubles(data.elements());
+        if (implementation.equals("HashSet")) {
+            boxed = boxed(elements);
+            equalBoxed = boxed(elements);
+        } else {
+            set = create(implementation, elements);
+            equalSet = create(implementation.equals("DoubleHashSet") ?
+                    "sortedSetOf" : "DoubleHashSet", elements);
+        }
+        hits = BenchmarkData.toDoubles(data.hits());
+        misses = BenchmarkData.toDoubles(data.misses());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.PROBES)
+    public int containsHit() {
+        return count(hits);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.PROBES)
+    public int containsMiss() {
+        return count(misses);
+    }
+
+    private int count(double[] probes) {
+        int n = 0;
+        if (set != null) {
+            for (double v : probes)
+                if (set.containsDouble(v))
+                    n++;
+        } else {
+            for (double v : probes)
+                if (boxed.contains(v))
+                    n++;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public boolean equalsEqualSet() {
+        return set != null ? PrimitiveCollections.equals(set, equalSet) :
+                boxed.equals(equalBoxed);
+    }
+
+    @Benchmark
+    public int hash() {
+        return set != null ? set.hashCode() : boxed.hashCode();
+    }
+
+    @Benchmark
+    public double parallelStreamSum() {
+        return set != null ? set.parallelPrimitiveStream().sum() :
+                boxed.parallelStream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    @Benchmark
+    public double streamSum() {
+        return set != null ? set.primitiveStream().sum() :
+                boxed.stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    @Benchmark
+    public double[] toPrimitiveArray() {
+        return set != null ? set.toPrimitiveArray() :
+                boxed.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
@@ -0,0 +1,93 @@
+package net.arinoru.collections.benchmark;
+
+import net.arinoru.collections.PrimitiveCollection;
+import net.arinoru.collections.PrimitiveCollections;
+import net.arinoru.collections.PrimitiveSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Membership scans of unsorted arrays, and containment and intersection of
+ * sorted sets, with and without the Vector API. Each fork adds the
+ * {@code jdk.incubator.vector} module; the {@code vectorize} parameter sets
+ * the {@code net.arinoru.collections.vectorize} property before the library
+ * is first used, so that {@code "false"} measures the scalar fallback on the
+ * same JVM.</p>
+ * <p>{@link #scanHits()} and {@link #scanMisses()} probe an array-backed
+ * collection, which scans its whole range for a miss; the sorted set
+ * benchmarks use the sets returned by {@code sortedSetOf}, the second operand
+ * of {@code containsAll} being a subset of half the size, and that of
+ * {@code intersection} sharing half of its elements with the first.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+@State(Scope.Benchmark)
+public class IntKernelsBenchmark {
+    @Param({ "true", "false" })
+    public String vectorize;
+
+    @Param({ "32", "1024", "65536" })
+    public int size;
+
+    private PrimitiveCollection.OfInt array;
+    private int[] hits;
+    private int[] misses;
+    private PrimitiveSet.OfInt sorted;
+    private PrimitiveSet.OfInt sortedSubset;
+    private PrimitiveSet.OfInt sortedOthers;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("net.arinoru.collections.vectorize", vectorize);
+        var data = BenchmarkData.ints(size, "sparse");
+        array = PrimitiveCollections.asCollection(data.elements());
+        hits = data.hits();
+        misses = data.misses();
+        sorted = PrimitiveCollections.sortedSetOf(data.elements());
+        sortedSubset = PrimitiveCollections.sortedSetOf(Arrays.copyOf(data.elements(), size / 2));
+        sortedOthers = PrimitiveCollections.sortedSetOf(data.others());
+    }
+
+    @Benchmark
+    public int scanHits() {
+        int found = 0;
+        for (int i : hits)
+            if (array.containsInt(i))
+                found++;
+        return found;
+    }
+
+    @Benchmark
+    public int scanMisses() {
+        int found = 0;
+        for (int i : misses)
+            if (array.containsInt(i))
+                found++;
+        return found;
+    }
+
+    @Benchmark
+    public boolean containsAllSorted() {
+        return sorted.containsAll(sortedSubset);
+    }
+
+    @Benchmark
+    public Object intersectionSorted() {
+        return PrimitiveCollections.intersection(sorted, sortedOthers);
+    }
+}
@@ -0,0 +1,166 @@
+package net.arinoru.collections.benchmark;
+
+import net.arinoru.collections.IntBitmapSet;
+import net.arinoru.collections.IntHashSet;
+import net.arinoru.collections.PrimitiveCollections;
+import net.arinoru.collections.PrimitiveSet;
+import net.arinoru.collections.RoaringIntSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Read-only operations on every {@code int} set implementation, with a
+ * boxed {@link HashSet} baseline. The {@code "setOf"} and {@code "sortedSetOf"}
+ * implementations are the immutable sets returned by
+ * {@link PrimitiveSet.OfInt#of(int...)} and
+ * {@link PrimitiveCollections#sortedSetOf(int...)}; which class the former
+ * chooses depends on the size and distribution of the elements.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IntSetBenchmark {
+    @Param({ "IntHashSet", "IntBitmapSet", "RoaringIntSet", "setOf", "sortedSetOf", "HashSet" })
+    public String implementation;
+
+    @Param({ "16", "1024", "65536", "1048576" })
+    public int size;
+
+    @Param({ "dense", "sparse" })
+    public String distribution;
+
+    // Exactly one of set and boxed is non-null
+    private PrimitiveSet.OfInt set;
+    private PrimitiveSet.OfInt equalSet;
+    private Set<Integer> boxed;
+    private Set<Integer> equalBoxed;
+    private int[] hits;
+    private int[] misses;
+
+    static PrimitiveSet.OfInt create(String implementation, int[] elements) {
+        return switch (implementation) {
+            case "IntHashSet" -> addAll(new IntHashSet(), elements);
+            case "IntBitmapSet" -> addAll(new IntBitmapSet(), elements);
+            case "RoaringIntSet" -> addAll(new RoaringIntSet(), elements);
+            case "setOf" -> PrimitiveSet.OfInt.of(elements);
+            case "sortedSetOf" -> PrimitiveCollections.sortedSetOf(elements);
+            default -> throw new IllegalArgumentException(implementation);
+        };
+    }
+
+    static Set<Integer> boxed(int[] elements) {
+        Set<Integer> result = new HashSet<>();
+        for (int v : elements)
+            result.add(v);
+        return result;
+    }
+
+    private static PrimitiveSet.OfInt addAll(PrimitiveSet.OfInt set, int[] elements) {
+        for (int v : elements)
+            set.addInt(v);
+        return set;
+    }
+
+    @Setup
+    public void setUp() {
+        var data = BenchmarkData.ints(size, distribution);
+        if (implementation.equals("HashSet")) {
+            boxed = boxed(data.elements());
+            equalBoxed = boxed(data.elements());
+        } else {
+            set = create(implementation, data.elements());
+            // A set of another class, so that equality is decided element by
+            // element rather than by a representation-specific shortcut
+            equalSet = create(implementation.equals("IntHashSet") ?
+                    "sortedSetOf" : "IntHashSet", data.elements());
+        }
+        hits = data.hits();
+        misses = data.misses();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.PROBES)
+    public int containsHit() {
+        return count(hits);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.PROBES)
+    public int containsMiss() {
+        return count(misses);
+    }
+
+    private int count(int[] probes) {
+        int n = 0;
+        if (set != null) {
+            for (int v : probes)
+                if (set.containsInt(v))
+                    n++;
+        } else {
+            for (int v : probes)
+                if (boxed.contains(v))
+                    n++;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public boolean equalsEqualSet() {
+        return set != null ? PrimitiveCollections.equals(set, equalSet) :
+                boxed.equals(equalBoxed);
+    }
+
+    @Benchmark
+    public int hash() {
+        return set != null ? set.hashCode() : boxed.hashCode();
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        if (set != null) {
+            var iterator = set.iterator();
+            while (iterator.hasNext())
+                sum += iterator.nextInt();
+        } else {
+            for (int v : boxed)
+                sum += v;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return set != null ? set.parallelPrimitiveStream().asLongStream().sum() :
+                boxed.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return set != null ? set.primitiveStream().asLongStream().sum() :
+                boxed.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public int[] toPrimitiveArray() {
+        return set != null ? set.toPrimitiveArray() :
+                boxed.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,144 @@
+package net.arinoru.collections.benchmark;
+
+import net.arinoru.collections.PrimitiveSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Bulk operations on the mutable {@code int} set implementations, with a
+ * boxed {@link HashSet} baseline. The second operand of {@code addAll},
+ * {@code removeAll} and {@code retainAll} shares half of its elements with the
+ * first; that of {@code containsAll} is a subset of it, so that the whole of
+ * the operand is examined.</p>
+ * <p>Bulk operations modify their receiver, so each invocation first copies
+ * the receiver with {@code addAll} into an empty set; {@link #copy()} measures
+ * that step alone, and should be subtracted from the other results. The
+ * {@code ...SameImplementation} benchmarks pass a second operand of the same
+ * class as the receiver, which the bitmap-backed sets process a word or
+ * container at a time; the others pass an immutable set, which every
+ * implementation processes element by element.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IntSetBulkBenchmark {
+    @Param({ "IntHashSet", "IntBitmapSet", "RoaringIntSet", "HashSet" })
+    public String implementation;
+
+    @Param({ "1024", "65536", "1048576" })
+    public int size;
+
+    @Param({ "dense", "sparse" })
+    public String distribution;
+
+    private PrimitiveSet.OfInt set;
+    private PrimitiveSet.OfInt sameImplementation;
+    private PrimitiveSet.OfInt subset;
+    private PrimitiveSet.OfInt immutable;
+    private Set<Integer> boxed;
+    private Set<Integer> otherBoxed;
+    private Set<Integer> subsetBoxed;
+
+    @Setup
+    public void setUp() {
+        var data = BenchmarkData.ints(size, distribution);
+        var half = Arrays.copyOf(data.elements(), size / 2);
+        if (implementation.equals("HashSet")) {
+            boxed = IntSetBenchmark.boxed(data.elements());
+            otherBoxed = IntSetBenchmark.boxed(data.others());
+            subsetBoxed = IntSetBenchmark.boxed(half);
+        } else {
+            set = IntSetBenchmark.create(implementation, data.elements());
+            sameImplementation = IntSetBenchmark.create(implementation, data.others());
+            subset = IntSetBenchmark.create(implementation, half);
+            immutable = PrimitiveSet.OfInt.of(data.others());
+        }
+    }
+
+    private PrimitiveSet.OfInt copyOfSet() {
+        var result = IntSetBenchmark.create(implementation, new int[0]);
+        result.addAll(set);
+        return result;
+    }
+
+    @Benchmark
+    public Object copy() {
+        return set != null ? copyOfSet() : new HashSet<>(boxed);
+    }
+
+    @Benchmark
+    public Object addAllSameImplementation() {
+        if (set == null) {
+            var result = new HashSet<>(boxed);
+            result.addAll(otherBoxed);
+            return result;
+        }
+        var result = copyOfSet();
+        result.addAll(sameImplementation);
+        return result;
+    }
+
+    @Benchmark
+    public Object addAllImmutable() {
+        if (set == null)
+            return addAllSameImplementation();
+        var result = copyOfSet();
+        result.addAll(immutable);
+        return result;
+    }
+
+    @Benchmark
+    public boolean containsAllSubsetSameImplementation() {
+        return set != null ? set.containsAll(subset) : boxed.containsAll(subsetBoxed);
+    }
+
+    @Benchmark
+    public Object removeAllSameImplementation() {
+        if (set == null) {
+            var result = new HashSet<>(boxed);
+            result.removeAll(otherBoxed);
+            return result;
+        }
+        var result = copyOfSet();
+        result.removeAll(sameImplementation);
+        return result;
+    }
+
+    @Benchmark
+    public Object retainAllSameImplementation() {
+        if (set == null) {
+            var result = new HashSet<>(boxed);
+            result.retainAll(otherBoxed);
+            return result;
+        }
+        var result = copyOfSet();
+        result.retainAll(sameImplementation);
+        return result;
+    }
+
+    @Benchmark
+    public Object retainAllImmutable() {
+        if (set == null)
+            return retainAllSameImplementation();
+        var result = copyOfSet();
+        result.retainAll(immutable);
+        return result;
+    }
+}
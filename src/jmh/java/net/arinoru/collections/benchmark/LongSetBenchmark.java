@@ -0,0 +1,144 @@
+package net.arinoru.collections.benchmark;
+
+import net.arinoru.collections.LongHashSet;
+import net.arinoru.collections.PrimitiveCollections;
+import net.arinoru.collections.PrimitiveSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Read-only operations on every {@code long} set implementation, with a
+ * boxed {@link HashSet} baseline. The elements are those of
+ * {@link IntSetBenchmark}, multiplied by an odd constant so that they spread
+ * over the whole {@code long} range.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LongSetBenchmark {
+    @Param({ "LongHashSet", "setOf", "sortedSetOf", "HashSet" })
+    public String implementation;
+
+    @Param({ "16", "1024", "65536", "1048576" })
+    public int size;
+
+    @Param({ "dense", "sparse" })
+    public String distribution;
+
+    // Exactly one of set and boxed is non-null
+    private PrimitiveSet.OfLong set;
+    private PrimitiveSet.OfLong equalSet;
+    private Set<Long> boxed;
+    private Set<Long> equalBoxed;
+    private long[] hits;
+    private long[] misses;
+
+    private static PrimitiveSet.OfLong create(String implementation, long[] elements) {
+        return switch (implementation) {
+            case "LongHashSet" -> {
+                var set = new LongHashSet();
+                for (long v : elements)
+                    set.addLong(v);
+                yield set;
+            }
+            case "setOf" -> PrimitiveSet.OfLong.of(elements);
+            case "sortedSetOf" -> PrimitiveCollections.sortedSetOf(elements);
+            default -> throw new IllegalArgumentException(implementation);
+        };
+    }
+
+    private static Set<Long> boxed(long[] elements) {
+        Set<Long> result = new HashSet<>();
+        for (long v : elements)
+            result.add(v);
+        return result;
+    }
+
+    @Setup
+    public void setUp() {
+        var data = BenchmarkData.ints(size, distribution);
+        var elements = BenchmarkData.toLongs(data.elements());
+        if (implementation.equals("HashSet")) {
+            boxed = boxed(elements);
+            equalBoxed = boxed(elements);
+        } else {
+            set = create(implementation, elements);
+            equalSet = create(implementation.equals("LongHashSet") ?
+                    "sortedSetOf" : "LongHashSet", elements);
+        }
+        hits = BenchmarkData.toLongs(data.hits());
+        misses = BenchmarkData.toLongs(data.misses());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.PROBES)
+    public int containsHit() {
+        return count(hits);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.PROBES)
+    public int containsMiss() {
+        return count(misses);
+    }
+
+    private int count(long[] probes) {
+        int n = 0;
+        if (set != null) {
+            for (long v : probes)
+                if (set.containsLong(v))
+                    n++;
+        } else {
+            for (long v : probes)
+                if (boxed.contains(v))
+                    n++;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public boolean equalsEqualSet() {
+        return set != null ? PrimitiveCollections.equals(set, equalSet) :
+                boxed.equals(equalBoxed);
+    }
+
+    @Benchmark
+    public int hash() {
+        return set != null ? set.hashCode() : boxed.hashCode();
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return set != null ? set.parallelPrimitiveStream().sum() :
+                boxed.parallelStream().mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return set != null ? set.primitiveStream().sum() :
+                boxed.stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long[] toPrimitiveArray() {
+        return set != null ? set.toPrimitiveArray() :
+                boxed.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,103 @@
+package net.arinoru.collections.benchmark;
+
+import net.arinoru.collections.IntHashSet;
+import net.arinoru.collections.PrimitiveCollection;
+import net.arinoru.collections.PrimitiveCollections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>The cost of forwarding through the unmodifiable views returned by
+ * {@link PrimitiveCollections#unmodifiableSet(net.arinoru.collections.PrimitiveSet.OfInt)}
+ * and
+ * {@link PrimitiveCollections#unmodifiableCollection(PrimitiveCollection.OfInt)},
+ * compared with calling the backing {@link IntHashSet} directly.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ViewsBenchmark {
+    @Param({ "direct", "unmodifiableSet", "unmodifiableCollection" })
+    public String view;
+
+    @Param({ "1024", "1048576" })
+    public int size;
+
+    private PrimitiveCollection.OfInt collection;
+    private int[] hits;
+
+    @Setup
+    public void setUp() {
+        var data = BenchmarkData.ints(size, "sparse");
+        var set = new IntHashSet();
+        for (int v : data.elements())
+            set.addInt(v);
+        collection = switch (view) {
+            case "direct" -> set;
+            case "unmodifiableSet" -> PrimitiveCollections.unmodifiableSet(set);
+            case "unmodifiableCollection" -> PrimitiveCollections.unmodifiableCollection(set);
+            default -> throw new IllegalArgumentException(view);
+        };
+        hits = data.hits();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.PROBES)
+    public int containsHit() {
+        int n = 0;
+        for (int v : hits)
+            if (collection.containsInt(v))
+                n++;
+        return n;
+    }
+
+    @Benchmark
+    public long forEachSum() {
+        long[] sum = new long[1];
+        collection.forEach((int v) -> sum[0] += v);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        var iterator = collection.iterator();
+        while (iterator.hasNext())
+            sum += iterator.nextInt();
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkData.PROBES)
+    public long size() {
+        long n = 0;
+        for (int i = 0; i < BenchmarkData.PROBES; i++)
+            n += collection.size();
+        return n;
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return collection.primitiveStream().asLongStream().sum();
+    }
+
+    @Benchmark
+    public int[] toPrimitiveArray() {
+        return collection.toPrimitiveArray();
+    }
+}
@@ -0,0 +1,1108 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.*;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+// Some of the content of this class is imported and adapted from OpenJDK 11
+// java.util.AbstractList
+
+/**
+ * <p>This class provides a skeletal implementation of the {@link PrimitiveList}
+ * interface to minimize the effort required to implement this interface
+ * backed by a "random access" data store (such as an array). It is intended
+ * as a rough equivalent to the {@link java.util.AbstractList} class from the
+ * Java Collections Framework.</p>
+ * <p>The process of implementing a primitive list by extending one of the
+ * nested subclasses of this class is almost identical to that of implementing
+ * a List by extending AbstractList, except that the primitive accessors are
+ * implemented instead of the boxed ones. To implement an unmodifiable list,
+ * the programmer needs only to extend the appropriate nested subclass and
+ * provide implementations for the {@code size} method and the primitive
+ * {@code get} method (such as {@link OfInt#getInt(int)}). To implement a
+ * modifiable list, the programmer must additionally override the primitive
+ * {@code set} method, and, if the list is variable-size, the primitive
+ * {@code add(int, ...)} and {@code removeAt} methods.</p>
+ * <p>Unlike the other abstract collection implementations, the programmer
+ * does not have to provide an iterator implementation; the list iterator,
+ * and the sublists, are implemented by the nested subclasses on top of the
+ * "random access" methods, and are <em>fail-fast</em> with respect to the
+ * {@link #modCount} field.</p>
+ * @param <T> The boxed type of elements contained within this list
+ * @param <T_ARR> The type of arrays who have the list's primitive element type
+ *               as their runtime component type
+ * @param <T_CONS> The type of primitive consumer
+ * @param <T_PRED> The type of primitive predicate
+ * @param <T_SPLITR> The type of primitive spliterator
+ * @param <T_STR> The type of primitive stream
+ * @param <T_COLL> The type of the underlying primitive collection specialization
+ *                corresponding to this list's element type
+ */
+@PrereleaseContent
+public abstract class AbstractPrimitiveList<T,T_ARR,T_CONS,T_PRED,
+        T_SPLITR extends Spliterator.OfPrimitive<T,T_CONS,T_SPLITR>,
+        T_STR extends BaseStream<T,T_STR>,
+        T_COLL extends PrimitiveCollection<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL>>
+        implements PrimitiveList<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL> {
+    /**
+     * <p>The number of times this list has been <em>structurally
+     * modified</em>. Structural modifications are those that change the size
+     * of the list, or otherwise perturb it in such a fashion that iterations in
+     * progress may yield incorrect results.</p>
+     * <p>This field is used by the list iterator and sublist implementations
+     * of the nested subclasses, which throw a
+     * {@code ConcurrentModificationException} in response to an unexpected
+     * change to it, as described for {@link java.util.AbstractList#modCount}.
+     * Subclasses which modify the list structurally must increment it.</p>
+     */
+    protected transient int modCount = 0;
+
+    /**
+     * <p>Sole constructor. (For invocation by subclass constructors, typically
+     * implicit.)</p>
+     */
+    protected AbstractPrimitiveList() {
+    }
+
+    /**
+     * <p>Compares the specified object with this list for equality, as per the
+     * contract required by {@link List#equals(Object)}.</p>
+     * @implNote <p>This method simply delegates to the
+     * {@link PrimitiveCollections#equals(PrimitiveList, Object)} method.</p>
+     * @param o object to be compared for equality with this list
+     * @return {@code true} if the specified object is equal to this list
+     * @see PrimitiveCollections#equals(PrimitiveList, Object)
+     * @see Object#equals(Object)
+     * @see List#equals(Object)
+     * @see PrimitiveList#equals(Object)
+     */
+    @Override
+    @SuppressWarnings("EqualsDoesntCheckParameterClass")
+    public boolean equals(Object o) {
+        return PrimitiveCollections.equals(this, o);
+    }
+
+    /**
+     * <p>Returns the hash code value for this list, as per the contract
+     * required by {@link List#hashCode()}</p>
+     * @implNote <p>This method simply delegates to the
+     * {@link PrimitiveCollections#hashCode(PrimitiveList)} method.</p>
+     * @return the hash code value for this list
+     * @see PrimitiveCollections#hashCode(PrimitiveList)
+     * @see Object#hashCode()
+     * @see List#hashCode()
+     * @see PrimitiveList#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return PrimitiveCollections.hashCode(this);
+    }
+
+    /**
+     * <p>Returns the number of elements in this list. Implementations are
+     * required to override this to provide the count of the elements in the
+     * list.</p>
+     * @return the number of elements in this list
+     */
+    @Override
+    public abstract int size();
+
+    /**
+     * <p>This class provides a skeletal implementation of the
+     * {@link PrimitiveList.OfDouble} interface to minimize the effort required to
+     * implement this interface backed by a "random access" data store.</p>
+     * <p>Beyond the implementations provided by {@link AbstractPrimitiveList},
+     * this class implements {@code clear}, {@code listIterator} and
+     * {@code subList} on top of the primitive positional access methods.</p>
+     */
+    @PrereleaseContent
+    public static abstract class OfDouble extends AbstractPrimitiveList<Double,
+            double[],DoubleConsumer,DoublePredicate,Spliterator.OfDouble,DoubleStream,
+            PrimitiveCollection.OfDouble> implements PrimitiveList.OfDouble {
+        /**
+         * <p>Sole constructor. (For invocation by subclass constructors,
+         * typically implicit.)</p>
+         */
+        protected OfDouble() {
+        }
+
+        /**
+         * <p>Removes all of the elements from this list (optional operation).
+         * The list will be empty after this call returns.</p>
+         * @implSpec <p>This implementation calls
+         * {@code removeRange(0, size())}.</p>
+         * @throws UnsupportedOperationException if the {@code clear} operation
+         * is not supported by this list
+         */
+        @Override
+        public void clear() {
+            removeRange(0, size());
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.
+         * Implementations are required to override this to provide a source of
+         * elements for the list.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        @Override
+        public abstract double getDouble(int index);
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence), starting at the specified position in the
+         * list.</p>
+         * @implSpec <p>This implementation returns a straightforward
+         * implementation of the {@code PrimitiveListIterator.OfDouble} interface
+         * that relies on the backing list's {@code getDouble(int)},
+         * {@code setDouble(int, double)}, {@code addDouble(int, double)} and
+         * {@code removeAt(int)} methods, and which is <em>fail-fast</em> with
+         * respect to the {@code modCount} field.</p>
+         * @param index index of the first element to be returned from the list
+         *              iterator (by a call to {@code nextDouble})
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence), starting at the specified position in the list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        @Override
+        public PrimitiveListIterator.OfDouble listIterator(int index) {
+            Objects.checkIndex(index, size() + 1);
+            return new ListItr(index);
+        }
+
+        /**
+         * <p>Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Shifts
+         * any succeeding elements to the left (reduces their index).</p>
+         * <p>This method is called by the {@code clear} operation on this list
+         * and its sublists. Overriding this method to take advantage of the
+         * internals of the list implementation can substantially improve the
+         * performance of the {@code clear} operation on this list and its
+         * sublists.</p>
+         * @implSpec <p>This implementation gets a list iterator positioned
+         * before {@code fromIndex}, and repeatedly calls
+         * {@code ListIterator.nextDouble} followed by {@code ListIterator.remove}
+         * until the entire range has been removed.</p>
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var iterator = listIterator(fromIndex);
+            for (int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                iterator.nextDouble();
+                iterator.remove();
+            }
+        }
+
+        /**
+         * <p>Returns a view of the portion of this list between the specified
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.</p>
+         * @implSpec <p>This implementation returns a list that subclasses
+         * {@code AbstractPrimitiveList.OfDouble}. The subclass stores, in private
+         * fields, the size of the subList (which can change over its
+         * lifetime), and the expected {@code modCount} value of the backing
+         * list. All of its methods first check that the actual
+         * {@code modCount} of the backing list is equal to its expected value,
+         * and throw a {@code ConcurrentModificationException} if it is
+         * not, before delegating to the backing list with the indices offset
+         * by the position of the subList.</p>
+         * @param fromIndex low endpoint (inclusive) of the subList
+         * @param toIndex high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException for an illegal endpoint index value
+         * ({@code fromIndex < 0 || toIndex > size || fromIndex > toIndex})
+         */
+        @Override
+        public PrimitiveList.OfDouble subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size());
+            return new SubList(this, fromIndex, toIndex);
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfDouble {
+            private int cursor;
+            private int lastRet = -1;
+            private int expectedModCount = modCount;
+
+            ListItr(int index) {
+                cursor = index;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void addDouble(double d) {
+                checkForComodification();
+                try {
+                    int index = cursor;
+                    AbstractPrimitiveList.OfDouble.this.addDouble(index, d);
+                    lastRet = -1;
+                    cursor = index + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return cursor != size();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return cursor != 0;
+            }
+
+            @Override
+            public double nextDouble() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    double next = getDouble(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            @Override
+            public int nextIndex() {
+                return cursor;
+            }
+
+            @Override
+            public double previousDouble() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    double previous = getDouble(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            @Override
+            public int previousIndex() {
+                return cursor - 1;
+            }
+
+            @Override
+            public void remove() {
+                if (lastRet < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    removeAt(lastRet);
+                    if (lastRet < cursor)
+                        cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public void setDouble(double d) {
+                if (lastRet < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    AbstractPrimitiveList.OfDouble.this.setDouble(lastRet, d);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+
+        // A sublist tracks its own size and expected modCount; structural
+        // modifications through it are applied to the root list, and the new
+        // size and modCount are then propagated to each of its ancestors.
+        private static class SubList extends AbstractPrimitiveList.OfDouble {
+            private final AbstractPrimitiveList.OfDouble root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(AbstractPrimitiveList.OfDouble root, int fromIndex, int toIndex) {
+                this.root = root;
+                this.parent = null;
+                this.offset = fromIndex;
+                this.size = toIndex - fromIndex;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int fromIndex, int toIndex) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + fromIndex;
+                this.size = toIndex - fromIndex;
+                this.modCount = root.modCount;
+            }
+
+            private void checkForComodification() {
+                if (root.modCount != modCount)
+                    throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                var slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+
+            @Override
+            public boolean addAll(PrimitiveCollection.OfDouble c) {
+                return addAll(size, c);
+            }
+
+            @Override
+            public boolean addAll(int index, PrimitiveCollection.OfDouble c) {
+                Objects.checkIndex(index, size + 1);
+                int cSize = c.size();
+                if (cSize == 0)
+                    return false;
+                checkForComodification();
+                root.addAll(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            @Override
+            public void addDouble(int index, double d) {
+                Objects.checkIndex(index, size + 1);
+                checkForComodification();
+                root.addDouble(offset + index, d);
+                updateSizeAndModCount(1);
+            }
+
+            @Override
+            public double getDouble(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getDouble(offset + index);
+            }
+
+            @Override
+            public double removeAt(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                double result = root.removeAt(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            @Override
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            @Override
+            public double setDouble(int index, double d) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setDouble(offset + index, d);
+            }
+
+            @Override
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            @Override
+            public PrimitiveList.OfDouble subList(int fromIndex, int toIndex) {
+                Objects.checkFromToIndex(fromIndex, toIndex, size);
+                return new SubList(this, fromIndex, toIndex);
+            }
+        }
+    }
+
+    /**
+     * <p>This class provides a skeletal implementation of the
+     * {@link PrimitiveList.OfInt} interface to minimize the effort required to
+     * implement this interface backed by a "random access" data store.</p>
+     * <p>Beyond the implementations provided by {@link AbstractPrimitiveList},
+     * this class implements {@code clear}, {@code listIterator} and
+     * {@code subList} on top of the primitive positional access methods.</p>
+     */
+    @PrereleaseContent
+    public static abstract class OfInt extends AbstractPrimitiveList<Integer,
+            int[],IntConsumer,IntPredicate,Spliterator.OfInt,IntStream,
+            PrimitiveCollection.OfInt> implements PrimitiveList.OfInt {
+        /**
+         * <p>Sole constructor. (For invocation by subclass constructors,
+         * typically implicit.)</p>
+         */
+        protected OfInt() {
+        }
+
+        /**
+         * <p>Removes all of the elements from this list (optional operation).
+         * The list will be empty after this call returns.</p>
+         * @implSpec <p>This implementation calls
+         * {@code removeRange(0, size())}.</p>
+         * @throws UnsupportedOperationException if the {@code clear} operation
+         * is not supported by this list
+         */
+        @Override
+        public void clear() {
+            removeRange(0, size());
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.
+         * Implementations are required to override this to provide a source of
+         * elements for the list.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        @Override
+        public abstract int getInt(int index);
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence), starting at the specified position in the
+         * list.</p>
+         * @implSpec <p>This implementation returns a straightforward
+         * implementation of the {@code PrimitiveListIterator.OfInt} interface
+         * that relies on the backing list's {@code getInt(int)},
+         * {@code setInt(int, int)}, {@code addInt(int, int)} and
+         * {@code removeAt(int)} methods, and which is <em>fail-fast</em> with
+         * respect to the {@code modCount} field.</p>
+         * @param index index of the first element to be returned from the list
+         *              iterator (by a call to {@code nextInt})
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence), starting at the specified position in the list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        @Override
+        public PrimitiveListIterator.OfInt listIterator(int index) {
+            Objects.checkIndex(index, size() + 1);
+            return new ListItr(index);
+        }
+
+        /**
+         * <p>Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Shifts
+         * any succeeding elements to the left (reduces their index).</p>
+         * <p>This method is called by the {@code clear} operation on this list
+         * and its sublists. Overriding this method to take advantage of the
+         * internals of the list implementation can substantially improve the
+         * performance of the {@code clear} operation on this list and its
+         * sublists.</p>
+         * @implSpec <p>This implementation gets a list iterator positioned
+         * before {@code fromIndex}, and repeatedly calls
+         * {@code ListIterator.nextInt} followed by {@code ListIterator.remove}
+         * until the entire range has been removed.</p>
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var iterator = listIterator(fromIndex);
+            for (int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                iterator.nextInt();
+                iterator.remove();
+            }
+        }
+
+        /**
+         * <p>Returns a view of the portion of this list between the specified
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.</p>
+         * @implSpec <p>This implementation returns a list that subclasses
+         * {@code AbstractPrimitiveList.OfInt}. The subclass stores, in private
+         * fields, the size of the subList (which can change over its
+         * lifetime), and the expected {@code modCount} value of the backing
+         * list. All of its methods first check that the actual
+         * {@code modCount} of the backing list is equal to its expected value,
+         * and throw a {@code ConcurrentModificationException} if it is
+         * not, before delegating to the backing list with the indices offset
+         * by the position of the subList.</p>
+         * @param fromIndex low endpoint (inclusive) of the subList
+         * @param toIndex high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException for an illegal endpoint index value
+         * ({@code fromIndex < 0 || toIndex > size || fromIndex > toIndex})
+         */
+        @Override
+        public PrimitiveList.OfInt subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size());
+            return new SubList(this, fromIndex, toIndex);
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfInt {
+            private int cursor;
+            private int lastRet = -1;
+            private int expectedModCount = modCount;
+
+            ListItr(int index) {
+                cursor = index;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void addInt(int i) {
+                checkForComodification();
+                try {
+                    int index = cursor;
+                    AbstractPrimitiveList.OfInt.this.addInt(index, i);
+                    lastRet = -1;
+                    cursor = index + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return cursor != size();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return cursor != 0;
+            }
+
+            @Override
+            public int nextInt() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    int next = getInt(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            @Override
+            public int nextIndex() {
+                return cursor;
+            }
+
+            @Override
+            public int previousInt() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    int previous = getInt(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            @Override
+            public int previousIndex() {
+                return cursor - 1;
+            }
+
+            @Override
+            public void remove() {
+                if (lastRet < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    removeAt(lastRet);
+                    if (lastRet < cursor)
+                        cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public void setInt(int i) {
+                if (lastRet < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    AbstractPrimitiveList.OfInt.this.setInt(lastRet, i);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+
+        // A sublist tracks its own size and expected modCount; structural
+        // modifications through it are applied to the root list, and the new
+        // size and modCount are then propagated to each of its ancestors.
+        private static class SubList extends AbstractPrimitiveList.OfInt {
+            private final AbstractPrimitiveList.OfInt root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(AbstractPrimitiveList.OfInt root, int fromIndex, int toIndex) {
+                this.root = root;
+                this.parent = null;
+                this.offset = fromIndex;
+                this.size = toIndex - fromIndex;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int fromIndex, int toIndex) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + fromIndex;
+                this.size = toIndex - fromIndex;
+                this.modCount = root.modCount;
+            }
+
+            private void checkForComodification() {
+                if (root.modCount != modCount)
+                    throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                var slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+
+            @Override
+            public boolean addAll(PrimitiveCollection.OfInt c) {
+                return addAll(size, c);
+            }
+
+            @Override
+            public boolean addAll(int index, PrimitiveCollection.OfInt c) {
+                Objects.checkIndex(index, size + 1);
+                int cSize = c.size();
+                if (cSize == 0)
+                    return false;
+                checkForComodification();
+                root.addAll(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            @Override
+            public void addInt(int index, int i) {
+                Objects.checkIndex(index, size + 1);
+                checkForComodification();
+                root.addInt(offset + index, i);
+                updateSizeAndModCount(1);
+            }
+
+            @Override
+            public int getInt(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getInt(offset + index);
+            }
+
+            @Override
+            public int removeAt(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                int result = root.removeAt(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            @Override
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            @Override
+            public int setInt(int index, int i) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setInt(offset + index, i);
+            }
+
+            @Override
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            @Override
+            public PrimitiveList.OfInt subList(int fromIndex, int toIndex) {
+                Objects.checkFromToIndex(fromIndex, toIndex, size);
+                return new SubList(this, fromIndex, toIndex);
+            }
+        }
+    }
+
+    /**
+     * <p>This class provides a skeletal implementation of the
+     * {@link PrimitiveList.OfLong} interface to minimize the effort required to
+     * implement this interface backed by a "random access" data store.</p>
+     * <p>Beyond the implementations provided by {@link AbstractPrimitiveList},
+     * this class implements {@code clear}, {@code listIterator} and
+     * {@code subList} on top of the primitive positional access methods.</p>
+     */
+    @PrereleaseContent
+    public static abstract class OfLong extends AbstractPrimitiveList<Long,
+            long[],LongConsumer,LongPredicate,Spliterator.OfLong,LongStream,
+            PrimitiveCollection.OfLong> implements PrimitiveList.OfLong {
+        /**
+         * <p>Sole constructor. (For invocation by subclass constructors,
+         * typically implicit.)</p>
+         */
+        protected OfLong() {
+        }
+
+        /**
+         * <p>Removes all of the elements from this list (optional operation).
+         * The list will be empty after this call returns.</p>
+         * @implSpec <p>This implementation calls
+         * {@code removeRange(0, size())}.</p>
+         * @throws UnsupportedOperationException if the {@code clear} operation
+         * is not supported by this list
+         */
+        @Override
+        public void clear() {
+            removeRange(0, size());
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.
+         * Implementations are required to override this to provide a source of
+         * elements for the list.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        @Override
+        public abstract long getLong(int index);
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence), starting at the specified position in the
+         * list.</p>
+         * @implSpec <p>This implementation returns a straightforward
+         * implementation of the {@code PrimitiveListIterator.OfLong} interface
+         * that relies on the backing list's {@code getLong(int)},
+         * {@code setLong(int, long)}, {@code addLong(int, long)} and
+         * {@code removeAt(int)} methods, and which is <em>fail-fast</em> with
+         * respect to the {@code modCount} field.</p>
+         * @param index index of the first element to be returned from the list
+         *              iterator (by a call to {@code nextLong})
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence), starting at the specified position in the list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        @Override
+        public PrimitiveListIterator.OfLong listIterator(int index) {
+            Objects.checkIndex(index, size() + 1);
+            return new ListItr(index);
+        }
+
+        /**
+         * <p>Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Shifts
+         * any succeeding elements to the left (reduces their index).</p>
+         * <p>This method is called by the {@code clear} operation on this list
+         * and its sublists. Overriding this method to take advantage of the
+         * internals of the list implementation can substantially improve the
+         * performance of the {@code clear} operation on this list and its
+         * sublists.</p>
+         * @implSpec <p>This implementation gets a list iterator positioned
+         * before {@code fromIndex}, and repeatedly calls
+         * {@code ListIterator.nextLong} followed by {@code ListIterator.remove}
+         * until the entire range has been removed.</p>
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var iterator = listIterator(fromIndex);
+            for (int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                iterator.nextLong();
+                iterator.remove();
+            }
+        }
+
+        /**
+         * <p>Returns a view of the portion of this list between the specified
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.</p>
+         * @implSpec <p>This implementation returns a list that subclasses
+         * {@code AbstractPrimitiveList.OfLong}. The subclass stores, in private
+         * fields, the size of the subList (which can change over its
+         * lifetime), and the expected {@code modCount} value of the backing
+         * list. All of its methods first check that the actual
+         * {@code modCount} of the backing list is equal to its expected value,
+         * and throw a {@code ConcurrentModificationException} if it is
+         * not, before delegating to the backing list with the indices offset
+         * by the position of the subList.</p>
+         * @param fromIndex low endpoint (inclusive) of the subList
+         * @param toIndex high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException for an illegal endpoint index value
+         * ({@code fromIndex < 0 || toIndex > size || fromIndex > toIndex})
+         */
+        @Override
+        public PrimitiveList.OfLong subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size());
+            return new SubList(this, fromIndex, toIndex);
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfLong {
+            private int cursor;
+            private int lastRet = -1;
+            private int expectedModCount = modCount;
+
+            ListItr(int index) {
+                cursor = index;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void addLong(long l) {
+                checkForComodification();
+                try {
+                    int index = cursor;
+                    AbstractPrimitiveList.OfLong.this.addLong(index, l);
+                    lastRet = -1;
+                    cursor = index + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return cursor != size();
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return cursor != 0;
+            }
+
+            @Override
+            public long nextLong() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    long next = getLong(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            @Override
+            public int nextIndex() {
+                return cursor;
+            }
+
+            @Override
+            public long previousLong() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    long previous = getLong(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            @Override
+            public int previousIndex() {
+                return cursor - 1;
+            }
+
+            @Override
+            public void remove() {
+                if (lastRet < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    removeAt(lastRet);
+                    if (lastRet < cursor)
+                        cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            @Override
+            public void setLong(long l) {
+                if (lastRet < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    AbstractPrimitiveList.OfLong.this.setLong(lastRet, l);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+
+        // A sublist tracks its own size and expected modCount; structural
+        // modifications through it are applied to the root list, and the new
+        // size and modCount are then propagated to each of its ancestors.
+        private static class SubList extends AbstractPrimitiveList.OfLong {
+            private final AbstractPrimitiveList.OfLong root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(AbstractPrimitiveList.OfLong root, int fromIndex, int toIndex) {
+                this.root = root;
+                this.parent = null;
+                this.offset = fromIndex;
+                this.size = toIndex - fromIndex;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int fromIndex, int toIndex) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + fromIndex;
+                this.size = toIndex - fromIndex;
+                this.modCount = root.modCount;
+            }
+
+            private void checkForComodification() {
+                if (root.modCount != modCount)
+                    throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                var slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+
+            @Override
+            public boolean addAll(PrimitiveCollection.OfLong c) {
+                return addAll(size, c);
+            }
+
+            @Override
+            public boolean addAll(int index, PrimitiveCollection.OfLong c) {
+                Objects.checkIndex(index, size + 1);
+                int cSize = c.size();
+                if (cSize == 0)
+                    return false;
+                checkForComodification();
+                root.addAll(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            @Override
+            public void addLong(int index, long l) {
+                Objects.checkIndex(index, size + 1);
+                checkForComodification();
+                root.addLong(offset + index, l);
+                updateSizeAndModCount(1);
+            }
+
+            @Override
+            public long getLong(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getLong(offset + index);
+            }
+
+            @Override
+            public long removeAt(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                long result = root.removeAt(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            @Override
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            @Override
+            public long setLong(int index, long l) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setLong(offset + index, l);
+            }
+
+            @Override
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            @Override
+            public PrimitiveList.OfLong subList(int fromIndex, int toIndex) {
+                Objects.checkFromToIndex(fromIndex, toIndex, size);
+                return new SubList(this, fromIndex, toIndex);
+            }
+        }
+    }
+}
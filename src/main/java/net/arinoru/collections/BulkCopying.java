@@ -0,0 +1,36 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+/**
+ * <p>Implemented by primitive collections which can copy their elements
+ * directly into a primitive array. Bulk consumers in this package, such as
+ * {@link PrimitiveCollection.OfInt#toPrimitiveArray()} and
+ * {@link IntArrayList#addAll(PrimitiveCollection.OfInt)}, test for this
+ * interface, and copy the elements of a collection which implements it with a
+ * single call, rather than through an iterator.</p>
+ * <p>A collection should only implement this interface if its size cannot
+ * change while its elements are being copied, that is, if it is immutable, or
+ * is not safe for concurrent modification in any case. Concurrent collections
+ * should not implement it.</p>
+ * @param <T_ARR> the primitive array type of the collection, such as
+ *               {@code int[]}
+ */
+@PrereleaseContent
+public interface BulkCopying<T_ARR> {
+    /**
+     * <p>Copies every element of this collection into the specified array,
+     * starting at the specified offset. If the collection has a defined
+     * encounter order, the elements are copied in that order. Exactly
+     * {@code size()} elements are written, and no other element of the array
+     * is modified.</p>
+     * @param dest the array into which the elements are to be copied
+     * @param offset the index in {@code dest} at which the first element is to
+     *               be stored
+     * @throws IndexOutOfBoundsException if {@code offset} is negative, or if
+     * the elements would not fit in the array; some elements may already have
+     * been copied
+     * @throws NullPointerException if the array is null
+     */
+    void copyInto(T_ARR dest, int offset);
+}
@@ -0,0 +1,532 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>A thread-safe {@link PrimitiveSet.OfInt} backed by an open-addressing hash
+ * table whose slots are updated with compare-and-set operations rather than
+ * under a lock. Elements are stored directly in a {@code int[]}, so no boxing
+ * is performed by any of the primitive operations. It is intended as a rough
+ * equivalent to the sets returned by
+ * {@link java.util.concurrent.ConcurrentHashMap#newKeySet()} for {@code int}
+ * values.</p>
+ * <p>An element keeps the slot it first claims until the table is rebuilt;
+ * removing it only marks the slot vacant, and adding it again reuses the same
+ * slot. The table is rebuilt, larger or at the same size, once the number of
+ * claimed slots reaches its maximum fill. Rebuilding is cooperative: threads
+ * which add to the set while it is in progress help to move the outstanding
+ * slots to the new table, and no thread ever waits for another to finish its
+ * share of the work.</p>
+ * <p>Iterators and spliterators are <em>weakly consistent</em>. They never
+ * throw {@link java.util.ConcurrentModificationException}, they return every
+ * element present throughout the traversal exactly once, and they may or may
+ * not reflect modifications made after they were created. Spliterators report
+ * {@link Spliterator#CONCURRENT}, {@link Spliterator#DISTINCT} and
+ * {@link Spliterator#NONNULL}. Bulk operations such as {@code addAll} and
+ * {@code clear} are not atomic, and {@code size} is only an estimate while
+ * the set is being modified.</p>
+ */
+@PrereleaseContent
+public class ConcurrentIntHashSet extends AbstractPrimitiveSet.OfInt {
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle STATES = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle TABLE;
+    private static final VarHandle NEXT;
+    private static final VarHandle CONTAINS_ZERO;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            TABLE = lookup.findVarHandle(ConcurrentIntHashSet.class, "table", Table.class);
+            NEXT = lookup.findVarHandle(Table.class, "next", Table.class);
+            CONTAINS_ZERO = lookup.findVarHandle(ConcurrentIntHashSet.class, "containsZero",
+                    boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // The states of a slot. A slot whose key is zero is unclaimed; once
+    // claimed, a slot alternates between PRESENT and ABSENT as its element is
+    // added and removed. Rebuilding freezes every slot: a slot holding an
+    // element passes through COPYING while the element is copied to the next
+    // table, and every slot finishes as MOVED.
+    private static final int EMPTY = 0;
+    private static final int PRESENT = 1;
+    private static final int ABSENT = 2;
+    private static final int COPYING = 3;
+    private static final int MOVED = 4;
+    // The results of a probe which did not end at the element's slot
+    private static final int NOT_FOUND = -1;
+    private static final int FORWARDED = -2;
+    private static final int FULL = -3;
+    // The number of slots a thread claims at a time while rebuilding
+    private static final int TRANSFER_CHUNK = 64;
+
+    private final float loadFactor;
+    private volatile Table table;
+    // Zero denotes an unclaimed slot, so the zero element is tracked
+    // separately.
+    private volatile boolean containsZero;
+    private final LongAdder count = new LongAdder();
+
+    private static final class Table {
+        final int[] keys;
+        final int[] states;
+        final int mask;
+        final int maxFill;
+        // Slots claimed or reserved for claiming, which never exceeds maxFill
+        // for slots claimed by add operations
+        final AtomicInteger claimed = new AtomicInteger();
+        // The table this one is being rebuilt into, if any
+        volatile Table next;
+        // Slots below this index have not yet been handed out for moving
+        final AtomicInteger transferIndex;
+        final AtomicInteger transferred = new AtomicInteger();
+
+        Table(int n, float loadFactor) {
+            keys = new int[n];
+            states = new int[n];
+            mask = n - 1;
+            maxFill = Hashing.maxFill(n, loadFactor);
+            transferIndex = new AtomicInteger(n);
+        }
+    }
+
+    /**
+     * <p>Constructs a new, empty set with a default expected size and load
+     * factor.</p>
+     */
+    public ConcurrentIntHashSet() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>Constructs a new, empty set with the specified expected size and the
+     * default load factor.</p>
+     * @param expectedSize the number of elements the set is expected to hold
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public ConcurrentIntHashSet(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>Constructs a new, empty set with the specified expected size and load
+     * factor.</p>
+     * @param expectedSize the number of elements the set is expected to hold
+     * @param loadFactor the load factor of the set, which must be greater than
+     *                   0 and smaller than 1
+     * @throws IllegalArgumentException if the expected size is negative, or if
+     * the load factor is not greater than 0 and smaller than 1
+     */
+    public ConcurrentIntHashSet(int expectedSize, float loadFactor) {
+        Hashing.checkArguments(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        table = new Table(Hashing.tableSize(expectedSize, loadFactor), loadFactor);
+    }
+
+    /**
+     * <p>Constructs a new set containing the elements in the specified
+     * collection, with the default load factor.</p>
+     * @param c the collection whose elements are to be placed into this set
+     * @throws NullPointerException if the specified collection is null
+     */
+    public ConcurrentIntHashSet(PrimitiveCollection.OfInt c) {
+        this(Math.max(c.size(), Hashing.DEFAULT_EXPECTED_SIZE));
+        addAll(c);
+    }
+
+    // Probes the table for the slot claimed by the specified element. If it
+    // has none, returns FORWARDED when the probe ended at a slot which has
+    // been moved to the next table, and NOT_FOUND otherwise.
+    private static int find(Table t, int k) {
+        var keys = t.keys;
+        int m = t.mask;
+        int pos = Hashing.mix(k) & m;
+        int cur;
+        while ((cur = (int) KEYS.getAcquire(keys, pos)) != 0) {
+            if (cur == k)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return (int) STATES.getAcquire(t.states, pos) == MOVED ? FORWARDED : NOT_FOUND;
+    }
+
+    // Probes the table for the slot claimed by the specified element, claiming
+    // a free slot for it if it has none. Returns FORWARDED if the element must
+    // be added to the next table instead, or, if the claim is limited, FULL
+    // when the table must be rebuilt first. A slot is reserved before it is
+    // claimed, so the table can never fill up entirely.
+    private static int claim(Table t, int k, boolean limited) {
+        var keys = t.keys;
+        int m = t.mask;
+        int pos = Hashing.mix(k) & m;
+        boolean reserved = false;
+        for (;;) {
+            int cur = (int) KEYS.getAcquire(keys, pos);
+            if (cur == k) {
+                if (reserved)
+                    t.claimed.decrementAndGet();
+                return pos;
+            }
+            if (cur != 0) {
+                pos = (pos + 1) & m;
+                continue;
+            }
+            if ((int) STATES.getAcquire(t.states, pos) == MOVED) {
+                if (reserved)
+                    t.claimed.decrementAndGet();
+                return FORWARDED;
+            }
+            if (!reserved) {
+                if (limited) {
+                    int c;
+                    do {
+                        if ((c = t.claimed.get()) >= t.maxFill)
+                            return FULL;
+                    } while (!t.claimed.compareAndSet(c, c + 1));
+                } else {
+                    t.claimed.incrementAndGet();
+                }
+                reserved = true;
+            }
+            // On failure, examine the slot again, as it may have been claimed
+            // by the same element
+            if (KEYS.compareAndSet(keys, pos, (int) 0, k))
+                return pos;
+        }
+    }
+
+    // Copies an element which was present in a table being rebuilt into its
+    // successor. The successor is not rebuilt until every slot has been moved,
+    // and no other operation can change the element's state there until its
+    // original slot is MOVED, so only a first copy can succeed: a late one
+    // can never resurrect an element removed in the meantime.
+    private static void copy(Table n, int k) {
+        int pos = claim(n, k, false);
+        if (pos >= 0)
+            STATES.compareAndSet(n.states, pos, EMPTY, PRESENT);
+    }
+
+    private static void transfer(Table t, int i) {
+        var states = t.states;
+        for (;;) {
+            int s = (int) STATES.getAcquire(states, i);
+            switch (s) {
+                case EMPTY, ABSENT -> {
+                    if (STATES.compareAndSet(states, i, s, MOVED))
+                        return;
+                }
+                case PRESENT -> STATES.compareAndSet(states, i, PRESENT, COPYING);
+                case COPYING -> {
+                    copy(t.next, (int) KEYS.getAcquire(t.keys, i));
+                    STATES.compareAndSet(states, i, COPYING, MOVED);
+                    return;
+                }
+                default -> {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void startTransfer(Table t) {
+        if (t.next == null) {
+            // The next table can hold every slot that may be copied from this
+            // one, even if all of them are occupied
+            long expected = Math.max(2 * count.sum(), t.maxFill);
+            var n = new Table(Hashing.tableSize((int) Math.min(expected, Integer.MAX_VALUE),
+                    loadFactor), loadFactor);
+            NEXT.compareAndSet(t, null, n);
+        }
+        helpTransfer(t);
+    }
+
+    // Moves slots of the specified table to its successor, a chunk at a time,
+    // and publishes the successor once every slot has been moved.
+    private void helpTransfer(Table t) {
+        int length = t.keys.length;
+        int hi;
+        while (t.transferIndex.get() > 0 &&
+                (hi = t.transferIndex.getAndAdd(-TRANSFER_CHUNK)) > 0) {
+            int lo = Math.max(hi - TRANSFER_CHUNK, 0);
+            for (int i = lo; i < hi; i++)
+                transfer(t, i);
+            if (t.transferred.addAndGet(hi - lo) == length) {
+                TABLE.compareAndSet(this, t, t.next);
+                return;
+            }
+        }
+        // Every chunk has been handed out, but other threads may still be
+        // moving theirs. Rather than wait for them, move whatever is still
+        // outstanding; moving a slot twice is harmless.
+        if (table == t) {
+            for (int i = 0; i < length; i++)
+                transfer(t, i);
+            TABLE.compareAndSet(this, t, t.next);
+        }
+    }
+
+    // Returns whether the element which claimed the specified slot is
+    // present, looking it up afresh if the slot has been moved
+    private boolean isLive(Table t, int pos, int k) {
+        int s = (int) STATES.getAcquire(t.states, pos);
+        return s == MOVED ? containsInt(k) : s == PRESENT || s == COPYING;
+    }
+
+    @Override
+    public boolean addInt(int i) {
+        if (i == 0) {
+            if (!CONTAINS_ZERO.compareAndSet(this, false, true))
+                return false;
+            count.increment();
+            return true;
+        }
+        for (;;) {
+            var t = table;
+            if (t.next != null) {
+                helpTransfer(t);
+                continue;
+            }
+            int pos = claim(t, i, true);
+            if (pos == FULL) {
+                startTransfer(t);
+                continue;
+            }
+            if (pos != FORWARDED) {
+                var states = t.states;
+                int s;
+                while ((s = (int) STATES.getAcquire(states, pos)) == EMPTY || s == ABSENT) {
+                    if (STATES.compareAndSet(states, pos, s, PRESENT)) {
+                        count.increment();
+                        return true;
+                    }
+                }
+                if (s != MOVED)
+                    return false;
+            }
+            helpTransfer(t);
+        }
+    }
+
+    @Override
+    public boolean containsInt(int i) {
+        if (i == 0)
+            return containsZero;
+        var t = table;
+        for (;;) {
+            int pos = find(t, i);
+            if (pos == NOT_FOUND)
+                return false;
+            if (pos != FORWARDED) {
+                int s = (int) STATES.getAcquire(t.states, pos);
+                if (s != MOVED)
+                    return s == PRESENT || s == COPYING;
+            }
+            t = t.next;
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public boolean removeInt(int i) {
+        if (i == 0) {
+            if (!CONTAINS_ZERO.compareAndSet(this, true, false))
+                return false;
+            count.decrement();
+            return true;
+        }
+        var t = table;
+        for (;;) {
+            int pos = find(t, i);
+            if (pos == NOT_FOUND)
+                return false;
+            if (pos != FORWARDED) {
+                var states = t.states;
+                int s = (int) STATES.getAcquire(states, pos);
+                if (s == PRESENT) {
+                    if (STATES.compareAndSet(states, pos, PRESENT, ABSENT)) {
+                        count.decrement();
+                        return true;
+                    }
+                    continue;
+                }
+                if (s == EMPTY || s == ABSENT)
+                    return false;
+                // The element must be copied before it can be removed from the
+                // next table
+                if (s == COPYING)
+                    transfer(t, pos);
+            }
+            t = t.next;
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(count.sum(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new Splitr(null, 0, -1);
+    }
+
+    private final class Itr implements PrimitiveIterator.OfInt {
+        private final Table tab = table;
+        private int pos = tab.keys.length;
+        private boolean mustReturnZero = containsZero;
+        private boolean hasNext;
+        private int next;
+        private int last;
+        private boolean canRemove;
+
+        Itr() {
+            advance();
+        }
+
+        private void advance() {
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                next = 0;
+                hasNext = true;
+                return;
+            }
+            var keys = tab.keys;
+            while (--pos >= 0) {
+                int k = (int) KEYS.getAcquire(keys, pos);
+                if (k != 0 && isLive(tab, pos, k)) {
+                    next = k;
+                    hasNext = true;
+                    return;
+                }
+            }
+            hasNext = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext)
+                throw new NoSuchElementException();
+            last = next;
+            canRemove = true;
+            advance();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove)
+                throw new IllegalStateException();
+            canRemove = false;
+            removeInt(last);
+        }
+    }
+
+    // Splits the range of slots of the table in half. The zero element, which
+    // has no slot, is reported by the spliterator covering the end of the
+    // table.
+    private final class Splitr implements Spliterator.OfInt {
+        private Table tab;
+        private int index;
+        private int fence;  // -1 until first use
+        private boolean mustReturnZero;
+
+        Splitr(Table tab, int origin, int fence) {
+            this.tab = tab;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                tab = table;
+                fence = tab.keys.length;
+                mustReturnZero = containsZero;
+            }
+            return fence;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+
+        @Override
+        public long estimateSize() {
+            int hi = getFence();
+            return (long) size() * (hi - index) / tab.keys.length;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            var t = tab;
+            int i = index;
+            index = hi;
+            for (; i < hi; i++) {
+                int k = (int) KEYS.getAcquire(t.keys, i);
+                if (k != 0 && isLive(t, i, k))
+                    action.accept(k);
+            }
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                if (containsZero)
+                    action.accept(0);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            var t = tab;
+            while (index < hi) {
+                int i = index++;
+                int k = (int) KEYS.getAcquire(t.keys, i);
+                if (k != 0 && isLive(t, i, k)) {
+                    action.accept(k);
+                    return true;
+                }
+            }
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                if (containsZero) {
+                    action.accept(0);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            if (mid <= lo)
+                return null;
+            index = mid;
+            return new Splitr(tab, lo, mid);
+        }
+    }
+}
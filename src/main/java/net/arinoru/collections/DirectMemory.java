@@ -0,0 +1,84 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Internal utility class which allocates the paged direct buffers used by the
+ * off-heap hash tables in this package, and releases them on request.
+ */
+@PrereleaseContent
+class DirectMemory {
+    /** The base-2 logarithm of the default page length, in bytes. */
+    static final int DEFAULT_PAGE_SHIFT = 30;
+    // Releases the native memory of a direct buffer immediately, rather than
+    // when the buffer is garbage collected. Null if the running JDK does not
+    // offer sun.misc.Unsafe::invokeCleaner.
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private DirectMemory() {}
+
+    /**
+     * <p>Allocates zero-filled direct buffers holding the specified number of
+     * bytes in total, in native byte order. Every buffer but the last is
+     * exactly {@code 1 << pageShift} bytes long.</p>
+     * @param bytes the total number of bytes to be allocated
+     * @param pageShift the base-2 logarithm of the page length
+     * @return the allocated pages
+     * @throws OutOfMemoryError if the direct memory limit would be exceeded;
+     * any pages allocated before the failure are released
+     */
+    static ByteBuffer[] allocate(long bytes, int pageShift) {
+        long pageSize = 1L << pageShift;
+        var pages = new ByteBuffer[(int) ((bytes + pageSize - 1) >>> pageShift)];
+        try {
+            for (int i = 0; i < pages.length; i++) {
+                int len = (int) Math.min(pageSize, bytes - ((long) i << pageShift));
+                pages[i] = ByteBuffer.allocateDirect(len).order(ByteOrder.nativeOrder());
+            }
+        } catch (OutOfMemoryError e) {
+            free(pages);
+            throw e;
+        }
+        return pages;
+    }
+
+    /**
+     * <p>Releases the native memory of the specified pages. The pages must not
+     * be accessed afterwards, by any thread. If the memory cannot be released
+     * eagerly, it is left for the garbage collector to reclaim.</p>
+     * @param pages the pages to be released, some of which may be null
+     */
+    static void free(ByteBuffer[] pages) {
+        if (INVOKE_CLEANER == null)
+            return;
+        for (var page : pages) {
+            if (page == null)
+                continue;
+            try {
+                INVOKE_CLEANER.invokeExact(page);
+            } catch (Throwable t) {
+                // The page will be reclaimed along with the buffer instead
+            }
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner",
+                            MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * <p>A resizable-array implementation of {@link PrimitiveList.OfDouble}. Elements
+ * are stored directly in a {@code double[]}, so no boxing is performed by any of
+ * the primitive operations, and no per-element objects are allocated. It is
+ * intended as a rough equivalent to {@link java.util.ArrayList} for
+ * {@code double} values.</p>
+ * <p>The {@code size}, {@code isEmpty}, {@code getDouble}, {@code setDouble},
+ * {@code iterator} and {@code listIterator} operations run in constant time.
+ * The {@code addDouble} operation runs in <em>amortized constant time</em>, that
+ * is, adding n elements requires O(n) time. All of the other operations run in
+ * linear time (roughly speaking).</p>
+ * <p>Each instance has a <em>capacity</em>, which is the length of the array
+ * used to store the elements in the list. It is always at least as large as
+ * the list size. As elements are added to the list, its capacity grows
+ * automatically by half again, or to exactly the required size where a bulk
+ * insertion needs more. An application can increase the capacity ahead of
+ * time with {@link #ensureCapacity(int)}, and release unused capacity with
+ * {@link #trimToSize()}.</p>
+ * <p>Elements are compared with {@code ==} by the primitive search and
+ * removal methods, such as {@code indexOfDouble} and {@code removeDouble}. In particular, {@code 0.0} and {@code -0.0} are the same element to
+ * these methods, and {@code NaN} is never found. Equality with other lists
+ * follows the boxed {@code List} contract, so that a list holding
+ * {@code NaN} may be equal to another.</p>
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access a list concurrently, and at least one of the threads
+ * modifies the list structurally, it <em>must</em> be synchronized externally.
+ * The iterators and spliterators returned by this class are <em>fail-fast</em>
+ * on a best-effort basis.</p>
+ */
+@PrereleaseContent
+public class DoubleArrayList extends AbstractPrimitiveList.OfDouble implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double[] EMPTY = {};
+    private double[] elements;
+    private int size;
+
+    /**
+     * <p>Constructs an empty list. An array with the default capacity of ten
+     * is allocated when the first element is added.</p>
+     */
+    public DoubleArrayList() {
+        elements = EMPTY;
+    }
+
+    /**
+     * <p>Constructs an empty list with the specified initial capacity.</p>
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is
+     * negative
+     */
+    public DoubleArrayList(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        elements = initialCapacity == 0 ? EMPTY : new double[initialCapacity];
+    }
+
+    /**
+     * <p>Constructs a list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.</p>
+     * @param c the collection whose elements are to be placed into this list
+     * @throws NullPointerException if the specified collection is null
+     */
+    public DoubleArrayList(PrimitiveCollection.OfDouble c) {
+        var a = c.toPrimitiveArray();
+        elements = a.length == 0 ? EMPTY : a;
+        size = a.length;
+    }
+
+    /**
+     * <p>Increases the capacity of this list, if necessary, to ensure that it
+     * can hold at least the number of elements specified by the minimum
+     * capacity argument.</p>
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * <p>Trims the capacity of this list to be the list's current size. An
+     * application can use this operation to minimize the storage of a
+     * list.</p>
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            modCount++;
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private double[] grow(int minCapacity) {
+        int oldCapacity = elements.length;
+        int newCapacity = oldCapacity == 0 ?
+                Math.max(DEFAULT_CAPACITY, minCapacity) :
+                PrimitiveCollections.newCapacity(oldCapacity, minCapacity);
+        return elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    // Opens a gap of n elements at the specified index, growing the array if
+    // necessary, and returns the array holding the gap
+    private double[] makeRoom(int index, int n) {
+        var a = elements;
+        if (n > a.length - size)
+            a = grow(size + n);
+        System.arraycopy(a, index, a, index + n, size - index);
+        return a;
+    }
+
+    @Override
+    public boolean addDouble(double d) {
+        modCount++;
+        var a = elements;
+        int s = size;
+        if (s == a.length)
+            a = grow(s + 1);
+        a[s] = d;
+        size = s + 1;
+        return true;
+    }
+
+    @Override
+    public void addDouble(int index, double d) {
+        Objects.checkIndex(index, size + 1);
+        modCount++;
+        makeRoom(index, 1)[index] = d;
+        size++;
+    }
+
+    @Override
+    public boolean addAll(PrimitiveCollection.OfDouble c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, PrimitiveCollection.OfDouble c) {
+        Objects.checkIndex(index, size + 1);
+        // Collections whose elements are held in arrays are copied directly
+        // into place, rather than through an intermediate array
+        if (c instanceof DoubleArrayList list && list != this) {
+            int n = list.size;
+            if (n == 0)
+                return false;
+            modCount++;
+            System.arraycopy(list.elements, 0, makeRoom(index, n), index, n);
+            size += n;
+            return true;
+        }
+        if (c instanceof BulkCopying<?> bulk) {
+            int n = c.size();
+            if (n == 0)
+                return false;
+            modCount++;
+            ((BulkCopying<double[]>) bulk).copyInto(makeRoom(index, n), index);
+            size += n;
+            return true;
+        }
+        var a = c.toPrimitiveArray();
+        int n = a.length;
+        if (n == 0)
+            return false;
+        modCount++;
+        System.arraycopy(a, 0, makeRoom(index, n), index, n);
+        size += n;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof DoubleArrayList list)
+            return Arrays.equals(elements, 0, size, list.elements, 0, list.size);
+        return super.equals(o);
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        int mc = modCount;
+        var a = elements;
+        int s = size;
+        for (int i = 0; i < s && modCount == mc; i++)
+            action.accept(a[i]);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public int hashCode() {
+        var a = elements;
+        int s = size;
+        int h = 1;
+        for (int i = 0; i < s; i++)
+            h = 31 * h + Double.hashCode(a[i]);
+        return h;
+    }
+
+    @Override
+    public int indexOfDouble(double d) {
+        var a = elements;
+        int s = size;
+        for (int j = 0; j < s; j++)
+            if (a[j] == d)
+                return j;
+        return -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int lastIndexOfDouble(double d) {
+        var a = elements;
+        for (int j = size - 1; j >= 0; j--)
+            if (a[j] == d)
+                return j;
+        return -1;
+    }
+
+    @Override
+    public double removeAt(int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        var a = elements;
+        double old = a[index];
+        int numMoved = size - index - 1;
+        if (numMoved > 0)
+            System.arraycopy(a, index + 1, a, index, numMoved);
+        size--;
+        return old;
+    }
+
+    @Override
+    public boolean removeIfDouble(DoublePredicate filter) {
+        Objects.requireNonNull(filter);
+        int mc = modCount;
+        var a = elements;
+        int end = size;
+        int r = 0, w = 0;
+        try {
+            for (; r < end; r++) {
+                double e = a[r];
+                if (!filter.test(e))
+                    a[w++] = e;
+            }
+            if (mc != modCount)
+                throw new ConcurrentModificationException();
+        } finally {
+            // If the filter threw, keep the elements it did not get to test
+            if (r != end) {
+                System.arraycopy(a, r, a, w, end - r);
+                w += end - r;
+            }
+            if (w != end) {
+                modCount++;
+                size = w;
+            }
+        }
+        return w != end;
+    }
+
+    @Override
+    public boolean removeDouble(double d) {
+        int index = indexOfDouble(d);
+        if (index < 0)
+            return false;
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex)
+            return;
+        modCount++;
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public void replaceAllDouble(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        int mc = modCount;
+        var a = elements;
+        int s = size;
+        for (int i = 0; i < s && modCount == mc; i++)
+            a[i] = operator.applyAsDouble(a[i]);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public double setDouble(int index, double d) {
+        Objects.checkIndex(index, size);
+        var a = elements;
+        double old = a[index];
+        a[index] = d;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>Sorts this list according to the order induced by the specified
+     * {@code Comparator}.</p>
+     * @implNote <p>If the specified comparator is null, the elements are
+     * sorted into ascending numerical order in place with
+     * {@link Arrays#sort(double[], int, int)}, without boxing them; otherwise
+     * the boxed elements are sorted as described for
+     * {@link java.util.List#sort(Comparator)}.</p>
+     * @param c the {@code Comparator} used to compare list elements. A
+     *          {@code null} value indicates that the elements' natural
+     *          ordering should be used
+     */
+    @Override
+    public void sort(Comparator<? super Double> c) {
+        if (c != null) {
+            super.sort(c);
+            return;
+        }
+        int mc = modCount;
+        Arrays.sort(elements, 0, size);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+        modCount++;
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new Splitr(0, -1, 0);
+    }
+
+    @Override
+    public double[] toPrimitiveArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // A late-binding spliterator over the array, which binds to it, and
+    // records the expected modCount, on first use. Splitting halves the
+    // remaining range, so every part knows its exact size.
+    private final class Splitr implements Spliterator.OfDouble {
+        private int index;
+        private int fence;  // -1 until first use
+        private int expectedModCount;
+
+        Splitr(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi;
+            if ((hi = fence) < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            var a = elements;
+            int i = index;
+            index = hi;
+            for (; i < hi; i++)
+                action.accept(a[i]);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i >= hi)
+                return false;
+            index = i + 1;
+            action.accept(elements[i]);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public Splitr trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+                return null;
+            index = mid;
+            return new Splitr(lo, mid, expectedModCount);
+        }
+    }
+}
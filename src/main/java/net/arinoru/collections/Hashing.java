@@ -0,0 +1,202 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+// Some of the content of this class is adapted from the hashing routines used by
+// open-addressing hash tables in fastutil (it.unimi.dsi.fastutil.HashCommon)
+
+/**
+ * Internal utility class providing the hash mixing and table sizing routines used
+ * by the open-addressing primitive hash tables in this package.
+ */
+@PrereleaseContent
+class Hashing {
+    /** 2<sup>32</sup> &middot; &phi;, &phi; = (&#x221A;5 &minus; 1)/2. */
+    private static final int INT_PHI = 0x9E3779B9;
+    /** 2<sup>64</sup> &middot; &phi;, &phi; = (&#x221A;5 &minus; 1)/2. */
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+    /** The largest power of two that can be used as the length of a table. */
+    static final int MAX_TABLE_SIZE = 1 << 30;
+    static final float DEFAULT_LOAD_FACTOR = .75f;
+    static final int DEFAULT_EXPECTED_SIZE = 16;
+    // Transient tables are discarded immediately, so they can afford to be
+    // sparse in exchange for short probe sequences.
+    private static final float PROBE_LOAD_FACTOR = .5f;
+
+    private Hashing() {}
+
+    /**
+     * <p>Scrambles the bits of the specified value so that keys which differ
+     * only in their high bits (or which form an arithmetic progression) are
+     * spread evenly over the low bits used to index a power-of-two table.</p>
+     * @param x the value to be mixed
+     * @return a mixed hash of the value
+     */
+    static int mix(int x) {
+        final int h = x * INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * <p>Scrambles the bits of the specified value so that keys which differ
+     * only in their high bits (or which form an arithmetic progression) are
+     * spread evenly over the low bits used to index a power-of-two table.</p>
+     * @param x the value to be mixed
+     * @return a mixed hash of the value
+     */
+    static int mix(long x) {
+        long h = x * LONG_PHI;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    /**
+     * <p>Returns the table length required to hold the specified number of
+     * elements without exceeding the specified load factor.</p>
+     * @param expected the expected number of elements
+     * @param loadFactor the load factor of the table
+     * @return the smallest power of two which can hold {@code expected} elements
+     * at the specified load factor
+     * @throws IllegalArgumentException if the required length would exceed
+     * {@link #MAX_TABLE_SIZE}
+     */
+    static int tableSize(int expected, float loadFactor) {
+        final long s = Math.max(2, nextPowerOfTwo((long) Math.ceil(expected / loadFactor)));
+        if (s > MAX_TABLE_SIZE)
+            throw new IllegalArgumentException("Too large (" + expected +
+                    " expected elements with load factor " + loadFactor + ")");
+        return (int) s;
+    }
+
+    /**
+     * <p>Returns the maximum number of elements a table of the specified length
+     * may hold before it must be grown. The result is always less than the
+     * table length, so that a probe sequence is guaranteed to reach a free
+     * slot.</p>
+     * @param n the table length
+     * @param loadFactor the load factor of the table
+     * @return the maximum fill of the table
+     */
+    static int maxFill(int n, float loadFactor) {
+        return Math.min((int) Math.ceil(n * loadFactor), n - 1);
+    }
+
+    /**
+     * <p>Checks that the specified arguments describe a valid table
+     * configuration.</p>
+     * @param expected the expected number of elements
+     * @param loadFactor the load factor of the table
+     * @throws IllegalArgumentException if the expected number of elements is
+     * negative, or if the load factor is not in the range (0, 1)
+     */
+    static void checkArguments(int expected, float loadFactor) {
+        if (expected < 0)
+            throw new IllegalArgumentException(
+                    "The expected number of elements must be nonnegative");
+        if (!(loadFactor > 0 && loadFactor < 1))
+            throw new IllegalArgumentException(
+                    "Load factor must be greater than 0 and smaller than 1");
+    }
+
+    /**
+     * <p>Returns whether the specified array contains two elements which are
+     * equal according to the {@code ==} operator. The check is performed in
+     * expected linear time using a transient open-addressing table.</p>
+     * @param a the array to be checked
+     * @return {@code true} if the array contains a duplicate element
+     */
+    static boolean containsDuplicate(int[] a) {
+        var t = new int[tableSize(a.length, PROBE_LOAD_FACTOR)];
+        int m = t.length - 1;
+        boolean zero = false;
+        for (int v : a) {
+            if (v == 0) {
+                if (zero)
+                    return true;
+                zero = true;
+                continue;
+            }
+            int pos = mix(v) & m;
+            int cur;
+            while ((cur = t[pos]) != 0) {
+                if (cur == v)
+                    return true;
+                pos = (pos + 1) & m;
+            }
+            t[pos] = v;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Returns whether the specified array contains two elements which are
+     * equal according to the {@code ==} operator. The check is performed in
+     * expected linear time using a transient open-addressing table.</p>
+     * @param a the array to be checked
+     * @return {@code true} if the array contains a duplicate element
+     */
+    static boolean containsDuplicate(long[] a) {
+        var t = new long[tableSize(a.length, PROBE_LOAD_FACTOR)];
+        int m = t.length - 1;
+        boolean zero = false;
+        for (long v : a) {
+            if (v == 0) {
+                if (zero)
+                    return true;
+                zero = true;
+                continue;
+            }
+            int pos = mix(v) & m;
+            long cur;
+            while ((cur = t[pos]) != 0) {
+                if (cur == v)
+                    return true;
+                pos = (pos + 1) & m;
+            }
+            t[pos] = v;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Returns whether the specified array contains two elements which are
+     * equal according to the {@code ==} operator. The check is performed in
+     * expected linear time using a transient open-addressing table.</p>
+     * <p>Consistent with {@code ==}, {@code 0.0} and {@code -0.0} are
+     * considered duplicates of each other, while {@code NaN} is never
+     * considered a duplicate of anything.</p>
+     * @param a the array to be checked
+     * @return {@code true} if the array contains a duplicate element
+     */
+    static boolean containsDuplicate(double[] a) {
+        // Slots are keyed on raw bits, which coincide with == for the nonzero,
+        // non-NaN values stored in the table.
+        var t = new long[tableSize(a.length, PROBE_LOAD_FACTOR)];
+        int m = t.length - 1;
+        boolean zero = false;
+        for (double d : a) {
+            if (d == 0) {
+                if (zero)
+                    return true;
+                zero = true;
+                continue;
+            }
+            if (d != d)
+                continue;
+            long v = Double.doubleToRawLongBits(d);
+            int pos = mix(v) & m;
+            long cur;
+            while ((cur = t[pos]) != 0) {
+                if (cur == v)
+                    return true;
+                pos = (pos + 1) & m;
+            }
+            t[pos] = v;
+        }
+        return false;
+    }
+
+    private static long nextPowerOfTwo(long x) {
+        return x <= 1 ? 1 : Long.highestOneBit(x - 1) << 1;
+    }
+}
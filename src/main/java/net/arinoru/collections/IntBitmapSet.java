@@ -0,0 +1,449 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>A mutable {@link PrimitiveSet.OfInt} of nonnegative {@code int} values,
+ * backed by a bitmap holding one bit per possible value. The bitmap grows as
+ * needed to accommodate the largest element added, so this implementation is
+ * best suited to elements drawn from a bounded, reasonably dense range, such as
+ * ordinals or small identifiers, for which it uses a fraction of the memory of
+ * an {@code int[]} or a hash table.</p>
+ * <p>The {@code addInt}, {@code removeInt} and {@code containsInt} operations
+ * run in constant time. Bulk operations whose argument is also backed by a
+ * bitmap (an {@code IntBitmapSet}, or an unmodifiable set created by
+ * {@link PrimitiveSet.OfInt#of(int...)} or
+ * {@link PrimitiveSet.OfInt#copyOf(PrimitiveCollection.OfInt)} which chose a
+ * bitmap representation) operate 64 elements at a time using word-level
+ * bitwise operations.</p>
+ * <p>This set iterates over its elements in ascending order. Negative values
+ * may not be added to the set; attempting to do so throws an
+ * {@code IllegalArgumentException}.</p>
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access a set concurrently, and at least one of the threads
+ * modifies the set, it <em>must</em> be synchronized externally. The iterators
+ * returned by this class are <em>fail-fast</em> on a best-effort basis.</p>
+ */
+@PrereleaseContent
+public class IntBitmapSet extends AbstractPrimitiveSet.OfInt implements BulkCopying<int[]> {
+    private static final long[] EMPTY_WORDS = {};
+    // Element e is stored at bit (e & 63) of word (e >> 6)
+    private long[] words;
+    private int size;
+    private int modCount;
+
+    /**
+     * <p>Constructs a new, empty set.</p>
+     */
+    public IntBitmapSet() {
+        words = EMPTY_WORDS;
+    }
+
+    /**
+     * <p>Constructs a new, empty set whose bitmap is initially large enough to
+     * hold elements in the range {@code [0, capacity)} without growing.</p>
+     * @param capacity the initial range of elements the set can hold
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public IntBitmapSet(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity must be nonnegative");
+        words = capacity == 0 ? EMPTY_WORDS : new long[((capacity - 1) >> 6) + 1];
+    }
+
+    /**
+     * <p>Constructs a new set containing the elements in the specified
+     * collection.</p>
+     * @param c the collection whose elements are to be placed into this set
+     * @throws NullPointerException if the specified collection is null
+     * @throws IllegalArgumentException if the specified collection contains a
+     * negative element
+     */
+    public IntBitmapSet(PrimitiveCollection.OfInt c) {
+        this();
+        addAll(c);
+    }
+
+    private void ensureWords(int n) {
+        if (n > words.length)
+            words = Arrays.copyOf(words, Math.max(n, Math.min(words.length << 1,
+                    (Integer.MAX_VALUE >> 6) + 1)));
+    }
+
+    private static int bitCount(long[] words) {
+        int n = 0;
+        for (long w : words)
+            n += Long.bitCount(w);
+        return n;
+    }
+
+    // Updates the size after a bulk operation, returning whether the set was
+    // changed by it. Bulk operations only ever add or only ever remove bits, so
+    // the set changed if and only if its size did.
+    private boolean updateSize() {
+        int n = bitCount(words);
+        if (n == size)
+            return false;
+        size = n;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(PrimitiveCollection.OfInt c) {
+        return switch (c) {
+            case IntBitmapSet set -> orWords(set.words, 0);
+            case PrimitiveCollections.BitmapIntSet set -> orWords(set.words, set.wordOffset);
+            default -> super.addAll(c);
+        };
+    }
+
+    // Sets the bits of the specified words, where the word at index j
+    // corresponds to the word at index j + offset in this set.
+    private boolean orWords(long[] other, int offset) {
+        int last = other.length - 1;
+        while (last >= 0 && other[last] == 0)
+            last--;
+        if (last < 0)
+            return false;
+        for (int j = 0; j < -offset && j <= last; j++)
+            if (other[j] != 0)
+                throw new IllegalArgumentException("Negative element");
+        ensureWords(last + offset + 1);
+        var w = words;
+        for (int j = Math.max(0, -offset); j <= last; j++)
+            w[j + offset] |= other[j];
+        return updateSize();
+    }
+
+    @Override
+    public boolean addInt(int i) {
+        if (i < 0)
+            throw new IllegalArgumentException("Negative element");
+        int k = i >> 6;
+        ensureWords(k + 1);
+        long bit = 1L << i;
+        if ((words[k] & bit) != 0)
+            return false;
+        words[k] |= bit;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0)
+            return;
+        Arrays.fill(words, 0);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean containsAll(PrimitiveCollection.OfInt c) {
+        return switch (c) {
+            case IntBitmapSet set -> containsAllWords(set.words, 0);
+            case PrimitiveCollections.BitmapIntSet set ->
+                    containsAllWords(set.words, set.wordOffset);
+            default -> super.containsAll(c);
+        };
+    }
+
+    private boolean containsAllWords(long[] other, int offset) {
+        var w = words;
+        for (int j = 0; j < other.length; j++) {
+            long bits = other[j];
+            if (bits == 0)
+                continue;
+            int k = j + offset;
+            if (k < 0 || k >= w.length || (bits & ~w[k]) != 0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsInt(int i) {
+        int k = i >> 6;
+        return i >= 0 && k < words.length && (words[k] & (1L << i)) != 0;
+    }
+
+    @Override
+    public void copyInto(int[] dest, int offset) {
+        Objects.checkFromIndexSize(offset, size, dest.length);
+        var w = words;
+        for (int k = 0; k < w.length; k++) {
+            long bits = w[k];
+            while (bits != 0) {
+                dest[offset++] = k << 6 | Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int mc = modCount;
+        var w = words;
+        for (int k = 0; k < w.length; k++) {
+            long bits = w[k];
+            while (bits != 0) {
+                action.accept(k << 6 | Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        var w = words;
+        for (int k = 0; k < w.length; k++) {
+            long bits = w[k];
+            while (bits != 0) {
+                h += k << 6 | Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return h;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public boolean removeAll(PrimitiveCollection.OfInt c) {
+        return switch (c) {
+            case IntBitmapSet set -> andNotWords(set.words, 0);
+            case PrimitiveCollections.BitmapIntSet set ->
+                    andNotWords(set.words, set.wordOffset);
+            default -> super.removeAll(c);
+        };
+    }
+
+    private boolean andNotWords(long[] other, int offset) {
+        var w = words;
+        int from = Math.max(0, -offset);
+        int to = Math.min(other.length, w.length - offset);
+        for (int j = from; j < to; j++)
+            w[j + offset] &= ~other[j];
+        return updateSize();
+    }
+
+    @Override
+    public boolean removeInt(int i) {
+        int k = i >> 6;
+        if (i < 0 || k >= words.length)
+            return false;
+        long bit = 1L << i;
+        if ((words[k] & bit) == 0)
+            return false;
+        words[k] &= ~bit;
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean retainAll(PrimitiveCollection.OfInt c) {
+        return switch (c) {
+            case IntBitmapSet set -> andWords(set.words, 0);
+            case PrimitiveCollections.BitmapIntSet set ->
+                    andWords(set.words, set.wordOffset);
+            default -> super.retainAll(c);
+        };
+    }
+
+    private boolean andWords(long[] other, int offset) {
+        var w = words;
+        for (int k = 0; k < w.length; k++) {
+            int j = k - offset;
+            w[k] &= j >= 0 && j < other.length ? other[j] : 0;
+        }
+        return updateSize();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new Splitr(null, 0, 0, -1, 0, 0);
+    }
+
+    @Override
+    public int[] toPrimitiveArray() {
+        var a = new int[size];
+        copyInto(a, 0);
+        return a;
+    }
+
+    private final class Itr implements PrimitiveIterator.OfInt {
+        // The unvisited bits of the word at index k are held in bits, so
+        // removing the last element returned never disturbs the iteration.
+        private int k = -1;
+        private long bits;
+        private int last = -1;
+        private int remaining = size;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            while (bits == 0)
+                bits = words[++k];
+            int i = k << 6 | Long.numberOfTrailingZeros(bits);
+            bits &= bits - 1;
+            remaining--;
+            return last = i;
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            words[last >> 6] &= ~(1L << last);
+            size--;
+            expectedModCount = ++modCount;
+            last = -1;
+        }
+    }
+
+    // Splits the range of words in half, with no copying. The bits remaining
+    // in a partially traversed word always belong to the prefix, and the size
+    // of the prefix is counted exactly, so every spliterator is SIZED.
+    private final class Splitr implements Spliterator.OfInt {
+        private long[] w;
+        private long bits;  // unvisited bits of the word at index - 1
+        private int index;
+        private int fence;  // -1 until first use
+        private int est;
+        private int expectedModCount;
+
+        Splitr(long[] w, long bits, int origin, int fence, int est, int expectedModCount) {
+            this.w = w;
+            this.bits = bits;
+            this.index = origin;
+            this.fence = fence;
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                w = words;
+                fence = w.length;
+                est = size;
+                expectedModCount = modCount;
+            }
+            return fence;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT |
+                    Spliterator.ORDERED | Spliterator.SORTED;
+        }
+
+        @Override
+        public long estimateSize() {
+            getFence();
+            return est;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            var a = w;
+            int k = index - 1;
+            long b = bits;
+            while (true) {
+                while (b != 0) {
+                    action.accept(k << 6 | Long.numberOfTrailingZeros(b));
+                    b &= b - 1;
+                }
+                if (++k >= hi)
+                    break;
+                b = a[k];
+            }
+            index = hi;
+            bits = 0;
+            est = 0;
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return null;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            while (bits == 0) {
+                if (index >= hi)
+                    return false;
+                bits = w[index++];
+            }
+            int i = (index - 1) << 6 | Long.numberOfTrailingZeros(bits);
+            bits &= bits - 1;
+            est--;
+            action.accept(i);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public Splitr trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+                return null;
+            int n = Long.bitCount(bits);
+            for (int k = lo; k < mid; k++)
+                n += Long.bitCount(w[k]);
+            var prefix = new Splitr(w, bits, lo, mid, n, expectedModCount);
+            bits = 0;
+            index = mid;
+            est -= n;
+            return prefix;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.Arrays;
+
+/**
+ * Internal utility class providing the membership scans and sorted-array
+ * intersections used by the array-backed {@code int} collections in this
+ * package. Each operation also has a vectorized implementation, built on the
+ * incubating {@code jdk.incubator.vector} module, which is used only when
+ * that module has been added to the boot layer (for instance with
+ * {@code --add-modules jdk.incubator.vector}) and the array being scanned is
+ * long enough to fill at least one vector. Setting the system property
+ * {@code net.arinoru.collections.vectorize} to {@code false} disables it.
+ */
+@PrereleaseContent
+class IntKernels {
+    static final String VECTORIZE_PROPERTY = "net.arinoru.collections.vectorize";
+    // Null if the Vector API is unavailable or has been disabled
+    private static final Vectorized VECTORIZED = loadVectorized();
+
+    private IntKernels() {}
+
+    /**
+     * The operations implemented with the Vector API. The implementing class
+     * refers to {@code jdk.incubator.vector}, so it is only loaded once that
+     * module is known to be present.
+     */
+    interface Vectorized {
+        /**
+         * <p>Returns the number of {@code int} lanes in a vector, below which
+         * the vectorized operations are never used.</p>
+         * @return the number of lanes in a vector
+         */
+        int length();
+
+        int indexOf(int[] a, int from, int to, int key);
+
+        boolean containsAllSorted(int[] a, int[] b);
+
+        /**
+         * <p>Stores the elements which occur in both of the specified
+         * arrays in the specified array, in ascending order.</p>
+         * @param a the array to be scanned a vector at a time, at least as
+         * long as a vector
+         * @param b the array whose elements are to be found
+         * @param result an array at least as long as {@code b}
+         * @return the number of elements stored
+         */
+        int intersectSorted(int[] a, int[] b, int[] result);
+    }
+
+    private static Vectorized loadVectorized() {
+        try {
+            if (!Boolean.parseBoolean(System.getProperty(VECTORIZE_PROPERTY, "true")) ||
+                    ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+                return null;
+            return (Vectorized) Class.forName("net.arinoru.collections.VectorIntKernels")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * <p>Returns whether the vectorized implementations are in use.</p>
+     * @return {@code true} if the Vector API is available and enabled
+     */
+    static boolean isVectorized() {
+        return VECTORIZED != null;
+    }
+
+    /**
+     * <p>Returns the index of the first occurrence of the specified value in
+     * the specified range of an array.</p>
+     * @param a the array to be searched
+     * @param from the index of the first element to be searched, inclusive
+     * @param to the index of the last element to be searched, exclusive
+     * @param key the value to be searched for
+     * @return the index of the first occurrence of the value in the range, or
+     * -1 if it does not occur there
+     */
+    static int indexOf(int[] a, int from, int to, int key) {
+        var v = VECTORIZED;
+        if (v != null && to - from >= v.length())
+            return v.indexOf(a, from, to, key);
+        return scalarIndexOf(a, from, to, key);
+    }
+
+    /**
+     * <p>Returns whether every element of the second array occurs in the
+     * first. Both arrays must be sorted in ascending order, without
+     * duplicates.</p>
+     * @param a the array to be searched
+     * @param b the array whose elements are to be found
+     * @return {@code true} if the elements of {@code b} are a subset of those
+     * of {@code a}
+     */
+    static boolean containsAllSorted(int[] a, int[] b) {
+        if (b.length > a.length)
+            return false;
+        var v = VECTORIZED;
+        if (v != null && a.length >= v.length())
+            return v.containsAllSorted(a, b);
+        return scalarContainsAllSorted(a, 0, b, 0);
+    }
+
+    /**
+     * <p>Returns the elements which occur in both of the specified arrays, in
+     * ascending order. Both arrays must be sorted in ascending order, without
+     * duplicates. Neither array is retained or returned.</p>
+     * @param a the first array
+     * @param b the second array
+     * @return a new array holding the intersection of the arrays
+     */
+    static int[] intersectSorted(int[] a, int[] b) {
+        // The longer array is the one scanned a vector at a time, so that
+        // the elements of the shorter are each compared only once
+        if (a.length < b.length) {
+            var t = a;
+            a = b;
+            b = t;
+        }
+        var result = new int[b.length];
+        var v = VECTORIZED;
+        int n = v != null && a.length >= v.length() ?
+                v.intersectSorted(a, b, result) :
+                scalarIntersectSorted(a, 0, b, 0, result, 0);
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    // Merges a[i..] with b[j..], returning whether every element of the
+    // latter occurs in the former
+    static boolean scalarContainsAllSorted(int[] a, int i, int[] b, int j) {
+        for (; j < b.length; j++, i++) {
+            int v = b[j];
+            while (i < a.length && a[i] < v)
+                i++;
+            if (i == a.length || a[i] != v)
+                return false;
+        }
+        return true;
+    }
+
+    // Merges a[i..] with b[j..], storing their common elements in result
+    // from index n, and returns the new number of elements stored
+    static int scalarIntersectSorted(int[] a, int i, int[] b, int j, int[] result, int n) {
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j])
+                i++;
+            else if (a[i] > b[j])
+                j++;
+            else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n;
+    }
+
+    static int scalarIndexOf(int[] a, int from, int to, int key) {
+        for (int i = from; i < to; i++)
+            if (a[i] == key)
+                return i;
+        return -1;
+    }
+}
@@ -0,0 +1,629 @@
+package net.arinoru.collections;
+
+import net.arinoru.function.IntIntConsumer;
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * <p>A mutable {@link PrimitiveMap.IntToInt} backed by an open-addressing hash
+ * table. Keys and values are stored directly in parallel {@code int[]} and
+ * {@code int[]} arrays, so no per-entry objects are allocated, and no
+ * boxing is performed by any of the primitive operations. It is intended as
+ * a rough equivalent to {@link java.util.HashMap} for {@code int} keys and
+ * {@code int} values.</p>
+ * <p>This class offers expected constant time performance for the
+ * {@code containsKey}, {@code get}, {@code put}, {@code addTo} and
+ * {@code remove} operations, assuming the hash function disperses the keys
+ * properly among the slots of the table. Collisions are resolved by linear
+ * probing, and removal is performed by shifting subsequent entries back into
+ * place rather than by leaving tombstones, so lookups never degrade as a
+ * result of repeated removals.</p>
+ * <p>The map makes no guarantees as to the iteration order of its entries;
+ * in particular, it does not guarantee that the order will remain constant
+ * over time. The entries of the {@link #entrySet()} view are created as they
+ * are returned, and write through to the map when their value is set.</p>
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access a map concurrently, and at least one of the threads
+ * modifies the map structurally, it <em>must</em> be synchronized externally.
+ * The iterators returned by this class's collection views are
+ * <em>fail-fast</em> on a best-effort basis.</p>
+ */
+@PrereleaseContent
+public class IntToIntHashMap implements PrimitiveMap.IntToInt {
+    private final float loadFactor;
+    // A zero slot in the key table denotes a free slot, so the mapping for
+    // the zero key is tracked separately.
+    private int[] keys;
+    private int[] vals;
+    private boolean containsZeroKey;
+    private int zeroValue;
+    private int mask;
+    private int maxFill;
+    private int size;
+    private int modCount;
+    private KeySet keySet;
+    private Values values;
+    private EntrySet entrySet;
+
+    /**
+     * <p>Constructs a new, empty map with a default expected size and load
+     * factor.</p>
+     */
+    public IntToIntHashMap() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>Constructs a new, empty map with the specified expected size and the
+     * default load factor.</p>
+     * @param expectedSize the number of mappings the map is expected to hold
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public IntToIntHashMap(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>Constructs a new, empty map with the specified expected size and load
+     * factor.</p>
+     * @param expectedSize the number of mappings the map is expected to hold
+     * @param loadFactor the load factor of the map, which must be greater than
+     *                   0 and smaller than 1
+     * @throws IllegalArgumentException if the expected size is negative, or if
+     * the load factor is not greater than 0 and smaller than 1
+     */
+    public IntToIntHashMap(int expectedSize, float loadFactor) {
+        Hashing.checkArguments(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(Hashing.tableSize(expectedSize, loadFactor));
+    }
+
+    /**
+     * <p>Constructs a new map containing the mappings in the specified map,
+     * with the default load factor.</p>
+     * @param m the map whose mappings are to be placed into this map
+     * @throws NullPointerException if the specified map is null
+     */
+    public IntToIntHashMap(PrimitiveMap.IntToInt m) {
+        this(Math.max(m.size(), Hashing.DEFAULT_EXPECTED_SIZE));
+        putAll(m);
+    }
+
+    private void allocate(int n) {
+        keys = new int[n];
+        vals = new int[n];
+        mask = n - 1;
+        maxFill = Hashing.maxFill(n, loadFactor);
+    }
+
+    private void ensureCapacity(int expected) {
+        int needed = Hashing.tableSize(expected, loadFactor);
+        if (needed > keys.length)
+            rehash(needed);
+    }
+
+    private void rehash(int n) {
+        var oldKeys = keys;
+        var oldVals = vals;
+        allocate(n);
+        var k = keys;
+        var v = vals;
+        int m = mask;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key == 0)
+                continue;
+            int pos = Hashing.mix(key) & m;
+            while (k[pos] != 0)
+                pos = (pos + 1) & m;
+            k[pos] = key;
+            v[pos] = oldVals[i];
+        }
+    }
+
+    private int find(int key) {
+        var k = keys;
+        int m = mask;
+        int pos = Hashing.mix(key) & m;
+        int cur;
+        while ((cur = k[pos]) != 0) {
+            if (cur == key)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -1;
+    }
+
+    // Shifts entries following a freed slot back into place, so that every
+    // remaining entry stays reachable from its home slot.
+    private void shiftKeys(int pos) {
+        var k = keys;
+        var v = vals;
+        int m = mask;
+        int last, slot;
+        int cur;
+        for (;;) {
+            pos = ((last = pos) + 1) & m;
+            for (;;) {
+                if ((cur = k[pos]) == 0) {
+                    k[last] = 0;
+                    return;
+                }
+                slot = Hashing.mix(cur) & m;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & m;
+            }
+            k[last] = cur;
+            v[last] = v[pos];
+        }
+    }
+
+    // Returns whether the specified map maps the specified key to the
+    // specified value
+    private static boolean mapsTo(Map<?,?> m, int key, int value) {
+        if (m instanceof PrimitiveMap.IntToInt map)
+            return map.get(key) == value && (value != 0 || map.containsKey(key));
+        Integer boxed = key;
+        return Integer.valueOf(value).equals(m.get(boxed));
+    }
+
+    @Override
+    public int addTo(int key, int increment) {
+        if (key == 0) {
+            int previous = zeroValue;
+            zeroValue += increment;
+            if (containsZeroKey)
+                return previous;
+            containsZeroKey = true;
+        } else {
+            var k = keys;
+            int m = mask;
+            int pos = Hashing.mix(key) & m;
+            int cur;
+            while ((cur = k[pos]) != 0) {
+                if (cur == key) {
+                    int previous = vals[pos];
+                    vals[pos] = previous + increment;
+                    return previous;
+                }
+                pos = (pos + 1) & m;
+            }
+            k[pos] = key;
+            vals[pos] = increment;
+        }
+        modCount++;
+        if (size++ >= maxFill)
+            rehash(Hashing.tableSize(size + 1, loadFactor));
+        return 0;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0)
+            return;
+        Arrays.fill(keys, 0);
+        containsZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean containsKey(int key) {
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(int value) {
+        if (containsZeroKey && zeroValue == value)
+            return true;
+        var k = keys;
+        var v = vals;
+        for (int i = 0; i < k.length; i++)
+            if (k[i] != 0 && v[i] == value)
+                return true;
+        return false;
+    }
+
+    @Override
+    public Set<Map.Entry<Integer,Integer>> entrySet() {
+        var es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof Map<?,?> m) || m.size() != size)
+            return false;
+        try {
+            if (containsZeroKey && !mapsTo(m, 0, zeroValue))
+                return false;
+            var k = keys;
+            var v = vals;
+            for (int i = 0; i < k.length; i++)
+                if (k[i] != 0 && !mapsTo(m, k[i], v[i]))
+                    return false;
+        } catch (ClassCastException | NullPointerException unused) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEach(IntIntConsumer action) {
+        Objects.requireNonNull(action);
+        int mc = modCount;
+        if (containsZeroKey)
+            action.accept(0, zeroValue);
+        var k = keys;
+        var v = vals;
+        for (int i = 0; i < k.length; i++)
+            if (k[i] != 0)
+                action.accept(k[i], v[i]);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public Integer get(Object key) {
+        if (!(key instanceof Integer boxed))
+            return null;
+        int k = boxed;
+        if (k == 0)
+            return containsZeroKey ? zeroValue : null;
+        int pos = find(k);
+        return pos < 0 ? null : vals[pos];
+    }
+
+    @Override
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0)
+            return containsZeroKey ? zeroValue : defaultValue;
+        int pos = find(key);
+        return pos < 0 ? defaultValue : vals[pos];
+    }
+
+    @Override
+    public int hashCode() {
+        // The hash code of a map is the sum of the hash codes of its entries,
+        // each of which is the hash code of its key xor that of its value
+        int h = 0;
+        if (containsZeroKey)
+            h += zeroValue;
+        var k = keys;
+        var v = vals;
+        for (int i = 0; i < k.length; i++)
+            if (k[i] != 0)
+                h += (k[i] ^ v[i]);
+        return h;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public PrimitiveSet.OfInt keySet() {
+        var ks = keySet;
+        return ks != null ? ks : (keySet = new KeySet());
+    }
+
+    @Override
+    public int put(int key, int value) {
+        if (key == 0) {
+            int previous = zeroValue;
+            zeroValue = value;
+            if (containsZeroKey)
+                return previous;
+            containsZeroKey = true;
+        } else {
+            var k = keys;
+            int m = mask;
+            int pos = Hashing.mix(key) & m;
+            int cur;
+            while ((cur = k[pos]) != 0) {
+                if (cur == key) {
+                    int previous = vals[pos];
+                    vals[pos] = value;
+                    return previous;
+                }
+                pos = (pos + 1) & m;
+            }
+            k[pos] = key;
+            vals[pos] = value;
+        }
+        modCount++;
+        if (size++ >= maxFill)
+            rehash(Hashing.tableSize(size + 1, loadFactor));
+        return 0;
+    }
+
+    @Override
+    public void putAll(Map<? extends Integer, ? extends Integer> m) {
+        ensureCapacity(size + m.size());
+        PrimitiveMap.IntToInt.super.putAll(m);
+    }
+
+    @Override
+    public int remove(int key) {
+        int previous;
+        if (key == 0) {
+            if (!containsZeroKey)
+                return 0;
+            containsZeroKey = false;
+            previous = zeroValue;
+            zeroValue = 0;
+        } else {
+            int pos = find(key);
+            if (pos < 0)
+                return 0;
+            previous = vals[pos];
+            shiftKeys(pos);
+        }
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public PrimitiveCollection.OfInt values() {
+        var vs = values;
+        return vs != null ? vs : (values = new Values());
+    }
+
+    // The iterators scan the table from the end toward the beginning. Removing
+    // an entry may shift an entry that wrapped around from the start of the
+    // table into the region that has already been scanned; such entries are
+    // recorded and returned once the scan completes.
+    private abstract class MapItr {
+        private static final int NONE = -1;
+        private static final int ZERO = -2;
+        private static final int WRAPPED = -3;
+        private int pos = keys.length;
+        private int last = NONE;
+        private int remaining = size;
+        private boolean mustReturnZero = containsZeroKey;
+        private int[] wrappedKeys;
+        private int[] wrappedVals;
+        private int wrappedCount;
+        private int expectedModCount = modCount;
+        // The key and value of the entry most recently returned
+        int key;
+        int value;
+
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        final void advance() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            remaining--;
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                last = ZERO;
+                key = 0;
+                value = zeroValue;
+                return;
+            }
+            var k = keys;
+            for (;;) {
+                if (--pos < 0) {
+                    last = WRAPPED;
+                    key = wrappedKeys[-pos - 1];
+                    value = wrappedVals[-pos - 1];
+                    return;
+                }
+                if (k[pos] != 0) {
+                    key = k[last = pos];
+                    value = vals[pos];
+                    return;
+                }
+            }
+        }
+
+        public void remove() {
+            if (last == NONE)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (last == ZERO) {
+                containsZeroKey = false;
+                zeroValue = 0;
+            } else if (last == WRAPPED) {
+                // The table scan is complete, so shifting entries can no longer
+                // hide anything from this iterator.
+                IntToIntHashMap.this.remove(key);
+                last = NONE;
+                expectedModCount = modCount;
+                return;
+            } else {
+                shiftKeys(last);
+            }
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+            last = NONE;
+        }
+
+        private void shiftKeys(int pos) {
+            var k = keys;
+            var v = vals;
+            int m = mask;
+            int last, slot;
+            int cur;
+            for (;;) {
+                pos = ((last = pos) + 1) & m;
+                for (;;) {
+                    if ((cur = k[pos]) == 0) {
+                        k[last] = 0;
+                        return;
+                    }
+                    slot = Hashing.mix(cur) & m;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                        break;
+                    pos = (pos + 1) & m;
+                }
+                if (pos < last)
+                    addWrapped(cur, v[pos]);
+                k[last] = cur;
+                v[last] = v[pos];
+            }
+        }
+
+        private void addWrapped(int k, int v) {
+            if (wrappedKeys == null) {
+                wrappedKeys = new int[2];
+                wrappedVals = new int[2];
+            } else if (wrappedCount == wrappedKeys.length) {
+                wrappedKeys = Arrays.copyOf(wrappedKeys, wrappedCount << 1);
+                wrappedVals = Arrays.copyOf(wrappedVals, wrappedCount << 1);
+            }
+            wrappedKeys[wrappedCount] = k;
+            wrappedVals[wrappedCount++] = v;
+        }
+    }
+
+    private final class KeyItr extends MapItr implements PrimitiveIterator.OfInt {
+        @Override
+        public int nextInt() {
+            advance();
+            return key;
+        }
+    }
+
+    private final class ValueItr extends MapItr implements PrimitiveIterator.OfInt {
+        @Override
+        public int nextInt() {
+            advance();
+            return value;
+        }
+    }
+
+    private final class EntryItr extends MapItr implements Iterator<Map.Entry<Integer,Integer>> {
+        @Override
+        public Map.Entry<Integer,Integer> next() {
+            advance();
+            return new MapEntry(key, value);
+        }
+    }
+
+    // An entry which writes its value through to the map
+    private final class MapEntry extends AbstractMap.SimpleEntry<Integer,Integer> {
+        MapEntry(int key, int value) {
+            super(key, value);
+        }
+
+        @Override
+        public Integer setValue(Integer value) {
+            put(getKey().intValue(), value.intValue());
+            return super.setValue(value);
+        }
+    }
+
+    private final class KeySet extends AbstractPrimitiveSet.OfInt {
+        @Override
+        public void clear() {
+            IntToIntHashMap.this.clear();
+        }
+
+        @Override
+        public boolean containsInt(int k) {
+            return containsKey(k);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return new KeyItr();
+        }
+
+        @Override
+        public boolean removeInt(int k) {
+            if (!containsKey(k))
+                return false;
+            IntToIntHashMap.this.remove(k);
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class Values implements PrimitiveCollection.OfInt {
+        @Override
+        public void clear() {
+            IntToIntHashMap.this.clear();
+        }
+
+        @Override
+        public boolean containsInt(int v) {
+            return containsValue(v);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return new ValueItr();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Integer,Integer>> {
+        @Override
+        public void clear() {
+            IntToIntHashMap.this.clear();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Map.Entry<?,?> e &&
+                    e.getKey() instanceof Integer k &&
+                    containsKey(k.intValue()) &&
+                    Objects.equals(get(k.intValue()), e.getValue());
+        }
+
+        @Override
+        public Iterator<Map.Entry<Integer,Integer>> iterator() {
+            return new EntryItr();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o))
+                return false;
+            IntToIntHashMap.this.remove(((Integer) ((Map.Entry<?,?>) o).getKey()).intValue());
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * <p>A mutable {@link PrimitiveSet.OfLong} backed by an open-addressing hash
+ * table. Elements are stored directly in a {@code long[]}, so no boxing is
+ * performed by any of the primitive operations, and no per-element objects are
+ * allocated. It is intended as a rough equivalent to {@link java.util.HashSet}
+ * for {@code long} values.</p>
+ * <p>This class offers expected constant time performance for the
+ * {@code addLong}, {@code removeLong} and {@code containsLong} operations,
+ * assuming the hash function disperses the elements properly among the slots of
+ * the table. Collisions are resolved by linear probing, and removal is performed
+ * by shifting subsequent entries back into place rather than by leaving
+ * tombstones, so lookups never degrade as a result of repeated removals.</p>
+ * <p>The set makes no guarantees as to the iteration order of its elements; in
+ * particular, it does not guarantee that the order will remain constant over
+ * time.</p>
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access a set concurrently, and at least one of the threads
+ * modifies the set, it <em>must</em> be synchronized externally. The iterators
+ * returned by this class are <em>fail-fast</em> on a best-effort basis.</p>
+ */
+@PrereleaseContent
+public class LongHashSet extends AbstractPrimitiveSet.OfLong implements BulkCopying<long[]> {
+    private final float loadFactor;
+    // A zero slot in the table denotes a free slot, so the zero element is
+    // tracked separately.
+    private long[] table;
+    private boolean containsZero;
+    private int mask;
+    private int maxFill;
+    private int size;
+    private int modCount;
+
+    /**
+     * <p>Constructs a new, empty set with a default expected size and load
+     * factor.</p>
+     */
+    public LongHashSet() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>Constructs a new, empty set with the specified expected size and the
+     * default load factor.</p>
+     * @param expectedSize the number of elements the set is expected to hold
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public LongHashSet(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>Constructs a new, empty set with the specified expected size and load
+     * factor.</p>
+     * @param expectedSize the number of elements the set is expected to hold
+     * @param loadFactor the load factor of the set, which must be greater than
+     *                   0 and smaller than 1
+     * @throws IllegalArgumentException if the expected size is negative, or if
+     * the load factor is not greater than 0 and smaller than 1
+     */
+    public LongHashSet(int expectedSize, float loadFactor) {
+        Hashing.checkArguments(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(Hashing.tableSize(expectedSize, loadFactor));
+    }
+
+    /**
+     * <p>Constructs a new set containing the elements in the specified
+     * collection, with the default load factor.</p>
+     * @param c the collection whose elements are to be placed into this set
+     * @throws NullPointerException if the specified collection is null
+     */
+    public LongHashSet(PrimitiveCollection.OfLong c) {
+        this(Math.max(c.size(), Hashing.DEFAULT_EXPECTED_SIZE));
+        addAll(c);
+    }
+
+    private void allocate(int n) {
+        table = new long[n];
+        mask = n - 1;
+        maxFill = Hashing.maxFill(n, loadFactor);
+    }
+
+    private void ensureCapacity(int expected) {
+        int needed = Hashing.tableSize(expected, loadFactor);
+        if (needed > table.length)
+            rehash(needed);
+    }
+
+    private void rehash(int n) {
+        var old = table;
+        allocate(n);
+        var t = table;
+        int m = mask;
+        for (long k : old) {
+            if (k == 0)
+                continue;
+            int pos = Hashing.mix(k) & m;
+            while (t[pos] != 0)
+                pos = (pos + 1) & m;
+            t[pos] = k;
+        }
+    }
+
+    private int find(long l) {
+        var t = table;
+        int m = mask;
+        int pos = Hashing.mix(l) & m;
+        long cur;
+        while ((cur = t[pos]) != 0) {
+            if (cur == l)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -1;
+    }
+
+    // Shifts entries following a freed slot back into place, so that every
+    // remaining entry stays reachable from its home slot.
+    private void shiftKeys(int pos) {
+        var t = table;
+        int m = mask;
+        int last, slot;
+        long cur;
+        for (;;) {
+            pos = ((last = pos) + 1) & m;
+            for (;;) {
+                if ((cur = t[pos]) == 0) {
+                    t[last] = 0;
+                    return;
+                }
+                slot = Hashing.mix(cur) & m;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & m;
+            }
+            t[last] = cur;
+        }
+    }
+
+    @Override
+    public boolean addAll(PrimitiveCollection.OfLong c) {
+        ensureCapacity(size + c.size());
+        if (c instanceof LongHashSet s) {
+            // Insert straight from the other table, without an iterator
+            boolean changed = s.containsZero && addLong(0);
+            for (long k : s.table)
+                if (k != 0)
+                    changed |= addLong(k);
+            return changed;
+        }
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addLong(long l) {
+        if (l == 0) {
+            if (containsZero)
+                return false;
+            containsZero = true;
+        } else {
+            var t = table;
+            int m = mask;
+            int pos = Hashing.mix(l) & m;
+            long cur;
+            while ((cur = t[pos]) != 0) {
+                if (cur == l)
+                    return false;
+                pos = (pos + 1) & m;
+            }
+            t[pos] = l;
+        }
+        modCount++;
+        if (size++ >= maxFill)
+            rehash(Hashing.tableSize(size + 1, loadFactor));
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0)
+            return;
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean containsAll(PrimitiveCollection.OfLong c) {
+        // A set of the same class is read by walking its table directly,
+        // rather than through an iterator
+        if (c instanceof LongHashSet set) {
+            if (set.size > size || (set.containsZero && !containsZero))
+                return false;
+            for (long k : set.table)
+                if (k != 0 && find(k) < 0)
+                    return false;
+            return true;
+        }
+        return super.containsAll(c);
+    }
+
+    @Override
+    public boolean containsLong(long l) {
+        return l == 0 ? containsZero : find(l) >= 0;
+    }
+
+    @Override
+    public void copyInto(long[] dest, int offset) {
+        Objects.checkFromIndexSize(offset, size, dest.length);
+        if (containsZero)
+            dest[offset++] = 0;
+        for (long k : table)
+            if (k != 0)
+                dest[offset++] = k;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action);
+        int mc = modCount;
+        if (containsZero)
+            action.accept(0);
+        for (long k : table)
+            if (k != 0)
+                action.accept(k);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public int hashCode() {
+        // The hash code of a long set is the sum of the hash codes of its
+        // elements; free slots and the zero element contribute nothing.
+        int h = 0;
+        for (long k : table)
+            h += Long.hashCode(k);
+        return h;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public boolean removeLong(long l) {
+        if (l == 0) {
+            if (!containsZero)
+                return false;
+            containsZero = false;
+        } else {
+            int pos = find(l);
+            if (pos < 0)
+                return false;
+            shiftKeys(pos);
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new Splitr(null, 0, -1, 0, 0);
+    }
+
+    @Override
+    public long[] toPrimitiveArray() {
+        var a = new long[size];
+        copyInto(a, 0);
+        return a;
+    }
+
+    // The iterator scans the table from the end toward the beginning. Removing
+    // an element may shift an entry that wrapped around from the start of the
+    // table into the region that has already been scanned; such entries are
+    // recorded and returned once the scan completes.
+    private final class Itr implements PrimitiveIterator.OfLong {
+        private static final int NONE = -1;
+        private static final int ZERO = -2;
+        private static final int WRAPPED = -3;
+        private int pos = table.length;
+        private int last = NONE;
+        private int remaining = size;
+        private boolean mustReturnZero = containsZero;
+        private long[] wrapped;
+        private int wrappedCount;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            remaining--;
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                last = ZERO;
+                return 0;
+            }
+            var t = table;
+            for (;;) {
+                if (--pos < 0) {
+                    last = WRAPPED;
+                    return wrapped[-pos - 1];
+                }
+                if (t[pos] != 0)
+                    return t[last = pos];
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (last == NONE)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (last == ZERO) {
+                containsZero = false;
+            } else if (last == WRAPPED) {
+                // The table scan is complete, so shifting entries can no longer
+                // hide anything from this iterator.
+                LongHashSet.this.removeLong(wrapped[-pos - 1]);
+                last = NONE;
+                expectedModCount = modCount;
+                return;
+            } else {
+                shiftKeys(last);
+            }
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+            last = NONE;
+        }
+
+        private void shiftKeys(int pos) {
+            var t = table;
+            int m = mask;
+            int last, slot;
+            long cur;
+            for (;;) {
+                pos = ((last = pos) + 1) & m;
+                for (;;) {
+                    if ((cur = t[pos]) == 0) {
+                        t[last] = 0;
+                        return;
+                    }
+                    slot = Hashing.mix(cur) & m;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                        break;
+                    pos = (pos + 1) & m;
+                }
+                if (pos < last)
+                    addWrapped(cur);
+                t[last] = cur;
+            }
+        }
+
+        private void addWrapped(long k) {
+            if (wrapped == null)
+                wrapped = new long[2];
+            else if (wrappedCount == wrapped.length)
+                wrapped = Arrays.copyOf(wrapped, wrappedCount << 1);
+            wrapped[wrappedCount++] = k;
+        }
+    }
+
+    // Splits the range of table slots in half, with no copying. Only a
+    // spliterator which has never been split knows its exact size, so the
+    // halves report estimates and are not SIZED. The zero element, which has
+    // no slot, is reported by the spliterator covering the end of the table.
+    private final class Splitr implements Spliterator.OfLong {
+        private long[] tab;
+        private int index;
+        private int fence;  // -1 until first use
+        private int est;
+        private int expectedModCount;
+        private boolean mustReturnZero;
+        private boolean split;
+
+        Splitr(long[] tab, int origin, int fence, int est, int expectedModCount) {
+            this.tab = tab;
+            this.index = origin;
+            this.fence = fence;
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+            this.split = fence >= 0;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                tab = table;
+                fence = tab.length;
+                est = size;
+                expectedModCount = modCount;
+                mustReturnZero = containsZero;
+            }
+            return fence;
+        }
+
+        @Override
+        public int characteristics() {
+            return (split ? 0 : Spliterator.SIZED) | Spliterator.DISTINCT;
+        }
+
+        @Override
+        public long estimateSize() {
+            getFence();
+            return est;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            var t = tab;
+            int i = index;
+            index = hi;
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                action.accept(0);
+            }
+            for (; i < hi; i++) {
+                long k = t[i];
+                if (k != 0)
+                    action.accept(k);
+            }
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            var t = tab;
+            while (index < hi) {
+                long k = t[index++];
+                if (k != 0) {
+                    action.accept(k);
+                    if (modCount != expectedModCount)
+                        throw new ConcurrentModificationException();
+                    return true;
+                }
+            }
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                action.accept(0);
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Splitr trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+                return null;
+            index = mid;
+            split = true;
+            return new Splitr(tab, lo, mid, est >>>= 1, expectedModCount);
+        }
+    }
+}
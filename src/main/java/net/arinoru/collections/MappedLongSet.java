@@ -0,0 +1,305 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * <p>An immutable {@link PrimitiveSet.OfLong} which reads its elements
+ * directly from a memory-mapped file. Opening a set maps the file without
+ * reading or copying its elements, so a set of any size is available in
+ * constant time, and its pages are loaded on demand by the operating system.
+ * Since the file is mapped read-only, its pages are shared through the page
+ * cache by every process which opens the same file.</p>
+ * <p>Files are written by {@link #write(Path, PrimitiveCollection.OfLong)},
+ * and hold a 16-byte header followed by the distinct elements of the set in
+ * ascending order, as little-endian 64-bit values:</p>
+ * <pre>
+ *     int  magic    (0x4C534554, "LSET")
+ *     int  version  (1)
+ *     long count
+ *     long elements[count]
+ * </pre>
+ * <p>The {@code containsLong} operation performs a binary search of the
+ * mapping, and iteration proceeds in ascending order. The spliterator reports
+ * {@link Spliterator#SORTED}, and splits evenly without copying.</p>
+ * <p>The mapping is released by {@link #close()}, after which any attempt to
+ * access the elements of the set throws {@link IllegalStateException}. If a
+ * set is never closed, its mapping is released once the set has been garbage
+ * collected. A file must not be modified or truncated while it is mapped;
+ * replacing it by moving a newly written file into its place is safe.</p>
+ * <p>Only the header of the file is checked when it is opened. The elements
+ * are trusted to be sorted and distinct, as they are in any file produced by
+ * {@code write}; if they are not, the set behaves unpredictably.</p>
+ */
+@PrereleaseContent
+public class MappedLongSet extends AbstractPrimitiveSet.OfLong implements AutoCloseable {
+    static final int MAGIC = 0x4C534554;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    // The number of elements buffered by each write to the file
+    private static final int WRITE_CHUNK = 1 << 13;
+    private final int size;
+    private final int pageShift;
+    private final int pageMask;
+    // Null once the set has been closed
+    private ByteBuffer[] pages;
+
+    private MappedLongSet(ByteBuffer[] pages, int size, int pageShift) {
+        this.pages = pages;
+        this.size = size;
+        this.pageShift = pageShift - 3;
+        this.pageMask = (1 << this.pageShift) - 1;
+    }
+
+    /**
+     * <p>Maps the set stored in the specified file. The file may be closed,
+     * or even deleted, once this method has returned, but must not be
+     * modified for as long as the set is in use.</p>
+     * @param path the file to be mapped
+     * @return the set stored in the file
+     * @throws IOException if the file cannot be read, or does not hold a set
+     * written by {@link #write(Path, PrimitiveCollection.OfLong)}
+     * @throws NullPointerException if the specified path is null
+     */
+    public static MappedLongSet open(Path path) throws IOException {
+        return open(path, DirectMemory.DEFAULT_PAGE_SHIFT);
+    }
+
+    // Allows tests to span sets over several small mappings
+    static MappedLongSet open(Path path, int pageShift) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining())
+                if (channel.read(header, header.position()) < 0)
+                    throw new IOException("Truncated header in " + path);
+            int magic = header.getInt(0);
+            int version = header.getInt(4);
+            long count = header.getLong(8);
+            if (magic != MAGIC)
+                throw new IOException("Not a mapped long set: " + path);
+            if (version != VERSION)
+                throw new IOException("Unsupported version " + version + " in " + path);
+            if (count < 0 || count > Integer.MAX_VALUE ||
+                    channel.size() != HEADER_SIZE + (count << 3))
+                throw new IOException("Corrupt mapped long set: " + path);
+            long pageSize = 1L << pageShift;
+            long bytes = count << 3;
+            var pages = new ByteBuffer[(int) ((bytes + pageSize - 1) >>> pageShift)];
+            for (int i = 0; i < pages.length; i++) {
+                long offset = (long) i << pageShift;
+                pages[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + offset,
+                        Math.min(pageSize, bytes - offset)).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new MappedLongSet(pages, (int) count, pageShift);
+        }
+    }
+
+    /**
+     * <p>Writes the distinct elements of the specified collection to the
+     * specified file, in the format read by {@link #open(Path)}. The file is
+     * created if it does not exist, and replaced if it does.</p>
+     * <p>A file which may be mapped by a running process should not be
+     * overwritten in place; the set should instead be written to a new file,
+     * which is then moved over the old one.</p>
+     * @param path the file to be written
+     * @param c the collection whose elements are to be written
+     * @throws IOException if the file cannot be written
+     * @throws NullPointerException if either argument is null
+     */
+    public static void write(Path path, PrimitiveCollection.OfLong c) throws IOException {
+        var elements = PrimitiveCollections.sortedCopyOf(c).toPrimitiveArray();
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            var buf = ByteBuffer.allocate(WRITE_CHUNK << 3).order(ByteOrder.LITTLE_ENDIAN);
+            buf.putInt(MAGIC).putInt(VERSION).putLong(elements.length);
+            for (long l : elements) {
+                if (!buf.hasRemaining())
+                    drain(channel, buf);
+                buf.putLong(l);
+            }
+            drain(channel, buf);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining())
+            channel.write(buf);
+        buf.clear();
+    }
+
+    private ByteBuffer[] pages() {
+        var p = pages;
+        if (p == null)
+            throw new IllegalStateException("The set has been closed");
+        return p;
+    }
+
+    private long get(ByteBuffer[] p, int i) {
+        return p[i >>> pageShift].getLong((i & pageMask) << 3);
+    }
+
+    /**
+     * <p>Releases the mapping of this set. Closing a set which has already
+     * been closed has no effect.</p>
+     * <p>This method must not be called while any other thread may be
+     * accessing the set, including through an iterator, spliterator or
+     * stream.</p>
+     */
+    @Override
+    public void close() {
+        var old = pages;
+        if (old == null)
+            return;
+        pages = null;
+        DirectMemory.free(old);
+    }
+
+    @Override
+    public boolean containsLong(long l) {
+        var p = pages();
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long v = get(p, mid);
+            if (v < l)
+                lo = mid + 1;
+            else if (v > l)
+                hi = mid - 1;
+            else
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action);
+        pages();
+        // The pages are looked up afresh for every element, so an action
+        // which closes the set cannot cause unmapped memory to be read.
+        for (int i = 0; i < size; i++)
+            action.accept(get(pages(), i));
+    }
+
+    /**
+     * <p>Returns whether this set has been closed.</p>
+     * @return {@code true} if {@link #close()} has been called on this set
+     */
+    public boolean isClosed() {
+        return pages == null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        pages();
+        return new PrimitiveIterator.OfLong() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+                return get(pages(), index++);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        pages();
+        return new Splitr(0, size);
+    }
+
+    @Override
+    public long[] toPrimitiveArray() {
+        var p = pages();
+        var a = new long[size];
+        for (int i = 0; i < a.length; i++)
+            a[i] = get(p, i);
+        return a;
+    }
+
+    private final class Splitr implements Spliterator.OfLong {
+        private int index;
+        private final int fence;
+
+        Splitr(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.DISTINCT |
+                    Spliterator.SORTED | Spliterator.NONNULL | Spliterator.SIZED |
+                    Spliterator.SUBSIZED;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            int i = index;
+            index = fence;
+            for (; i < fence; i++)
+                action.accept(get(pages(), i));
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            if (index >= fence)
+                return false;
+            action.accept(get(pages(), index++));
+            return true;
+        }
+
+        @Override
+        public Splitr trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid)
+                return null;
+            index = mid;
+            return new Splitr(lo, mid);
+        }
+    }
+}
@@ -0,0 +1,555 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * <p>A mutable {@link PrimitiveSet.OfLong} backed by an open-addressing hash
+ * table which lives outside of the Java heap, in direct buffers. The garbage
+ * collector never has to trace or copy the table, so very large sets add
+ * nothing to collection pauses, and need not be accounted for in the size of
+ * the heap. The table is split across pages of direct memory, so it is not
+ * limited to the two gigabytes of a single buffer, and may hold up to
+ * {@code Integer.MAX_VALUE} elements.</p>
+ * <p>The memory held by the set is released by {@link #close()}. A closed set
+ * is empty, and any further attempt to access or modify its elements throws
+ * {@link IllegalStateException}. If a set is never closed, its memory is
+ * released once the set has been garbage collected. Growing the table
+ * temporarily requires memory for both the old and the new table; callers
+ * which know the final size of the set should supply it on construction.</p>
+ * <p>Apart from where its table is stored, this class behaves like
+ * {@link LongHashSet}: collisions are resolved by linear probing, removal shifts
+ * subsequent entries back into place, and the set makes no guarantees as to
+ * the iteration order of its elements.</p>
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access a set concurrently, and at least one of the threads
+ * modifies the set, it <em>must</em> be synchronized externally. In
+ * particular, the set must not be closed while any other thread, including a
+ * parallel stream over the set, may still be reading it. The iterators
+ * returned by this class are <em>fail-fast</em> on a best-effort basis.</p>
+ */
+@PrereleaseContent
+public class OffHeapLongHashSet extends AbstractPrimitiveSet.OfLong implements AutoCloseable {
+    /** The largest number of slots a table may have. */
+    static final long MAX_TABLE_SIZE = 1L << 32;
+    // The base-2 logarithm of the width of a slot, in bytes
+    private static final int SLOT_SHIFT = 3;
+    private final float loadFactor;
+    private final int pageShift;
+    private final int pageMask;
+    // A zero slot in the table denotes a free slot, so the zero element is
+    // tracked separately. Null once the set has been closed.
+    private ByteBuffer[] pages;
+    private boolean containsZero;
+    private long capacity;
+    private long mask;
+    private long maxFill;
+    private int size;
+    private int modCount;
+
+    /**
+     * <p>Constructs a new, empty set with a default expected size and load
+     * factor.</p>
+     */
+    public OffHeapLongHashSet() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>Constructs a new, empty set with the specified expected size and the
+     * default load factor.</p>
+     * @param expectedSize the number of elements the set is expected to hold
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public OffHeapLongHashSet(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>Constructs a new, empty set with the specified expected size and load
+     * factor.</p>
+     * @param expectedSize the number of elements the set is expected to hold
+     * @param loadFactor the load factor of the set, which must be greater than
+     *                   0 and smaller than 1
+     * @throws IllegalArgumentException if the expected size is negative, if
+     * the load factor is not greater than 0 and smaller than 1, or if the
+     * table required would be too large
+     */
+    public OffHeapLongHashSet(int expectedSize, float loadFactor) {
+        this(expectedSize, loadFactor, DirectMemory.DEFAULT_PAGE_SHIFT);
+    }
+
+    /**
+     * <p>Constructs a new set containing the elements in the specified
+     * collection, with the default load factor.</p>
+     * @param c the collection whose elements are to be placed into this set
+     * @throws NullPointerException if the specified collection is null
+     */
+    public OffHeapLongHashSet(PrimitiveCollection.OfLong c) {
+        this(Math.max(c.size(), Hashing.DEFAULT_EXPECTED_SIZE));
+        addAll(c);
+    }
+
+    // Allows tests to span tables over several small pages
+    OffHeapLongHashSet(int expectedSize, float loadFactor, int pageShift) {
+        Hashing.checkArguments(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        this.pageShift = pageShift - SLOT_SHIFT;
+        this.pageMask = (1 << this.pageShift) - 1;
+        allocate(tableSize(expectedSize, loadFactor));
+    }
+
+    private static long tableSize(long expected, float loadFactor) {
+        long n = (long) Math.ceil(expected / (double) loadFactor);
+        long s = n <= 2 ? 2 : Long.highestOneBit(n - 1) << 1;
+        if (s > MAX_TABLE_SIZE)
+            throw new IllegalArgumentException("Too large (" + expected +
+                    " expected elements with load factor " + loadFactor + ")");
+        return s;
+    }
+
+    private void allocate(long n) {
+        pages = DirectMemory.allocate(n << SLOT_SHIFT, pageShift + SLOT_SHIFT);
+        capacity = n;
+        mask = n - 1;
+        maxFill = Math.min((long) Math.ceil(n * (double) loadFactor), n - 1);
+    }
+
+    private ByteBuffer[] pages() {
+        var p = pages;
+        if (p == null)
+            throw new IllegalStateException("The set has been closed");
+        return p;
+    }
+
+    private long get(ByteBuffer[] p, long i) {
+        return p[(int) (i >>> pageShift)].getLong(((int) i & pageMask) << SLOT_SHIFT);
+    }
+
+    private void set(ByteBuffer[] p, long i, long k) {
+        p[(int) (i >>> pageShift)].putLong(((int) i & pageMask) << SLOT_SHIFT, k);
+    }
+
+    private long home(long k) {
+        return Integer.toUnsignedLong(Hashing.mix(k)) & mask;
+    }
+
+    private void ensureCapacity(long expected) {
+        long needed = tableSize(expected, loadFactor);
+        if (needed > capacity)
+            rehash(needed);
+    }
+
+    private void rehash(long n) {
+        var old = pages();
+        long oldCapacity = capacity;
+        allocate(n);
+        var p = pages;
+        for (long i = 0; i < oldCapacity; i++) {
+            long k = get(old, i);
+            if (k == 0)
+                continue;
+            long pos = home(k);
+            while (get(p, pos) != 0)
+                pos = (pos + 1) & mask;
+            set(p, pos, k);
+        }
+        DirectMemory.free(old);
+    }
+
+    private long find(ByteBuffer[] p, long k) {
+        long m = mask;
+        long pos = home(k);
+        long cur;
+        while ((cur = get(p, pos)) != 0) {
+            if (cur == k)
+                return pos;
+            pos = (pos + 1) & m;
+        }
+        return -1;
+    }
+
+    // Shifts entries following a freed slot back into place, so that every
+    // remaining entry stays reachable from its home slot. Entries which wrap
+    // around from the start of the table to its end are passed to the
+    // specified action, if it is not null, so that an iterator can return
+    // them separately.
+    private void shiftKeys(long pos, LongConsumer wrapped) {
+        var p = pages;
+        long m = mask;
+        long last, slot;
+        long cur;
+        for (;;) {
+            pos = ((last = pos) + 1) & m;
+            for (;;) {
+                if ((cur = get(p, pos)) == 0) {
+                    set(p, last, (long) 0);
+                    return;
+                }
+                slot = home(cur);
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & m;
+            }
+            if (wrapped != null && pos < last)
+                wrapped.accept(cur);
+            set(p, last, cur);
+        }
+    }
+
+    @Override
+    public boolean addAll(PrimitiveCollection.OfLong c) {
+        pages();
+        ensureCapacity((long) size + c.size());
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addLong(long k) {
+        var p = pages();
+        if (k == 0) {
+            if (containsZero)
+                return false;
+            containsZero = true;
+        } else {
+            if (size == Integer.MAX_VALUE)
+                throw new IllegalStateException("The set is full");
+            long m = mask;
+            long pos = home(k);
+            long cur;
+            while ((cur = get(p, pos)) != 0) {
+                if (cur == k)
+                    return false;
+                pos = (pos + 1) & m;
+            }
+            set(p, pos, k);
+        }
+        modCount++;
+        if (size++ >= maxFill)
+            rehash(tableSize(size + 1L, loadFactor));
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        var old = pages();
+        if (size == 0)
+            return;
+        // Fresh direct buffers are already zeroed, so replacing the pages is
+        // cheaper than writing zeros over every slot.
+        allocate(capacity);
+        DirectMemory.free(old);
+        containsZero = false;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * <p>Removes all of the elements from this set, and releases the direct
+     * memory which holds its table. Closing a set which has already been
+     * closed has no effect.</p>
+     * <p>This method must not be called while any other thread may be
+     * accessing the set, including through an iterator, spliterator or
+     * stream.</p>
+     */
+    @Override
+    public void close() {
+        var old = pages;
+        if (old == null)
+            return;
+        pages = null;
+        containsZero = false;
+        size = 0;
+        modCount++;
+        DirectMemory.free(old);
+    }
+
+    @Override
+    public boolean containsLong(long k) {
+        var p = pages();
+        return k == 0 ? containsZero : find(p, k) >= 0;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action);
+        pages();
+        int mc = modCount;
+        if (containsZero)
+            action.accept(0);
+        // The pages are looked up afresh for every slot, so an action which
+        // closes the set cannot cause freed memory to be read.
+        for (long i = 0, n = capacity; i < n && mc == modCount; i++) {
+            long k = get(pages, i);
+            if (k != 0)
+                action.accept(k);
+        }
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public int hashCode() {
+        // The hash code of the set is the sum of the hash codes of its
+        // elements; free slots and the zero element contribute nothing.
+        var p = pages();
+        int h = 0;
+        for (long i = 0, n = capacity; i < n; i++)
+            h += Long.hashCode(get(p, i));
+        return h;
+    }
+
+    /**
+     * <p>Returns whether this set has been closed.</p>
+     * @return {@code true} if {@link #close()} has been called on this set
+     */
+    public boolean isClosed() {
+        return pages == null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        pages();
+        return new Itr();
+    }
+
+    @Override
+    public boolean removeLong(long k) {
+        var p = pages();
+        if (k == 0) {
+            if (!containsZero)
+                return false;
+            containsZero = false;
+        } else {
+            long pos = find(p, k);
+            if (pos < 0)
+                return false;
+            shiftKeys(pos, null);
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        pages();
+        return new Splitr(0, -1, 0, 0);
+    }
+
+    @Override
+    public long[] toPrimitiveArray() {
+        var p = pages();
+        var a = new long[size];
+        int j = 0;
+        if (containsZero)
+            j++;
+        for (long i = 0, n = capacity; i < n; i++) {
+            long k = get(p, i);
+            if (k != 0)
+                a[j++] = k;
+        }
+        return a;
+    }
+
+    // The iterator scans the table from the end toward the beginning. Removing
+    // an element may shift an entry that wrapped around from the start of the
+    // table into the region that has already been scanned; such entries are
+    // recorded and returned once the scan completes.
+    private final class Itr implements PrimitiveIterator.OfLong {
+        private static final long NONE = -1;
+        private static final long ZERO = -2;
+        private static final long WRAPPED = -3;
+        private long pos = capacity;
+        private long last = NONE;
+        private int remaining = size;
+        private boolean mustReturnZero = containsZero;
+        private long[] wrapped;
+        private int wrappedCount;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            remaining--;
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                last = ZERO;
+                return 0;
+            }
+            var p = pages;
+            for (;;) {
+                if (--pos < 0) {
+                    last = WRAPPED;
+                    return wrapped[(int) -pos - 1];
+                }
+                long k = get(p, pos);
+                if (k != 0) {
+                    last = pos;
+                    return k;
+                }
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (last == NONE)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (last == ZERO) {
+                containsZero = false;
+            } else if (last == WRAPPED) {
+                // The table scan is complete, so shifting entries can no longer
+                // hide anything from this iterator.
+                OffHeapLongHashSet.this.removeLong(wrapped[(int) -pos - 1]);
+                last = NONE;
+                expectedModCount = modCount;
+                return;
+            } else {
+                shiftKeys(last, this::addWrapped);
+            }
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+            last = NONE;
+        }
+
+        private void addWrapped(long k) {
+            if (wrapped == null)
+                wrapped = new long[2];
+            else if (wrappedCount == wrapped.length)
+                wrapped = Arrays.copyOf(wrapped, wrappedCount << 1);
+            wrapped[wrappedCount++] = k;
+        }
+    }
+
+    // Splits the range of table slots in half, with no copying. Only a
+    // spliterator which has never been split knows its exact size, so the
+    // halves report estimates and are not SIZED. The zero element, which has
+    // no slot, is reported by the spliterator covering the end of the table.
+    // Slots are read through the current pages of the set, so that closing
+    // the set from within an action cannot cause freed memory to be read.
+    private final class Splitr implements Spliterator.OfLong {
+        private long index;
+        private long fence;  // -1 until first use
+        private long est;
+        private int expectedModCount;
+        private boolean mustReturnZero;
+        private boolean split;
+
+        Splitr(long origin, long fence, long est, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+            this.split = fence >= 0;
+        }
+
+        private long getFence() {
+            if (fence < 0) {
+                fence = capacity;
+                est = size;
+                expectedModCount = modCount;
+                mustReturnZero = containsZero;
+            }
+            return fence;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public int characteristics() {
+            return (split ? 0 : Spliterator.SIZED) | Spliterator.DISTINCT;
+        }
+
+        @Override
+        public long estimateSize() {
+            getFence();
+            return est;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            long hi = getFence();
+            long i = index;
+            index = hi;
+            checkForComodification();
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                action.accept(0);
+            }
+            for (; i < hi; i++) {
+                checkForComodification();
+                long k = get(pages, i);
+                if (k != 0)
+                    action.accept(k);
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            long hi = getFence();
+            checkForComodification();
+            while (index < hi) {
+                long k = get(pages, index++);
+                if (k != 0) {
+                    action.accept(k);
+                    checkForComodification();
+                    return true;
+                }
+            }
+            if (mustReturnZero) {
+                mustReturnZero = false;
+                action.accept(0);
+                checkForComodification();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Splitr trySplit() {
+            long hi = getFence();
+            long lo = index;
+            long mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+                return null;
+            index = mid;
+            split = true;
+            return new Splitr(lo, mid, est >>>= 1, expectedModCount);
+        }
+    }
+}
@@ -0,0 +1,797 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * <p>This class consists exclusively of static methods that write primitive
+ * collections to, and read them from, a compact and versioned binary format.
+ * Unlike Java serialization, the format holds no class descriptors or object
+ * headers, and each element takes only as many bytes as its value
+ * requires.</p>
+ * <p>Sets of {@code int} and {@code long} values are written in ascending
+ * order, as the first element followed by the gap between each element and
+ * the one before it; collections are written in iteration order, as the
+ * difference between each element and the one before it. Both are written
+ * as variable-length integers of seven bits per byte, so that dense or
+ * clustered elements take a single byte each. Elements of {@code double}
+ * collections are written as raw little-endian 64-bit values.</p>
+ * <p>Every collection begins with a header of two bytes, holding the version
+ * of the format and the kind of collection, followed by the number of
+ * elements. The elements follow in blocks of at most {@value #BLOCK_SIZE},
+ * each preceded by its number of elements and its length in bytes, and the
+ * collection ends with an empty block. Neither writing nor reading ever
+ * holds more than one block of encoded elements in memory, and a reader
+ * consumes exactly the bytes of the collection, so that several collections,
+ * or other data, may follow each other in the same stream or channel.</p>
+ * <p>The methods which accept a {@link DataOutput} or {@link DataInput}
+ * perform no buffering of their own; streams should be buffered by the
+ * caller.</p>
+ */
+@PrereleaseContent
+public class PrimitiveCodec {
+    static final int VERSION = 1;
+    static final int INT_SET = 1;
+    static final int LONG_SET = 2;
+    static final int DOUBLE_SET = 3;
+    static final int INT_SEQUENCE = 4;
+    static final int LONG_SEQUENCE = 5;
+    static final int DOUBLE_SEQUENCE = 6;
+    /** The largest number of elements written in a single block. */
+    static final int BLOCK_SIZE = 4096;
+    // The largest number of bytes taken by a single encoded element
+    private static final int MAX_ELEMENT_BYTES = 10;
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private PrimitiveCodec() {}
+
+    /**
+     * <p>Reads a collection written by
+     * {@link #writeCollection(DataOutput, PrimitiveCollection.OfDouble)} from the
+     * specified input.</p>
+     * @param in the input to be read from
+     * @return a new mutable list containing the elements of the collection, in
+     * the order in which they were written
+     * @throws IOException if an I/O error occurs, or if the input does not hold
+     * a {@code double} collection in this format
+     * @throws NullPointerException if the specified input is null
+     */
+    public static PrimitiveList.OfDouble readDoubleCollection(DataInput in) throws IOException {
+        return readDoubleCollection(source(in));
+    }
+
+    /**
+     * <p>Reads a collection written by
+     * {@link #writeCollection(WritableByteChannel, PrimitiveCollection.OfDouble)}
+     * from the specified channel. No bytes beyond the end of the collection are
+     * consumed.</p>
+     * @param in the channel to be read from
+     * @return a new mutable list containing the elements of the collection, in
+     * the order in which they were written
+     * @throws IOException if an I/O error occurs, or if the channel does not
+     * hold a {@code double} collection in this format
+     * @throws NullPointerException if the specified channel is null
+     */
+    public static PrimitiveList.OfDouble readDoubleCollection(ReadableByteChannel in) throws IOException {
+        return readDoubleCollection(source(in));
+    }
+
+    /**
+     * <p>Reads a set written by {@link #writeSet(DataOutput, PrimitiveSet.OfDouble)}
+     * from the specified input.</p>
+     * @param in the input to be read from
+     * @return a new mutable set containing the elements of the set
+     * @throws IOException if an I/O error occurs, or if the input does not hold
+     * a {@code double} set in this format
+     * @throws NullPointerException if the specified input is null
+     */
+    public static PrimitiveSet.OfDouble readDoubleSet(DataInput in) throws IOException {
+        return readDoubleSet(source(in));
+    }
+
+    /**
+     * <p>Reads a set written by
+     * {@link #writeSet(WritableByteChannel, PrimitiveSet.OfDouble)} from the
+     * specified channel. No bytes beyond the end of the set are consumed.</p>
+     * @param in the channel to be read from
+     * @return a new mutable set containing the elements of the set
+     * @throws IOException if an I/O error occurs, or if the channel does not
+     * hold a {@code double} set in this format
+     * @throws NullPointerException if the specified channel is null
+     */
+    public static PrimitiveSet.OfDouble readDoubleSet(ReadableByteChannel in) throws IOException {
+        return readDoubleSet(source(in));
+    }
+
+    /**
+     * <p>Writes the elements of the specified collection to the specified
+     * output, in iteration order.</p>
+     * @param out the output to be written to
+     * @param c the collection to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeCollection(DataOutput out, PrimitiveCollection.OfDouble c)
+            throws IOException {
+        writeCollection(sink(out), c);
+    }
+
+    /**
+     * <p>Writes the elements of the specified collection to the specified
+     * channel, in iteration order.</p>
+     * @param out the channel to be written to
+     * @param c the collection to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeCollection(WritableByteChannel out, PrimitiveCollection.OfDouble c)
+            throws IOException {
+        writeCollection(sink(out), c);
+    }
+
+    /**
+     * <p>Writes the elements of the specified set to the specified output.</p>
+     * @param out the output to be written to
+     * @param set the set to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeSet(DataOutput out, PrimitiveSet.OfDouble set) throws IOException {
+        writeSet(sink(out), set);
+    }
+
+    /**
+     * <p>Writes the elements of the specified set to the specified channel.</p>
+     * @param out the channel to be written to
+     * @param set the set to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeSet(WritableByteChannel out, PrimitiveSet.OfDouble set)
+            throws IOException {
+        writeSet(sink(out), set);
+    }
+
+    /**
+     * <p>Reads a collection written by
+     * {@link #writeCollection(DataOutput, PrimitiveCollection.OfInt)} from the
+     * specified input.</p>
+     * @param in the input to be read from
+     * @return a new mutable list containing the elements of the collection, in
+     * the order in which they were written
+     * @throws IOException if an I/O error occurs, or if the input does not hold
+     * a {@code int} collection in this format
+     * @throws NullPointerException if the specified input is null
+     */
+    public static PrimitiveList.OfInt readIntCollection(DataInput in) throws IOException {
+        return readIntCollection(source(in));
+    }
+
+    /**
+     * <p>Reads a collection written by
+     * {@link #writeCollection(WritableByteChannel, PrimitiveCollection.OfInt)}
+     * from the specified channel. No bytes beyond the end of the collection are
+     * consumed.</p>
+     * @param in the channel to be read from
+     * @return a new mutable list containing the elements of the collection, in
+     * the order in which they were written
+     * @throws IOException if an I/O error occurs, or if the channel does not
+     * hold a {@code int} collection in this format
+     * @throws NullPointerException if the specified channel is null
+     */
+    public static PrimitiveList.OfInt readIntCollection(ReadableByteChannel in) throws IOException {
+        return readIntCollection(source(in));
+    }
+
+    /**
+     * <p>Reads a set written by {@link #writeSet(DataOutput, PrimitiveSet.OfInt)}
+     * from the specified input.</p>
+     * @param in the input to be read from
+     * @return a new mutable set containing the elements of the set
+     * @throws IOException if an I/O error occurs, or if the input does not hold
+     * a {@code int} set in this format
+     * @throws NullPointerException if the specified input is null
+     */
+    public static PrimitiveSet.OfInt readIntSet(DataInput in) throws IOException {
+        return readIntSet(source(in));
+    }
+
+    /**
+     * <p>Reads a set written by
+     * {@link #writeSet(WritableByteChannel, PrimitiveSet.OfInt)} from the
+     * specified channel. No bytes beyond the end of the set are consumed.</p>
+     * @param in the channel to be read from
+     * @return a new mutable set containing the elements of the set
+     * @throws IOException if an I/O error occurs, or if the channel does not
+     * hold a {@code int} set in this format
+     * @throws NullPointerException if the specified channel is null
+     */
+    public static PrimitiveSet.OfInt readIntSet(ReadableByteChannel in) throws IOException {
+        return readIntSet(source(in));
+    }
+
+    /**
+     * <p>Writes the elements of the specified collection to the specified
+     * output, in iteration order.</p>
+     * @param out the output to be written to
+     * @param c the collection to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeCollection(DataOutput out, PrimitiveCollection.OfInt c)
+            throws IOException {
+        writeCollection(sink(out), c);
+    }
+
+    /**
+     * <p>Writes the elements of the specified collection to the specified
+     * channel, in iteration order.</p>
+     * @param out the channel to be written to
+     * @param c the collection to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeCollection(WritableByteChannel out, PrimitiveCollection.OfInt c)
+            throws IOException {
+        writeCollection(sink(out), c);
+    }
+
+    /**
+     * <p>Writes the elements of the specified set to the specified output.</p>
+     * @param out the output to be written to
+     * @param set the set to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeSet(DataOutput out, PrimitiveSet.OfInt set) throws IOException {
+        writeSet(sink(out), set);
+    }
+
+    /**
+     * <p>Writes the elements of the specified set to the specified channel.</p>
+     * @param out the channel to be written to
+     * @param set the set to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeSet(WritableByteChannel out, PrimitiveSet.OfInt set)
+            throws IOException {
+        writeSet(sink(out), set);
+    }
+
+    /**
+     * <p>Reads a collection written by
+     * {@link #writeCollection(DataOutput, PrimitiveCollection.OfLong)} from the
+     * specified input.</p>
+     * @param in the input to be read from
+     * @return a new mutable list containing the elements of the collection, in
+     * the order in which they were written
+     * @throws IOException if an I/O error occurs, or if the input does not hold
+     * a {@code long} collection in this format
+     * @throws NullPointerException if the specified input is null
+     */
+    public static PrimitiveList.OfLong readLongCollection(DataInput in) throws IOException {
+        return readLongCollection(source(in));
+    }
+
+    /**
+     * <p>Reads a collection written by
+     * {@link #writeCollection(WritableByteChannel, PrimitiveCollection.OfLong)}
+     * from the specified channel. No bytes beyond the end of the collection are
+     * consumed.</p>
+     * @param in the channel to be read from
+     * @return a new mutable list containing the elements of the collection, in
+     * the order in which they were written
+     * @throws IOException if an I/O error occurs, or if the channel does not
+     * hold a {@code long} collection in this format
+     * @throws NullPointerException if the specified channel is null
+     */
+    public static PrimitiveList.OfLong readLongCollection(ReadableByteChannel in) throws IOException {
+        return readLongCollection(source(in));
+    }
+
+    /**
+     * <p>Reads a set written by {@link #writeSet(DataOutput, PrimitiveSet.OfLong)}
+     * from the specified input.</p>
+     * @param in the input to be read from
+     * @return a new mutable set containing the elements of the set
+     * @throws IOException if an I/O error occurs, or if the input does not hold
+     * a {@code long} set in this format
+     * @throws NullPointerException if the specified input is null
+     */
+    public static PrimitiveSet.OfLong readLongSet(DataInput in) throws IOException {
+        return readLongSet(source(in));
+    }
+
+    /**
+     * <p>Reads a set written by
+     * {@link #writeSet(WritableByteChannel, PrimitiveSet.OfLong)} from the
+     * specified channel. No bytes beyond the end of the set are consumed.</p>
+     * @param in the channel to be read from
+     * @return a new mutable set containing the elements of the set
+     * @throws IOException if an I/O error occurs, or if the channel does not
+     * hold a {@code long} set in this format
+     * @throws NullPointerException if the specified channel is null
+     */
+    public static PrimitiveSet.OfLong readLongSet(ReadableByteChannel in) throws IOException {
+        return readLongSet(source(in));
+    }
+
+    /**
+     * <p>Writes the elements of the specified collection to the specified
+     * output, in iteration order.</p>
+     * @param out the output to be written to
+     * @param c the collection to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeCollection(DataOutput out, PrimitiveCollection.OfLong c)
+            throws IOException {
+        writeCollection(sink(out), c);
+    }
+
+    /**
+     * <p>Writes the elements of the specified collection to the specified
+     * channel, in iteration order.</p>
+     * @param out the channel to be written to
+     * @param c the collection to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeCollection(WritableByteChannel out, PrimitiveCollection.OfLong c)
+            throws IOException {
+        writeCollection(sink(out), c);
+    }
+
+    /**
+     * <p>Writes the elements of the specified set to the specified output.</p>
+     * @param out the output to be written to
+     * @param set the set to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeSet(DataOutput out, PrimitiveSet.OfLong set) throws IOException {
+        writeSet(sink(out), set);
+    }
+
+    /**
+     * <p>Writes the elements of the specified set to the specified channel.</p>
+     * @param out the channel to be written to
+     * @param set the set to be written
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if either argument is null
+     */
+    public static void writeSet(WritableByteChannel out, PrimitiveSet.OfLong set)
+            throws IOException {
+        writeSet(sink(out), set);
+    }
+
+    private static PrimitiveList.OfDouble readDoubleCollection(Source source) throws IOException {
+        var decoder = new Decoder(source, DOUBLE_SEQUENCE);
+        var list = new DoubleArrayList(decoder.initialCapacity());
+        for (int n; (n = decoder.nextBlock()) > 0; ) {
+            for (int j = 0; j < n; j++)
+                list.addDouble(decoder.getDouble());
+        }
+        return list;
+    }
+
+    private static PrimitiveSet.OfDouble readDoubleSet(Source source) throws IOException {
+        var decoder = new Decoder(source, DOUBLE_SET);
+        var set = new DoubleHashSet(decoder.initialCapacity());
+        for (int n; (n = decoder.nextBlock()) > 0; ) {
+            for (int j = 0; j < n; j++) {
+                double d = decoder.getDouble();
+                if (d != d)
+                    throw new StreamCorruptedException("NaN element in set");
+                set.addDouble(d);
+            }
+        }
+        return set;
+    }
+
+    private static void writeCollection(Sink sink, PrimitiveCollection.OfDouble c)
+            throws IOException {
+        writeDoubles(sink, c, DOUBLE_SEQUENCE);
+    }
+
+    private static void writeSet(Sink sink, PrimitiveSet.OfDouble set) throws IOException {
+        writeDoubles(sink, set, DOUBLE_SET);
+    }
+
+    // Doubles are written as raw bits, since their low-order bits rarely
+    // follow a pattern which a variable-length encoding could exploit
+    private static void writeDoubles(Sink sink, PrimitiveCollection.OfDouble c, int kind)
+            throws IOException {
+        var encoder = new Encoder(sink, kind, c.size());
+        var iterator = c.iterator();
+        while (iterator.hasNext()) {
+            encoder.putDouble(iterator.nextDouble());
+            encoder.endElement();
+        }
+        encoder.finish();
+    }
+
+    private static PrimitiveList.OfInt readIntCollection(Source source) throws IOException {
+        var decoder = new Decoder(source, INT_SEQUENCE);
+        var list = new IntArrayList(decoder.initialCapacity());
+        int prev = 0;
+        for (int n; (n = decoder.nextBlock()) > 0; ) {
+            for (int j = 0; j < n; j++)
+                list.addInt(prev += unzigzag((int) decoder.getVarLong()));
+        }
+        return list;
+    }
+
+    private static PrimitiveSet.OfInt readIntSet(Source source) throws IOException {
+        var decoder = new Decoder(source, INT_SET);
+        var set = new IntHashSet(decoder.initialCapacity());
+        long prev = 0;
+        boolean first = true;
+        for (int n; (n = decoder.nextBlock()) > 0; ) {
+            for (int j = 0; j < n; j++) {
+                if (first) {
+                    prev = unzigzag(decoder.getVarLong());
+                    first = false;
+                } else {
+                    prev += decoder.getVarLong() + 1;
+                }
+                if (prev != (int) prev)
+                    throw new StreamCorruptedException("Element out of range");
+                set.addInt((int) prev);
+            }
+        }
+        return set;
+    }
+
+    private static void writeCollection(Sink sink, PrimitiveCollection.OfInt c)
+            throws IOException {
+        var encoder = new Encoder(sink, INT_SEQUENCE, c.size());
+        var iterator = c.iterator();
+        int prev = 0;
+        while (iterator.hasNext()) {
+            int i = iterator.nextInt();
+            encoder.putVarLong(Integer.toUnsignedLong(zigzag(i - prev)));
+            encoder.endElement();
+            prev = i;
+        }
+        encoder.finish();
+    }
+
+    private static void writeSet(Sink sink, PrimitiveSet.OfInt set) throws IOException {
+        var a = set.toPrimitiveArray();
+        Arrays.sort(a);
+        var encoder = new Encoder(sink, INT_SET, a.length);
+        for (int j = 0; j < a.length; j++) {
+            encoder.putVarLong(j == 0 ? zigzag((long) a[0]) : (long) a[j] - a[j - 1] - 1);
+            encoder.endElement();
+        }
+        encoder.finish();
+    }
+
+    private static PrimitiveList.OfLong readLongCollection(Source source) throws IOException {
+        var decoder = new Decoder(source, LONG_SEQUENCE);
+        var list = new LongArrayList(decoder.initialCapacity());
+        long prev = 0;
+        for (int n; (n = decoder.nextBlock()) > 0; ) {
+            for (int j = 0; j < n; j++)
+                list.addLong(prev += unzigzag(decoder.getVarLong()));
+        }
+        return list;
+    }
+
+    private static PrimitiveSet.OfLong readLongSet(Source source) throws IOException {
+        var decoder = new Decoder(source, LONG_SET);
+        var set = new LongHashSet(decoder.initialCapacity());
+        long prev = 0;
+        boolean first = true;
+        for (int n; (n = decoder.nextBlock()) > 0; ) {
+            for (int j = 0; j < n; j++) {
+                if (first) {
+                    prev = unzigzag(decoder.getVarLong());
+                    first = false;
+                } else {
+                    // Each gap is positive, so a sum which fails to increase
+                    // has overflowed
+                    long next = prev + decoder.getVarLong() + 1;
+                    if (next <= prev)
+                        throw new StreamCorruptedException("Element out of range");
+                    prev = next;
+                }
+                set.addLong(prev);
+            }
+        }
+        return set;
+    }
+
+    private static void writeCollection(Sink sink, PrimitiveCollection.OfLong c)
+            throws IOException {
+        var encoder = new Encoder(sink, LONG_SEQUENCE, c.size());
+        var iterator = c.iterator();
+        long prev = 0;
+        while (iterator.hasNext()) {
+            long l = iterator.nextLong();
+            encoder.putVarLong(zigzag(l - prev));
+            encoder.endElement();
+            prev = l;
+        }
+        encoder.finish();
+    }
+
+    private static void writeSet(Sink sink, PrimitiveSet.OfLong set) throws IOException {
+        var a = set.toPrimitiveArray();
+        Arrays.sort(a);
+        var encoder = new Encoder(sink, LONG_SET, a.length);
+        for (int j = 0; j < a.length; j++) {
+            // The gap between two sorted elements may exceed Long.MAX_VALUE,
+            // but never 2^64 - 1, so it is written as an unsigned value
+            encoder.putVarLong(j == 0 ? zigzag(a[0]) : a[j] - a[j - 1] - 1);
+            encoder.endElement();
+        }
+        encoder.finish();
+    }
+
+    private static int zigzag(int i) {
+        return (i << 1) ^ (i >> 31);
+    }
+
+    private static long zigzag(long l) {
+        return (l << 1) ^ (l >> 63);
+    }
+
+    private static int unzigzag(int i) {
+        return (i >>> 1) ^ -(i & 1);
+    }
+
+    private static long unzigzag(long l) {
+        return (l >>> 1) ^ -(l & 1);
+    }
+
+    private static Sink sink(DataOutput out) {
+        Objects.requireNonNull(out);
+        return out::write;
+    }
+
+    private static Sink sink(WritableByteChannel out) {
+        Objects.requireNonNull(out);
+        return (b, off, len) -> {
+            var buf = ByteBuffer.wrap(b, off, len);
+            while (buf.hasRemaining())
+                out.write(buf);
+        };
+    }
+
+    private static Source source(DataInput in) {
+        Objects.requireNonNull(in);
+        return new Source() {
+            @Override
+            public int readByte() throws IOException {
+                return in.readUnsignedByte();
+            }
+
+            @Override
+            public void readFully(byte[] b, int len) throws IOException {
+                in.readFully(b, 0, len);
+            }
+        };
+    }
+
+    private static Source source(ReadableByteChannel in) {
+        Objects.requireNonNull(in);
+        return new Source() {
+            private final ByteBuffer one = ByteBuffer.allocate(1);
+
+            @Override
+            public int readByte() throws IOException {
+                one.clear();
+                fill(one);
+                return one.get(0) & 0xFF;
+            }
+
+            @Override
+            public void readFully(byte[] b, int len) throws IOException {
+                fill(ByteBuffer.wrap(b, 0, len));
+            }
+
+            private void fill(ByteBuffer buf) throws IOException {
+                while (buf.hasRemaining())
+                    if (in.read(buf) < 0)
+                        throw new EOFException();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Sink {
+        void write(byte[] b, int off, int len) throws IOException;
+    }
+
+    private interface Source {
+        int readByte() throws IOException;
+
+        void readFully(byte[] b, int len) throws IOException;
+    }
+
+    // Accumulates encoded elements into a block, which is written out once it
+    // is full
+    private static final class Encoder {
+        private final Sink sink;
+        private final int count;
+        private final byte[] header = new byte[2 * MAX_ELEMENT_BYTES];
+        private final byte[] buf;
+        private int pos;
+        private int blockCount;
+        private int written;
+
+        Encoder(Sink sink, int kind, int count) throws IOException {
+            this.sink = sink;
+            this.count = count;
+            this.buf = new byte[Math.min(count, BLOCK_SIZE) * MAX_ELEMENT_BYTES];
+            header[0] = VERSION;
+            header[1] = (byte) kind;
+            sink.write(header, 0, putVarLong(header, 2, count));
+        }
+
+        private static int putVarLong(byte[] b, int pos, long v) {
+            while ((v & ~0x7FL) != 0) {
+                b[pos++] = (byte) (v | 0x80);
+                v >>>= 7;
+            }
+            b[pos++] = (byte) v;
+            return pos;
+        }
+
+        // Guards the block buffer, which is sized for the declared count,
+        // against a collection which grows while it is being written
+        private void checkCount() {
+            if (written + blockCount >= count)
+                throw new ConcurrentModificationException();
+        }
+
+        void putVarLong(long v) {
+            checkCount();
+            pos = putVarLong(buf, pos, v);
+        }
+
+        void putDouble(double d) {
+            checkCount();
+            LONG_LE.set(buf, pos, Double.doubleToRawLongBits(d));
+            pos += Long.BYTES;
+        }
+
+        void endElement() throws IOException {
+            if (++blockCount == BLOCK_SIZE)
+                flush();
+        }
+
+        private void flush() throws IOException {
+            int n = putVarLong(header, putVarLong(header, 0, blockCount), pos);
+            sink.write(header, 0, n);
+            sink.write(buf, 0, pos);
+            written += blockCount;
+            blockCount = 0;
+            pos = 0;
+        }
+
+        void finish() throws IOException {
+            if (blockCount > 0)
+                flush();
+            if (written != count)
+                throw new ConcurrentModificationException();
+            header[0] = 0;
+            sink.write(header, 0, 1);
+        }
+    }
+
+    // Reads the blocks of a collection, checking them against the header and
+    // against each other as it goes
+    private static final class Decoder {
+        private final Source source;
+        private final int kind;
+        final int count;
+        private byte[] buf = new byte[0];
+        private int pos;
+        private int limit;
+        private int read;
+
+        Decoder(Source source, int kind) throws IOException {
+            this.source = source;
+            this.kind = kind;
+            int version = source.readByte();
+            if (version != VERSION)
+                throw new StreamCorruptedException("Unsupported version " + version);
+            int actual = source.readByte();
+            if (actual != kind)
+                throw new StreamCorruptedException("Expected kind " + kind + ", found " + actual);
+            long n = readVarLong();
+            if (n < 0 || n > Integer.MAX_VALUE)
+                throw new StreamCorruptedException("Invalid element count " + n);
+            this.count = (int) n;
+        }
+
+        // The capacity with which to create the collection being read, which
+        // grows as blocks arrive, so that a corrupt count cannot force a huge
+        // allocation before any element has been read
+        int initialCapacity() {
+            return Math.min(count, BLOCK_SIZE);
+        }
+
+        private long readVarLong() throws IOException {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = source.readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if (b < 0x80)
+                    return v;
+            }
+            throw new StreamCorruptedException("Malformed variable-length integer");
+        }
+
+        // Reads the next block, returning its number of elements, or zero at
+        // the end of the collection
+        int nextBlock() throws IOException {
+            if (pos != limit)
+                throw new StreamCorruptedException("Block length mismatch");
+            long n = readVarLong();
+            if (n == 0) {
+                if (read != count)
+                    throw new StreamCorruptedException("Element count mismatch");
+                return 0;
+            }
+            if (n > BLOCK_SIZE || n > count - read)
+                throw new StreamCorruptedException("Invalid block size " + n);
+            long len = readVarLong();
+            boolean doubles = kind == DOUBLE_SET || kind == DOUBLE_SEQUENCE;
+            if (doubles ? len != n * Long.BYTES : len < n || len > n * MAX_ELEMENT_BYTES)
+                throw new StreamCorruptedException("Invalid block length " + len);
+            // Decoding n elements never reads past n * MAX_ELEMENT_BYTES, so
+            // malformed elements can only overrun the block into the slack of
+            // the buffer, and are caught once the block is found not to have
+            // been consumed exactly
+            int capacity = (int) n * MAX_ELEMENT_BYTES;
+            if (buf.length < capacity)
+                buf = new byte[Math.max(capacity, initialCapacity() * MAX_ELEMENT_BYTES)];
+            source.readFully(buf, (int) len);
+            pos = 0;
+            limit = (int) len;
+            read += (int) n;
+            return (int) n;
+        }
+
+        long getVarLong() throws StreamCorruptedException {
+            var b = buf;
+            int p = pos;
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte x = b[p++];
+                v |= (long) (x & 0x7F) << shift;
+                if (x >= 0) {
+                    pos = p;
+                    return v;
+                }
+            }
+            throw new StreamCorruptedException("Malformed variable-length integer");
+        }
+
+        double getDouble() {
+            double d = Double.longBitsToDouble((long) LONG_LE.get(buf, pos));
+            pos += Long.BYTES;
+            return d;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package net.arinoru.collections;
 import net.arinoru.function.ObjIntFunction;
 import net.arinoru.prerelease.PrereleaseContent;
 
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -18,6 +19,9 @@ import java.util.stream.*;
 @PrereleaseContent
 public class PrimitiveCollections {
     private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    // Sets at least this large are filtered in parallel by the set algebra
+    // operations
+    private static final int PARALLEL_SET_THRESHOLD = 1 << 16;
 
     private PrimitiveCollections() {}
 
@@ -38,6 +42,7 @@ public class PrimitiveCollections {
     static PrimitiveSet.OfInt setOf(PrimitiveCollection.OfInt collection) {
         return switch (collection) {
             case ArrayIntSet set -> set;
+            case BitmapIntSet set -> set;
             case EmptyIntSet set -> set;
             case EmptyIntCollection ignored -> EmptyIntSet.INSTANCE;
             case IntSingleton singleton -> singleton;
@@ -63,6 +68,174 @@ public class PrimitiveCollections {
         return ArrayLongSet.fromArray(a);
     }
 
+    /**
+     * <p>Returns a collection backed by the specified array, without copying
+     * it. Changes to the array are visible through the returned collection,
+     * which itself permits no modification. Its spliterator is backed directly
+     * by the array, and {@code toPrimitiveArray} copies the array in a single
+     * bulk operation.</p>
+     * @param a the array by which the collection will be backed
+     * @return a {@code PrimitiveCollection.OfDouble} view of the specified array
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveCollection.OfDouble asCollection(double[] a) {
+        return new DoubleArrayCollection(a, 0, a.length);
+    }
+
+    /**
+     * <p>Returns a collection backed by the specified range of the specified
+     * array, without copying it. Changes to the array are visible through the
+     * returned collection, which itself permits no modification. Its
+     * spliterator is backed directly by the array, and
+     * {@code toPrimitiveArray} copies the range in a single bulk
+     * operation.</p>
+     * @param a the array by which the collection will be backed
+     * @param fromIndex the index of the first element, inclusive, to be
+     *                  contained in the collection
+     * @param toIndex the index of the last element, exclusive, to be contained
+     *                in the collection
+     * @return a {@code PrimitiveCollection.OfDouble} view of the specified range
+     * of the specified array
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative,
+     * {@code toIndex} is greater than the length of the array, or
+     * {@code fromIndex} is greater than {@code toIndex}
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveCollection.OfDouble asCollection(double[] a, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+        return new DoubleArrayCollection(a, fromIndex, toIndex);
+    }
+
+    /**
+     * <p>Returns a collection backed by the specified array, without copying
+     * it. Changes to the array are visible through the returned collection,
+     * which itself permits no modification. Its spliterator is backed directly
+     * by the array, and {@code toPrimitiveArray} copies the array in a single
+     * bulk operation.</p>
+     * @param a the array by which the collection will be backed
+     * @return a {@code PrimitiveCollection.OfInt} view of the specified array
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveCollection.OfInt asCollection(int[] a) {
+        return new IntArrayCollection(a, 0, a.length);
+    }
+
+    /**
+     * <p>Returns a collection backed by the specified range of the specified
+     * array, without copying it. Changes to the array are visible through the
+     * returned collection, which itself permits no modification. Its
+     * spliterator is backed directly by the array, and
+     * {@code toPrimitiveArray} copies the range in a single bulk
+     * operation.</p>
+     * @param a the array by which the collection will be backed
+     * @param fromIndex the index of the first element, inclusive, to be
+     *                  contained in the collection
+     * @param toIndex the index of the last element, exclusive, to be contained
+     *                in the collection
+     * @return a {@code PrimitiveCollection.OfInt} view of the specified range
+     * of the specified array
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative,
+     * {@code toIndex} is greater than the length of the array, or
+     * {@code fromIndex} is greater than {@code toIndex}
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveCollection.OfInt asCollection(int[] a, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+        return new IntArrayCollection(a, fromIndex, toIndex);
+    }
+
+    /**
+     * <p>Returns a collection backed by the specified array, without copying
+     * it. Changes to the array are visible through the returned collection,
+     * which itself permits no modification. Its spliterator is backed directly
+     * by the array, and {@code toPrimitiveArray} copies the array in a single
+     * bulk operation.</p>
+     * @param a the array by which the collection will be backed
+     * @return a {@code PrimitiveCollection.OfLong} view of the specified array
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveCollection.OfLong asCollection(long[] a) {
+        return new LongArrayCollection(a, 0, a.length);
+    }
+
+    /**
+     * <p>Returns a collection backed by the specified range of the specified
+     * array, without copying it. Changes to the array are visible through the
+     * returned collection, which itself permits no modification. Its
+     * spliterator is backed directly by the array, and
+     * {@code toPrimitiveArray} copies the range in a single bulk
+     * operation.</p>
+     * @param a the array by which the collection will be backed
+     * @param fromIndex the index of the first element, inclusive, to be
+     *                  contained in the collection
+     * @param toIndex the index of the last element, exclusive, to be contained
+     *                in the collection
+     * @return a {@code PrimitiveCollection.OfLong} view of the specified range
+     * of the specified array
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative,
+     * {@code toIndex} is greater than the length of the array, or
+     * {@code fromIndex} is greater than {@code toIndex}
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveCollection.OfLong asCollection(long[] a, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+        return new LongArrayCollection(a, fromIndex, toIndex);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the first set
+     * which are not in the second.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsDouble}.</p>
+     * @param a the set whose elements are to be retained
+     * @param b the set whose elements are to be excluded
+     * @return a {@code PrimitiveSet.OfDouble} containing the difference of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfDouble difference(PrimitiveSet.OfDouble a, PrimitiveSet.OfDouble b) {
+        Objects.requireNonNull(b);
+        return setOf(filter(a, d -> !b.containsDouble(d)));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the first set
+     * which are not in the second.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsInt}.</p>
+     * @param a the set whose elements are to be retained
+     * @param b the set whose elements are to be excluded
+     * @return a {@code PrimitiveSet.OfInt} containing the difference of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfInt difference(PrimitiveSet.OfInt a, PrimitiveSet.OfInt b) {
+        Objects.requireNonNull(b);
+        return setOf(filter(a, i -> !b.containsInt(i)));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the first set
+     * which are not in the second.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsLong}.</p>
+     * @param a the set whose elements are to be retained
+     * @param b the set whose elements are to be excluded
+     * @return a {@code PrimitiveSet.OfLong} containing the difference of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfLong difference(PrimitiveSet.OfLong a, PrimitiveSet.OfLong b) {
+        Objects.requireNonNull(b);
+        return setOf(filter(a, l -> !b.containsLong(l)));
+    }
+
     /**
      * <p>Creates a {@code Spliterator.OfDouble} using the given collection's
      * {@link PrimitiveCollection.OfDouble#iterator() iterator} as the source of
@@ -166,6 +339,73 @@ public class PrimitiveCollections {
         return EmptyLongSet.INSTANCE;
     }
 
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in both
+     * of the given sets. The smaller set is traversed, and each of its elements
+     * looked up in the larger.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsDouble}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfDouble} containing the intersection of the
+     * sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfDouble intersection(PrimitiveSet.OfDouble a, PrimitiveSet.OfDouble b) {
+        var small = a.size() <= b.size() ? a : b;
+        var large = small == a ? b : a;
+        return setOf(filter(small, large::containsDouble));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in both
+     * of the given sets. The smaller set is traversed, and each of its elements
+     * looked up in the larger. If both sets were returned by
+     * {@link #sortedSetOf(int...)}, the result is also sorted, and unless the
+     * smaller set is large, their sorted arrays are merged instead.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsInt}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfInt} containing the intersection of the
+     * sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfInt intersection(PrimitiveSet.OfInt a, PrimitiveSet.OfInt b) {
+        if (a instanceof SortedArrayIntSet x && b instanceof SortedArrayIntSet y)
+            return SortedArrayIntSet.intersection(x, y);
+        var small = a.size() <= b.size() ? a : b;
+        var large = small == a ? b : a;
+        return setOf(filter(small, large::containsInt));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in both
+     * of the given sets. The smaller set is traversed, and each of its elements
+     * looked up in the larger.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsLong}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfLong} containing the intersection of the
+     * sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfLong intersection(PrimitiveSet.OfLong a, PrimitiveSet.OfLong b) {
+        var small = a.size() <= b.size() ? a : b;
+        var large = small == a ? b : a;
+        return setOf(filter(small, large::containsLong));
+    }
+
     /**
      * <p>Creates a {@code Spliterator.OfInt} using the given collection's
      * {@link PrimitiveCollection.OfInt#iterator() iterator} as the source of
@@ -237,6 +477,241 @@ public class PrimitiveCollections {
         return new LongSingleton(l);
     }
 
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the given
+     * collection, stored in ascending order. Duplicate elements in the
+     * collection are collapsed into a single element. If the given collection
+     * is subsequently modified, the returned set will not reflect such
+     * modifications.</p>
+     * <p>The returned set answers {@code containsDouble} by binary search, and
+     * its iterator and spliterator return elements in ascending order. Its
+     * spliterator reports {@link Spliterator#SORTED}.</p>
+     * <p>Elements are compared using the {@code ==} operator, as elsewhere in
+     * this package, so at most one of {@code -0.0} and {@code 0.0} is retained.
+     * Any {@code NaN} elements are retained, and are ordered after all other
+     * elements, but since {@code NaN} is never {@code ==} to anything,
+     * {@code containsDouble(Double.NaN)} always returns {@code false}.</p>
+     * @param coll the collection from which elements are drawn
+     * @return a sorted {@code PrimitiveSet.OfDouble} containing the elements
+     * of the given collection
+     * @throws NullPointerException if the given collection is null
+     */
+    public static PrimitiveSet.OfDouble sortedCopyOf(PrimitiveCollection.OfDouble coll) {
+        return SortedArrayDoubleSet.fromCollection(coll);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the given
+     * collection, stored in ascending order. Duplicate elements in the
+     * collection are collapsed into a single element. If the given collection
+     * is subsequently modified, the returned set will not reflect such
+     * modifications.</p>
+     * <p>The returned set answers {@code containsInt} by binary search, and its
+     * iterator and spliterator return elements in ascending order. Its
+     * spliterator reports {@link Spliterator#SORTED}.</p>
+     * @param coll the collection from which elements are drawn
+     * @return a sorted {@code PrimitiveSet.OfInt} containing the elements of
+     * the given collection
+     * @throws NullPointerException if the given collection is null
+     */
+    public static PrimitiveSet.OfInt sortedCopyOf(PrimitiveCollection.OfInt coll) {
+        return SortedArrayIntSet.fromCollection(coll);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the given
+     * collection, stored in ascending order. Duplicate elements in the
+     * collection are collapsed into a single element. If the given collection
+     * is subsequently modified, the returned set will not reflect such
+     * modifications.</p>
+     * <p>The returned set answers {@code containsLong} by binary search, and
+     * its iterator and spliterator return elements in ascending order. Its
+     * spliterator reports {@link Spliterator#SORTED}.</p>
+     * @param coll the collection from which elements are drawn
+     * @return a sorted {@code PrimitiveSet.OfLong} containing the elements of
+     * the given collection
+     * @throws NullPointerException if the given collection is null
+     */
+    public static PrimitiveSet.OfLong sortedCopyOf(PrimitiveCollection.OfLong coll) {
+        return SortedArrayLongSet.fromCollection(coll);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the specified elements, stored
+     * in ascending order.</p>
+     * <p>The returned set answers {@code containsDouble} by binary search, and
+     * its iterator and spliterator return elements in ascending order. Its
+     * spliterator reports {@link Spliterator#SORTED}.</p>
+     * <p>Elements are compared using the {@code ==} operator, as elsewhere in
+     * this package, so {@code -0.0} and {@code 0.0} are duplicates of each
+     * other. Any {@code NaN} elements are retained, and are ordered after all
+     * other elements, but since {@code NaN} is never {@code ==} to anything,
+     * {@code containsDouble(Double.NaN)} always returns {@code false}.</p>
+     * @param elements the elements to be contained in the set
+     * @return a sorted {@code PrimitiveSet.OfDouble} containing the specified
+     * elements
+     * @throws IllegalArgumentException if there are any duplicate elements
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveSet.OfDouble sortedSetOf(double... elements) {
+        return SortedArrayDoubleSet.fromArray(elements);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the specified elements, stored
+     * in ascending order.</p>
+     * <p>The returned set answers {@code containsInt} by binary search, and its
+     * iterator and spliterator return elements in ascending order. Its
+     * spliterator reports {@link Spliterator#SORTED}.</p>
+     * @param elements the elements to be contained in the set
+     * @return a sorted {@code PrimitiveSet.OfInt} containing the specified
+     * elements
+     * @throws IllegalArgumentException if there are any duplicate elements
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveSet.OfInt sortedSetOf(int... elements) {
+        return SortedArrayIntSet.fromArray(elements);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the specified elements, stored
+     * in ascending order.</p>
+     * <p>The returned set answers {@code containsLong} by binary search, and
+     * its iterator and spliterator return elements in ascending order. Its
+     * spliterator reports {@link Spliterator#SORTED}.</p>
+     * @param elements the elements to be contained in the set
+     * @return a sorted {@code PrimitiveSet.OfLong} containing the specified
+     * elements
+     * @throws IllegalArgumentException if there are any duplicate elements
+     * @throws NullPointerException if the array is null
+     */
+    public static PrimitiveSet.OfLong sortedSetOf(long... elements) {
+        return SortedArrayLongSet.fromArray(elements);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in
+     * exactly one of the given sets.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsDouble}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfDouble} containing the symmetric difference
+     * of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfDouble symmetricDifference(PrimitiveSet.OfDouble a,
+            PrimitiveSet.OfDouble b) {
+        return setOf(concat(filter(a, d -> !b.containsDouble(d)),
+                filter(b, d -> !a.containsDouble(d))));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in
+     * exactly one of the given sets.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsInt}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfInt} containing the symmetric difference
+     * of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfInt symmetricDifference(PrimitiveSet.OfInt a,
+            PrimitiveSet.OfInt b) {
+        return setOf(concat(filter(a, i -> !b.containsInt(i)),
+                filter(b, i -> !a.containsInt(i))));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in
+     * exactly one of the given sets.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsLong}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfLong} containing the symmetric difference
+     * of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfLong symmetricDifference(PrimitiveSet.OfLong a,
+            PrimitiveSet.OfLong b) {
+        return setOf(concat(filter(a, l -> !b.containsLong(l)),
+                filter(b, l -> !a.containsLong(l))));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in
+     * either of the given sets. The larger set is copied in bulk, and only the
+     * elements of the smaller set are looked up in it.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsDouble}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfDouble} containing the union of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfDouble union(PrimitiveSet.OfDouble a, PrimitiveSet.OfDouble b) {
+        var small = a.size() <= b.size() ? a : b;
+        var large = small == a ? b : a;
+        return setOf(concat(large.toPrimitiveArray(),
+                filter(small, d -> !large.containsDouble(d))));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in
+     * either of the given sets. The larger set is copied in bulk, and only the
+     * elements of the smaller set are looked up in it.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsInt}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfInt} containing the union of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfInt union(PrimitiveSet.OfInt a, PrimitiveSet.OfInt b) {
+        var small = a.size() <= b.size() ? a : b;
+        var large = small == a ? b : a;
+        return setOf(concat(large.toPrimitiveArray(),
+                filter(small, i -> !large.containsInt(i))));
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements which are in
+     * either of the given sets. The larger set is copied in bulk, and only the
+     * elements of the smaller set are looked up in it.</p>
+     * <p>Neither set is modified. When a set which must be traversed is
+     * large, its elements are filtered in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so neither set may be
+     * modified while the operation is in progress, and both must support
+     * concurrent calls to {@code containsLong}.</p>
+     * @param a the first set
+     * @param b the second set
+     * @return a {@code PrimitiveSet.OfLong} containing the union of the sets
+     * @throws NullPointerException if either set is null
+     */
+    public static PrimitiveSet.OfLong union(PrimitiveSet.OfLong a, PrimitiveSet.OfLong b) {
+        var small = a.size() <= b.size() ? a : b;
+        var large = small == a ? b : a;
+        return setOf(concat(large.toPrimitiveArray(),
+                filter(small, l -> !large.containsLong(l))));
+    }
+
     /**
      * <p>Returns an unmodifiable view over the specified collection. Query
      * operations on the returned collection "read through" to the specified
@@ -366,6 +841,15 @@ public class PrimitiveCollections {
         if (o instanceof Set<?> set2) {
             if (set.size() != set2.size())
                 return false;
+            if (set instanceof HashCodeCaching cached &&
+                    set2 instanceof HashCodeCaching cached2 &&
+                    !(set instanceof PrimitiveSet.OfDouble) &&
+                    cached.isHashCodeCached() && cached2.isHashCodeCached() &&
+                    set.hashCode() != set2.hashCode())
+                // Equal sets have equal hash codes, except that double sets
+                // may hold 0.0 and -0.0 respectively, which are equal but hash
+                // differently
+                return false;
             if (set.isEmpty())
                 // Special case: empty sets are equal even if their type would
                 // otherwise prevent them from being equal
@@ -415,6 +899,175 @@ public class PrimitiveCollections {
         };
     }
 
+    private static boolean genericListEquals(PrimitiveList<?,?,?,?,?,?,?> list, List<?> other) {
+        var iterator = list.iterator();
+        var iterator2 = other.iterator();
+        while (iterator.hasNext() && iterator2.hasNext())
+            if (!Objects.equals(iterator.next(), iterator2.next()))
+                return false;
+        return !(iterator.hasNext() || iterator2.hasNext());
+    }
+
+    /**
+     * <p>Compares the specified object {@code o} with the specified primitive
+     * list {@code list} for equality, without recourse to the list's own
+     * {@code equals} method. This allows it to serve as a canonical reference
+     * implementation for {@code equals}.</p>
+     * <p>An object is considered to be equal to a primitive list if:</p>
+     * <ol>
+     *     <li>It is a {@link List}.</li>
+     *     <li>It has the same size as the primitive list.</li>
+     *     <li>Each of its elements is equal, as defined by
+     *     {@link Objects#equals(Object, Object)}, to the boxed element at the
+     *     same position in the primitive list.</li>
+     * </ol>
+     * <p>As a corollary, two {@code double} lists holding {@code 0.0} and
+     * {@code -0.0} respectively at some position are not equal, while two
+     * holding {@code NaN} at the same position may be, exactly as for lists of
+     * boxed {@code Double} values.</p>
+     * @implNote <p>If the specified object is also a {@code PrimitiveList} of
+     * the same specialization, this method compares the elements of the two
+     * lists pairwise with their primitive iterators, without boxing them;
+     * otherwise, it compares each boxed element of the primitive list with the
+     * corresponding element of the specified list.</p>
+     * @param list the list with which {@code o} is to be compared for equality
+     * @param o the object to be compared for equality with {@code list}
+     * @return {@code true} if the specified object is equal to the specified
+     * list
+     * @see Object#equals(Object)
+     * @see PrimitiveList#equals(Object)
+     */
+    public static boolean equals(PrimitiveList<?,?,?,?,?,?,?> list, Object o) {
+        if (list == o)
+            return true;
+        if (!(o instanceof List<?> list2) || list.size() != list2.size())
+            return false;
+        switch (list) {
+            case PrimitiveList.OfDouble doubleList when
+                    list2 instanceof PrimitiveList.OfDouble doubleList2 -> {
+                var iterator = doubleList.iterator();
+                var iterator2 = doubleList2.iterator();
+                while (iterator.hasNext() && iterator2.hasNext())
+                    if (Double.doubleToLongBits(iterator.nextDouble()) !=
+                            Double.doubleToLongBits(iterator2.nextDouble()))
+                        return false;
+                return !(iterator.hasNext() || iterator2.hasNext());
+            }
+            case PrimitiveList.OfInt intList when
+                    list2 instanceof PrimitiveList.OfInt intList2 -> {
+                var iterator = intList.iterator();
+                var iterator2 = intList2.iterator();
+                while (iterator.hasNext() && iterator2.hasNext())
+                    if (iterator.nextInt() != iterator2.nextInt())
+                        return false;
+                return !(iterator.hasNext() || iterator2.hasNext());
+            }
+            case PrimitiveList.OfLong longList when
+                    list2 instanceof PrimitiveList.OfLong longList2 -> {
+                var iterator = longList.iterator();
+                var iterator2 = longList2.iterator();
+                while (iterator.hasNext() && iterator2.hasNext())
+                    if (iterator.nextLong() != iterator2.nextLong())
+                        return false;
+                return !(iterator.hasNext() || iterator2.hasNext());
+            }
+            default -> {
+                return genericListEquals(list, list2);
+            }
+        }
+    }
+
+    // Returns the elements of the specified set which match the predicate,
+    // filtering them in parallel if the set is large enough
+    private static double[] filter(PrimitiveSet.OfDouble set, DoublePredicate predicate) {
+        var stream = set.size() >= PARALLEL_SET_THRESHOLD ?
+                set.parallelPrimitiveStream() : set.primitiveStream();
+        return stream.filter(predicate).toArray();
+    }
+
+    private static double[] concat(double[] a, double[] b) {
+        if (b.length == 0)
+            return a;
+        var r = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, r, a.length, b.length);
+        return r;
+    }
+
+    // Returns the elements of the specified set which match the predicate,
+    // filtering them in parallel if the set is large enough
+    private static int[] filter(PrimitiveSet.OfInt set, IntPredicate predicate) {
+        var stream = set.size() >= PARALLEL_SET_THRESHOLD ?
+                set.parallelPrimitiveStream() : set.primitiveStream();
+        return stream.filter(predicate).toArray();
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        if (b.length == 0)
+            return a;
+        var r = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, r, a.length, b.length);
+        return r;
+    }
+
+    // Returns the elements of the specified set which match the predicate,
+    // filtering them in parallel if the set is large enough
+    private static long[] filter(PrimitiveSet.OfLong set, LongPredicate predicate) {
+        var stream = set.size() >= PARALLEL_SET_THRESHOLD ?
+                set.parallelPrimitiveStream() : set.primitiveStream();
+        return stream.filter(predicate).toArray();
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        if (b.length == 0)
+            return a;
+        var r = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, r, a.length, b.length);
+        return r;
+    }
+
+    /**
+     * <p>Returns a hash code value for the specified list, without recourse
+     * to the list's own {@link #hashCode()} method. This allows it to serve as
+     * a canonical reference implementation for {@code hashCode}.</p>
+     * <p>The hash code of a list is defined to be the result of the following
+     * calculation, where {@code T} is the boxed element type of the list:</p>
+     * <pre>{@code
+     *     int hashCode = 1;
+     *     for (T e : list)
+     *         hashCode = 31*hashCode + e.hashCode();
+     * }</pre>
+     * <p>This ensures that a primitive list has the same hash code as any
+     * {@code List} to which it is equal, as required by the general contract
+     * of {@link Object#hashCode()}.</p>
+     * @implNote <p>This method iterates over the list with its primitive
+     * iterator, applying the static {@code hashCode} method of the boxed
+     * representation class to each element, so that no element is boxed.</p>
+     * @param list the list to calculate a hash code value for
+     * @return the hash code value for the specified list
+     */
+    public static int hashCode(PrimitiveList<?,?,?,?,?,?,?> list) {
+        int hashCode = 1;
+        switch (list) {
+            case PrimitiveList.OfDouble doubleList -> {
+                var iterator = doubleList.iterator();
+                while (iterator.hasNext())
+                    hashCode = 31 * hashCode + Double.hashCode(iterator.nextDouble());
+            }
+            case PrimitiveList.OfInt intList -> {
+                var iterator = intList.iterator();
+                while (iterator.hasNext())
+                    hashCode = 31 * hashCode + iterator.nextInt();
+            }
+            case PrimitiveList.OfLong longList -> {
+                var iterator = longList.iterator();
+                while (iterator.hasNext())
+                    hashCode = 31 * hashCode + Long.hashCode(iterator.nextLong());
+            }
+            default -> throw new ClassCastException("Internal error");
+        }
+        return hashCode;
+    }
+
     private static int hugeCapacity(int minCapacity) {
         if (minCapacity < 0) // overflow
             throw new OutOfMemoryError("Required array size too large");
@@ -423,6 +1076,30 @@ public class PrimitiveCollections {
                 MAX_ARRAY_SIZE;
     }
 
+    // Returns the capacity to which an array of the specified length, which
+    // is full, should grow
+    private static int grownCapacity(int cap) {
+        int newCap = cap + (cap >> 1) + 1;
+        // overflow-conscious code
+        if (newCap - MAX_ARRAY_SIZE > 0)
+            newCap = hugeCapacity(cap + 1);
+        return newCap;
+    }
+
+    // Returns the capacity to which an array of the specified length should
+    // grow in order to hold at least minCapacity elements, growing by half
+    // again where that suffices so that appends run in amortized constant time
+    static int newCapacity(int oldCapacity, int minCapacity) {
+        int newCap = oldCapacity + (oldCapacity >> 1);
+        // overflow-conscious code
+        if (newCap - minCapacity <= 0) {
+            if (minCapacity < 0) // overflow
+                throw new OutOfMemoryError("Required array size too large");
+            return minCapacity;
+        }
+        return newCap - MAX_ARRAY_SIZE <= 0 ? newCap : hugeCapacity(minCapacity);
+    }
+
     private static <T> T finishToArray(
             T r,
             ToIntFunction<T> getLength,
@@ -433,13 +1110,8 @@ public class PrimitiveCollections {
         int i = getLength.applyAsInt(r);
         while (hasNext.getAsBoolean()) {
             int cap = getLength.applyAsInt(r);
-            if (i == cap) {
-                int newCap = cap + (cap >> 1) + 1;
-                // overflow-conscious code
-                if (newCap - MAX_ARRAY_SIZE > 0)
-                    newCap = hugeCapacity(cap + 1);
-                r = reallocate.apply(r, newCap);
-            }
+            if (i == cap)
+                r = reallocate.apply(r, grownCapacity(cap));
             assignNext.accept(r, i++);
         }
         // trim if overallocated
@@ -497,25 +1169,109 @@ public class PrimitiveCollections {
                 finishToArray(r, getLength, hasNext, reallocate, assignNext) : r;
     }
 
+    @SuppressWarnings("unchecked")
     static double[] toPrimitiveArray(PrimitiveCollection.OfDouble c) {
         var r = new double[c.size()];
-        var iterator = c.iterator();
-        return toArrayGeneric(r, arr -> arr.length, iterator::hasNext,
-                Arrays::copyOf, (arr, idx) -> arr[idx] = iterator.nextDouble());
+        if (c instanceof BulkCopying<?> bulk) {
+            ((BulkCopying<double[]>) bulk).copyInto(r, 0);
+            return r;
+        }
+        // Be prepared to see more or fewer elements than the reported size
+        var builder = new DoubleArrayBuilder(r);
+        c.iterator().forEachRemaining(builder);
+        return builder.toArray();
     }
 
+    @SuppressWarnings("unchecked")
     static int[] toPrimitiveArray(PrimitiveCollection.OfInt c) {
         var r = new int[c.size()];
-        var iterator = c.iterator();
-        return toArrayGeneric(r, arr -> arr.length, iterator::hasNext,
-                Arrays::copyOf, (arr, idx) -> arr[idx] = iterator.nextInt());
+        if (c instanceof BulkCopying<?> bulk) {
+            ((BulkCopying<int[]>) bulk).copyInto(r, 0);
+            return r;
+        }
+        // Be prepared to see more or fewer elements than the reported size
+        var builder = new IntArrayBuilder(r);
+        c.iterator().forEachRemaining(builder);
+        return builder.toArray();
     }
 
+    @SuppressWarnings("unchecked")
     static long[] toPrimitiveArray(PrimitiveCollection.OfLong c) {
         var r = new long[c.size()];
-        var iterator = c.iterator();
-        return toArrayGeneric(r, arr -> arr.length, iterator::hasNext,
-                Arrays::copyOf, (arr, idx) -> arr[idx] = iterator.nextLong());
+        if (c instanceof BulkCopying<?> bulk) {
+            ((BulkCopying<long[]>) bulk).copyInto(r, 0);
+            return r;
+        }
+        // Be prepared to see more or fewer elements than the reported size
+        var builder = new LongArrayBuilder(r);
+        c.iterator().forEachRemaining(builder);
+        return builder.toArray();
+    }
+
+    // The array builders collect the elements passed to them into an array,
+    // which is grown as needed, so that a collection of unreliable size can be
+    // copied with a single call to forEachRemaining.
+    @PrereleaseContent
+    private static final class DoubleArrayBuilder implements DoubleConsumer {
+        private double[] a;
+        private int n;
+
+        DoubleArrayBuilder(double[] a) {
+            this.a = a;
+        }
+
+        @Override
+        public void accept(double v) {
+            if (n == a.length)
+                a = Arrays.copyOf(a, grownCapacity(n));
+            a[n++] = v;
+        }
+
+        double[] toArray() {
+            return n == a.length ? a : Arrays.copyOf(a, n);
+        }
+    }
+
+    @PrereleaseContent
+    private static final class IntArrayBuilder implements IntConsumer {
+        private int[] a;
+        private int n;
+
+        IntArrayBuilder(int[] a) {
+            this.a = a;
+        }
+
+        @Override
+        public void accept(int v) {
+            if (n == a.length)
+                a = Arrays.copyOf(a, grownCapacity(n));
+            a[n++] = v;
+        }
+
+        int[] toArray() {
+            return n == a.length ? a : Arrays.copyOf(a, n);
+        }
+    }
+
+    @PrereleaseContent
+    private static final class LongArrayBuilder implements LongConsumer {
+        private long[] a;
+        private int n;
+
+        LongArrayBuilder(long[] a) {
+            this.a = a;
+        }
+
+        @Override
+        public void accept(long v) {
+            if (n == a.length)
+                a = Arrays.copyOf(a, grownCapacity(n));
+            a[n++] = v;
+        }
+
+        long[] toArray() {
+            return n == a.length ? a : Arrays.copyOf(a, n);
+        }
     }
 
     static Object[] toArray(Collection<?> c) {
@@ -973,7 +1729,14 @@ public class PrimitiveCollections {
             T_STR extends BaseStream<T,T_STR>,
             T_COLL extends PrimitiveCollection<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL>>
             extends UnmodifiableCollection<T>
-            implements PrimitiveCollection<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL> {
+            implements PrimitiveCollection<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL>,
+            Serializable {
+        // Immutable collections are serialized as a snapshot of their elements,
+        // from which the most efficient representation is rebuilt
+        Object writeReplace() {
+            return SerializationProxy.replace(this, false);
+        }
+
         @Override
         public boolean addAll(T_COLL c) {
             throw new UnsupportedOperationException();
@@ -1272,7 +2035,8 @@ public class PrimitiveCollections {
 
     static class DoubleSingleton extends PrimitiveSingleton<Double, double[],
             DoubleConsumer, DoublePredicate, Spliterator.OfDouble, DoubleStream,
-            PrimitiveCollection.OfDouble> implements PrimitiveSet.OfDouble {
+            PrimitiveCollection.OfDouble>
+            implements PrimitiveSet.OfDouble, BulkCopying<double[]> {
         private final double value;
 
         DoubleSingleton(double value) {
@@ -1309,6 +2073,11 @@ public class PrimitiveCollections {
             return value == d;
         }
 
+        @Override
+        public void copyInto(double[] dest, int offset) {
+            dest[offset] = value;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (o == this)
@@ -1381,7 +2150,8 @@ public class PrimitiveCollections {
     @PrereleaseContent
     static class IntSingleton extends PrimitiveSingleton<Integer, int[],
             IntConsumer, IntPredicate, Spliterator.OfInt, IntStream,
-            PrimitiveCollection.OfInt> implements PrimitiveSet.OfInt {
+            PrimitiveCollection.OfInt>
+            implements PrimitiveSet.OfInt, BulkCopying<int[]> {
         private final int value;
 
         IntSingleton(int value) {
@@ -1418,6 +2188,11 @@ public class PrimitiveCollections {
             return value == i;
         }
 
+        @Override
+        public void copyInto(int[] dest, int offset) {
+            dest[offset] = value;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (o == this)
@@ -1492,7 +2267,8 @@ public class PrimitiveCollections {
 
     static class LongSingleton extends PrimitiveSingleton<Long, long[],
             LongConsumer, LongPredicate, Spliterator.OfLong, LongStream,
-            PrimitiveCollection.OfLong> implements PrimitiveSet.OfLong {
+            PrimitiveCollection.OfLong>
+            implements PrimitiveSet.OfLong, BulkCopying<long[]> {
         private final long value;
 
         LongSingleton(long value) {
@@ -1529,6 +2305,11 @@ public class PrimitiveCollections {
             return value == l;
         }
 
+        @Override
+        public void copyInto(long[] dest, int offset) {
+            dest[offset] = value;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (o == this)
@@ -1601,19 +2382,62 @@ public class PrimitiveCollections {
         }
     }
 
+    // Implemented by immutable sets which compute their hash code at most once,
+    // so that equals can cheaply reject sets whose cached hash codes differ.
+    @PrereleaseContent
+    interface HashCodeCaching {
+        // Returns whether the hash code has been computed and cached, so that
+        // calling hashCode() is a field read
+        boolean isHashCodeCached();
+    }
+
     @PrereleaseContent
     static abstract class ArrayPrimitiveSet<T,T_ARR,T_CONS,T_PRED,
             T_SPLITR extends Spliterator.OfPrimitive<T,T_CONS,T_SPLITR>,
             T_STR extends BaseStream<T,T_STR>,
             T_COLL extends PrimitiveCollection<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL>>
             extends UnmodifiablePrimitiveCollection<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL>
-            implements PrimitiveSet<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL> {
+            implements PrimitiveSet<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL>,
+            HashCodeCaching {
+        // Arrays up to this size are checked for duplicates pairwise, which is
+        // cheaper than allocating a transient hash table for so few elements.
+        static final int SMALL_ARRAY_SET_SIZE = 8;
+        // Sets larger than this are stored in a hash table instead of an array,
+        // as a linear scan would otherwise dominate the cost of lookups.
+        static final int HASHED_SET_THRESHOLD = 32;
+        // The table holds int positions in the element array rather than the
+        // elements themselves, and is filled as densely as a mutable hash set;
+        // at most 8/3 slots are allocated per element, and usually far fewer.
+        static final float HASHED_LOAD_FACTOR = Hashing.DEFAULT_LOAD_FACTOR;
+
         private final int size;
+        // As in String, a racy single-check cache: a hash code of zero is
+        // recorded by hashIsZero so that it is not recomputed on every call.
+        private int hash;
+        private boolean hashIsZero;
 
         ArrayPrimitiveSet(int size) {
             this.size = size;
         }
 
+        @Override
+        public int hashCode() {
+            int h = hash;
+            if (h == 0 && !hashIsZero) {
+                h = PrimitiveCollections.hashCode(this);
+                if (h == 0)
+                    hashIsZero = true;
+                else
+                    hash = h;
+            }
+            return h;
+        }
+
+        @Override
+        public boolean isHashCodeCached() {
+            return hash != 0 || hashIsZero;
+        }
+
         @Override
         public int size() {
             return size;
@@ -1628,7 +2452,8 @@ public class PrimitiveCollections {
     @PrereleaseContent
     static class ArrayDoubleSet extends ArrayPrimitiveSet<Double, double[],
             DoubleConsumer, DoublePredicate, Spliterator.OfDouble, DoubleStream,
-            PrimitiveCollection.OfDouble> implements PrimitiveSet.OfDouble {
+            PrimitiveCollection.OfDouble>
+            implements PrimitiveSet.OfDouble, BulkCopying<double[]> {
         private final double[] arr;
 
         private ArrayDoubleSet(double[] arr) {
@@ -1637,6 +2462,11 @@ public class PrimitiveCollections {
         }
 
         private static double[] validate(double[] arr) {
+            if (arr.length > SMALL_ARRAY_SET_SIZE) {
+                if (Hashing.containsDuplicate(arr))
+                    throw new IllegalArgumentException("Duplicate element");
+                return arr;
+            }
             for (int i = 1; i < arr.length; i++)
                 for (int j = 0; j < i; j++)
                     if (arr[i] == arr[j])
@@ -1648,10 +2478,9 @@ public class PrimitiveCollections {
             return switch (a.length) {
                 case 0 -> EmptyDoubleSet.INSTANCE;
                 case 1 -> new DoubleSingleton(a[0]);
-                default -> {
-                    var arr = Arrays.copyOf(a, a.length);
-                    yield new ArrayDoubleSet(validate(arr));
-                }
+                default -> a.length > HASHED_SET_THRESHOLD ?
+                        new HashedArrayDoubleSet(Arrays.copyOf(a, a.length)) :
+                        new ArrayDoubleSet(validate(Arrays.copyOf(a, a.length)));
             };
         }
 
@@ -1663,13 +2492,28 @@ public class PrimitiveCollections {
             return switch (a.length) {
                 case 0 -> EmptyDoubleSet.INSTANCE;
                 case 1 -> new DoubleSingleton(a[0]);
-                default -> {
-                    var arr = Arrays.copyOf(a, a.length);
-                    yield new ArrayDoubleSet(validate(arr));
-                }
+                default -> a.length > HASHED_SET_THRESHOLD ?
+                        new HashedArrayDoubleSet(Arrays.copyOf(a, a.length)) :
+                        new ArrayDoubleSet(validate(Arrays.copyOf(a, a.length)));
             };
         }
 
+        @Override
+        public boolean containsAll(PrimitiveCollection.OfDouble c) {
+            // Another array set is read through its backing array, so that a
+            // sorted receiver answers with a search per element and no
+            // iterator is allocated
+            if (c instanceof ArrayDoubleSet set) {
+                if (set.arr.length > arr.length)
+                    return false;
+                for (double v : set.arr)
+                    if (!containsDouble(v))
+                        return false;
+                return true;
+            }
+            return PrimitiveSet.OfDouble.super.containsAll(c);
+        }
+
         @Override
         public boolean containsDouble(double d) {
             for (double v : arr)
@@ -1679,14 +2523,14 @@ public class PrimitiveCollections {
         }
 
         @Override
-        @SuppressWarnings("EqualsDoesntCheckParameterClass")
-        public boolean equals(Object o) {
-            return PrimitiveCollections.equals(this, o);
+        public void copyInto(double[] dest, int offset) {
+            System.arraycopy(arr, 0, dest, offset, arr.length);
         }
 
         @Override
-        public int hashCode() {
-            return PrimitiveCollections.hashCode(this);
+        @SuppressWarnings("EqualsDoesntCheckParameterClass")
+        public boolean equals(Object o) {
+            return PrimitiveCollections.equals(this, o);
         }
 
         @Override
@@ -1738,7 +2582,8 @@ public class PrimitiveCollections {
     @PrereleaseContent
     static class ArrayIntSet extends ArrayPrimitiveSet<Integer, int[],
             IntConsumer, IntPredicate, Spliterator.OfInt, IntStream,
-            PrimitiveCollection.OfInt> implements PrimitiveSet.OfInt {
+            PrimitiveCollection.OfInt>
+            implements PrimitiveSet.OfInt, BulkCopying<int[]> {
         private final int[] arr;
 
         private ArrayIntSet(int[] arr) {
@@ -1747,6 +2592,11 @@ public class PrimitiveCollections {
         }
 
         private static int[] validate(int[] arr) {
+            if (arr.length > SMALL_ARRAY_SET_SIZE) {
+                if (Hashing.containsDuplicate(arr))
+                    throw new IllegalArgumentException("Duplicate element");
+                return arr;
+            }
             for (int i = 1; i < arr.length; i++)
                 for (int j = 0; j < i; j++)
                     if (arr[i] == arr[j])
@@ -1758,7 +2608,7 @@ public class PrimitiveCollections {
             return switch (a.length) {
                 case 0 -> EmptyIntSet.INSTANCE;
                 case 1 -> new IntSingleton(a[0]);
-                default -> new ArrayIntSet(validate(Arrays.copyOf(a, a.length)));
+                default -> newSet(a);
             };
         }
 
@@ -1769,30 +2619,50 @@ public class PrimitiveCollections {
             return switch (a.length) {
                 case 0 -> EmptyIntSet.INSTANCE;
                 case 1 -> new IntSingleton(a[0]);
-                default -> {
-                    var arr = Arrays.copyOf(a, a.length);
-                    yield new ArrayIntSet(validate(arr));
-                }
+                default -> newSet(a);
             };
         }
 
+        // Chooses a representation for a set of at least two elements. The
+        // specified array is never retained by the returned set.
+        private static PrimitiveSet.OfInt newSet(int[] a) {
+            if (a.length <= HASHED_SET_THRESHOLD)
+                return new ArrayIntSet(validate(Arrays.copyOf(a, a.length)));
+            if (BitmapIntSet.isDenseAscending(a))
+                return BitmapIntSet.fromArray(a);
+            return new HashedArrayIntSet(Arrays.copyOf(a, a.length));
+        }
+
+        @Override
+        public boolean containsAll(PrimitiveCollection.OfInt c) {
+            // Another array set is read through its backing array, so that a
+            // sorted receiver answers with a search per element and no
+            // iterator is allocated
+            if (c instanceof ArrayIntSet set) {
+                if (set.arr.length > arr.length)
+                    return false;
+                for (int v : set.arr)
+                    if (!containsInt(v))
+                        return false;
+                return true;
+            }
+            return PrimitiveSet.OfInt.super.containsAll(c);
+        }
+
         @Override
         public boolean containsInt(int i) {
-            for (int v : arr)
-                if (v == i)
-                    return true;
-            return false;
+            return IntKernels.indexOf(arr, 0, arr.length, i) >= 0;
         }
 
         @Override
-        @SuppressWarnings("EqualsDoesntCheckParameterClass")
-        public boolean equals(Object o) {
-            return PrimitiveCollections.equals(this, o);
+        public void copyInto(int[] dest, int offset) {
+            System.arraycopy(arr, 0, dest, offset, arr.length);
         }
 
         @Override
-        public int hashCode() {
-            return PrimitiveCollections.hashCode(this);
+        @SuppressWarnings("EqualsDoesntCheckParameterClass")
+        public boolean equals(Object o) {
+            return PrimitiveCollections.equals(this, o);
         }
 
         @Override
@@ -1844,7 +2714,8 @@ public class PrimitiveCollections {
     @PrereleaseContent
     static class ArrayLongSet extends ArrayPrimitiveSet<Long, long[],
             LongConsumer, LongPredicate, Spliterator.OfLong, LongStream,
-            PrimitiveCollection.OfLong> implements PrimitiveSet.OfLong {
+            PrimitiveCollection.OfLong>
+            implements PrimitiveSet.OfLong, BulkCopying<long[]> {
         private final long[] arr;
 
         private ArrayLongSet(long[] arr) {
@@ -1853,6 +2724,11 @@ public class PrimitiveCollections {
         }
 
         private static long[] validate(long[] arr) {
+            if (arr.length > SMALL_ARRAY_SET_SIZE) {
+                if (Hashing.containsDuplicate(arr))
+                    throw new IllegalArgumentException("Duplicate element");
+                return arr;
+            }
             for (int i = 1; i < arr.length; i++)
                 for (int j = 0; j < i; j++)
                     if (arr[i] == arr[j])
@@ -1864,7 +2740,9 @@ public class PrimitiveCollections {
             return switch (a.length) {
                 case 0 -> EmptyLongSet.INSTANCE;
                 case 1 -> new LongSingleton(a[0]);
-                default -> new ArrayLongSet(validate(Arrays.copyOf(a, a.length)));
+                default -> a.length > HASHED_SET_THRESHOLD ?
+                        new HashedArrayLongSet(Arrays.copyOf(a, a.length)) :
+                        new ArrayLongSet(validate(Arrays.copyOf(a, a.length)));
             };
         }
 
@@ -1875,13 +2753,28 @@ public class PrimitiveCollections {
             return switch (a.length) {
                 case 0 -> EmptyLongSet.INSTANCE;
                 case 1 -> new LongSingleton(a[0]);
-                default -> {
-                    var arr = Arrays.copyOf(a, a.length);
-                    yield new ArrayLongSet(validate(arr));
-                }
+                default -> a.length > HASHED_SET_THRESHOLD ?
+                        new HashedArrayLongSet(Arrays.copyOf(a, a.length)) :
+                        new ArrayLongSet(validate(Arrays.copyOf(a, a.length)));
             };
         }
 
+        @Override
+        public boolean containsAll(PrimitiveCollection.OfLong c) {
+            // Another array set is read through its backing array, so that a
+            // sorted receiver answers with a search per element and no
+            // iterator is allocated
+            if (c instanceof ArrayLongSet set) {
+                if (set.arr.length > arr.length)
+                    return false;
+                for (long v : set.arr)
+                    if (!containsLong(v))
+                        return false;
+                return true;
+            }
+            return PrimitiveSet.OfLong.super.containsAll(c);
+        }
+
         @Override
         public boolean containsLong(long l) {
             for (long v : arr)
@@ -1891,14 +2784,14 @@ public class PrimitiveCollections {
         }
 
         @Override
-        @SuppressWarnings("EqualsDoesntCheckParameterClass")
-        public boolean equals(Object o) {
-            return PrimitiveCollections.equals(this, o);
+        public void copyInto(long[] dest, int offset) {
+            System.arraycopy(arr, 0, dest, offset, arr.length);
         }
 
         @Override
-        public int hashCode() {
-            return PrimitiveCollections.hashCode(this);
+        @SuppressWarnings("EqualsDoesntCheckParameterClass")
+        public boolean equals(Object o) {
+            return PrimitiveCollections.equals(this, o);
         }
 
         @Override
@@ -1946,4 +2839,978 @@ public class PrimitiveCollections {
             return Arrays.copyOf(arr, arr.length);
         }
     }
+
+    // Sets above HASHED_SET_THRESHOLD elements keep their elements once, in
+    // insertion order, in the array of their superclass, and find them
+    // through an open-addressing table of positions in that array, as a
+    // compact dict does. A slot holds the position of an element plus one, so
+    // that zero denotes a free slot.
+    @PrereleaseContent
+    static class HashedArrayDoubleSet extends ArrayDoubleSet {
+        // NaN is never == to anything, so NaN elements are not indexed at all,
+        // and are never found by a lookup.
+        private final double[] arr;
+        private final int[] table;
+        private final int mask;
+
+        private HashedArrayDoubleSet(double[] arr) {
+            super(arr);
+            var t = new int[Hashing.tableSize(arr.length, HASHED_LOAD_FACTOR)];
+            int m = t.length - 1;
+            for (int i = 0; i < arr.length; i++) {
+                double d = arr[i];
+                if (d != d)
+                    continue;
+                int pos = hash(d) & m;
+                int cur;
+                while ((cur = t[pos]) != 0) {
+                    if (arr[cur - 1] == d)
+                        throw new IllegalArgumentException("Duplicate element");
+                    pos = (pos + 1) & m;
+                }
+                t[pos] = i + 1;
+            }
+            this.arr = arr;
+            this.table = t;
+            this.mask = m;
+        }
+
+        // Adding zero turns -0.0 into 0.0, so that the two zeros, which are
+        // ==, hash alike
+        private static int hash(double d) {
+            return Hashing.mix(Double.doubleToRawLongBits(d + 0.0));
+        }
+
+        @Override
+        public boolean containsDouble(double d) {
+            if (d != d)
+                return false;
+            var a = arr;
+            var t = table;
+            int m = mask;
+            int pos = hash(d) & m;
+            int cur;
+            while ((cur = t[pos]) != 0) {
+                if (a[cur - 1] == d)
+                    return true;
+                pos = (pos + 1) & m;
+            }
+            return false;
+        }
+    }
+
+    // Sets above HASHED_SET_THRESHOLD elements keep their elements once, in
+    // insertion order, in the array of their superclass, and find them
+    // through an open-addressing table of positions in that array, as a
+    // compact dict does. A slot holds the position of an element plus one, so
+    // that zero denotes a free slot.
+    @PrereleaseContent
+    static class HashedArrayIntSet extends ArrayIntSet {
+        private final int[] arr;
+        private final int[] table;
+        private final int mask;
+
+        private HashedArrayIntSet(int[] arr) {
+            super(arr);
+            var t = new int[Hashing.tableSize(arr.length, HASHED_LOAD_FACTOR)];
+            int m = t.length - 1;
+            for (int i = 0; i < arr.length; i++) {
+                int v = arr[i];
+                int pos = Hashing.mix(v) & m;
+                int cur;
+                while ((cur = t[pos]) != 0) {
+                    if (arr[cur - 1] == v)
+                        throw new IllegalArgumentException("Duplicate element");
+                    pos = (pos + 1) & m;
+                }
+                t[pos] = i + 1;
+            }
+            this.arr = arr;
+            this.table = t;
+            this.mask = m;
+        }
+
+        @Override
+        public boolean containsInt(int i) {
+            var a = arr;
+            var t = table;
+            int m = mask;
+            int pos = Hashing.mix(i) & m;
+            int cur;
+            while ((cur = t[pos]) != 0) {
+                if (a[cur - 1] == i)
+                    return true;
+                pos = (pos + 1) & m;
+            }
+            return false;
+        }
+    }
+
+    // Sets above HASHED_SET_THRESHOLD elements keep their elements once, in
+    // insertion order, in the array of their superclass, and find them
+    // through an open-addressing table of positions in that array, as a
+    // compact dict does. A slot holds the position of an element plus one, so
+    // that zero denotes a free slot.
+    @PrereleaseContent
+    static class HashedArrayLongSet extends ArrayLongSet {
+        private final long[] arr;
+        private final int[] table;
+        private final int mask;
+
+        private HashedArrayLongSet(long[] arr) {
+            super(arr);
+            var t = new int[Hashing.tableSize(arr.length, HASHED_LOAD_FACTOR)];
+            int m = t.length - 1;
+            for (int i = 0; i < arr.length; i++) {
+                long v = arr[i];
+                int pos = Hashing.mix(v) & m;
+                int cur;
+                while ((cur = t[pos]) != 0) {
+                    if (arr[cur - 1] == v)
+                        throw new IllegalArgumentException("Duplicate element");
+                    pos = (pos + 1) & m;
+                }
+                t[pos] = i + 1;
+            }
+            this.arr = arr;
+            this.table = t;
+            this.mask = m;
+        }
+
+        @Override
+        public boolean containsLong(long l) {
+            var a = arr;
+            var t = table;
+            int m = mask;
+            int pos = Hashing.mix(l) & m;
+            int cur;
+            while ((cur = t[pos]) != 0) {
+                if (a[cur - 1] == l)
+                    return true;
+                pos = (pos + 1) & m;
+            }
+            return false;
+        }
+    }
+
+    @PrereleaseContent
+    static class SortedArrayDoubleSet extends ArrayDoubleSet {
+        private final double[] arr;
+        // NaN sorts after every other value and is never == to anything, so
+        // searches are confined to the elements before the first NaN.
+        private final int limit;
+
+        private SortedArrayDoubleSet(double[] arr) {
+            super(arr);
+            this.arr = arr;
+            int n = arr.length;
+            while (n > 0 && arr[n - 1] != arr[n - 1])
+                n--;
+            this.limit = n;
+        }
+
+        static PrimitiveSet.OfDouble fromArray(double[] a) {
+            var arr = Arrays.copyOf(a, a.length);
+            Arrays.sort(arr);
+            for (int i = 1; i < arr.length; i++)
+                if (arr[i] == arr[i - 1])
+                    throw new IllegalArgumentException("Duplicate element");
+            return new SortedArrayDoubleSet(arr);
+        }
+
+        static PrimitiveSet.OfDouble fromCollection(
+                PrimitiveCollection.OfDouble collection) {
+            if (collection instanceof SortedArrayDoubleSet set)
+                return set;
+            var a = collection.toPrimitiveArray();
+            var arr = Arrays.copyOf(a, a.length);
+            Arrays.sort(arr);
+            int n = Math.min(arr.length, 1);
+            for (int i = 1; i < arr.length; i++)
+                if (arr[i] != arr[n - 1])
+                    arr[n++] = arr[i];
+            return new SortedArrayDoubleSet(
+                    n == arr.length ? arr : Arrays.copyOf(arr, n));
+        }
+
+        @Override
+        public boolean containsAll(PrimitiveCollection.OfDouble c) {
+            if (c instanceof SortedArrayDoubleSet set) {
+                // NaN is never contained, so a NaN in the other set fails the
+                // test; otherwise both arrays are merged up to their first NaN.
+                // Each array holds at most one zero, so -0.0 and 0.0 meet.
+                if (set.limit < set.arr.length || set.limit > limit)
+                    return false;
+                var a = arr;
+                int i = 0;
+                for (int j = 0; j < set.limit; j++) {
+                    double v = set.arr[j];
+                    while (i < limit && a[i] < v)
+                        i++;
+                    if (i == limit || a[i] != v)
+                        return false;
+                    i++;
+                }
+                return true;
+            }
+            return super.containsAll(c);
+        }
+
+        @Override
+        public boolean containsDouble(double d) {
+            if (d != d)
+                return false;
+            int low = 0;
+            int high = limit - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                double v = arr[mid];
+                if (v < d)
+                    low = mid + 1;
+                else if (v > d)
+                    high = mid - 1;
+                else
+                    return true;
+            }
+            return false;
+        }
+
+        @Override
+        public DoubleStream primitiveStream() {
+            return StreamSupport.doubleStream(spliterator(), false);
+        }
+
+        @Override
+        public Spliterator.OfDouble spliterator() {
+            return Spliterators.spliterator(arr,
+                    Spliterator.IMMUTABLE |
+                    Spliterator.ORDERED |
+                    Spliterator.DISTINCT |
+                    Spliterator.SORTED);
+        }
+    }
+
+    @PrereleaseContent
+    static class SortedArrayIntSet extends ArrayIntSet {
+        private final int[] arr;
+
+        private SortedArrayIntSet(int[] arr) {
+            super(arr);
+            this.arr = arr;
+        }
+
+        static PrimitiveSet.OfInt fromArray(int[] a) {
+            var arr = Arrays.copyOf(a, a.length);
+            Arrays.sort(arr);
+            for (int i = 1; i < arr.length; i++)
+                if (arr[i] == arr[i - 1])
+                    throw new IllegalArgumentException("Duplicate element");
+            return new SortedArrayIntSet(arr);
+        }
+
+        static PrimitiveSet.OfInt fromCollection(PrimitiveCollection.OfInt collection) {
+            if (collection instanceof SortedArrayIntSet set)
+                return set;
+            var a = collection.toPrimitiveArray();
+            var arr = Arrays.copyOf(a, a.length);
+            Arrays.sort(arr);
+            int n = Math.min(arr.length, 1);
+            for (int i = 1; i < arr.length; i++)
+                if (arr[i] != arr[n - 1])
+                    arr[n++] = arr[i];
+            return new SortedArrayIntSet(
+                    n == arr.length ? arr : Arrays.copyOf(arr, n));
+        }
+
+        @Override
+        public boolean containsAll(PrimitiveCollection.OfInt c) {
+            if (c instanceof SortedArrayIntSet set) {
+                // Two sorted sets of the same size are equal exactly when their
+                // arrays are; otherwise the arrays are merged
+                var a = arr;
+                var b = set.arr;
+                if (b.length >= a.length)
+                    return b.length == a.length && Arrays.equals(a, b);
+                return IntKernels.containsAllSorted(a, b);
+            }
+            return super.containsAll(c);
+        }
+
+        @Override
+        public boolean containsInt(int i) {
+            return Arrays.binarySearch(arr, i) >= 0;
+        }
+
+        // Merges the arrays of small sets; the elements of a large set are
+        // looked up in the other in parallel, and stay in ascending order
+        static PrimitiveSet.OfInt intersection(SortedArrayIntSet a, SortedArrayIntSet b) {
+            var small = a.arr.length <= b.arr.length ? a : b;
+            var large = small == a ? b : a;
+            var arr = small.arr.length < PARALLEL_SET_THRESHOLD ?
+                    IntKernels.intersectSorted(small.arr, large.arr) :
+                    filter(small, large::containsInt);
+            return arr.length == 0 ? EmptyIntSet.INSTANCE : new SortedArrayIntSet(arr);
+        }
+
+        @Override
+        public IntStream primitiveStream() {
+            return StreamSupport.intStream(spliterator(), false);
+        }
+
+        @Override
+        public Spliterator.OfInt spliterator() {
+            return Spliterators.spliterator(arr,
+                    Spliterator.IMMUTABLE |
+                    Spliterator.ORDERED |
+                    Spliterator.DISTINCT |
+                    Spliterator.SORTED);
+        }
+    }
+
+    @PrereleaseContent
+    static class SortedArrayLongSet extends ArrayLongSet {
+        private final long[] arr;
+
+        private SortedArrayLongSet(long[] arr) {
+            super(arr);
+            this.arr = arr;
+        }
+
+        static PrimitiveSet.OfLong fromArray(long[] a) {
+            var arr = Arrays.copyOf(a, a.length);
+            Arrays.sort(arr);
+            for (int i = 1; i < arr.length; i++)
+                if (arr[i] == arr[i - 1])
+                    throw new IllegalArgumentException("Duplicate element");
+            return new SortedArrayLongSet(arr);
+        }
+
+        static PrimitiveSet.OfLong fromCollection(PrimitiveCollection.OfLong collection) {
+            if (collection instanceof SortedArrayLongSet set)
+                return set;
+            var a = collection.toPrimitiveArray();
+            var arr = Arrays.copyOf(a, a.length);
+            Arrays.sort(arr);
+            int n = Math.min(arr.length, 1);
+            for (int i = 1; i < arr.length; i++)
+                if (arr[i] != arr[n - 1])
+                    arr[n++] = arr[i];
+            return new SortedArrayLongSet(
+                    n == arr.length ? arr : Arrays.copyOf(arr, n));
+        }
+
+        @Override
+        public boolean containsAll(PrimitiveCollection.OfLong c) {
+            if (c instanceof SortedArrayLongSet set) {
+                // Two sorted sets of the same size are equal exactly when their
+                // arrays are; otherwise the arrays are merged
+                var a = arr;
+                var b = set.arr;
+                if (b.length >= a.length)
+                    return b.length == a.length && Arrays.equals(a, b);
+                int i = 0;
+                for (long v : b) {
+                    while (i < a.length && a[i] < v)
+                        i++;
+                    if (i == a.length || a[i] != v)
+                        return false;
+                    i++;
+                }
+                return true;
+            }
+            return super.containsAll(c);
+        }
+
+        @Override
+        public boolean containsLong(long l) {
+            return Arrays.binarySearch(arr, l) >= 0;
+        }
+
+        @Override
+        public LongStream primitiveStream() {
+            return StreamSupport.longStream(spliterator(), false);
+        }
+
+        @Override
+        public Spliterator.OfLong spliterator() {
+            return Spliterators.spliterator(arr,
+                    Spliterator.IMMUTABLE |
+                    Spliterator.ORDERED |
+                    Spliterator.DISTINCT |
+                    Spliterator.SORTED);
+        }
+    }
+
+    @PrereleaseContent
+    static class BitmapIntSet extends UnmodifiablePrimitiveCollection<Integer, int[],
+            IntConsumer, IntPredicate, Spliterator.OfInt, IntStream,
+            PrimitiveCollection.OfInt>
+            implements PrimitiveSet.OfInt, BulkCopying<int[]>, HashCodeCaching {
+        // Element e is stored at bit (e & 63) of word (e >> 6) - wordOffset,
+        // so the words need only span the range of the elements.
+        final long[] words;
+        final int wordOffset;
+        private final int size;
+        // Cached as in ArrayPrimitiveSet
+        private int hash;
+        private boolean hashIsZero;
+
+        private BitmapIntSet(long[] words, int wordOffset, int size) {
+            this.words = words;
+            this.wordOffset = wordOffset;
+            this.size = size;
+        }
+
+        // Returns whether the specified elements are strictly ascending, so
+        // that a bitmap iterates them in the order given, and whether a bitmap
+        // spanning their range would occupy no more memory than the elements
+        // themselves.
+        static boolean isDenseAscending(int[] a) {
+            for (int i = 1; i < a.length; i++)
+                if (a[i] <= a[i - 1])
+                    return false;
+            return (long) a[a.length - 1] - a[0] < (long) Integer.SIZE * a.length;
+        }
+
+        static BitmapIntSet fromArray(int[] a) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int v : a) {
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+            }
+            int wordOffset = min >> 6;
+            var words = new long[(max >> 6) - wordOffset + 1];
+            for (int v : a) {
+                int k = (v >> 6) - wordOffset;
+                long bit = 1L << v;
+                if ((words[k] & bit) != 0)
+                    throw new IllegalArgumentException("Duplicate element");
+                words[k] |= bit;
+            }
+            return new BitmapIntSet(words, wordOffset, a.length);
+        }
+
+        @Override
+        public boolean containsAll(PrimitiveCollection.OfInt c) {
+            if (c instanceof BitmapIntSet set) {
+                if (set.size >= size)
+                    // The words of a bitmap span exactly the range of its
+                    // elements, so equal sets have identical words
+                    return set.size == size && set.wordOffset == wordOffset &&
+                            Arrays.equals(set.words, words);
+                var w = words;
+                int offset = set.wordOffset - wordOffset;
+                for (int j = 0; j < set.words.length; j++) {
+                    long bits = set.words[j];
+                    int k = j + offset;
+                    if (bits != 0 && (k < 0 || k >= w.length || (bits & ~w[k]) != 0))
+                        return false;
+                }
+                return true;
+            }
+            return PrimitiveSet.OfInt.super.containsAll(c);
+        }
+
+        @Override
+        public boolean containsInt(int i) {
+            int k = (i >> 6) - wordOffset;
+            return k >= 0 && k < words.length && (words[k] & (1L << i)) != 0;
+        }
+
+        @Override
+        public void copyInto(int[] dest, int offset) {
+            Objects.checkFromIndexSize(offset, size, dest.length);
+            int n = offset;
+            var w = words;
+            int base = wordOffset;
+            for (int k = 0; k < w.length; k++) {
+                long bits = w[k];
+                while (bits != 0) {
+                    dest[n++] = (k + base) << 6 | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("EqualsDoesntCheckParameterClass")
+        public boolean equals(Object o) {
+            return PrimitiveCollections.equals(this, o);
+        }
+
+        @Override
+        public void forEach(IntConsumer action) {
+            var w = words;
+            int base = wordOffset;
+            for (int k = 0; k < w.length; k++) {
+                long bits = w[k];
+                while (bits != 0) {
+                    action.accept((k + base) << 6 | Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = hash;
+            if (h != 0 || hashIsZero)
+                return h;
+            var w = words;
+            int base = wordOffset;
+            for (int k = 0; k < w.length; k++) {
+                long bits = w[k];
+                while (bits != 0) {
+                    h += (k + base) << 6 | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+            if (h == 0)
+                hashIsZero = true;
+            else
+                hash = h;
+            return h;
+        }
+
+        @Override
+        public boolean isHashCodeCached() {
+            return hash != 0 || hashIsZero;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return new PrimitiveIterator.OfInt() {
+                private int k = -1;
+                private long bits;
+                private int remaining = size;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining != 0;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (remaining == 0)
+                        throw new NoSuchElementException();
+                    while (bits == 0)
+                        bits = words[++k];
+                    int i = (k + wordOffset) << 6 | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    remaining--;
+                    return i;
+                }
+            };
+        }
+
+        @Override
+        public IntStream primitiveStream() {
+            return StreamSupport.intStream(spliterator(), false);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Spliterator.OfInt spliterator() {
+            return new BitmapIntSpliterator(words, wordOffset, 0, 0, words.length, size);
+        }
+
+        @Override
+        public int[] toPrimitiveArray() {
+            var a = new int[size];
+            copyInto(a, 0);
+            return a;
+        }
+    }
+
+    // Splits the range of words of a BitmapIntSet in half, with no copying. The
+    // bits remaining in a partially traversed word always belong to the prefix,
+    // and the size of the prefix is counted exactly.
+    @PrereleaseContent
+    static class BitmapIntSpliterator implements Spliterator.OfInt {
+        private final long[] words;
+        private final int wordOffset;
+        private long bits;  // unvisited bits of the word at index - 1
+        private int index;
+        private final int fence;
+        private int est;
+
+        BitmapIntSpliterator(long[] words, int wordOffset, long bits, int origin,
+                             int fence, int est) {
+            this.words = words;
+            this.wordOffset = wordOffset;
+            this.bits = bits;
+            this.index = origin;
+            this.fence = fence;
+            this.est = est;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE |
+                    Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.SORTED;
+        }
+
+        @Override
+        public long estimateSize() {
+            return est;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            var w = words;
+            int base = wordOffset;
+            int hi = fence;
+            int k = index - 1;
+            long b = bits;
+            while (true) {
+                while (b != 0) {
+                    action.accept((k + base) << 6 | Long.numberOfTrailingZeros(b));
+                    b &= b - 1;
+                }
+                if (++k >= hi)
+                    break;
+                b = w[k];
+            }
+            index = hi;
+            bits = 0;
+            est = 0;
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return null;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            while (bits == 0) {
+                if (index >= fence)
+                    return false;
+                bits = words[index++];
+            }
+            int i = (index - 1 + wordOffset) << 6 | Long.numberOfTrailingZeros(bits);
+            bits &= bits - 1;
+            est--;
+            action.accept(i);
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid)
+                return null;
+            int n = Long.bitCount(bits);
+            for (int k = lo; k < mid; k++)
+                n += Long.bitCount(words[k]);
+            var prefix = new BitmapIntSpliterator(words, wordOffset, bits, lo, mid, n);
+            bits = 0;
+            index = mid;
+            est -= n;
+            return prefix;
+        }
+    }
+
+    @PrereleaseContent
+    static class DoubleArrayCollection extends UnmodifiablePrimitiveCollection<Double, double[],
+            DoubleConsumer, DoublePredicate, Spliterator.OfDouble, DoubleStream,
+            PrimitiveCollection.OfDouble>
+            implements PrimitiveCollection.OfDouble, BulkCopying<double[]> {
+        // The elements are arr[from] to arr[to - 1]. The array belongs to the
+        // caller, so it is never written, and never handed out.
+        private final double[] arr;
+        private final int from;
+        private final int to;
+
+        private DoubleArrayCollection(double[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean containsDouble(double d) {
+            var a = arr;
+            for (int k = from; k < to; k++)
+                if (a[k] == d)
+                    return true;
+            return false;
+        }
+
+        @Override
+        public void copyInto(double[] dest, int offset) {
+            System.arraycopy(arr, from, dest, offset, to - from);
+        }
+
+        @Override
+        public void forEach(DoubleConsumer action) {
+            Objects.requireNonNull(action);
+            var a = arr;
+            for (int k = from; k < to; k++)
+                action.accept(a[k]);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return from == to;
+        }
+
+        @Override
+        public PrimitiveIterator.OfDouble iterator() {
+            return Spliterators.iterator(spliterator());
+        }
+
+        @Override
+        public DoubleStream primitiveStream() {
+            return Arrays.stream(arr, from, to);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public Spliterator.OfDouble spliterator() {
+            return Spliterators.spliterator(arr, from, to, Spliterator.ORDERED);
+        }
+
+        @Override
+        public Stream<Double> stream() {
+            return primitiveStream().boxed();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return primitiveStream().boxed().toArray();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <U> U[] toArray(U[] a) {
+            int n = to - from;
+            if (a.length < n)
+                a = newArray(a, n);
+            for (int k = 0; k < n; k++)
+                a[k] = (U) Double.valueOf(arr[from + k]);
+            if (a.length > n)
+                a[n] = null;
+            return a;
+        }
+
+        @Override
+        public <U> U[] toArray(IntFunction<U[]> generator) {
+            return toArray(generator.apply(to - from));
+        }
+
+        @Override
+        public double[] toPrimitiveArray() {
+            return Arrays.copyOfRange(arr, from, to);
+        }
+    }
+
+    @PrereleaseContent
+    static class IntArrayCollection extends UnmodifiablePrimitiveCollection<Integer, int[],
+            IntConsumer, IntPredicate, Spliterator.OfInt, IntStream,
+            PrimitiveCollection.OfInt>
+            implements PrimitiveCollection.OfInt, BulkCopying<int[]> {
+        // The elements are arr[from] to arr[to - 1]. The array belongs to the
+        // caller, so it is never written, and never handed out.
+        private final int[] arr;
+        private final int from;
+        private final int to;
+
+        private IntArrayCollection(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean containsInt(int i) {
+            return IntKernels.indexOf(arr, from, to, i) >= 0;
+        }
+
+        @Override
+        public void copyInto(int[] dest, int offset) {
+            System.arraycopy(arr, from, dest, offset, to - from);
+        }
+
+        @Override
+        public void forEach(IntConsumer action) {
+            Objects.requireNonNull(action);
+            var a = arr;
+            for (int k = from; k < to; k++)
+                action.accept(a[k]);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return from == to;
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return Spliterators.iterator(spliterator());
+        }
+
+        @Override
+        public IntStream primitiveStream() {
+            return Arrays.stream(arr, from, to);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public Spliterator.OfInt spliterator() {
+            return Spliterators.spliterator(arr, from, to, Spliterator.ORDERED);
+        }
+
+        @Override
+        public Stream<Integer> stream() {
+            return primitiveStream().boxed();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return primitiveStream().boxed().toArray();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <U> U[] toArray(U[] a) {
+            int n = to - from;
+            if (a.length < n)
+                a = newArray(a, n);
+            for (int k = 0; k < n; k++)
+                a[k] = (U) Integer.valueOf(arr[from + k]);
+            if (a.length > n)
+                a[n] = null;
+            return a;
+        }
+
+        @Override
+        public <U> U[] toArray(IntFunction<U[]> generator) {
+            return toArray(generator.apply(to - from));
+        }
+
+        @Override
+        public int[] toPrimitiveArray() {
+            return Arrays.copyOfRange(arr, from, to);
+        }
+    }
+
+    @PrereleaseContent
+    static class LongArrayCollection extends UnmodifiablePrimitiveCollection<Long, long[],
+            LongConsumer, LongPredicate, Spliterator.OfLong, LongStream,
+            PrimitiveCollection.OfLong>
+            implements PrimitiveCollection.OfLong, BulkCopying<long[]> {
+        // The elements are arr[from] to arr[to - 1]. The array belongs to the
+        // caller, so it is never written, and never handed out.
+        private final long[] arr;
+        private final int from;
+        private final int to;
+
+        private LongArrayCollection(long[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean containsLong(long l) {
+            var a = arr;
+            for (int k = from; k < to; k++)
+                if (a[k] == l)
+                    return true;
+            return false;
+        }
+
+        @Override
+        public void copyInto(long[] dest, int offset) {
+            System.arraycopy(arr, from, dest, offset, to - from);
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            Objects.requireNonNull(action);
+            var a = arr;
+            for (int k = from; k < to; k++)
+                action.accept(a[k]);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return from == to;
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            return Spliterators.iterator(spliterator());
+        }
+
+        @Override
+        public LongStream primitiveStream() {
+            return Arrays.stream(arr, from, to);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public Spliterator.OfLong spliterator() {
+            return Spliterators.spliterator(arr, from, to, Spliterator.ORDERED);
+        }
+
+        @Override
+        public Stream<Long> stream() {
+            return primitiveStream().boxed();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return primitiveStream().boxed().toArray();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <U> U[] toArray(U[] a) {
+            int n = to - from;
+            if (a.length < n)
+                a = newArray(a, n);
+            for (int k = 0; k < n; k++)
+                a[k] = (U) Long.valueOf(arr[from + k]);
+            if (a.length > n)
+                a[n] = null;
+            return a;
+        }
+
+        @Override
+        public <U> U[] toArray(IntFunction<U[]> generator) {
+            return toArray(generator.apply(to - from));
+        }
+
+        @Override
+        public long[] toPrimitiveArray() {
+            return Arrays.copyOfRange(arr, from, to);
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * <p>This class consists exclusively of static methods that gather the
+ * elements of a primitive stream into a primitive collection without boxing
+ * them. It's meant to serve as an analogue to the collectors returned by
+ * {@link java.util.stream.Collectors#toSet()} and
+ * {@link java.util.stream.Collectors#toList()} for primitive streams.</p>
+ * <p>Each method is a terminal operation on the stream it is given. When the
+ * stream is parallel, each thread accumulates its share of the elements into
+ * a container of its own, and the containers are merged in bulk: hash sets
+ * are merged by inserting directly from the other set's table, and array
+ * lists by copying the other list's backing array.</p>
+ */
+@PrereleaseContent
+public class PrimitiveCollectors {
+    private PrimitiveCollectors() {}
+
+    /**
+     * <p>Returns a new mutable set containing the elements of the specified
+     * stream. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a new {@code DoubleHashSet} containing the distinct elements of the
+     * stream
+     * @throws NullPointerException if the specified stream is null
+     * @throws IllegalArgumentException if the stream contains {@code NaN}
+     */
+    public static PrimitiveSet.OfDouble toSet(DoubleStream stream) {
+        return stream.collect(DoubleHashSet::new, DoubleHashSet::addDouble, DoubleHashSet::addAll);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the specified
+     * stream. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a {@code PrimitiveSet.OfDouble} containing the distinct elements of
+     * the stream
+     * @throws NullPointerException if the specified stream is null
+     * @throws IllegalArgumentException if the stream contains {@code NaN}
+     * @see PrimitiveSet.OfDouble#copyOf(PrimitiveCollection.OfDouble)
+     */
+    public static PrimitiveSet.OfDouble toUnmodifiableSet(DoubleStream stream) {
+        return PrimitiveSet.OfDouble.copyOf(toSet(stream));
+    }
+
+    /**
+     * <p>Returns a new mutable list containing the elements of the specified
+     * stream, in encounter order. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a new {@code DoubleArrayList} containing the elements of the stream
+     * @throws NullPointerException if the specified stream is null
+     */
+    public static PrimitiveList.OfDouble toList(DoubleStream stream) {
+        return stream.collect(DoubleArrayList::new, DoubleArrayList::addDouble, DoubleArrayList::addAll);
+    }
+
+    /**
+     * <p>Returns a new mutable set containing the elements of the specified
+     * stream. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a new {@code IntHashSet} containing the distinct elements of the
+     * stream
+     * @throws NullPointerException if the specified stream is null
+     */
+    public static PrimitiveSet.OfInt toSet(IntStream stream) {
+        return stream.collect(IntHashSet::new, IntHashSet::addInt, IntHashSet::addAll);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the specified
+     * stream. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a {@code PrimitiveSet.OfInt} containing the distinct elements of
+     * the stream
+     * @throws NullPointerException if the specified stream is null
+     * @see PrimitiveSet.OfInt#copyOf(PrimitiveCollection.OfInt)
+     */
+    public static PrimitiveSet.OfInt toUnmodifiableSet(IntStream stream) {
+        return PrimitiveSet.OfInt.copyOf(toSet(stream));
+    }
+
+    /**
+     * <p>Returns a new mutable list containing the elements of the specified
+     * stream, in encounter order. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a new {@code IntArrayList} containing the elements of the stream
+     * @throws NullPointerException if the specified stream is null
+     */
+    public static PrimitiveList.OfInt toList(IntStream stream) {
+        return stream.collect(IntArrayList::new, IntArrayList::addInt, IntArrayList::addAll);
+    }
+
+    /**
+     * <p>Returns a new mutable set containing the elements of the specified
+     * stream. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a new {@code LongHashSet} containing the distinct elements of the
+     * stream
+     * @throws NullPointerException if the specified stream is null
+     */
+    public static PrimitiveSet.OfLong toSet(LongStream stream) {
+        return stream.collect(LongHashSet::new, LongHashSet::addLong, LongHashSet::addAll);
+    }
+
+    /**
+     * <p>Returns an unmodifiable set containing the elements of the specified
+     * stream. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a {@code PrimitiveSet.OfLong} containing the distinct elements of
+     * the stream
+     * @throws NullPointerException if the specified stream is null
+     * @see PrimitiveSet.OfLong#copyOf(PrimitiveCollection.OfLong)
+     */
+    public static PrimitiveSet.OfLong toUnmodifiableSet(LongStream stream) {
+        return PrimitiveSet.OfLong.copyOf(toSet(stream));
+    }
+
+    /**
+     * <p>Returns a new mutable list containing the elements of the specified
+     * stream, in encounter order. This is a terminal operation.</p>
+     * @param stream the stream whose elements are to be gathered
+     * @return a new {@code LongArrayList} containing the elements of the stream
+     * @throws NullPointerException if the specified stream is null
+     */
+    public static PrimitiveList.OfLong toList(LongStream stream) {
+        return stream.collect(LongArrayList::new, LongArrayList::addLong, LongArrayList::addAll);
+    }
+}
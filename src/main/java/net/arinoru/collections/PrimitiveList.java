@@ -0,0 +1,2139 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>A base type for primitive specializations of {@code List}. Specialized
+ * subtypes are provided for {@code int}, {@code long} and {@code double}
+ * values.</p>
+ * <p>The specialized subtype default implementations for various
+ * {@code List} methods rely on boxing and unboxing primitive values to and
+ * from instances of their corresponding wrapper class. Such boxing may offset any
+ * advantages gained when using the primitive specializations. To avoid boxing and
+ * unboxing, the corresponding primitive-based methods should be used. For example,
+ * {@link OfInt#getInt(int)} and {@link OfInt#setInt(int, int)} should be used
+ * in favor of {@link OfInt#get(int)} and {@link OfInt#set(int, Integer)}.</p>
+ * <p>Note that a primitive list inherits two {@code remove} methods taking a
+ * single argument: {@code remove(int)}, which removes the element at the
+ * specified position, and {@code remove(Object)}, which removes the first
+ * occurrence of the specified element. To avoid confusion between them, the
+ * primitive specializations provide {@code removeAt} and, for example,
+ * {@link OfInt#removeInt(int) removeInt}, respectively.</p>
+ * @param <T> the boxed type of elements contained within this
+ *           {@code PrimitiveList}. The type must be a wrapper type for a
+ *           primitive type, such as {@code Integer} for the primitive {@code int}
+ *           type.
+ * @param <T_ARR> the type of arrays who have the list's primitive element
+ *              type as their runtime component type.
+ * @param <T_CONS> the type of primitive consumer. The type must be a primitive
+ *                specialization of {@link Consumer} for {@code T}, such as
+ *                {@link IntConsumer} for {@code Integer}.
+ * @param <T_PRED> the type of primitive predicate. The type must be a primitive
+ *                specialization of {@link Predicate} for {@code T}, such as
+ *                {@link IntPredicate} for {@code Integer}.
+ * @param <T_SPLITR> the type of primitive spliterator. The type must be a
+ *                  primitive specialization of {@link Spliterator} for {@code T},
+ *                  such as {@link Spliterator.OfInt} for {@code Integer}.
+ * @param <T_STR> the type of primitive stream. The type must be a primitive
+ *               specialization of {@link BaseStream} for {@code T}, such as
+ *               {@link IntStream} for {@code Integer}.
+ * @param <T_COLL> the type of the collection. This should be the specific
+ *                specialization collection type for {@code T}, such as
+ *                {@link PrimitiveCollection.OfInt} for {@code Integer}.
+ * @see List
+ * @see PrimitiveCollection
+ */
+@PrereleaseContent
+public interface PrimitiveList<T,T_ARR,T_CONS,T_PRED,
+        T_SPLITR extends Spliterator.OfPrimitive<T,T_CONS,T_SPLITR>,
+        T_STR extends BaseStream<T,T_STR>,
+        T_COLL extends PrimitiveCollection<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL>>
+        extends PrimitiveCollection<T,T_ARR,T_CONS,T_PRED,T_SPLITR,T_STR,T_COLL>, List<T> {
+    /**
+     * <p>Removes all of the elements from this list (optional operation). The
+     * list will be empty after this call returns.</p>
+     * @implSpec <p>The default implementation is inherited from
+     * {@code PrimitiveCollection}.</p>
+     * @throws UnsupportedOperationException if the {@code clear} operation is
+     * not supported by this list
+     */
+    default void clear() {
+        PrimitiveCollection.super.clear();
+    }
+
+    /**
+     * <p>Compares the specified object with this list for equality. Returns
+     * {@code true} if and only if the specified object is also a list, both
+     * lists have the same size, and all corresponding pairs of elements in the
+     * two lists are <em>equal</em>. (Two elements {@code e1} and {@code e2}
+     * are <em>equal</em> if {@code Objects.equals(e1, e2)}.) In other words,
+     * two lists are defined to be equal if they contain the same elements in
+     * the same order. This definition ensures that the equals method works
+     * properly across different implementations of the {@code List}
+     * interface.</p>
+     * @param o the object to be compared for equality with this list
+     * @return {@code true} if the specified object is equal to this list
+     * @see Object#equals(Object)
+     * @see List#equals(Object)
+     * @see PrimitiveCollections#equals(PrimitiveList, Object)
+     */
+    boolean equals(Object o);
+
+    /**
+     * <p>Returns the hash code value for this list. The hash code of a list is
+     * defined to be the same as that of a {@code List} containing the boxed
+     * elements of this list, in the same order. This ensures that
+     * {@code list1.equals(list2)} implies that
+     * {@code list1.hashCode()==list2.hashCode()} for any two lists
+     * {@code list1} and {@code list2}, as required by the general contract of
+     * {@link Object#hashCode()}.</p>
+     * @return the hash code value for this list
+     * @see List#hashCode()
+     * @see PrimitiveCollections#hashCode(PrimitiveList)
+     */
+    int hashCode();
+
+    /**
+     * <p>Returns {@code true} if this list contains no elements.</p>
+     * @implSpec <p>The default implementation is inherited from
+     * {@code PrimitiveCollection}.</p>
+     * @return {@code true} if this list contains no elements
+     */
+    default boolean isEmpty() {
+        return PrimitiveCollection.super.isEmpty();
+    }
+
+    /**
+     * <p>Returns a primitive iterator over the elements in this list in proper
+     * sequence.</p>
+     * @return a primitive iterator over the elements in this list in proper
+     * sequence
+     */
+    PrimitiveIterator<T,T_CONS> iterator();
+
+    /**
+     * <p>Returns a primitive list iterator over the elements in this list (in
+     * proper sequence).</p>
+     * @return a primitive list iterator over the elements in this list (in
+     * proper sequence)
+     */
+    PrimitiveListIterator<T,T_CONS> listIterator();
+
+    /**
+     * <p>Returns a primitive list iterator over the elements in this list (in
+     * proper sequence), starting at the specified position in the list. The
+     * specified index indicates the first element that would be returned by an
+     * initial call to {@code next}. An initial call to {@code previous} would
+     * return the element with the specified index minus one.</p>
+     * @param index index of the first element to be returned from the list
+     *              iterator (by a call to {@code next})
+     * @return a primitive list iterator over the elements in this list (in
+     * proper sequence), starting at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * ({@code index < 0 || index > size()})
+     */
+    PrimitiveListIterator<T,T_CONS> listIterator(int index);
+
+    /**
+     * <p>Creates a {@code Spliterator.OfPrimitive} over the elements in this
+     * list.</p>
+     * <p>The {@code Spliterator.OfPrimitive} reports {@link Spliterator#SIZED}
+     * and {@link Spliterator#ORDERED}. Implementations should document the
+     * reporting of additional characteristic values.</p>
+     * @return a {@code Spliterator.OfPrimitive} over the elements in this list
+     */
+    Spliterator.OfPrimitive<T,T_CONS,T_SPLITR> spliterator();
+
+    /**
+     * <p>Returns an array containing all of the elements in this list in
+     * proper sequence (from first to last element). The returned array's
+     * runtime component type is {@code Object}.</p>
+     * <p>The returned array will be "safe" in that no references to it are
+     * maintained by this list. (In other words, this method must allocate a
+     * new array even if this list is backed by an array). The caller is thus
+     * free to modify the returned array.</p>
+     * @implSpec <p>The default method implementation is inherited from
+     * {@code PrimitiveCollection}.</p>
+     * @return an array containing all of the elements in this list in proper
+     * sequence
+     */
+    default Object[] toArray() {
+        return PrimitiveCollection.super.toArray();
+    }
+
+    /**
+     * <p>Returns an array containing all of the elements in this list in
+     * proper sequence (from first to last element); the runtime type of the
+     * returned array is that of the specified array. If the list fits in the
+     * specified array, it is returned therein. Otherwise, a new array is
+     * allocated with the runtime type of the specified array and the size of
+     * this list.</p>
+     * <p>If the list fits in the specified array with room to spare (i.e., the
+     * array has more elements than the list), the element in the array
+     * immediately following the end of the list is set to {@code null}.</p>
+     * @implSpec <p>The default method implementation is inherited from
+     * {@code PrimitiveCollection}.</p>
+     * @param a the array into which the elements of this list are to be
+     *          stored, if it is big enough; otherwise, a new array of the
+     *          same runtime type is allocated for this purpose.
+     * @return an array containing the elements of this list
+     * @param <U> the component type of the array to contain the list
+     * @throws ArrayStoreException if the runtime type of the specified array
+     * is not a supertype of the runtime type of every element in this list
+     * @throws NullPointerException if the specified array is null
+     */
+    default <U> U[] toArray(U[] a) {
+        return PrimitiveCollection.super.toArray(a);
+    }
+
+    /**
+     * <p>A List specialized for {@code double} values.</p>
+     */
+    @PrereleaseContent
+    interface OfDouble extends PrimitiveList<Double,double[],DoubleConsumer,
+            DoublePredicate,Spliterator.OfDouble,DoubleStream,
+            PrimitiveCollection.OfDouble>, PrimitiveCollection.OfDouble {
+        /**
+         * <p>Appends the specified element to the end of this list (optional
+         * operation).</p>
+         * <p>Because this method takes boxed values, reliance on it may
+         * eliminate any performance advantage obtained by using a primitive
+         * collection; where possible, users may wish to utilize the
+         * {@link #addDouble(double)} method instead.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param t element to be appended to this list
+         * @return {@code true} (as specified by {@link Collection#add})
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of this element
+         * prevents it from being added to this list
+         */
+        default boolean add(Double t) {
+            return PrimitiveCollection.OfDouble.super.add(t);
+        }
+
+        /**
+         * <p>Inserts the specified element at the specified position in this
+         * list (optional operation). Shifts the element currently at that
+         * position (if any) and any subsequent elements to the right (adds one
+         * to their indices).</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code addDouble(index, element.doubleValue())}.</p>
+         * @param index index at which the specified element is to be inserted
+         * @param element element to be inserted
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default void add(int index, Double element) {
+            addDouble(index, element);
+        }
+
+        /**
+         * <p>Appends all of the elements in the specified collection to the end
+         * of this list, in the order that they are returned by the specified
+         * collection's iterator (optional operation). The behavior of this
+         * operation is undefined if the specified collection is modified while
+         * the operation is in progress.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements, or if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @see #addAll(PrimitiveCollection.OfDouble)
+         */
+        default boolean addAll(Collection<? extends Double> c) {
+            return PrimitiveCollection.OfDouble.super.addAll(c);
+        }
+
+        /**
+         * <p>Appends all of the elements in the specified collection to the end
+         * of this list, in the order that they are returned by the specified
+         * collection's iterator (optional operation). The behavior of this
+         * operation is undefined if the specified collection is modified while
+         * the operation is in progress.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @see #addAll(Collection)
+         */
+        default boolean addAll(PrimitiveCollection.OfDouble c) {
+            return PrimitiveCollection.OfDouble.super.addAll(c);
+        }
+
+        /**
+         * <p>Inserts all of the elements in the specified collection into this
+         * list at the specified position (optional operation). Shifts the
+         * element currently at that position (if any) and any subsequent
+         * elements to the right (increases their indices). The new elements
+         * will appear in this list in the order that they are returned by the
+         * specified collection's iterator.</p>
+         * @implSpec <p>If the specified collection is a
+         * {@code PrimitiveCollection.OfDouble}, the default implementation calls
+         * {@link #addAll(int, PrimitiveCollection.OfDouble)}; otherwise, it
+         * inserts each unboxed element in turn with
+         * {@link #addDouble(int, double)}.</p>
+         * @param index index at which to insert the first element from the
+         *              specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements, or if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default boolean addAll(int index, Collection<? extends Double> c) {
+            if (c instanceof PrimitiveCollection.OfDouble coll)
+                return addAll(index, coll);
+            Objects.checkIndex(index, size() + 1);
+            var changed = false;
+            for (Double t : c) {
+                addDouble(index++, t);
+                changed = true;
+            }
+            return changed;
+        }
+
+        /**
+         * <p>Inserts all of the elements in the specified collection into this
+         * list at the specified position (optional operation). Shifts the
+         * element currently at that position (if any) and any subsequent
+         * elements to the right (increases their indices). The new elements
+         * will appear in this list in the order that they are returned by the
+         * specified collection's iterator.</p>
+         * @implSpec <p>The default implementation copies the specified
+         * collection into an array with {@code toPrimitiveArray}, then inserts
+         * each element of the array in turn with {@link #addDouble(int, double)}.</p>
+         * @param index index at which to insert the first element from the
+         *              specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default boolean addAll(int index, PrimitiveCollection.OfDouble c) {
+            Objects.checkIndex(index, size() + 1);
+            var a = c.toPrimitiveArray();
+            for (double e : a)
+                addDouble(index++, e);
+            return a.length != 0;
+        }
+
+        /**
+         * <p>Appends the specified element to the end of this list (optional
+         * operation).</p>
+         * @implSpec <p>The default implementation calls
+         * {@code addDouble(size(), d)} and returns {@code true}.</p>
+         * @param d element to be appended to this list
+         * @return {@code true} (as specified by {@link Collection#add})
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of this element
+         * prevents it from being added to this list
+         */
+        default boolean addDouble(double d) {
+            addDouble(size(), d);
+            return true;
+        }
+
+        /**
+         * <p>Inserts the specified element at the specified position in this
+         * list (optional operation). Shifts the element currently at that
+         * position (if any) and any subsequent elements to the right (adds one
+         * to their indices).</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index index at which the specified element is to be inserted
+         * @param d element to be inserted
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default void addDouble(int index, double d) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains the specified element.
+         * More formally, returns {@code true} if and only if this list contains
+         * an element {@code e} such that {@code Objects.equals(o, e)}.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param o element whose presence in this list is to be tested
+         * @return {@code true} if this list contains the specified element
+         * @throws ClassCastException if the type of the specified element is
+         * incompatible with this list (optional)
+         * @throws NullPointerException if the specified element is null
+         * (optional)
+         */
+        default boolean contains(Object o) {
+            return PrimitiveCollection.OfDouble.super.contains(o);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains all of the elements of
+         * the specified collection.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param c collection to be checked for containment in this list
+         * @return {@code true} if this list contains all of the elements of the
+         * specified collection
+         * @throws ClassCastException if the types of one or more elements in the
+         * specified collection are incompatible with this list (optional)
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements (optional), or if the specified collection is
+         * null
+         * @see #containsAll(PrimitiveCollection.OfDouble)
+         */
+        default boolean containsAll(Collection<?> c) {
+            return PrimitiveCollection.OfDouble.super.containsAll(c);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains all of the elements of
+         * the specified collection.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param c collection to be checked for containment in this list
+         * @return {@code true} if this list contains all of the elements of the
+         * specified collection
+         * @throws NullPointerException if the specified collection is null
+         * @see #containsAll(Collection)
+         */
+        default boolean containsAll(PrimitiveCollection.OfDouble c) {
+            return PrimitiveCollection.OfDouble.super.containsAll(c);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains the specified element.
+         * More formally, returns {@code true} if and only if this list contains
+         * an element {@code e} such that {@code d == e}.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code indexOfDouble(d) >= 0}.</p>
+         * @param d element whose presence in this list is to be tested
+         * @return {@code true} if this list contains the specified element
+         */
+        default boolean containsDouble(double d) {
+            return indexOfDouble(d) >= 0;
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.</p>
+         * <p>Because this method returns boxed values, reliance on it may
+         * eliminate any performance advantage obtained by using a primitive
+         * collection; where possible, users may wish to utilize the
+         * {@link #getDouble(int)} method instead.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code getDouble(index)}.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default Double get(int index) {
+            return getDouble(index);
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        double getDouble(int index);
+
+        /**
+         * <p>Returns the index of the first occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code indexOfDouble(o)} if {@code o} is {@code Double}, and -1
+         * otherwise.</p>
+         * @param o element to search for
+         * @return the index of the first occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int indexOf(Object o) {
+            return o instanceof Double d ? indexOfDouble(d) : -1;
+        }
+
+        /**
+         * <p>Returns the index of the first occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element. More
+         * formally, returns the lowest index {@code i} such that
+         * {@code getDouble(i) == d}, or -1 if there is no such index.</p>
+         * @implSpec <p>The default implementation searches the list from its
+         * start with the list's {@code listIterator}.</p>
+         * @param d element to search for
+         * @return the index of the first occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int indexOfDouble(double d) {
+            var iterator = listIterator();
+            while (iterator.hasNext())
+                if (iterator.nextDouble() == d)
+                    return iterator.previousIndex();
+            return -1;
+        }
+
+        /**
+         * <p>Returns a primitive iterator over the elements in this list in
+         * proper sequence.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code listIterator()}.</p>
+         * @return a primitive iterator over the elements in this list in proper
+         * sequence
+         */
+        default PrimitiveIterator.OfDouble iterator() {
+            return listIterator();
+        }
+
+        /**
+         * <p>Returns the index of the last occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code lastIndexOfDouble(o)} if {@code o} is {@code Double}, and -1
+         * otherwise.</p>
+         * @param o element to search for
+         * @return the index of the last occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int lastIndexOf(Object o) {
+            return o instanceof Double d ? lastIndexOfDouble(d) : -1;
+        }
+
+        /**
+         * <p>Returns the index of the last occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element. More
+         * formally, returns the highest index {@code i} such that
+         * {@code getDouble(i) == d}, or -1 if there is no such index.</p>
+         * @implSpec <p>The default implementation searches the list backwards
+         * from its end with the list's {@code listIterator}.</p>
+         * @param d element to search for
+         * @return the index of the last occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int lastIndexOfDouble(double d) {
+            var iterator = listIterator(size());
+            while (iterator.hasPrevious())
+                if (iterator.previousDouble() == d)
+                    return iterator.nextIndex();
+            return -1;
+        }
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence).</p>
+         * @implSpec <p>The default implementation returns
+         * {@code listIterator(0)}.</p>
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence)
+         */
+        default PrimitiveListIterator.OfDouble listIterator() {
+            return listIterator(0);
+        }
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence), starting at the specified position in the
+         * list.</p>
+         * @param index index of the first element to be returned from the list
+         *              iterator (by a call to {@code nextDouble})
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence), starting at the specified position in the list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        PrimitiveListIterator.OfDouble listIterator(int index);
+
+        /**
+         * <p>Returns a possibly parallel {@code DoubleStream} with this list as its
+         * source. It is allowable for this method to return a sequential
+         * stream.</p>
+         * @implSpec <p>The default implementation creates a parallel
+         * {@code DoubleStream} from the list's {@code Spliterator.OfDouble}.</p>
+         * @return a possibly parallel {@code DoubleStream} over the elements in
+         * this list
+         */
+        default DoubleStream parallelPrimitiveStream() {
+            return StreamSupport.doubleStream(spliterator(), true);
+        }
+
+        /**
+         * <p>Returns a sequential {@code DoubleStream} with this list as its
+         * source.</p>
+         * @implSpec <p>The default implementation creates a sequential
+         * {@code DoubleStream} from the list's {@code Spliterator.OfDouble}.</p>
+         * @return a sequential {@code DoubleStream} over the elements in this list
+         */
+        default DoubleStream primitiveStream() {
+            return StreamSupport.doubleStream(spliterator(), false);
+        }
+
+        /**
+         * <p>Removes the element at the specified position in this list
+         * (optional operation). Shifts any subsequent elements to the left
+         * (subtracts one from their indices). Returns the element that was
+         * removed from the list.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code removeAt(index)}.</p>
+         * @param index the index of the element to be removed
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         * @see #removeAt(int)
+         */
+        default Double remove(int index) {
+            return removeAt(index);
+        }
+
+        /**
+         * <p>Removes the first occurrence of the specified element from this
+         * list, if it is present (optional operation). If this list does not
+         * contain the element, it is unchanged.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param o element to be removed from this list, if present
+         * @return {@code true} if this list contained the specified element
+         * @throws ClassCastException if the type of the specified element is
+         * incompatible with this list (optional)
+         * @throws NullPointerException if the specified element is null
+         * (optional)
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @see #removeDouble(double)
+         */
+        default boolean remove(Object o) {
+            return PrimitiveCollection.OfDouble.super.remove(o);
+        }
+
+        /**
+         * <p>Removes from this list all of its elements that are contained in
+         * the specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param c collection containing elements to be removed from this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code removeAll}
+         * operation is not supported by this list
+         * @throws ClassCastException if the class of an element of this list is
+         * incompatible with the specified collection (optional)
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean removeAll(Collection<?> c) {
+            return PrimitiveCollection.OfDouble.super.removeAll(c);
+        }
+
+        /**
+         * <p>Removes from this list all of its elements that are contained in
+         * the specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param c collection containing elements to be removed from this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code removeAll}
+         * operation is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean removeAll(PrimitiveCollection.OfDouble c) {
+            return PrimitiveCollection.OfDouble.super.removeAll(c);
+        }
+
+        /**
+         * <p>Removes the element at the specified position in this list
+         * (optional operation). Shifts any subsequent elements to the left
+         * (subtracts one from their indices). Returns the element that was
+         * removed from the list.</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index the index of the element to be removed
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default double removeAt(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Replaces each element of this list with the result of applying the
+         * operator to that element. Errors or runtime exceptions thrown by the
+         * operator are relayed to the caller.</p>
+         * @implSpec <p>The default implementation is equivalent to, for this
+         * {@code list}:</p>
+         * <pre>{@code
+         *     var li = list.listIterator();
+         *     while (li.hasNext()) {
+         *         li.setDouble(operator.applyAsDouble(li.nextDouble()));
+         *     }
+         * }</pre>
+         * @param operator the operator to apply to each element
+         * @throws UnsupportedOperationException if this list is unmodifiable
+         * @throws NullPointerException if the specified operator is null
+         */
+        default void replaceAllDouble(DoubleUnaryOperator operator) {
+            Objects.requireNonNull(operator);
+            var iterator = listIterator();
+            while (iterator.hasNext())
+                iterator.setDouble(operator.applyAsDouble(iterator.nextDouble()));
+        }
+
+        /**
+         * <p>Retains only the elements in this list that are contained in the
+         * specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param c collection containing elements to be retained in this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code retainAll}
+         * operation is not supported by this list
+         * @throws ClassCastException if the class of an element of this list is
+         * incompatible with the specified collection (optional)
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean retainAll(Collection<?> c) {
+            return PrimitiveCollection.OfDouble.super.retainAll(c);
+        }
+
+        /**
+         * <p>Retains only the elements in this list that are contained in the
+         * specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @param c collection containing elements to be retained in this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code retainAll}
+         * operation is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean retainAll(PrimitiveCollection.OfDouble c) {
+            return PrimitiveCollection.OfDouble.super.retainAll(c);
+        }
+
+        /**
+         * <p>Replaces the element at the specified position in this list with
+         * the specified element (optional operation).</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code setDouble(index, element.doubleValue())}.</p>
+         * @param index index of the element to replace
+         * @param element element to be stored at the specified position
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code set} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default Double set(int index, Double element) {
+            return setDouble(index, element);
+        }
+
+        /**
+         * <p>Replaces the element at the specified position in this list with
+         * the specified element (optional operation).</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index index of the element to replace
+         * @param d element to be stored at the specified position
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code set} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default double setDouble(int index, double d) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Creates a {@code Spliterator.OfDouble} over the elements in this
+         * list.</p>
+         * <p>The {@code Spliterator.OfDouble} reports {@link Spliterator#SIZED}
+         * and {@link Spliterator#ORDERED}. Implementations should document the
+         * reporting of additional characteristic values.</p>
+         * @implSpec <p>The default implementation creates a
+         * <em>late-binding</em> spliterator from the list's
+         * {@code PrimitiveIterator.OfDouble}. The spliterator inherits the
+         * <em>fail-fast</em> properties of the list's iterator.</p>
+         * @implNote <p>The created {@code Spliterator.OfDouble} additionally
+         * reports {@link Spliterator#SUBSIZED}.</p>
+         * @return a {@code Spliterator.OfDouble} over the elements in this list
+         */
+        default Spliterator.OfDouble spliterator() {
+            return PrimitiveCollections.doubleSpliterator(this, Spliterator.ORDERED);
+        }
+
+        /**
+         * <p>Returns a view of the portion of this list between the specified
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. (If
+         * {@code fromIndex} and {@code toIndex} are equal, the returned list
+         * is empty.) The returned list is backed by this list, so
+         * non-structural changes in the returned list are reflected in this
+         * list, and vice-versa.</p>
+         * <p>The semantics of the list returned by this method become undefined
+         * if the backing list (i.e., this list) is <em>structurally
+         * modified</em> in any way other than via the returned list.</p>
+         * @param fromIndex low endpoint (inclusive) of the subList
+         * @param toIndex high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException for an illegal endpoint index value
+         * ({@code fromIndex < 0 || toIndex > size || fromIndex > toIndex})
+         */
+        PrimitiveList.OfDouble subList(int fromIndex, int toIndex);
+
+        /**
+         * <p>Returns an array containing all of the elements in this list in
+         * proper sequence (from first to last element).</p>
+         * <p>The returned array will be "safe" in that no references to it are
+         * maintained by this list. (In other words, this method must allocate a
+         * new array even if this list is backed by an array). The caller is
+         * thus free to modify the returned array.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfDouble}.</p>
+         * @return an array containing all of the elements in this list in
+         * proper sequence
+         */
+        default double[] toPrimitiveArray() {
+            return PrimitiveCollection.OfDouble.super.toPrimitiveArray();
+        }
+    }
+
+    /**
+     * <p>A List specialized for {@code int} values.</p>
+     */
+    @PrereleaseContent
+    interface OfInt extends PrimitiveList<Integer,int[],IntConsumer,
+            IntPredicate,Spliterator.OfInt,IntStream,
+            PrimitiveCollection.OfInt>, PrimitiveCollection.OfInt {
+        /**
+         * <p>Appends the specified element to the end of this list (optional
+         * operation).</p>
+         * <p>Because this method takes boxed values, reliance on it may
+         * eliminate any performance advantage obtained by using a primitive
+         * collection; where possible, users may wish to utilize the
+         * {@link #addInt(int)} method instead.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param t element to be appended to this list
+         * @return {@code true} (as specified by {@link Collection#add})
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of this element
+         * prevents it from being added to this list
+         */
+        default boolean add(Integer t) {
+            return PrimitiveCollection.OfInt.super.add(t);
+        }
+
+        /**
+         * <p>Inserts the specified element at the specified position in this
+         * list (optional operation). Shifts the element currently at that
+         * position (if any) and any subsequent elements to the right (adds one
+         * to their indices).</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code addInt(index, element.intValue())}.</p>
+         * @param index index at which the specified element is to be inserted
+         * @param element element to be inserted
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default void add(int index, Integer element) {
+            addInt(index, element);
+        }
+
+        /**
+         * <p>Appends all of the elements in the specified collection to the end
+         * of this list, in the order that they are returned by the specified
+         * collection's iterator (optional operation). The behavior of this
+         * operation is undefined if the specified collection is modified while
+         * the operation is in progress.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements, or if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @see #addAll(PrimitiveCollection.OfInt)
+         */
+        default boolean addAll(Collection<? extends Integer> c) {
+            return PrimitiveCollection.OfInt.super.addAll(c);
+        }
+
+        /**
+         * <p>Appends all of the elements in the specified collection to the end
+         * of this list, in the order that they are returned by the specified
+         * collection's iterator (optional operation). The behavior of this
+         * operation is undefined if the specified collection is modified while
+         * the operation is in progress.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @see #addAll(Collection)
+         */
+        default boolean addAll(PrimitiveCollection.OfInt c) {
+            return PrimitiveCollection.OfInt.super.addAll(c);
+        }
+
+        /**
+         * <p>Inserts all of the elements in the specified collection into this
+         * list at the specified position (optional operation). Shifts the
+         * element currently at that position (if any) and any subsequent
+         * elements to the right (increases their indices). The new elements
+         * will appear in this list in the order that they are returned by the
+         * specified collection's iterator.</p>
+         * @implSpec <p>If the specified collection is a
+         * {@code PrimitiveCollection.OfInt}, the default implementation calls
+         * {@link #addAll(int, PrimitiveCollection.OfInt)}; otherwise, it
+         * inserts each unboxed element in turn with
+         * {@link #addInt(int, int)}.</p>
+         * @param index index at which to insert the first element from the
+         *              specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements, or if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default boolean addAll(int index, Collection<? extends Integer> c) {
+            if (c instanceof PrimitiveCollection.OfInt coll)
+                return addAll(index, coll);
+            Objects.checkIndex(index, size() + 1);
+            var changed = false;
+            for (Integer t : c) {
+                addInt(index++, t);
+                changed = true;
+            }
+            return changed;
+        }
+
+        /**
+         * <p>Inserts all of the elements in the specified collection into this
+         * list at the specified position (optional operation). Shifts the
+         * element currently at that position (if any) and any subsequent
+         * elements to the right (increases their indices). The new elements
+         * will appear in this list in the order that they are returned by the
+         * specified collection's iterator.</p>
+         * @implSpec <p>The default implementation copies the specified
+         * collection into an array with {@code toPrimitiveArray}, then inserts
+         * each element of the array in turn with {@link #addInt(int, int)}.</p>
+         * @param index index at which to insert the first element from the
+         *              specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default boolean addAll(int index, PrimitiveCollection.OfInt c) {
+            Objects.checkIndex(index, size() + 1);
+            var a = c.toPrimitiveArray();
+            for (int e : a)
+                addInt(index++, e);
+            return a.length != 0;
+        }
+
+        /**
+         * <p>Appends the specified element to the end of this list (optional
+         * operation).</p>
+         * @implSpec <p>The default implementation calls
+         * {@code addInt(size(), i)} and returns {@code true}.</p>
+         * @param i element to be appended to this list
+         * @return {@code true} (as specified by {@link Collection#add})
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of this element
+         * prevents it from being added to this list
+         */
+        default boolean addInt(int i) {
+            addInt(size(), i);
+            return true;
+        }
+
+        /**
+         * <p>Inserts the specified element at the specified position in this
+         * list (optional operation). Shifts the element currently at that
+         * position (if any) and any subsequent elements to the right (adds one
+         * to their indices).</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index index at which the specified element is to be inserted
+         * @param i element to be inserted
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default void addInt(int index, int i) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains the specified element.
+         * More formally, returns {@code true} if and only if this list contains
+         * an element {@code e} such that {@code Objects.equals(o, e)}.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param o element whose presence in this list is to be tested
+         * @return {@code true} if this list contains the specified element
+         * @throws ClassCastException if the type of the specified element is
+         * incompatible with this list (optional)
+         * @throws NullPointerException if the specified element is null
+         * (optional)
+         */
+        default boolean contains(Object o) {
+            return PrimitiveCollection.OfInt.super.contains(o);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains all of the elements of
+         * the specified collection.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param c collection to be checked for containment in this list
+         * @return {@code true} if this list contains all of the elements of the
+         * specified collection
+         * @throws ClassCastException if the types of one or more elements in the
+         * specified collection are incompatible with this list (optional)
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements (optional), or if the specified collection is
+         * null
+         * @see #containsAll(PrimitiveCollection.OfInt)
+         */
+        default boolean containsAll(Collection<?> c) {
+            return PrimitiveCollection.OfInt.super.containsAll(c);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains all of the elements of
+         * the specified collection.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param c collection to be checked for containment in this list
+         * @return {@code true} if this list contains all of the elements of the
+         * specified collection
+         * @throws NullPointerException if the specified collection is null
+         * @see #containsAll(Collection)
+         */
+        default boolean containsAll(PrimitiveCollection.OfInt c) {
+            return PrimitiveCollection.OfInt.super.containsAll(c);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains the specified element.
+         * More formally, returns {@code true} if and only if this list contains
+         * an element {@code e} such that {@code i == e}.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code indexOfInt(i) >= 0}.</p>
+         * @param i element whose presence in this list is to be tested
+         * @return {@code true} if this list contains the specified element
+         */
+        default boolean containsInt(int i) {
+            return indexOfInt(i) >= 0;
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.</p>
+         * <p>Because this method returns boxed values, reliance on it may
+         * eliminate any performance advantage obtained by using a primitive
+         * collection; where possible, users may wish to utilize the
+         * {@link #getInt(int)} method instead.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code getInt(index)}.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default Integer get(int index) {
+            return getInt(index);
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        int getInt(int index);
+
+        /**
+         * <p>Returns the index of the first occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code indexOfInt(o)} if {@code o} is {@code Integer}, and -1
+         * otherwise.</p>
+         * @param o element to search for
+         * @return the index of the first occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int indexOf(Object o) {
+            return o instanceof Integer i ? indexOfInt(i) : -1;
+        }
+
+        /**
+         * <p>Returns the index of the first occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element. More
+         * formally, returns the lowest index {@code i} such that
+         * {@code getInt(i) == i}, or -1 if there is no such index.</p>
+         * @implSpec <p>The default implementation searches the list from its
+         * start with the list's {@code listIterator}.</p>
+         * @param i element to search for
+         * @return the index of the first occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int indexOfInt(int i) {
+            var iterator = listIterator();
+            while (iterator.hasNext())
+                if (iterator.nextInt() == i)
+                    return iterator.previousIndex();
+            return -1;
+        }
+
+        /**
+         * <p>Returns a primitive iterator over the elements in this list in
+         * proper sequence.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code listIterator()}.</p>
+         * @return a primitive iterator over the elements in this list in proper
+         * sequence
+         */
+        default PrimitiveIterator.OfInt iterator() {
+            return listIterator();
+        }
+
+        /**
+         * <p>Returns the index of the last occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code lastIndexOfInt(o)} if {@code o} is {@code Integer}, and -1
+         * otherwise.</p>
+         * @param o element to search for
+         * @return the index of the last occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int lastIndexOf(Object o) {
+            return o instanceof Integer i ? lastIndexOfInt(i) : -1;
+        }
+
+        /**
+         * <p>Returns the index of the last occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element. More
+         * formally, returns the highest index {@code i} such that
+         * {@code getInt(i) == i}, or -1 if there is no such index.</p>
+         * @implSpec <p>The default implementation searches the list backwards
+         * from its end with the list's {@code listIterator}.</p>
+         * @param i element to search for
+         * @return the index of the last occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int lastIndexOfInt(int i) {
+            var iterator = listIterator(size());
+            while (iterator.hasPrevious())
+                if (iterator.previousInt() == i)
+                    return iterator.nextIndex();
+            return -1;
+        }
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence).</p>
+         * @implSpec <p>The default implementation returns
+         * {@code listIterator(0)}.</p>
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence)
+         */
+        default PrimitiveListIterator.OfInt listIterator() {
+            return listIterator(0);
+        }
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence), starting at the specified position in the
+         * list.</p>
+         * @param index index of the first element to be returned from the list
+         *              iterator (by a call to {@code nextInt})
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence), starting at the specified position in the list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        PrimitiveListIterator.OfInt listIterator(int index);
+
+        /**
+         * <p>Returns a possibly parallel {@code IntStream} with this list as its
+         * source. It is allowable for this method to return a sequential
+         * stream.</p>
+         * @implSpec <p>The default implementation creates a parallel
+         * {@code IntStream} from the list's {@code Spliterator.OfInt}.</p>
+         * @return a possibly parallel {@code IntStream} over the elements in
+         * this list
+         */
+        default IntStream parallelPrimitiveStream() {
+            return StreamSupport.intStream(spliterator(), true);
+        }
+
+        /**
+         * <p>Returns a sequential {@code IntStream} with this list as its
+         * source.</p>
+         * @implSpec <p>The default implementation creates a sequential
+         * {@code IntStream} from the list's {@code Spliterator.OfInt}.</p>
+         * @return a sequential {@code IntStream} over the elements in this list
+         */
+        default IntStream primitiveStream() {
+            return StreamSupport.intStream(spliterator(), false);
+        }
+
+        /**
+         * <p>Removes the element at the specified position in this list
+         * (optional operation). Shifts any subsequent elements to the left
+         * (subtracts one from their indices). Returns the element that was
+         * removed from the list.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code removeAt(index)}.</p>
+         * @param index the index of the element to be removed
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         * @see #removeAt(int)
+         */
+        default Integer remove(int index) {
+            return removeAt(index);
+        }
+
+        /**
+         * <p>Removes the first occurrence of the specified element from this
+         * list, if it is present (optional operation). If this list does not
+         * contain the element, it is unchanged.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param o element to be removed from this list, if present
+         * @return {@code true} if this list contained the specified element
+         * @throws ClassCastException if the type of the specified element is
+         * incompatible with this list (optional)
+         * @throws NullPointerException if the specified element is null
+         * (optional)
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @see #removeInt(int)
+         */
+        default boolean remove(Object o) {
+            return PrimitiveCollection.OfInt.super.remove(o);
+        }
+
+        /**
+         * <p>Removes from this list all of its elements that are contained in
+         * the specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param c collection containing elements to be removed from this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code removeAll}
+         * operation is not supported by this list
+         * @throws ClassCastException if the class of an element of this list is
+         * incompatible with the specified collection (optional)
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean removeAll(Collection<?> c) {
+            return PrimitiveCollection.OfInt.super.removeAll(c);
+        }
+
+        /**
+         * <p>Removes from this list all of its elements that are contained in
+         * the specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param c collection containing elements to be removed from this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code removeAll}
+         * operation is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean removeAll(PrimitiveCollection.OfInt c) {
+            return PrimitiveCollection.OfInt.super.removeAll(c);
+        }
+
+        /**
+         * <p>Removes the element at the specified position in this list
+         * (optional operation). Shifts any subsequent elements to the left
+         * (subtracts one from their indices). Returns the element that was
+         * removed from the list.</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index the index of the element to be removed
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default int removeAt(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Replaces each element of this list with the result of applying the
+         * operator to that element. Errors or runtime exceptions thrown by the
+         * operator are relayed to the caller.</p>
+         * @implSpec <p>The default implementation is equivalent to, for this
+         * {@code list}:</p>
+         * <pre>{@code
+         *     var li = list.listIterator();
+         *     while (li.hasNext()) {
+         *         li.setInt(operator.applyAsInt(li.nextInt()));
+         *     }
+         * }</pre>
+         * @param operator the operator to apply to each element
+         * @throws UnsupportedOperationException if this list is unmodifiable
+         * @throws NullPointerException if the specified operator is null
+         */
+        default void replaceAllInt(IntUnaryOperator operator) {
+            Objects.requireNonNull(operator);
+            var iterator = listIterator();
+            while (iterator.hasNext())
+                iterator.setInt(operator.applyAsInt(iterator.nextInt()));
+        }
+
+        /**
+         * <p>Retains only the elements in this list that are contained in the
+         * specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param c collection containing elements to be retained in this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code retainAll}
+         * operation is not supported by this list
+         * @throws ClassCastException if the class of an element of this list is
+         * incompatible with the specified collection (optional)
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean retainAll(Collection<?> c) {
+            return PrimitiveCollection.OfInt.super.retainAll(c);
+        }
+
+        /**
+         * <p>Retains only the elements in this list that are contained in the
+         * specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @param c collection containing elements to be retained in this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code retainAll}
+         * operation is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean retainAll(PrimitiveCollection.OfInt c) {
+            return PrimitiveCollection.OfInt.super.retainAll(c);
+        }
+
+        /**
+         * <p>Replaces the element at the specified position in this list with
+         * the specified element (optional operation).</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code setInt(index, element.intValue())}.</p>
+         * @param index index of the element to replace
+         * @param element element to be stored at the specified position
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code set} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default Integer set(int index, Integer element) {
+            return setInt(index, element);
+        }
+
+        /**
+         * <p>Replaces the element at the specified position in this list with
+         * the specified element (optional operation).</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index index of the element to replace
+         * @param i element to be stored at the specified position
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code set} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default int setInt(int index, int i) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Creates a {@code Spliterator.OfInt} over the elements in this
+         * list.</p>
+         * <p>The {@code Spliterator.OfInt} reports {@link Spliterator#SIZED}
+         * and {@link Spliterator#ORDERED}. Implementations should document the
+         * reporting of additional characteristic values.</p>
+         * @implSpec <p>The default implementation creates a
+         * <em>late-binding</em> spliterator from the list's
+         * {@code PrimitiveIterator.OfInt}. The spliterator inherits the
+         * <em>fail-fast</em> properties of the list's iterator.</p>
+         * @implNote <p>The created {@code Spliterator.OfInt} additionally
+         * reports {@link Spliterator#SUBSIZED}.</p>
+         * @return a {@code Spliterator.OfInt} over the elements in this list
+         */
+        default Spliterator.OfInt spliterator() {
+            return PrimitiveCollections.intSpliterator(this, Spliterator.ORDERED);
+        }
+
+        /**
+         * <p>Returns a view of the portion of this list between the specified
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. (If
+         * {@code fromIndex} and {@code toIndex} are equal, the returned list
+         * is empty.) The returned list is backed by this list, so
+         * non-structural changes in the returned list are reflected in this
+         * list, and vice-versa.</p>
+         * <p>The semantics of the list returned by this method become undefined
+         * if the backing list (i.e., this list) is <em>structurally
+         * modified</em> in any way other than via the returned list.</p>
+         * @param fromIndex low endpoint (inclusive) of the subList
+         * @param toIndex high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException for an illegal endpoint index value
+         * ({@code fromIndex < 0 || toIndex > size || fromIndex > toIndex})
+         */
+        PrimitiveList.OfInt subList(int fromIndex, int toIndex);
+
+        /**
+         * <p>Returns an array containing all of the elements in this list in
+         * proper sequence (from first to last element).</p>
+         * <p>The returned array will be "safe" in that no references to it are
+         * maintained by this list. (In other words, this method must allocate a
+         * new array even if this list is backed by an array). The caller is
+         * thus free to modify the returned array.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfInt}.</p>
+         * @return an array containing all of the elements in this list in
+         * proper sequence
+         */
+        default int[] toPrimitiveArray() {
+            return PrimitiveCollection.OfInt.super.toPrimitiveArray();
+        }
+    }
+
+    /**
+     * <p>A List specialized for {@code long} values.</p>
+     */
+    @PrereleaseContent
+    interface OfLong extends PrimitiveList<Long,long[],LongConsumer,
+            LongPredicate,Spliterator.OfLong,LongStream,
+            PrimitiveCollection.OfLong>, PrimitiveCollection.OfLong {
+        /**
+         * <p>Appends the specified element to the end of this list (optional
+         * operation).</p>
+         * <p>Because this method takes boxed values, reliance on it may
+         * eliminate any performance advantage obtained by using a primitive
+         * collection; where possible, users may wish to utilize the
+         * {@link #addLong(long)} method instead.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param t element to be appended to this list
+         * @return {@code true} (as specified by {@link Collection#add})
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of this element
+         * prevents it from being added to this list
+         */
+        default boolean add(Long t) {
+            return PrimitiveCollection.OfLong.super.add(t);
+        }
+
+        /**
+         * <p>Inserts the specified element at the specified position in this
+         * list (optional operation). Shifts the element currently at that
+         * position (if any) and any subsequent elements to the right (adds one
+         * to their indices).</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code addLong(index, element.longValue())}.</p>
+         * @param index index at which the specified element is to be inserted
+         * @param element element to be inserted
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default void add(int index, Long element) {
+            addLong(index, element);
+        }
+
+        /**
+         * <p>Appends all of the elements in the specified collection to the end
+         * of this list, in the order that they are returned by the specified
+         * collection's iterator (optional operation). The behavior of this
+         * operation is undefined if the specified collection is modified while
+         * the operation is in progress.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements, or if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @see #addAll(PrimitiveCollection.OfLong)
+         */
+        default boolean addAll(Collection<? extends Long> c) {
+            return PrimitiveCollection.OfLong.super.addAll(c);
+        }
+
+        /**
+         * <p>Appends all of the elements in the specified collection to the end
+         * of this list, in the order that they are returned by the specified
+         * collection's iterator (optional operation). The behavior of this
+         * operation is undefined if the specified collection is modified while
+         * the operation is in progress.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @see #addAll(Collection)
+         */
+        default boolean addAll(PrimitiveCollection.OfLong c) {
+            return PrimitiveCollection.OfLong.super.addAll(c);
+        }
+
+        /**
+         * <p>Inserts all of the elements in the specified collection into this
+         * list at the specified position (optional operation). Shifts the
+         * element currently at that position (if any) and any subsequent
+         * elements to the right (increases their indices). The new elements
+         * will appear in this list in the order that they are returned by the
+         * specified collection's iterator.</p>
+         * @implSpec <p>If the specified collection is a
+         * {@code PrimitiveCollection.OfLong}, the default implementation calls
+         * {@link #addAll(int, PrimitiveCollection.OfLong)}; otherwise, it
+         * inserts each unboxed element in turn with
+         * {@link #addLong(int, long)}.</p>
+         * @param index index at which to insert the first element from the
+         *              specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements, or if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default boolean addAll(int index, Collection<? extends Long> c) {
+            if (c instanceof PrimitiveCollection.OfLong coll)
+                return addAll(index, coll);
+            Objects.checkIndex(index, size() + 1);
+            var changed = false;
+            for (Long t : c) {
+                addLong(index++, t);
+                changed = true;
+            }
+            return changed;
+        }
+
+        /**
+         * <p>Inserts all of the elements in the specified collection into this
+         * list at the specified position (optional operation). Shifts the
+         * element currently at that position (if any) and any subsequent
+         * elements to the right (increases their indices). The new elements
+         * will appear in this list in the order that they are returned by the
+         * specified collection's iterator.</p>
+         * @implSpec <p>The default implementation copies the specified
+         * collection into an array with {@code toPrimitiveArray}, then inserts
+         * each element of the array in turn with {@link #addLong(int, long)}.</p>
+         * @param index index at which to insert the first element from the
+         *              specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code addAll} operation
+         * is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         * @throws IllegalArgumentException if some property of an element of the
+         * specified collection prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default boolean addAll(int index, PrimitiveCollection.OfLong c) {
+            Objects.checkIndex(index, size() + 1);
+            var a = c.toPrimitiveArray();
+            for (long e : a)
+                addLong(index++, e);
+            return a.length != 0;
+        }
+
+        /**
+         * <p>Appends the specified element to the end of this list (optional
+         * operation).</p>
+         * @implSpec <p>The default implementation calls
+         * {@code addLong(size(), l)} and returns {@code true}.</p>
+         * @param l element to be appended to this list
+         * @return {@code true} (as specified by {@link Collection#add})
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of this element
+         * prevents it from being added to this list
+         */
+        default boolean addLong(long l) {
+            addLong(size(), l);
+            return true;
+        }
+
+        /**
+         * <p>Inserts the specified element at the specified position in this
+         * list (optional operation). Shifts the element currently at that
+         * position (if any) and any subsequent elements to the right (adds one
+         * to their indices).</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index index at which the specified element is to be inserted
+         * @param l element to be inserted
+         * @throws UnsupportedOperationException if the {@code add} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        default void addLong(int index, long l) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains the specified element.
+         * More formally, returns {@code true} if and only if this list contains
+         * an element {@code e} such that {@code Objects.equals(o, e)}.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param o element whose presence in this list is to be tested
+         * @return {@code true} if this list contains the specified element
+         * @throws ClassCastException if the type of the specified element is
+         * incompatible with this list (optional)
+         * @throws NullPointerException if the specified element is null
+         * (optional)
+         */
+        default boolean contains(Object o) {
+            return PrimitiveCollection.OfLong.super.contains(o);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains all of the elements of
+         * the specified collection.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param c collection to be checked for containment in this list
+         * @return {@code true} if this list contains all of the elements of the
+         * specified collection
+         * @throws ClassCastException if the types of one or more elements in the
+         * specified collection are incompatible with this list (optional)
+         * @throws NullPointerException if the specified collection contains one
+         * or more null elements (optional), or if the specified collection is
+         * null
+         * @see #containsAll(PrimitiveCollection.OfLong)
+         */
+        default boolean containsAll(Collection<?> c) {
+            return PrimitiveCollection.OfLong.super.containsAll(c);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains all of the elements of
+         * the specified collection.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param c collection to be checked for containment in this list
+         * @return {@code true} if this list contains all of the elements of the
+         * specified collection
+         * @throws NullPointerException if the specified collection is null
+         * @see #containsAll(Collection)
+         */
+        default boolean containsAll(PrimitiveCollection.OfLong c) {
+            return PrimitiveCollection.OfLong.super.containsAll(c);
+        }
+
+        /**
+         * <p>Returns {@code true} if this list contains the specified element.
+         * More formally, returns {@code true} if and only if this list contains
+         * an element {@code e} such that {@code l == e}.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code indexOfLong(l) >= 0}.</p>
+         * @param l element whose presence in this list is to be tested
+         * @return {@code true} if this list contains the specified element
+         */
+        default boolean containsLong(long l) {
+            return indexOfLong(l) >= 0;
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.</p>
+         * <p>Because this method returns boxed values, reliance on it may
+         * eliminate any performance advantage obtained by using a primitive
+         * collection; where possible, users may wish to utilize the
+         * {@link #getLong(int)} method instead.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code getLong(index)}.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default Long get(int index) {
+            return getLong(index);
+        }
+
+        /**
+         * <p>Returns the element at the specified position in this list.</p>
+         * @param index index of the element to return
+         * @return the element at the specified position in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        long getLong(int index);
+
+        /**
+         * <p>Returns the index of the first occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code indexOfLong(o)} if {@code o} is {@code Long}, and -1
+         * otherwise.</p>
+         * @param o element to search for
+         * @return the index of the first occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int indexOf(Object o) {
+            return o instanceof Long l ? indexOfLong(l) : -1;
+        }
+
+        /**
+         * <p>Returns the index of the first occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element. More
+         * formally, returns the lowest index {@code i} such that
+         * {@code getLong(i) == l}, or -1 if there is no such index.</p>
+         * @implSpec <p>The default implementation searches the list from its
+         * start with the list's {@code listIterator}.</p>
+         * @param l element to search for
+         * @return the index of the first occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int indexOfLong(long l) {
+            var iterator = listIterator();
+            while (iterator.hasNext())
+                if (iterator.nextLong() == l)
+                    return iterator.previousIndex();
+            return -1;
+        }
+
+        /**
+         * <p>Returns a primitive iterator over the elements in this list in
+         * proper sequence.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code listIterator()}.</p>
+         * @return a primitive iterator over the elements in this list in proper
+         * sequence
+         */
+        default PrimitiveIterator.OfLong iterator() {
+            return listIterator();
+        }
+
+        /**
+         * <p>Returns the index of the last occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code lastIndexOfLong(o)} if {@code o} is {@code Long}, and -1
+         * otherwise.</p>
+         * @param o element to search for
+         * @return the index of the last occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int lastIndexOf(Object o) {
+            return o instanceof Long l ? lastIndexOfLong(l) : -1;
+        }
+
+        /**
+         * <p>Returns the index of the last occurrence of the specified element
+         * in this list, or -1 if this list does not contain the element. More
+         * formally, returns the highest index {@code i} such that
+         * {@code getLong(i) == l}, or -1 if there is no such index.</p>
+         * @implSpec <p>The default implementation searches the list backwards
+         * from its end with the list's {@code listIterator}.</p>
+         * @param l element to search for
+         * @return the index of the last occurrence of the specified element in
+         * this list, or -1 if this list does not contain the element
+         */
+        default int lastIndexOfLong(long l) {
+            var iterator = listIterator(size());
+            while (iterator.hasPrevious())
+                if (iterator.previousLong() == l)
+                    return iterator.nextIndex();
+            return -1;
+        }
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence).</p>
+         * @implSpec <p>The default implementation returns
+         * {@code listIterator(0)}.</p>
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence)
+         */
+        default PrimitiveListIterator.OfLong listIterator() {
+            return listIterator(0);
+        }
+
+        /**
+         * <p>Returns a primitive list iterator over the elements in this list
+         * (in proper sequence), starting at the specified position in the
+         * list.</p>
+         * @param index index of the first element to be returned from the list
+         *              iterator (by a call to {@code nextLong})
+         * @return a primitive list iterator over the elements in this list (in
+         * proper sequence), starting at the specified position in the list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index > size()})
+         */
+        PrimitiveListIterator.OfLong listIterator(int index);
+
+        /**
+         * <p>Returns a possibly parallel {@code LongStream} with this list as its
+         * source. It is allowable for this method to return a sequential
+         * stream.</p>
+         * @implSpec <p>The default implementation creates a parallel
+         * {@code LongStream} from the list's {@code Spliterator.OfLong}.</p>
+         * @return a possibly parallel {@code LongStream} over the elements in
+         * this list
+         */
+        default LongStream parallelPrimitiveStream() {
+            return StreamSupport.longStream(spliterator(), true);
+        }
+
+        /**
+         * <p>Returns a sequential {@code LongStream} with this list as its
+         * source.</p>
+         * @implSpec <p>The default implementation creates a sequential
+         * {@code LongStream} from the list's {@code Spliterator.OfLong}.</p>
+         * @return a sequential {@code LongStream} over the elements in this list
+         */
+        default LongStream primitiveStream() {
+            return StreamSupport.longStream(spliterator(), false);
+        }
+
+        /**
+         * <p>Removes the element at the specified position in this list
+         * (optional operation). Shifts any subsequent elements to the left
+         * (subtracts one from their indices). Returns the element that was
+         * removed from the list.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code removeAt(index)}.</p>
+         * @param index the index of the element to be removed
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         * @see #removeAt(int)
+         */
+        default Long remove(int index) {
+            return removeAt(index);
+        }
+
+        /**
+         * <p>Removes the first occurrence of the specified element from this
+         * list, if it is present (optional operation). If this list does not
+         * contain the element, it is unchanged.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param o element to be removed from this list, if present
+         * @return {@code true} if this list contained the specified element
+         * @throws ClassCastException if the type of the specified element is
+         * incompatible with this list (optional)
+         * @throws NullPointerException if the specified element is null
+         * (optional)
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @see #removeLong(long)
+         */
+        default boolean remove(Object o) {
+            return PrimitiveCollection.OfLong.super.remove(o);
+        }
+
+        /**
+         * <p>Removes from this list all of its elements that are contained in
+         * the specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param c collection containing elements to be removed from this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code removeAll}
+         * operation is not supported by this list
+         * @throws ClassCastException if the class of an element of this list is
+         * incompatible with the specified collection (optional)
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean removeAll(Collection<?> c) {
+            return PrimitiveCollection.OfLong.super.removeAll(c);
+        }
+
+        /**
+         * <p>Removes from this list all of its elements that are contained in
+         * the specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param c collection containing elements to be removed from this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code removeAll}
+         * operation is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean removeAll(PrimitiveCollection.OfLong c) {
+            return PrimitiveCollection.OfLong.super.removeAll(c);
+        }
+
+        /**
+         * <p>Removes the element at the specified position in this list
+         * (optional operation). Shifts any subsequent elements to the left
+         * (subtracts one from their indices). Returns the element that was
+         * removed from the list.</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index the index of the element to be removed
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default long removeAt(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Replaces each element of this list with the result of applying the
+         * operator to that element. Errors or runtime exceptions thrown by the
+         * operator are relayed to the caller.</p>
+         * @implSpec <p>The default implementation is equivalent to, for this
+         * {@code list}:</p>
+         * <pre>{@code
+         *     var li = list.listIterator();
+         *     while (li.hasNext()) {
+         *         li.setLong(operator.applyAsLong(li.nextLong()));
+         *     }
+         * }</pre>
+         * @param operator the operator to apply to each element
+         * @throws UnsupportedOperationException if this list is unmodifiable
+         * @throws NullPointerException if the specified operator is null
+         */
+        default void replaceAllLong(LongUnaryOperator operator) {
+            Objects.requireNonNull(operator);
+            var iterator = listIterator();
+            while (iterator.hasNext())
+                iterator.setLong(operator.applyAsLong(iterator.nextLong()));
+        }
+
+        /**
+         * <p>Retains only the elements in this list that are contained in the
+         * specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param c collection containing elements to be retained in this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code retainAll}
+         * operation is not supported by this list
+         * @throws ClassCastException if the class of an element of this list is
+         * incompatible with the specified collection (optional)
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean retainAll(Collection<?> c) {
+            return PrimitiveCollection.OfLong.super.retainAll(c);
+        }
+
+        /**
+         * <p>Retains only the elements in this list that are contained in the
+         * specified collection (optional operation).</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @param c collection containing elements to be retained in this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws UnsupportedOperationException if the {@code retainAll}
+         * operation is not supported by this list
+         * @throws NullPointerException if the specified collection is null
+         */
+        default boolean retainAll(PrimitiveCollection.OfLong c) {
+            return PrimitiveCollection.OfLong.super.retainAll(c);
+        }
+
+        /**
+         * <p>Replaces the element at the specified position in this list with
+         * the specified element (optional operation).</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@code setLong(index, element.longValue())}.</p>
+         * @param index index of the element to replace
+         * @param element element to be stored at the specified position
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code set} operation is
+         * not supported by this list
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default Long set(int index, Long element) {
+            return setLong(index, element);
+        }
+
+        /**
+         * <p>Replaces the element at the specified position in this list with
+         * the specified element (optional operation).</p>
+         * @implSpec <p>The default implementation always throws an
+         * {@code UnsupportedOperationException}.</p>
+         * @param index index of the element to replace
+         * @param l element to be stored at the specified position
+         * @return the element previously at the specified position
+         * @throws UnsupportedOperationException if the {@code set} operation is
+         * not supported by this list
+         * @throws IllegalArgumentException if some property of the specified
+         * element prevents it from being added to this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * ({@code index < 0 || index >= size()})
+         */
+        default long setLong(int index, long l) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * <p>Creates a {@code Spliterator.OfLong} over the elements in this
+         * list.</p>
+         * <p>The {@code Spliterator.OfLong} reports {@link Spliterator#SIZED}
+         * and {@link Spliterator#ORDERED}. Implementations should document the
+         * reporting of additional characteristic values.</p>
+         * @implSpec <p>The default implementation creates a
+         * <em>late-binding</em> spliterator from the list's
+         * {@code PrimitiveIterator.OfLong}. The spliterator inherits the
+         * <em>fail-fast</em> properties of the list's iterator.</p>
+         * @implNote <p>The created {@code Spliterator.OfLong} additionally
+         * reports {@link Spliterator#SUBSIZED}.</p>
+         * @return a {@code Spliterator.OfLong} over the elements in this list
+         */
+        default Spliterator.OfLong spliterator() {
+            return PrimitiveCollections.longSpliterator(this, Spliterator.ORDERED);
+        }
+
+        /**
+         * <p>Returns a view of the portion of this list between the specified
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. (If
+         * {@code fromIndex} and {@code toIndex} are equal, the returned list
+         * is empty.) The returned list is backed by this list, so
+         * non-structural changes in the returned list are reflected in this
+         * list, and vice-versa.</p>
+         * <p>The semantics of the list returned by this method become undefined
+         * if the backing list (i.e., this list) is <em>structurally
+         * modified</em> in any way other than via the returned list.</p>
+         * @param fromIndex low endpoint (inclusive) of the subList
+         * @param toIndex high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException for an illegal endpoint index value
+         * ({@code fromIndex < 0 || toIndex > size || fromIndex > toIndex})
+         */
+        PrimitiveList.OfLong subList(int fromIndex, int toIndex);
+
+        /**
+         * <p>Returns an array containing all of the elements in this list in
+         * proper sequence (from first to last element).</p>
+         * <p>The returned array will be "safe" in that no references to it are
+         * maintained by this list. (In other words, this method must allocate a
+         * new array even if this list is backed by an array). The caller is
+         * thus free to modify the returned array.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveCollection.OfLong}.</p>
+         * @return an array containing all of the elements in this list in
+         * proper sequence
+         */
+        default long[] toPrimitiveArray() {
+            return PrimitiveCollection.OfLong.super.toPrimitiveArray();
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * <p>A primitive specialization of {@link ListIterator}, which traverses a
+ * {@link PrimitiveList} in either direction, and may modify it during
+ * iteration, without boxing its elements. Specialized subtypes are provided
+ * for {@code int}, {@code long} and {@code double} values.</p>
+ * <p>As with {@code PrimitiveIterator}, the boxed methods inherited from
+ * {@code ListIterator} are implemented in terms of the primitive ones; to
+ * avoid boxing, the primitive methods should be used. For example,
+ * {@link OfInt#previousInt()} and {@link OfInt#setInt(int)} should be used in
+ * favor of {@link OfInt#previous()} and {@link OfInt#set(Integer)}.</p>
+ * @param <T> the boxed type of elements returned by this iterator
+ * @param <T_CONS> the type of primitive consumer
+ * @see PrimitiveList#listIterator()
+ * @see ListIterator
+ */
+@PrereleaseContent
+public interface PrimitiveListIterator<T,T_CONS>
+        extends PrimitiveIterator<T,T_CONS>, ListIterator<T> {
+
+    /**
+     * <p>A {@code ListIterator} specialized for {@code double} values.</p>
+     */
+    @PrereleaseContent
+    interface OfDouble extends PrimitiveListIterator<Double,DoubleConsumer>,
+            PrimitiveIterator.OfDouble {
+        /**
+         * <p>Inserts the specified element into the list (optional
+         * operation), immediately before the element that would be returned by
+         * {@link #next()}, if any, and after the element that would be
+         * returned by {@link #previous()}, if any.</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code addDouble(t.doubleValue())}.</p>
+         * @param t the element to insert
+         * @throws UnsupportedOperationException if the {@code add} method is
+         * not supported by this list iterator
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some aspect of this element
+         * prevents it from being added to this list
+         */
+        default void add(Double t) {
+            addDouble(t);
+        }
+
+        /**
+         * <p>Inserts the specified element into the list (optional
+         * operation), immediately before the element that would be returned by
+         * {@link #nextDouble()}, if any, and after the element that would be
+         * returned by {@link #previousDouble()}, if any. A subsequent call to
+         * {@code nextDouble} is unaffected, and a subsequent call to
+         * {@code previousDouble} returns the new element.</p>
+         * @param d the element to insert
+         * @throws UnsupportedOperationException if the {@code add} method is
+         * not supported by this list iterator
+         * @throws IllegalArgumentException if some aspect of this element
+         * prevents it from being added to this list
+         */
+        void addDouble(double d);
+
+        /**
+         * <p>Returns the next element in the list and advances the cursor
+         * position.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveIterator.OfDouble}, and boxes the result of calling
+         * {@link #nextDouble()}.</p>
+         * @return the next element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * next element
+         */
+        default Double next() {
+            return PrimitiveIterator.OfDouble.super.next();
+        }
+
+        /**
+         * <p>Returns the previous element in the list and moves the cursor
+         * position backwards.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@link #previousDouble()}.</p>
+         * @return the previous element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * previous element
+         */
+        default Double previous() {
+            return previousDouble();
+        }
+
+        /**
+         * <p>Returns the previous element in the list and moves the cursor
+         * position backwards. Alternating calls to {@code nextDouble} and
+         * {@code previousDouble} return the same element repeatedly.</p>
+         * @return the previous element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * previous element
+         */
+        double previousDouble();
+
+        /**
+         * <p>Replaces the last element returned by {@link #next()} or
+         * {@link #previous()} with the specified element (optional
+         * operation).</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code setDouble(t.doubleValue())}.</p>
+         * @param t the element with which to replace the last element returned
+         * @throws UnsupportedOperationException if the {@code set} operation
+         * is not supported by this list iterator
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalStateException if neither {@code next} nor
+         * {@code previous} have been called, or {@code remove} or {@code add}
+         * have been called after the last call to {@code next} or
+         * {@code previous}
+         */
+        default void set(Double t) {
+            setDouble(t);
+        }
+
+        /**
+         * <p>Replaces the last element returned by {@link #nextDouble()} or
+         * {@link #previousDouble()} with the specified element (optional
+         * operation). This call can be made only if neither {@code remove}
+         * nor {@code addDouble} have been called after the last call to
+         * {@code nextDouble} or {@code previousDouble}.</p>
+         * @param d the element with which to replace the last element
+         *          returned
+         * @throws UnsupportedOperationException if the {@code set} operation
+         * is not supported by this list iterator
+         * @throws IllegalArgumentException if some aspect of the specified
+         * element prevents it from being added to this list
+         * @throws IllegalStateException if neither {@code nextDouble} nor
+         * {@code previousDouble} have been called, or {@code remove} or
+         * {@code addDouble} have been called after the last call to
+         * {@code nextDouble} or {@code previousDouble}
+         */
+        void setDouble(double d);
+    }
+
+    /**
+     * <p>A {@code ListIterator} specialized for {@code int} values.</p>
+     */
+    @PrereleaseContent
+    interface OfInt extends PrimitiveListIterator<Integer,IntConsumer>,
+            PrimitiveIterator.OfInt {
+        /**
+         * <p>Inserts the specified element into the list (optional
+         * operation), immediately before the element that would be returned by
+         * {@link #next()}, if any, and after the element that would be
+         * returned by {@link #previous()}, if any.</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code addInt(t.intValue())}.</p>
+         * @param t the element to insert
+         * @throws UnsupportedOperationException if the {@code add} method is
+         * not supported by this list iterator
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some aspect of this element
+         * prevents it from being added to this list
+         */
+        default void add(Integer t) {
+            addInt(t);
+        }
+
+        /**
+         * <p>Inserts the specified element into the list (optional
+         * operation), immediately before the element that would be returned by
+         * {@link #nextInt()}, if any, and after the element that would be
+         * returned by {@link #previousInt()}, if any. A subsequent call to
+         * {@code nextInt} is unaffected, and a subsequent call to
+         * {@code previousInt} returns the new element.</p>
+         * @param i the element to insert
+         * @throws UnsupportedOperationException if the {@code add} method is
+         * not supported by this list iterator
+         * @throws IllegalArgumentException if some aspect of this element
+         * prevents it from being added to this list
+         */
+        void addInt(int i);
+
+        /**
+         * <p>Returns the next element in the list and advances the cursor
+         * position.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveIterator.OfInt}, and boxes the result of calling
+         * {@link #nextInt()}.</p>
+         * @return the next element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * next element
+         */
+        default Integer next() {
+            return PrimitiveIterator.OfInt.super.next();
+        }
+
+        /**
+         * <p>Returns the previous element in the list and moves the cursor
+         * position backwards.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@link #previousInt()}.</p>
+         * @return the previous element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * previous element
+         */
+        default Integer previous() {
+            return previousInt();
+        }
+
+        /**
+         * <p>Returns the previous element in the list and moves the cursor
+         * position backwards. Alternating calls to {@code nextInt} and
+         * {@code previousInt} return the same element repeatedly.</p>
+         * @return the previous element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * previous element
+         */
+        int previousInt();
+
+        /**
+         * <p>Replaces the last element returned by {@link #next()} or
+         * {@link #previous()} with the specified element (optional
+         * operation).</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code setInt(t.intValue())}.</p>
+         * @param t the element with which to replace the last element returned
+         * @throws UnsupportedOperationException if the {@code set} operation
+         * is not supported by this list iterator
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalStateException if neither {@code next} nor
+         * {@code previous} have been called, or {@code remove} or {@code add}
+         * have been called after the last call to {@code next} or
+         * {@code previous}
+         */
+        default void set(Integer t) {
+            setInt(t);
+        }
+
+        /**
+         * <p>Replaces the last element returned by {@link #nextInt()} or
+         * {@link #previousInt()} with the specified element (optional
+         * operation). This call can be made only if neither {@code remove}
+         * nor {@code addInt} have been called after the last call to
+         * {@code nextInt} or {@code previousInt}.</p>
+         * @param i the element with which to replace the last element
+         *          returned
+         * @throws UnsupportedOperationException if the {@code set} operation
+         * is not supported by this list iterator
+         * @throws IllegalArgumentException if some aspect of the specified
+         * element prevents it from being added to this list
+         * @throws IllegalStateException if neither {@code nextInt} nor
+         * {@code previousInt} have been called, or {@code remove} or
+         * {@code addInt} have been called after the last call to
+         * {@code nextInt} or {@code previousInt}
+         */
+        void setInt(int i);
+    }
+
+    /**
+     * <p>A {@code ListIterator} specialized for {@code long} values.</p>
+     */
+    @PrereleaseContent
+    interface OfLong extends PrimitiveListIterator<Long,LongConsumer>,
+            PrimitiveIterator.OfLong {
+        /**
+         * <p>Inserts the specified element into the list (optional
+         * operation), immediately before the element that would be returned by
+         * {@link #next()}, if any, and after the element that would be
+         * returned by {@link #previous()}, if any.</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code addLong(t.longValue())}.</p>
+         * @param t the element to insert
+         * @throws UnsupportedOperationException if the {@code add} method is
+         * not supported by this list iterator
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalArgumentException if some aspect of this element
+         * prevents it from being added to this list
+         */
+        default void add(Long t) {
+            addLong(t);
+        }
+
+        /**
+         * <p>Inserts the specified element into the list (optional
+         * operation), immediately before the element that would be returned by
+         * {@link #nextLong()}, if any, and after the element that would be
+         * returned by {@link #previousLong()}, if any. A subsequent call to
+         * {@code nextLong} is unaffected, and a subsequent call to
+         * {@code previousLong} returns the new element.</p>
+         * @param l the element to insert
+         * @throws UnsupportedOperationException if the {@code add} method is
+         * not supported by this list iterator
+         * @throws IllegalArgumentException if some aspect of this element
+         * prevents it from being added to this list
+         */
+        void addLong(long l);
+
+        /**
+         * <p>Returns the next element in the list and advances the cursor
+         * position.</p>
+         * @implSpec <p>The default implementation is inherited from
+         * {@code PrimitiveIterator.OfLong}, and boxes the result of calling
+         * {@link #nextLong()}.</p>
+         * @return the next element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * next element
+         */
+        default Long next() {
+            return PrimitiveIterator.OfLong.super.next();
+        }
+
+        /**
+         * <p>Returns the previous element in the list and moves the cursor
+         * position backwards.</p>
+         * @implSpec <p>The default implementation boxes the result of calling
+         * {@link #previousLong()}.</p>
+         * @return the previous element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * previous element
+         */
+        default Long previous() {
+            return previousLong();
+        }
+
+        /**
+         * <p>Returns the previous element in the list and moves the cursor
+         * position backwards. Alternating calls to {@code nextLong} and
+         * {@code previousLong} return the same element repeatedly.</p>
+         * @return the previous element in the list
+         * @throws java.util.NoSuchElementException if the iteration has no
+         * previous element
+         */
+        long previousLong();
+
+        /**
+         * <p>Replaces the last element returned by {@link #next()} or
+         * {@link #previous()} with the specified element (optional
+         * operation).</p>
+         * @implSpec <p>The default implementation is equivalent to
+         * {@code setLong(t.longValue())}.</p>
+         * @param t the element with which to replace the last element returned
+         * @throws UnsupportedOperationException if the {@code set} operation
+         * is not supported by this list iterator
+         * @throws NullPointerException if the specified element is null
+         * @throws IllegalStateException if neither {@code next} nor
+         * {@code previous} have been called, or {@code remove} or {@code add}
+         * have been called after the last call to {@code next} or
+         * {@code previous}
+         */
+        default void set(Long t) {
+            setLong(t);
+        }
+
+        /**
+         * <p>Replaces the last element returned by {@link #nextLong()} or
+         * {@link #previousLong()} with the specified element (optional
+         * operation). This call can be made only if neither {@code remove}
+         * nor {@code addLong} have been called after the last call to
+         * {@code nextLong} or {@code previousLong}.</p>
+         * @param l the element with which to replace the last element
+         *          returned
+         * @throws UnsupportedOperationException if the {@code set} operation
+         * is not supported by this list iterator
+         * @throws IllegalArgumentException if some aspect of the specified
+         * element prevents it from being added to this list
+         * @throws IllegalStateException if neither {@code nextLong} nor
+         * {@code previousLong} have been called, or {@code remove} or
+         * {@code addLong} have been called after the last call to
+         * {@code nextLong} or {@code previousLong}
+         */
+        void setLong(long l);
+    }
+}
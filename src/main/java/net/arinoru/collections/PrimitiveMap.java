@@ -0,0 +1,1032 @@
+package net.arinoru.collections;
+
+import net.arinoru.function.IntIntConsumer;
+import net.arinoru.function.IntLongConsumer;
+import net.arinoru.function.LongLongConsumer;
+import net.arinoru.function.LongObjConsumer;
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>A base type for primitive specializations of {@code Map}, whose keys are
+ * primitive values. Specialized subtypes are provided for {@code int} keys
+ * with {@code int} or {@code long} values, and for {@code long} keys with
+ * {@code long} or object values.</p>
+ * <p>The specialized subtypes declare primitive-based overloads of the
+ * {@code Map} methods which take keys, such as
+ * {@link IntToInt#containsKey(int)}, {@link IntToInt#get(int)},
+ * {@link IntToInt#put(int, int)} and {@link IntToInt#remove(int)}; when called
+ * with primitive arguments, these are selected in preference to the boxed
+ * methods inherited from {@code Map}, which are implemented in terms of them.
+ * As a primitive value cannot be null, the primitive methods which return a
+ * value return zero where the boxed methods would return {@code null}, and
+ * {@code containsKey} must be used to tell an absent key from a key mapped to
+ * zero.</p>
+ * <p>The {@link #keySet()} of a primitive map is a {@link PrimitiveSet}, and
+ * the {@link #values()} of a map with primitive values is a
+ * {@link PrimitiveCollection}, so that the keys and values can be traversed
+ * without boxing. The {@link #entrySet()} is a set of boxed entries, and is
+ * provided for compatibility with code which expects a {@code Map}.</p>
+ * @param <K> the boxed type of keys maintained by this map
+ * @param <V> the type of mapped values, boxed if they are primitive
+ * @see Map
+ * @see PrimitiveCollection
+ */
+@PrereleaseContent
+public interface PrimitiveMap<K,V> extends Map<K,V> {
+    /**
+     * <p>Returns {@code true} if this map contains no key-value mappings.</p>
+     * @implSpec <p>The default implementation returns
+     * {@code size() == 0}.</p>
+     * @return {@code true} if this map contains no key-value mappings
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * <p>Returns a primitive set view of the keys contained in this map. The
+     * set is backed by the map, so changes to the map are reflected in the
+     * set, and vice-versa. The set supports element removal, which removes
+     * the corresponding mapping from the map, but it does not support the
+     * {@code add} or {@code addAll} operations.</p>
+     * @return a primitive set view of the keys contained in this map
+     */
+    PrimitiveSet<K,?,?,?,?,?,?> keySet();
+
+    /**
+     * <p>A Map specialized for {@code int} keys and {@code int} values.</p>
+     */
+    @PrereleaseContent
+    interface IntToInt extends PrimitiveMap<Integer,Integer> {
+        /**
+         * <p>Adds the specified increment to the value associated with the
+         * specified key, associating the increment with the key if the map
+         * contains no mapping for it (optional operation). This is the usual
+         * way of maintaining a map of counters.</p>
+         * @implSpec <p>The default implementation is equivalent to, for this
+         * {@code map}:</p>
+         * <pre>{@code
+         *     int previous = map.get(key);
+         *     map.put(key, previous + increment);
+         *     return previous;
+         * }</pre>
+         * @param key key whose associated value is to be incremented
+         * @param increment the amount to add to the associated value
+         * @return the value previously associated with the key, or zero if
+         * there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         */
+        default int addTo(int key, int increment) {
+            int previous = get(key);
+            put(key, previous + increment);
+            return previous;
+        }
+
+        /**
+         * <p>Returns {@code true} if this map contains a mapping for the
+         * specified key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code containsKey(k.intValue())} if the key is {@code Integer}, and
+         * {@code false} otherwise.</p>
+         * @param key key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified
+         * key
+         * @see #containsKey(int)
+         */
+        default boolean containsKey(Object key) {
+            return key instanceof Integer k && containsKey(k.intValue());
+        }
+
+        /**
+         * <p>Returns {@code true} if this map contains a mapping for the
+         * specified key.</p>
+         * @param key key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified
+         * key
+         */
+        boolean containsKey(int key);
+
+        /**
+         * <p>Returns {@code true} if this map maps one or more keys to the
+         * specified value.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code containsValue(v.intValue())} if the value is {@code Integer},
+         * and {@code false} otherwise.</p>
+         * @param value value whose presence in this map is to be tested
+         * @return {@code true} if this map maps one or more keys to the
+         * specified value
+         * @see #containsValue(int)
+         */
+        default boolean containsValue(Object value) {
+            return value instanceof Integer v && containsValue(v.intValue());
+        }
+
+        /**
+         * <p>Returns {@code true} if this map maps one or more keys to the
+         * specified value. This operation will typically require time linear
+         * in the map size.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code values().containsInt(value)}.</p>
+         * @param value value whose presence in this map is to be tested
+         * @return {@code true} if this map maps one or more keys to the
+         * specified value
+         */
+        default boolean containsValue(int value) {
+            return values().containsInt(value);
+        }
+
+        /**
+         * <p>Performs the given action for each entry in this map until all
+         * entries have been processed or the action throws an exception.</p>
+         * <p>Because this method passes boxed keys and values, reliance on it
+         * may eliminate any performance advantage obtained by using a primitive
+         * map; where possible, users may wish to utilize the
+         * {@link #forEach(IntIntConsumer)} method instead.</p>
+         * @implSpec <p>The default implementation passes an action which boxes
+         * each key and value to {@link #forEach(IntIntConsumer)}.</p>
+         * @param action the action to be performed for each entry
+         * @throws NullPointerException if the specified action is null
+         */
+        default void forEach(BiConsumer<? super Integer, ? super Integer> action) {
+            Objects.requireNonNull(action);
+            forEach((IntIntConsumer) action::accept);
+        }
+
+        /**
+         * <p>Performs the given action for each entry in this map, in the order
+         * of iteration of its entry set, until all entries have been processed
+         * or the action throws an exception.</p>
+         * @param action the action to be performed for each entry
+         * @throws NullPointerException if the specified action is null
+         */
+        void forEach(IntIntConsumer action);
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code get(k.intValue())} if the key is {@code Integer} and
+         * {@code containsKey} reports a mapping for it, and {@code null}
+         * otherwise.</p>
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key
+         * @see #get(int)
+         */
+        default Integer get(Object key) {
+            return key instanceof Integer k && containsKey(k.intValue()) ?
+                    get(k.intValue()) : null;
+        }
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code 0} if this map contains no mapping for the key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code getOrDefault(key, 0)}.</p>
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or
+         * {@code 0} if this map contains no mapping for the key
+         */
+        default int get(int key) {
+            return getOrDefault(key, 0);
+        }
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code defaultValue} if this map contains no mapping for the
+         * key.</p>
+         * @param key the key whose associated value is to be returned
+         * @param defaultValue the default mapping of the key
+         * @return the value to which the specified key is mapped, or
+         * {@code defaultValue} if this map contains no mapping for the key
+         */
+        int getOrDefault(int key, int defaultValue);
+
+        /**
+         * <p>Returns a primitive set view of the keys contained in this
+         * map.</p>
+         * @return a primitive set view of the keys contained in this map
+         */
+        PrimitiveSet.OfInt keySet();
+
+        /**
+         * <p>Associates the specified value with the specified key in this map
+         * (optional operation).</p>
+         * @implSpec <p>The default implementation calls
+         * {@code put(key.intValue(), value.intValue())}, and returns
+         * the boxed previous value if {@code containsKey} reported a mapping
+         * for the key beforehand, and {@code null} otherwise.</p>
+         * @param key key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the key, or {@code null}
+         * if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         * @throws NullPointerException if the specified key or value is
+         * null
+         */
+        default Integer put(Integer key, Integer value) {
+            boolean present = containsKey(key.intValue());
+            int previous = put(key.intValue(), value.intValue());
+            return present ? previous : null;
+        }
+
+        /**
+         * <p>Associates the specified value with the specified key in this map
+         * (optional operation). If the map previously contained a mapping for
+         * the key, the old value is replaced by the specified value.</p>
+         * @param key key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the key, or
+         * {@code 0} if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         */
+        int put(int key, int value);
+
+        /**
+         * <p>Copies all of the mappings from the specified map to this map
+         * (optional operation).</p>
+         * @implSpec <p>If the specified map is a {@code PrimitiveMap.IntToInt}, the
+         * default implementation calls {@link #put(int, int)} for each of its
+         * entries, without boxing them; otherwise, it calls the boxed
+         * {@code put} method for each of its entries.</p>
+         * @param m mappings to be stored in this map
+         * @throws UnsupportedOperationException if the {@code putAll} operation
+         * is not supported by this map
+         * @throws NullPointerException if the specified map is null, or if it
+         * contains null keys or values
+         */
+        default void putAll(Map<? extends Integer, ? extends Integer> m) {
+            if (m instanceof PrimitiveMap.IntToInt map) {
+                map.forEach((IntIntConsumer) (key, value) -> put(key, value));
+                return;
+            }
+            for (var e : m.entrySet())
+                put(e.getKey().intValue(), e.getValue().intValue());
+        }
+
+        /**
+         * <p>Removes the mapping for a key from this map if it is present
+         * (optional operation).</p>
+         * @implSpec <p>The default implementation returns
+         * {@code remove(k.intValue())} if the key is {@code Integer} and
+         * {@code containsKey} reports a mapping for it, and {@code null}
+         * otherwise.</p>
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with the key, or {@code null}
+         * if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this map
+         * @see #remove(int)
+         */
+        default Integer remove(Object key) {
+            return key instanceof Integer k && containsKey(k.intValue()) ?
+                    remove(k.intValue()) : null;
+        }
+
+        /**
+         * <p>Removes the mapping for a key from this map if it is present
+         * (optional operation).</p>
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with the key, or
+         * {@code 0} if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this map
+         */
+        int remove(int key);
+
+        /**
+         * <p>Returns a primitive collection view of the values contained in this
+         * map. The collection is backed by the map, so changes to the map are
+         * reflected in the collection, and vice-versa. The collection supports
+         * element removal, which removes the corresponding mapping from the
+         * map, but it does not support the {@code add} or {@code addAll}
+         * operations.</p>
+         * @return a primitive collection view of the values contained in this map
+         */
+        PrimitiveCollection.OfInt values();
+    }
+
+    /**
+     * <p>A Map specialized for {@code int} keys and {@code long} values.</p>
+     */
+    @PrereleaseContent
+    interface IntToLong extends PrimitiveMap<Integer,Long> {
+        /**
+         * <p>Adds the specified increment to the value associated with the
+         * specified key, associating the increment with the key if the map
+         * contains no mapping for it (optional operation). This is the usual
+         * way of maintaining a map of counters.</p>
+         * @implSpec <p>The default implementation is equivalent to, for this
+         * {@code map}:</p>
+         * <pre>{@code
+         *     long previous = map.get(key);
+         *     map.put(key, previous + increment);
+         *     return previous;
+         * }</pre>
+         * @param key key whose associated value is to be incremented
+         * @param increment the amount to add to the associated value
+         * @return the value previously associated with the key, or zero if
+         * there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         */
+        default long addTo(int key, long increment) {
+            long previous = get(key);
+            put(key, previous + increment);
+            return previous;
+        }
+
+        /**
+         * <p>Returns {@code true} if this map contains a mapping for the
+         * specified key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code containsKey(k.intValue())} if the key is {@code Integer}, and
+         * {@code false} otherwise.</p>
+         * @param key key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified
+         * key
+         * @see #containsKey(int)
+         */
+        default boolean containsKey(Object key) {
+            return key instanceof Integer k && containsKey(k.intValue());
+        }
+
+        /**
+         * <p>Returns {@code true} if this map contains a mapping for the
+         * specified key.</p>
+         * @param key key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified
+         * key
+         */
+        boolean containsKey(int key);
+
+        /**
+         * <p>Returns {@code true} if this map maps one or more keys to the
+         * specified value.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code containsValue(v.longValue())} if the value is {@code Long},
+         * and {@code false} otherwise.</p>
+         * @param value value whose presence in this map is to be tested
+         * @return {@code true} if this map maps one or more keys to the
+         * specified value
+         * @see #containsValue(long)
+         */
+        default boolean containsValue(Object value) {
+            return value instanceof Long v && containsValue(v.longValue());
+        }
+
+        /**
+         * <p>Returns {@code true} if this map maps one or more keys to the
+         * specified value. This operation will typically require time linear
+         * in the map size.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code values().containsLong(value)}.</p>
+         * @param value value whose presence in this map is to be tested
+         * @return {@code true} if this map maps one or more keys to the
+         * specified value
+         */
+        default boolean containsValue(long value) {
+            return values().containsLong(value);
+        }
+
+        /**
+         * <p>Performs the given action for each entry in this map until all
+         * entries have been processed or the action throws an exception.</p>
+         * <p>Because this method passes boxed keys and values, reliance on it
+         * may eliminate any performance advantage obtained by using a primitive
+         * map; where possible, users may wish to utilize the
+         * {@link #forEach(IntLongConsumer)} method instead.</p>
+         * @implSpec <p>The default implementation passes an action which boxes
+         * each key and value to {@link #forEach(IntLongConsumer)}.</p>
+         * @param action the action to be performed for each entry
+         * @throws NullPointerException if the specified action is null
+         */
+        default void forEach(BiConsumer<? super Integer, ? super Long> action) {
+            Objects.requireNonNull(action);
+            forEach((IntLongConsumer) action::accept);
+        }
+
+        /**
+         * <p>Performs the given action for each entry in this map, in the order
+         * of iteration of its entry set, until all entries have been processed
+         * or the action throws an exception.</p>
+         * @param action the action to be performed for each entry
+         * @throws NullPointerException if the specified action is null
+         */
+        void forEach(IntLongConsumer action);
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code get(k.intValue())} if the key is {@code Integer} and
+         * {@code containsKey} reports a mapping for it, and {@code null}
+         * otherwise.</p>
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key
+         * @see #get(int)
+         */
+        default Long get(Object key) {
+            return key instanceof Integer k && containsKey(k.intValue()) ?
+                    get(k.intValue()) : null;
+        }
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code 0} if this map contains no mapping for the key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code getOrDefault(key, 0)}.</p>
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or
+         * {@code 0} if this map contains no mapping for the key
+         */
+        default long get(int key) {
+            return getOrDefault(key, 0);
+        }
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code defaultValue} if this map contains no mapping for the
+         * key.</p>
+         * @param key the key whose associated value is to be returned
+         * @param defaultValue the default mapping of the key
+         * @return the value to which the specified key is mapped, or
+         * {@code defaultValue} if this map contains no mapping for the key
+         */
+        long getOrDefault(int key, long defaultValue);
+
+        /**
+         * <p>Returns a primitive set view of the keys contained in this
+         * map.</p>
+         * @return a primitive set view of the keys contained in this map
+         */
+        PrimitiveSet.OfInt keySet();
+
+        /**
+         * <p>Associates the specified value with the specified key in this map
+         * (optional operation).</p>
+         * @implSpec <p>The default implementation calls
+         * {@code put(key.intValue(), value.longValue())}, and returns
+         * the boxed previous value if {@code containsKey} reported a mapping
+         * for the key beforehand, and {@code null} otherwise.</p>
+         * @param key key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the key, or {@code null}
+         * if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         * @throws NullPointerException if the specified key or value is
+         * null
+         */
+        default Long put(Integer key, Long value) {
+            boolean present = containsKey(key.intValue());
+            long previous = put(key.intValue(), value.longValue());
+            return present ? previous : null;
+        }
+
+        /**
+         * <p>Associates the specified value with the specified key in this map
+         * (optional operation). If the map previously contained a mapping for
+         * the key, the old value is replaced by the specified value.</p>
+         * @param key key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the key, or
+         * {@code 0} if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         */
+        long put(int key, long value);
+
+        /**
+         * <p>Copies all of the mappings from the specified map to this map
+         * (optional operation).</p>
+         * @implSpec <p>If the specified map is a {@code PrimitiveMap.IntToLong}, the
+         * default implementation calls {@link #put(int, long)} for each of its
+         * entries, without boxing them; otherwise, it calls the boxed
+         * {@code put} method for each of its entries.</p>
+         * @param m mappings to be stored in this map
+         * @throws UnsupportedOperationException if the {@code putAll} operation
+         * is not supported by this map
+         * @throws NullPointerException if the specified map is null, or if it
+         * contains null keys or values
+         */
+        default void putAll(Map<? extends Integer, ? extends Long> m) {
+            if (m instanceof PrimitiveMap.IntToLong map) {
+                map.forEach((IntLongConsumer) (key, value) -> put(key, value));
+                return;
+            }
+            for (var e : m.entrySet())
+                put(e.getKey().intValue(), e.getValue().longValue());
+        }
+
+        /**
+         * <p>Removes the mapping for a key from this map if it is present
+         * (optional operation).</p>
+         * @implSpec <p>The default implementation returns
+         * {@code remove(k.intValue())} if the key is {@code Integer} and
+         * {@code containsKey} reports a mapping for it, and {@code null}
+         * otherwise.</p>
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with the key, or {@code null}
+         * if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this map
+         * @see #remove(int)
+         */
+        default Long remove(Object key) {
+            return key instanceof Integer k && containsKey(k.intValue()) ?
+                    remove(k.intValue()) : null;
+        }
+
+        /**
+         * <p>Removes the mapping for a key from this map if it is present
+         * (optional operation).</p>
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with the key, or
+         * {@code 0} if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this map
+         */
+        long remove(int key);
+
+        /**
+         * <p>Returns a primitive collection view of the values contained in this
+         * map. The collection is backed by the map, so changes to the map are
+         * reflected in the collection, and vice-versa. The collection supports
+         * element removal, which removes the corresponding mapping from the
+         * map, but it does not support the {@code add} or {@code addAll}
+         * operations.</p>
+         * @return a primitive collection view of the values contained in this map
+         */
+        PrimitiveCollection.OfLong values();
+    }
+
+    /**
+     * <p>A Map specialized for {@code long} keys and {@code long} values.</p>
+     */
+    @PrereleaseContent
+    interface LongToLong extends PrimitiveMap<Long,Long> {
+        /**
+         * <p>Adds the specified increment to the value associated with the
+         * specified key, associating the increment with the key if the map
+         * contains no mapping for it (optional operation). This is the usual
+         * way of maintaining a map of counters.</p>
+         * @implSpec <p>The default implementation is equivalent to, for this
+         * {@code map}:</p>
+         * <pre>{@code
+         *     long previous = map.get(key);
+         *     map.put(key, previous + increment);
+         *     return previous;
+         * }</pre>
+         * @param key key whose associated value is to be incremented
+         * @param increment the amount to add to the associated value
+         * @return the value previously associated with the key, or zero if
+         * there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         */
+        default long addTo(long key, long increment) {
+            long previous = get(key);
+            put(key, previous + increment);
+            return previous;
+        }
+
+        /**
+         * <p>Returns {@code true} if this map contains a mapping for the
+         * specified key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code containsKey(k.longValue())} if the key is {@code Long}, and
+         * {@code false} otherwise.</p>
+         * @param key key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified
+         * key
+         * @see #containsKey(long)
+         */
+        default boolean containsKey(Object key) {
+            return key instanceof Long k && containsKey(k.longValue());
+        }
+
+        /**
+         * <p>Returns {@code true} if this map contains a mapping for the
+         * specified key.</p>
+         * @param key key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified
+         * key
+         */
+        boolean containsKey(long key);
+
+        /**
+         * <p>Returns {@code true} if this map maps one or more keys to the
+         * specified value.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code containsValue(v.longValue())} if the value is {@code Long},
+         * and {@code false} otherwise.</p>
+         * @param value value whose presence in this map is to be tested
+         * @return {@code true} if this map maps one or more keys to the
+         * specified value
+         * @see #containsValue(long)
+         */
+        default boolean containsValue(Object value) {
+            return value instanceof Long v && containsValue(v.longValue());
+        }
+
+        /**
+         * <p>Returns {@code true} if this map maps one or more keys to the
+         * specified value. This operation will typically require time linear
+         * in the map size.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code values().containsLong(value)}.</p>
+         * @param value value whose presence in this map is to be tested
+         * @return {@code true} if this map maps one or more keys to the
+         * specified value
+         */
+        default boolean containsValue(long value) {
+            return values().containsLong(value);
+        }
+
+        /**
+         * <p>Performs the given action for each entry in this map until all
+         * entries have been processed or the action throws an exception.</p>
+         * <p>Because this method passes boxed keys and values, reliance on it
+         * may eliminate any performance advantage obtained by using a primitive
+         * map; where possible, users may wish to utilize the
+         * {@link #forEach(LongLongConsumer)} method instead.</p>
+         * @implSpec <p>The default implementation passes an action which boxes
+         * each key and value to {@link #forEach(LongLongConsumer)}.</p>
+         * @param action the action to be performed for each entry
+         * @throws NullPointerException if the specified action is null
+         */
+        default void forEach(BiConsumer<? super Long, ? super Long> action) {
+            Objects.requireNonNull(action);
+            forEach((LongLongConsumer) action::accept);
+        }
+
+        /**
+         * <p>Performs the given action for each entry in this map, in the order
+         * of iteration of its entry set, until all entries have been processed
+         * or the action throws an exception.</p>
+         * @param action the action to be performed for each entry
+         * @throws NullPointerException if the specified action is null
+         */
+        void forEach(LongLongConsumer action);
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code get(k.longValue())} if the key is {@code Long} and
+         * {@code containsKey} reports a mapping for it, and {@code null}
+         * otherwise.</p>
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key
+         * @see #get(long)
+         */
+        default Long get(Object key) {
+            return key instanceof Long k && containsKey(k.longValue()) ?
+                    get(k.longValue()) : null;
+        }
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code 0} if this map contains no mapping for the key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code getOrDefault(key, 0)}.</p>
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or
+         * {@code 0} if this map contains no mapping for the key
+         */
+        default long get(long key) {
+            return getOrDefault(key, 0);
+        }
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code defaultValue} if this map contains no mapping for the
+         * key.</p>
+         * @param key the key whose associated value is to be returned
+         * @param defaultValue the default mapping of the key
+         * @return the value to which the specified key is mapped, or
+         * {@code defaultValue} if this map contains no mapping for the key
+         */
+        long getOrDefault(long key, long defaultValue);
+
+        /**
+         * <p>Returns a primitive set view of the keys contained in this
+         * map.</p>
+         * @return a primitive set view of the keys contained in this map
+         */
+        PrimitiveSet.OfLong keySet();
+
+        /**
+         * <p>Associates the specified value with the specified key in this map
+         * (optional operation).</p>
+         * @implSpec <p>The default implementation calls
+         * {@code put(key.longValue(), value.longValue())}, and returns
+         * the boxed previous value if {@code containsKey} reported a mapping
+         * for the key beforehand, and {@code null} otherwise.</p>
+         * @param key key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the key, or {@code null}
+         * if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         * @throws NullPointerException if the specified key or value is
+         * null
+         */
+        default Long put(Long key, Long value) {
+            boolean present = containsKey(key.longValue());
+            long previous = put(key.longValue(), value.longValue());
+            return present ? previous : null;
+        }
+
+        /**
+         * <p>Associates the specified value with the specified key in this map
+         * (optional operation). If the map previously contained a mapping for
+         * the key, the old value is replaced by the specified value.</p>
+         * @param key key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the key, or
+         * {@code 0} if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         */
+        long put(long key, long value);
+
+        /**
+         * <p>Copies all of the mappings from the specified map to this map
+         * (optional operation).</p>
+         * @implSpec <p>If the specified map is a {@code PrimitiveMap.LongToLong}, the
+         * default implementation calls {@link #put(long, long)} for each of its
+         * entries, without boxing them; otherwise, it calls the boxed
+         * {@code put} method for each of its entries.</p>
+         * @param m mappings to be stored in this map
+         * @throws UnsupportedOperationException if the {@code putAll} operation
+         * is not supported by this map
+         * @throws NullPointerException if the specified map is null, or if it
+         * contains null keys or values
+         */
+        default void putAll(Map<? extends Long, ? extends Long> m) {
+            if (m instanceof PrimitiveMap.LongToLong map) {
+                map.forEach((LongLongConsumer) (key, value) -> put(key, value));
+                return;
+            }
+            for (var e : m.entrySet())
+                put(e.getKey().longValue(), e.getValue().longValue());
+        }
+
+        /**
+         * <p>Removes the mapping for a key from this map if it is present
+         * (optional operation).</p>
+         * @implSpec <p>The default implementation returns
+         * {@code remove(k.longValue())} if the key is {@code Long} and
+         * {@code containsKey} reports a mapping for it, and {@code null}
+         * otherwise.</p>
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with the key, or {@code null}
+         * if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this map
+         * @see #remove(long)
+         */
+        default Long remove(Object key) {
+            return key instanceof Long k && containsKey(k.longValue()) ?
+                    remove(k.longValue()) : null;
+        }
+
+        /**
+         * <p>Removes the mapping for a key from this map if it is present
+         * (optional operation).</p>
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with the key, or
+         * {@code 0} if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this map
+         */
+        long remove(long key);
+
+        /**
+         * <p>Returns a primitive collection view of the values contained in this
+         * map. The collection is backed by the map, so changes to the map are
+         * reflected in the collection, and vice-versa. The collection supports
+         * element removal, which removes the corresponding mapping from the
+         * map, but it does not support the {@code add} or {@code addAll}
+         * operations.</p>
+         * @return a primitive collection view of the values contained in this map
+         */
+        PrimitiveCollection.OfLong values();
+    }
+
+    /**
+     * <p>A Map specialized for {@code long} keys and {@code object} values.</p>
+     * @param <V> the type of mapped values
+     */
+    @PrereleaseContent
+    interface LongToObject<V> extends PrimitiveMap<Long,V> {
+        /**
+         * <p>Returns {@code true} if this map contains a mapping for the
+         * specified key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code containsKey(k.longValue())} if the key is {@code Long}, and
+         * {@code false} otherwise.</p>
+         * @param key key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified
+         * key
+         * @see #containsKey(long)
+         */
+        default boolean containsKey(Object key) {
+            return key instanceof Long k && containsKey(k.longValue());
+        }
+
+        /**
+         * <p>Returns {@code true} if this map contains a mapping for the
+         * specified key.</p>
+         * @param key key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified
+         * key
+         */
+        boolean containsKey(long key);
+
+        /**
+         * <p>Performs the given action for each entry in this map until all
+         * entries have been processed or the action throws an exception.</p>
+         * <p>Because this method passes boxed keys and values, reliance on it
+         * may eliminate any performance advantage obtained by using a primitive
+         * map; where possible, users may wish to utilize the
+         * {@link #forEach(LongObjConsumer)} method instead.</p>
+         * @implSpec <p>The default implementation passes an action which boxes
+         * each key and value to {@link #forEach(LongObjConsumer)}.</p>
+         * @param action the action to be performed for each entry
+         * @throws NullPointerException if the specified action is null
+         */
+        default void forEach(BiConsumer<? super Long, ? super V> action) {
+            Objects.requireNonNull(action);
+            forEach((LongObjConsumer<V>) action::accept);
+        }
+
+        /**
+         * <p>Performs the given action for each entry in this map, in the order
+         * of iteration of its entry set, until all entries have been processed
+         * or the action throws an exception.</p>
+         * @param action the action to be performed for each entry
+         * @throws NullPointerException if the specified action is null
+         */
+        void forEach(LongObjConsumer<? super V> action);
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code get(k.longValue())} if the key is {@code Long} and
+         * {@code containsKey} reports a mapping for it, and {@code null}
+         * otherwise.</p>
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key
+         * @see #get(long)
+         */
+        default V get(Object key) {
+            return key instanceof Long k && containsKey(k.longValue()) ?
+                    get(k.longValue()) : null;
+        }
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key.</p>
+         * @implSpec <p>The default implementation returns
+         * {@code getOrDefault(key, null)}.</p>
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or
+         * {@code null} if this map contains no mapping for the key
+         */
+        default V get(long key) {
+            return getOrDefault(key, null);
+        }
+
+        /**
+         * <p>Returns the value to which the specified key is mapped, or
+         * {@code defaultValue} if this map contains no mapping for the
+         * key.</p>
+         * @param key the key whose associated value is to be returned
+         * @param defaultValue the default mapping of the key
+         * @return the value to which the specified key is mapped, or
+         * {@code defaultValue} if this map contains no mapping for the key
+         */
+        V getOrDefault(long key, V defaultValue);
+
+        /**
+         * <p>Returns a primitive set view of the keys contained in this
+         * map.</p>
+         * @return a primitive set view of the keys contained in this map
+         */
+        PrimitiveSet.OfLong keySet();
+
+        /**
+         * <p>Associates the specified value with the specified key in this map
+         * (optional operation).</p>
+         * @implSpec <p>The default implementation calls
+         * {@code put(key.longValue(), value)}, and returns
+         * the boxed previous value if {@code containsKey} reported a mapping
+         * for the key beforehand, and {@code null} otherwise.</p>
+         * @param key key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the key, or {@code null}
+         * if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         * @throws NullPointerException if the specified key is
+         * null
+         */
+        default V put(Long key, V value) {
+            boolean present = containsKey(key.longValue());
+            V previous = put(key.longValue(), value);
+            return present ? previous : null;
+        }
+
+        /**
+         * <p>Associates the specified value with the specified key in this map
+         * (optional operation). If the map previously contained a mapping for
+         * the key, the old value is replaced by the specified value.</p>
+         * @param key key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the key, or
+         * {@code null} if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code put} operation is
+         * not supported by this map
+         */
+        V put(long key, V value);
+
+        /**
+         * <p>Copies all of the mappings from the specified map to this map
+         * (optional operation).</p>
+         * @implSpec <p>If the specified map is a {@code PrimitiveMap.LongToObject}, the
+         * default implementation calls {@link #put(long, V)} for each of its
+         * entries, without boxing them; otherwise, it calls the boxed
+         * {@code put} method for each of its entries.</p>
+         * @param m mappings to be stored in this map
+         * @throws UnsupportedOperationException if the {@code putAll} operation
+         * is not supported by this map
+         * @throws NullPointerException if the specified map is null, or if it
+         * contains null keys
+         */
+        @SuppressWarnings("unchecked")
+        default void putAll(Map<? extends Long, ? extends V> m) {
+            if (m instanceof PrimitiveMap.LongToObject<?> map) {
+                map.forEach((LongObjConsumer<Object>) (key, value) -> put(key, (V) value));
+                return;
+            }
+            for (var e : m.entrySet())
+                put(e.getKey().longValue(), e.getValue());
+        }
+
+        /**
+         * <p>Removes the mapping for a key from this map if it is present
+         * (optional operation).</p>
+         * @implSpec <p>The default implementation returns
+         * {@code remove(k.longValue())} if the key is {@code Long} and
+         * {@code containsKey} reports a mapping for it, and {@code null}
+         * otherwise.</p>
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with the key, or {@code null}
+         * if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this map
+         * @see #remove(long)
+         */
+        default V remove(Object key) {
+            return key instanceof Long k && containsKey(k.longValue()) ?
+                    remove(k.longValue()) : null;
+        }
+
+        /**
+         * <p>Removes the mapping for a key from this map if it is present
+         * (optional operation).</p>
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with the key, or
+         * {@code null} if there was no mapping for the key
+         * @throws UnsupportedOperationException if the {@code remove} operation
+         * is not supported by this map
+         */
+        V remove(long key);
+
+        /**
+         * <p>Returns a collection view of the values contained in this
+         * map. The collection is backed by the map, so changes to the map are
+         * reflected in the collection, and vice-versa. The collection supports
+         * element removal, which removes the corresponding mapping from the
+         * map, but it does not support the {@code add} or {@code addAll}
+         * operations.</p>
+         * @return a collection view of the values contained in this map
+         */
+        Collection<V> values();
+    }
+}
@@ -0,0 +1,1412 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>A mutable, compressed {@link PrimitiveSet.OfInt} suited to very large sets
+ * drawn from a sparse or clustered 32-bit domain. The space of {@code int}
+ * values is partitioned into chunks of 65536 values sharing their high 16 bits,
+ * and each nonempty chunk is stored in whichever of three containers best suits
+ * its contents:</p>
+ * <ul>
+ *     <li>a sorted array of 16-bit values, for chunks holding at most 4096
+ *     elements;</li>
+ *     <li>a bitmap of 65536 bits, for denser chunks; or</li>
+ *     <li>a sorted list of runs of consecutive values, for chunks whose
+ *     elements are clustered into few runs.</li>
+ * </ul>
+ * <p>Array and bitmap containers are converted into each other as elements are
+ * added and removed. Run containers are produced by the bulk operations and by
+ * {@link #optimize()}, and are converted back into arrays or bitmaps if
+ * individual additions or removals fragment them.</p>
+ * <p>The {@code addInt}, {@code removeInt} and {@code containsInt} operations
+ * run in time logarithmic in the number of chunks and, at worst, linear in the
+ * size of a single container. The {@code addAll}, {@code containsAll},
+ * {@code removeAll} and {@code retainAll} operations, when their argument is
+ * also a {@code RoaringIntSet}, work chunk by chunk on the compressed
+ * containers of both sets, without enumerating their elements.</p>
+ * <p>This set iterates over its elements in ascending order. Since it can hold
+ * more than {@code Integer.MAX_VALUE} elements, {@link #size()} saturates at
+ * {@code Integer.MAX_VALUE}.</p>
+ * <p><strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access a set concurrently, and at least one of the threads
+ * modifies the set, it <em>must</em> be synchronized externally. The iterators
+ * returned by this class are <em>fail-fast</em> on a best-effort basis.</p>
+ */
+@PrereleaseContent
+public class RoaringIntSet extends AbstractPrimitiveSet.OfInt implements BulkCopying<int[]> {
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int CHUNK_WORDS = CHUNK_SIZE >> 6;
+    // An array container of this many values is as large as a bitmap.
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_BYTES = CHUNK_WORDS * Long.BYTES;
+    private static final int[] EMPTY_KEYS = {};
+    private static final Container[] EMPTY_CONTAINERS = {};
+
+    // keys[i] holds the high 16 bits, as a signed value, shared by the elements
+    // of containers[i]; the first chunks entries are sorted in ascending order.
+    private int[] keys = EMPTY_KEYS;
+    private Container[] containers = EMPTY_CONTAINERS;
+    private int chunks;
+    private long size;
+    private int modCount;
+
+    /**
+     * <p>Constructs a new, empty set.</p>
+     */
+    public RoaringIntSet() {}
+
+    /**
+     * <p>Constructs a new set containing the elements in the specified
+     * collection.</p>
+     * @param c the collection whose elements are to be placed into this set
+     * @throws NullPointerException if the specified collection is null
+     */
+    public RoaringIntSet(PrimitiveCollection.OfInt c) {
+        addAll(c);
+    }
+
+    private int find(int key) {
+        return Arrays.binarySearch(keys, 0, chunks, key);
+    }
+
+    private void insertChunk(int index, int key, Container c) {
+        if (chunks == keys.length) {
+            int n = Math.max(4, chunks + (chunks >> 1));
+            keys = Arrays.copyOf(keys, n);
+            containers = Arrays.copyOf(containers, n);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunks - index);
+        System.arraycopy(containers, index, containers, index + 1, chunks - index);
+        keys[index] = key;
+        containers[index] = c;
+        chunks++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, chunks - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, chunks - index - 1);
+        containers[--chunks] = null;
+    }
+
+    // Installs the result of a bulk operation, returning whether the set was
+    // changed by it. Bulk operations only ever add or only ever remove
+    // elements, so the set changed if and only if its size did.
+    private boolean replaceChunks(int[] newKeys, Container[] newContainers, int n) {
+        keys = newKeys;
+        containers = newContainers;
+        chunks = n;
+        long s = 0;
+        for (int i = 0; i < n; i++)
+            s += newContainers[i].card;
+        if (s == size)
+            return false;
+        size = s;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(PrimitiveCollection.OfInt c) {
+        if (!(c instanceof RoaringIntSet other))
+            return super.addAll(c);
+        if (other == this)
+            return false;
+        int n = chunks;
+        int m = other.chunks;
+        var newKeys = new int[n + m];
+        var newContainers = new Container[n + m];
+        long[] scratch = null;
+        int i = 0, j = 0, k = 0;
+        while (i < n || j < m) {
+            int cmp = i == n ? 1 : j == m ? -1 : Integer.compare(keys[i], other.keys[j]);
+            if (cmp < 0) {
+                newKeys[k] = keys[i];
+                newContainers[k++] = containers[i++];
+            } else if (cmp > 0) {
+                newKeys[k] = other.keys[j];
+                newContainers[k++] = other.containers[j++].copy();
+            } else {
+                if (scratch == null)
+                    scratch = new long[CHUNK_WORDS];
+                newKeys[k] = keys[i];
+                newContainers[k++] = containers[i++].or(other.containers[j++], scratch);
+            }
+        }
+        return replaceChunks(newKeys, newContainers, k);
+    }
+
+    @Override
+    public boolean addInt(int i) {
+        int key = i >> 16;
+        int index = find(key);
+        if (index < 0) {
+            insertChunk(-index - 1, key, new ArrayContainer(i & 0xFFFF));
+        } else {
+            var c = containers[index];
+            int before = c.card;
+            containers[index] = c = c.add(i & 0xFFFF);
+            if (c.card == before)
+                return false;
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0)
+            return;
+        keys = EMPTY_KEYS;
+        containers = EMPTY_CONTAINERS;
+        chunks = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean containsAll(PrimitiveCollection.OfInt c) {
+        if (!(c instanceof RoaringIntSet other))
+            return super.containsAll(c);
+        if (other == this)
+            return true;
+        int i = 0;
+        for (int j = 0; j < other.chunks; j++) {
+            int key = other.keys[j];
+            while (i < chunks && keys[i] < key)
+                i++;
+            if (i == chunks || keys[i] != key)
+                return false;
+            if (!other.containers[j].isSubsetOf(containers[i]))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsInt(int i) {
+        int index = find(i >> 16);
+        return index >= 0 && containers[index].contains(i & 0xFFFF);
+    }
+
+    @Override
+    public void copyInto(int[] dest, int offset) {
+        Objects.checkFromIndexSize(offset, size, dest.length);
+        for (int i = 0; i < chunks; i++)
+            offset = containers[i].toArray(keys[i] << 16, dest, offset);
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int mc = modCount;
+        for (int i = 0; i < chunks; i++)
+            containers[i].forEach(keys[i] << 16, action);
+        if (mc != modCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int i = 0; i < chunks; i++) {
+            var c = containers[i];
+            h += c.card * (keys[i] << 16) + c.sumLow();
+        }
+        return h;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    /**
+     * <p>Converts each chunk of this set to its most compact representation.
+     * In particular, chunks whose elements form few runs of consecutive values
+     * are converted to run-length encoded containers, which are otherwise only
+     * produced by bulk operations. This operation does not change the elements
+     * of the set.</p>
+     */
+    public void optimize() {
+        var scratch = new long[CHUNK_WORDS];
+        for (int i = 0; i < chunks; i++)
+            containers[i] = containers[i].optimize(scratch);
+    }
+
+    @Override
+    public boolean removeAll(PrimitiveCollection.OfInt c) {
+        if (!(c instanceof RoaringIntSet other))
+            return super.removeAll(c);
+        if (other == this) {
+            boolean changed = size != 0;
+            clear();
+            return changed;
+        }
+        var newKeys = new int[chunks];
+        var newContainers = new Container[chunks];
+        long[] scratch = null;
+        int j = 0, k = 0;
+        for (int i = 0; i < chunks; i++) {
+            int key = keys[i];
+            while (j < other.chunks && other.keys[j] < key)
+                j++;
+            var r = containers[i];
+            if (j < other.chunks && other.keys[j] == key) {
+                if (scratch == null)
+                    scratch = new long[CHUNK_WORDS];
+                r = r.andNot(other.containers[j], scratch);
+            }
+            if (r != null) {
+                newKeys[k] = key;
+                newContainers[k++] = r;
+            }
+        }
+        return replaceChunks(newKeys, newContainers, k);
+    }
+
+    @Override
+    public boolean removeInt(int i) {
+        int index = find(i >> 16);
+        if (index < 0)
+            return false;
+        var c = containers[index];
+        int before = c.card;
+        c = c.remove(i & 0xFFFF);
+        if (c.card == before)
+            return false;
+        if (c.card == 0)
+            removeChunk(index);
+        else
+            containers[index] = c;
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean retainAll(PrimitiveCollection.OfInt c) {
+        if (!(c instanceof RoaringIntSet other))
+            return super.retainAll(c);
+        if (other == this)
+            return false;
+        int n = Math.min(chunks, other.chunks);
+        var newKeys = new int[n];
+        var newContainers = new Container[n];
+        long[] scratch = null;
+        int i = 0, j = 0, k = 0;
+        while (i < chunks && j < other.chunks) {
+            int cmp = Integer.compare(keys[i], other.keys[j]);
+            if (cmp < 0) {
+                i++;
+            } else if (cmp > 0) {
+                j++;
+            } else {
+                if (scratch == null)
+                    scratch = new long[CHUNK_WORDS];
+                var r = containers[i].and(other.containers[j], scratch);
+                if (r != null) {
+                    newKeys[k] = keys[i];
+                    newContainers[k++] = r;
+                }
+                i++;
+                j++;
+            }
+        }
+        return replaceChunks(newKeys, newContainers, k);
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new Splitr(null, null, null, 0, -1, 0, 0);
+    }
+
+    @Override
+    public int[] toPrimitiveArray() {
+        if (size > Integer.MAX_VALUE - 8)
+            throw new OutOfMemoryError("Required array size too large");
+        var a = new int[(int) size];
+        copyInto(a, 0);
+        return a;
+    }
+
+    private final class Itr implements PrimitiveIterator.OfInt {
+        private int index;
+        private PrimitiveIterator.OfInt values = chunks == 0 ?
+                PrimitiveCollections.emptyIntIterator() : containers[0].iterator(0);
+        private long remaining = size;
+        private boolean canRemove;
+        private int last;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            while (!values.hasNext())
+                values = containers[++index].iterator(0);
+            last = keys[index] << 16 | values.nextInt();
+            remaining--;
+            canRemove = true;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            removeInt(last);
+            canRemove = false;
+            expectedModCount = modCount;
+            // The chunk may have been converted to another container, or
+            // removed altogether, so resume iterating after the removed element.
+            int at = find(last >> 16);
+            if (at >= 0) {
+                index = at;
+                values = containers[at].iterator((last & 0xFFFF) + 1);
+            } else {
+                index = -at - 2;
+                values = PrimitiveCollections.emptyIntIterator();
+            }
+        }
+    }
+
+    // Splits the range of chunks in half, with no copying. The values remaining
+    // in a partially traversed chunk always belong to the prefix, and the size
+    // of the prefix is summed exactly from the cardinalities of its chunks.
+    private final class Splitr implements Spliterator.OfInt {
+        private int[] ks;
+        private Container[] cs;
+        private PrimitiveIterator.OfInt values;  // values of chunk index - 1
+        private int index;
+        private int fence;  // -1 until first use
+        private long est;
+        private int expectedModCount;
+
+        Splitr(int[] ks, Container[] cs, PrimitiveIterator.OfInt values, int origin,
+               int fence, long est, int expectedModCount) {
+            this.ks = ks;
+            this.cs = cs;
+            this.values = values;
+            this.index = origin;
+            this.fence = fence;
+            this.est = est;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                ks = keys;
+                cs = containers;
+                fence = chunks;
+                est = size;
+                expectedModCount = modCount;
+            }
+            return fence;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT |
+                    Spliterator.ORDERED | Spliterator.SORTED;
+        }
+
+        @Override
+        public long estimateSize() {
+            getFence();
+            return est;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (values != null) {
+                int base = ks[index - 1] << 16;
+                while (values.hasNext())
+                    action.accept(base | values.nextInt());
+                values = null;
+            }
+            for (int i = index; i < hi; i++)
+                cs[i].forEach(ks[i] << 16, action);
+            index = hi;
+            est = 0;
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return null;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            while (values == null || !values.hasNext()) {
+                if (index >= hi)
+                    return false;
+                values = cs[index++].iterator(0);
+            }
+            int i = ks[index - 1] << 16 | values.nextInt();
+            est--;
+            action.accept(i);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public Splitr trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid)
+                return null;
+            long suffix = 0;
+            for (int i = mid; i < hi; i++)
+                suffix += cs[i].card;
+            var prefix = new Splitr(ks, cs, values, lo, mid, est - suffix, expectedModCount);
+            values = null;
+            index = mid;
+            est = suffix;
+            return prefix;
+        }
+    }
+
+    // Sets the bits in the range [from, to) of the specified chunk bitmap
+    private static void setRange(long[] words, int from, int to) {
+        if (from >= to)
+            return;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+        words[first] |= firstMask;
+        for (int k = first + 1; k < last; k++)
+            words[k] = -1L;
+        words[last] |= lastMask;
+    }
+
+    // Clears the bits in the range [from, to) of the specified chunk bitmap
+    private static void clearRange(long[] words, int from, int to) {
+        if (from >= to)
+            return;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            words[first] &= ~(firstMask & lastMask);
+            return;
+        }
+        words[first] &= ~firstMask;
+        for (int k = first + 1; k < last; k++)
+            words[k] = 0;
+        words[last] &= ~lastMask;
+    }
+
+    // Returns the first set bit at or after from, or -1 if there is none
+    private static int nextSetBit(long[] words, int from) {
+        int k = from >>> 6;
+        long w = words[k] & (-1L << from);
+        while (w == 0) {
+            if (++k == CHUNK_WORDS)
+                return -1;
+            w = words[k];
+        }
+        return k << 6 | Long.numberOfTrailingZeros(w);
+    }
+
+    // Returns the first clear bit at or after from, or CHUNK_SIZE if there is
+    // none
+    private static int nextClearBit(long[] words, int from) {
+        int k = from >>> 6;
+        long w = ~words[k] & (-1L << from);
+        while (w == 0) {
+            if (++k == CHUNK_WORDS)
+                return CHUNK_SIZE;
+            w = ~words[k];
+        }
+        return k << 6 | Long.numberOfTrailingZeros(w);
+    }
+
+    // Returns whether any bit in the range [from, to) is set
+    private static boolean anySetBit(long[] words, int from, int to) {
+        if (from >= to)
+            return false;
+        int i = nextSetBit(words, from);
+        return i >= 0 && i < to;
+    }
+
+    // Returns the most compact container holding the bits of the specified
+    // chunk bitmap, which is not retained, or null if no bits are set.
+    private static Container best(long[] words) {
+        int card = 0;
+        int runs = 0;
+        long prev = 0;
+        for (long w : words) {
+            card += Long.bitCount(w);
+            runs += Long.bitCount(w & ~(w << 1 | prev >>> 63));
+            prev = w;
+        }
+        if (card == 0)
+            return null;
+        if (RunContainer.bytes(runs) < Math.min(ArrayContainer.bytes(card), BITMAP_BYTES))
+            return RunContainer.fromWords(words, runs, card);
+        if (card <= ARRAY_MAX)
+            return ArrayContainer.fromWords(words, card);
+        return new BitmapContainer(words.clone(), card);
+    }
+
+    // A container holds the low 16 bits of the elements of one chunk. Its
+    // mutators may return a different container, in a representation better
+    // suited to the new contents; the set replaces the original with it.
+    private static abstract class Container {
+        int card;
+
+        abstract Container add(int x);
+
+        // Clears the bits of this container's values in the specified bitmap
+        abstract void andNotFrom(long[] words);
+
+        // Clears the bits of values not in this container in the specified
+        // bitmap
+        abstract void andInto(long[] words);
+
+        abstract boolean contains(int x);
+
+        abstract Container copy();
+
+        abstract void forEach(int base, IntConsumer action);
+
+        // Returns an iterator over the values of this container which are
+        // greater than or equal to from
+        abstract PrimitiveIterator.OfInt iterator(int from);
+
+        // Sets the bits of this container's values in the specified bitmap
+        abstract void orInto(long[] words);
+
+        abstract Container remove(int x);
+
+        // Returns the sum of the values of this container, modulo 2^32
+        abstract int sumLow();
+
+        // Copies the elements of this container into the specified array
+        // starting at the specified offset, returning the offset following
+        // the last element copied
+        abstract int toArray(int base, int[] a, int offset);
+
+        // The binary operations below combine run containers with others by
+        // walking their runs; only two bitmaps are combined in the scratch
+        // bitmap, whose result may be stored in any representation.
+
+        Container and(Container other, long[] scratch) {
+            if (this instanceof ArrayContainer a)
+                return a.filter(other, true);
+            if (other instanceof ArrayContainer b)
+                return b.filter(this, true);
+            if (this instanceof RunContainer a)
+                return other instanceof RunContainer b ? a.and(b) : a.and((BitmapContainer) other);
+            if (other instanceof RunContainer b)
+                return b.and((BitmapContainer) this);
+            Arrays.fill(scratch, 0);
+            orInto(scratch);
+            other.andInto(scratch);
+            return best(scratch);
+        }
+
+        Container andNot(Container other, long[] scratch) {
+            if (this instanceof ArrayContainer a)
+                return a.filter(other, false);
+            if (this instanceof RunContainer a)
+                return other instanceof BitmapContainer b ? a.andNot(b) : a.andNot(RunContainer.runsOf(other));
+            if (!(other instanceof BitmapContainer))
+                return ((BitmapContainer) this).andNot(other);
+            Arrays.fill(scratch, 0);
+            orInto(scratch);
+            other.andNotFrom(scratch);
+            return best(scratch);
+        }
+
+        boolean isSubsetOf(Container other) {
+            if (card > other.card)
+                return false;
+            if (this instanceof ArrayContainer a)
+                return a.filter(other, false) == null;
+            if (this instanceof RunContainer a)
+                return other instanceof BitmapContainer b ? a.isSubsetOf(b) : a.isSubsetOf(RunContainer.runsOf(other));
+            // A bitmap holds more values than any array container
+            var a = (BitmapContainer) this;
+            return other instanceof RunContainer b ? a.isSubsetOf(b) : a.isSubsetOf((BitmapContainer) other);
+        }
+
+        Container optimize(long[] scratch) {
+            Arrays.fill(scratch, 0);
+            orInto(scratch);
+            return best(scratch);
+        }
+
+        Container or(Container other, long[] scratch) {
+            if (this instanceof ArrayContainer a && other instanceof ArrayContainer b) {
+                if (a.card + b.card <= ARRAY_MAX)
+                    return a.merge(b);
+                var words = new long[CHUNK_WORDS];
+                a.orInto(words);
+                b.orInto(words);
+                return BitmapContainer.of(words);
+            }
+            if (this instanceof BitmapContainer a && other instanceof BitmapContainer) {
+                Arrays.fill(scratch, 0);
+                a.orInto(scratch);
+                other.orInto(scratch);
+                return best(scratch);
+            }
+            if (this instanceof BitmapContainer a)
+                return a.or(other);
+            if (other instanceof BitmapContainer b)
+                return b.or(this);
+            return RunContainer.runsOf(this).or(RunContainer.runsOf(other));
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+
+        ArrayContainer(int x) {
+            values = new char[] { (char) x, 0, 0, 0 };
+            card = 1;
+        }
+
+        private ArrayContainer(char[] values, int card) {
+            this.values = values;
+            this.card = card;
+        }
+
+        static int bytes(int card) {
+            return card * Character.BYTES;
+        }
+
+        static ArrayContainer fromWords(long[] words, int card) {
+            var values = new char[card];
+            int n = 0;
+            for (int k = 0; k < CHUNK_WORDS; k++) {
+                long w = words[k];
+                while (w != 0) {
+                    values[n++] = (char) (k << 6 | Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+            return new ArrayContainer(values, card);
+        }
+
+        @Override
+        Container add(int x) {
+            int index = Arrays.binarySearch(values, 0, card, (char) x);
+            if (index >= 0)
+                return this;
+            if (card == ARRAY_MAX) {
+                var words = new long[CHUNK_WORDS];
+                orInto(words);
+                words[x >>> 6] |= 1L << x;
+                return new BitmapContainer(words, card + 1);
+            }
+            index = -index - 1;
+            if (card == values.length)
+                values = Arrays.copyOf(values,
+                        Math.min(ARRAY_MAX, Math.max(4, card + (card >> 1))));
+            System.arraycopy(values, index, values, index + 1, card - index);
+            values[index] = (char) x;
+            card++;
+            return this;
+        }
+
+        @Override
+        void andInto(long[] words) {
+            int i = 0;
+            for (int k = 0; k < CHUNK_WORDS; k++) {
+                long mask = 0;
+                while (i < card && values[i] >>> 6 == k)
+                    mask |= 1L << values[i++];
+                words[k] &= mask;
+            }
+        }
+
+        @Override
+        void andNotFrom(long[] words) {
+            for (int i = 0; i < card; i++) {
+                int v = values[i];
+                words[v >>> 6] &= ~(1L << v);
+            }
+        }
+
+        @Override
+        boolean contains(int x) {
+            return Arrays.binarySearch(values, 0, card, (char) x) >= 0;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, card), card);
+        }
+
+        // Returns a container holding those values for which the result of
+        // other.contains equals keep, or null if there are none
+        Container filter(Container other, boolean keep) {
+            var result = new char[card];
+            int n = 0;
+            for (int i = 0; i < card; i++)
+                if (other.contains(values[i]) == keep)
+                    result[n++] = values[i];
+            return n == 0 ? null : new ArrayContainer(
+                    n == card ? result : Arrays.copyOf(result, n), n);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < card; i++)
+                action.accept(base | values[i]);
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator(int from) {
+            int start = from >= CHUNK_SIZE ? card :
+                    Arrays.binarySearch(values, 0, card, (char) from);
+            return new PrimitiveIterator.OfInt() {
+                private int i = start < 0 ? -start - 1 : start;
+
+                @Override
+                public boolean hasNext() {
+                    return i < card;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (i >= card)
+                        throw new NoSuchElementException();
+                    return values[i++];
+                }
+            };
+        }
+
+        Container merge(ArrayContainer other) {
+            var a = values;
+            var b = other.values;
+            var result = new char[card + other.card];
+            int i = 0, j = 0, n = 0;
+            while (i < card && j < other.card) {
+                char x = a[i];
+                char y = b[j];
+                if (x <= y) {
+                    result[n++] = x;
+                    i++;
+                    if (x == y)
+                        j++;
+                } else {
+                    result[n++] = y;
+                    j++;
+                }
+            }
+            while (i < card)
+                result[n++] = a[i++];
+            while (j < other.card)
+                result[n++] = b[j++];
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < card; i++) {
+                int v = values[i];
+                words[v >>> 6] |= 1L << v;
+            }
+        }
+
+        // Returns a run container holding the values of this container, for
+        // use as an operand of the run kernels
+        RunContainer toRuns() {
+            var out = new RunWriter(card);
+            for (int i = 0; i < card; i++)
+                out.append(values[i], values[i]);
+            return new RunContainer(out.runs, out.count, card);
+        }
+
+        @Override
+        Container remove(int x) {
+            int index = Arrays.binarySearch(values, 0, card, (char) x);
+            if (index < 0)
+                return this;
+            System.arraycopy(values, index + 1, values, index, card - index - 1);
+            card--;
+            return this;
+        }
+
+        @Override
+        int sumLow() {
+            int s = 0;
+            for (int i = 0; i < card; i++)
+                s += values[i];
+            return s;
+        }
+
+        @Override
+        int toArray(int base, int[] a, int offset) {
+            for (int i = 0; i < card; i++)
+                a[offset++] = base | values[i];
+            return offset;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+
+        BitmapContainer(long[] words, int card) {
+            this.words = words;
+            this.card = card;
+        }
+
+        // Returns an array or bitmap container holding the bits of the
+        // specified chunk bitmap, which may be retained, or null if no bits
+        // are set
+        static Container of(long[] words) {
+            int card = 0;
+            for (long w : words)
+                card += Long.bitCount(w);
+            if (card == 0)
+                return null;
+            if (card <= ARRAY_MAX)
+                return ArrayContainer.fromWords(words, card);
+            return new BitmapContainer(words, card);
+        }
+
+        // Returns the values of this container which are not in the
+        // specified array or run container
+        Container andNot(Container other) {
+            var result = words.clone();
+            other.andNotFrom(result);
+            return of(result);
+        }
+
+        boolean isSubsetOf(BitmapContainer other) {
+            for (int k = 0; k < CHUNK_WORDS; k++)
+                if ((words[k] & ~other.words[k]) != 0)
+                    return false;
+            return true;
+        }
+
+        boolean isSubsetOf(RunContainer other) {
+            // No value may lie in a gap between the runs
+            int from = 0;
+            for (int r = 0; r < other.count; r++) {
+                if (anySetBit(words, from, other.start(r)))
+                    return false;
+                from = other.end(r) + 1;
+            }
+            return !anySetBit(words, from, CHUNK_SIZE);
+        }
+
+        // Returns the union of this container and the specified array or run
+        // container
+        Container or(Container other) {
+            if (other.card == CHUNK_SIZE)
+                return other.copy();
+            var result = words.clone();
+            other.orInto(result);
+            return of(result);
+        }
+
+        @Override
+        Container add(int x) {
+            long bit = 1L << x;
+            if ((words[x >>> 6] & bit) == 0) {
+                words[x >>> 6] |= bit;
+                card++;
+            }
+            return this;
+        }
+
+        @Override
+        void andInto(long[] words) {
+            for (int k = 0; k < CHUNK_WORDS; k++)
+                words[k] &= this.words[k];
+        }
+
+        @Override
+        void andNotFrom(long[] words) {
+            for (int k = 0; k < CHUNK_WORDS; k++)
+                words[k] &= ~this.words[k];
+        }
+
+        @Override
+        boolean contains(int x) {
+            return (words[x >>> 6] & (1L << x)) != 0;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), card);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int k = 0; k < CHUNK_WORDS; k++) {
+                long w = words[k];
+                while (w != 0) {
+                    action.accept(base | k << 6 | Long.numberOfTrailingZeros(w));
+                    w &= w - 1;
+                }
+            }
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator(int from) {
+            return new PrimitiveIterator.OfInt() {
+                private int next = from < CHUNK_SIZE ? nextSetBit(words, from) : -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public int nextInt() {
+                    int v = next;
+                    if (v < 0)
+                        throw new NoSuchElementException();
+                    next = v + 1 < CHUNK_SIZE ? nextSetBit(words, v + 1) : -1;
+                    return v;
+                }
+            };
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int k = 0; k < CHUNK_WORDS; k++)
+                words[k] |= this.words[k];
+        }
+
+        @Override
+        Container remove(int x) {
+            long bit = 1L << x;
+            if ((words[x >>> 6] & bit) == 0)
+                return this;
+            words[x >>> 6] &= ~bit;
+            return --card <= ARRAY_MAX ? ArrayContainer.fromWords(words, card) : this;
+        }
+
+        @Override
+        int sumLow() {
+            int s = 0;
+            for (int k = 0; k < CHUNK_WORDS; k++) {
+                long w = words[k];
+                while (w != 0) {
+                    s += k << 6 | Long.numberOfTrailingZeros(w);
+                    w &= w - 1;
+                }
+            }
+            return s;
+        }
+
+        @Override
+        int toArray(int base, int[] a, int offset) {
+            for (int k = 0; k < CHUNK_WORDS; k++) {
+                long w = words[k];
+                while (w != 0) {
+                    a[offset++] = base | k << 6 | Long.numberOfTrailingZeros(w);
+                    w &= w - 1;
+                }
+            }
+            return offset;
+        }
+    }
+
+    private static final class RunContainer extends Container {
+        // Run r covers the values runs[2r] to runs[2r] + runs[2r + 1] inclusive
+        private char[] runs;
+        private int count;
+
+        private RunContainer(char[] runs, int count, int card) {
+            this.runs = runs;
+            this.count = count;
+            this.card = card;
+        }
+
+        static int bytes(int runs) {
+            return 2 * runs * Character.BYTES;
+        }
+
+        static RunContainer fromWords(long[] words, int count, int card) {
+            var runs = new char[2 * count];
+            int r = 0;
+            int i = nextSetBit(words, 0);
+            while (i >= 0) {
+                int j = nextClearBit(words, i);
+                runs[r++] = (char) i;
+                runs[r++] = (char) (j - 1 - i);
+                i = j < CHUNK_SIZE ? nextSetBit(words, j) : -1;
+            }
+            return new RunContainer(runs, count, card);
+        }
+
+        private int start(int r) {
+            return runs[2 * r];
+        }
+
+        private int end(int r) {
+            return runs[2 * r] + runs[2 * r + 1];
+        }
+
+        // Returns the index of the last run starting at or before x, or -1
+        private int floorRun(int x) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (runs[2 * mid] <= x)
+                    low = mid + 1;
+                else
+                    high = mid - 1;
+            }
+            return high;
+        }
+
+        private void insertRun(int r, int start, int length) {
+            if (2 * count == runs.length)
+                runs = Arrays.copyOf(runs, Math.max(4, runs.length + (runs.length >> 1)) & ~1);
+            System.arraycopy(runs, 2 * r, runs, 2 * r + 2, 2 * (count - r));
+            runs[2 * r] = (char) start;
+            runs[2 * r + 1] = (char) length;
+            count++;
+        }
+
+        private void deleteRun(int r) {
+            System.arraycopy(runs, 2 * r + 2, runs, 2 * r, 2 * (count - r - 1));
+            count--;
+        }
+
+        // Returns the specified array or run container as a run container
+        static RunContainer runsOf(Container c) {
+            return c instanceof RunContainer r ? r : ((ArrayContainer) c).toRuns();
+        }
+
+        Container and(RunContainer other) {
+            var out = new RunWriter(count + other.count);
+            int i = 0;
+            int j = 0;
+            while (i < count && j < other.count) {
+                int s = Math.max(start(i), other.start(j));
+                int e = Math.min(end(i), other.end(j));
+                if (s <= e)
+                    out.append(s, e);
+                if (end(i) < other.end(j))
+                    i++;
+                else
+                    j++;
+            }
+            return out.toContainer();
+        }
+
+        Container and(BitmapContainer other) {
+            if (card <= ARRAY_MAX) {
+                var values = new char[card];
+                int n = 0;
+                for (int r = 0; r < count; r++)
+                    for (int v = start(r), e = end(r); v <= e; v++)
+                        if (other.contains(v))
+                            values[n++] = (char) v;
+                return n == 0 ? null : new ArrayContainer(
+                        n == card ? values : Arrays.copyOf(values, n), n);
+            }
+            var words = other.words.clone();
+            andInto(words);
+            return BitmapContainer.of(words);
+        }
+
+        Container andNot(RunContainer other) {
+            var out = new RunWriter(count + other.count);
+            int j = 0;
+            for (int r = 0; r < count; r++) {
+                int s = start(r);
+                int e = end(r);
+                while (j < other.count && other.end(j) < s)
+                    j++;
+                // The runs of other overlapping this run split it
+                for (int k = j; k < other.count && other.start(k) <= e && s <= e; k++) {
+                    if (other.start(k) > s)
+                        out.append(s, other.start(k) - 1);
+                    s = Math.max(s, other.end(k) + 1);
+                }
+                if (s <= e)
+                    out.append(s, e);
+            }
+            return out.toContainer();
+        }
+
+        Container andNot(BitmapContainer other) {
+            var words = other.words;
+            var out = new RunWriter(count);
+            for (int r = 0; r < count; r++) {
+                int e = end(r);
+                int v = nextClearBit(words, start(r));
+                while (v <= e) {
+                    int next = nextSetBit(words, v);
+                    int last = next < 0 || next > e ? e : next - 1;
+                    out.append(v, last);
+                    if (last == e)
+                        break;
+                    v = nextClearBit(words, last + 1);
+                }
+            }
+            return out.toContainer();
+        }
+
+        boolean isSubsetOf(RunContainer other) {
+            int j = 0;
+            for (int r = 0; r < count; r++) {
+                while (j < other.count && other.end(j) < start(r))
+                    j++;
+                if (j == other.count || other.start(j) > start(r) || other.end(j) < end(r))
+                    return false;
+            }
+            return true;
+        }
+
+        boolean isSubsetOf(BitmapContainer other) {
+            for (int r = 0; r < count; r++)
+                if (nextClearBit(other.words, start(r)) <= end(r))
+                    return false;
+            return true;
+        }
+
+        Container or(RunContainer other) {
+            var out = new RunWriter(count + other.count);
+            int i = 0;
+            int j = 0;
+            while (i < count || j < other.count) {
+                if (j == other.count || i < count && start(i) <= other.start(j)) {
+                    out.append(start(i), end(i));
+                    i++;
+                } else {
+                    out.append(other.start(j), other.end(j));
+                    j++;
+                }
+            }
+            return out.toContainer();
+        }
+
+        // Converts this container to an array or bitmap once fragmentation
+        // has made it larger than either
+        private Container compact() {
+            if (card == 0 || bytes(count) < Math.min(ArrayContainer.bytes(card), BITMAP_BYTES))
+                return this;
+            var words = new long[CHUNK_WORDS];
+            orInto(words);
+            return best(words);
+        }
+
+        @Override
+        Container add(int x) {
+            int r = floorRun(x);
+            if (r >= 0 && x <= end(r))
+                return this;
+            card++;
+            boolean joinsPrevious = r >= 0 && end(r) + 1 == x;
+            boolean joinsNext = r + 1 < count && start(r + 1) == x + 1;
+            if (joinsPrevious && joinsNext) {
+                runs[2 * r + 1] = (char) (end(r + 1) - start(r));
+                deleteRun(r + 1);
+            } else if (joinsPrevious) {
+                runs[2 * r + 1]++;
+            } else if (joinsNext) {
+                runs[2 * r + 2] = (char) x;
+                runs[2 * r + 3]++;
+            } else {
+                insertRun(r + 1, x, 0);
+            }
+            return compact();
+        }
+
+        @Override
+        void andInto(long[] words) {
+            int from = 0;
+            for (int r = 0; r < count; r++) {
+                clearRange(words, from, start(r));
+                from = end(r) + 1;
+            }
+            clearRange(words, from, CHUNK_SIZE);
+        }
+
+        @Override
+        void andNotFrom(long[] words) {
+            for (int r = 0; r < count; r++)
+                clearRange(words, start(r), end(r) + 1);
+        }
+
+        @Override
+        boolean contains(int x) {
+            int r = floorRun(x);
+            return r >= 0 && x <= end(r);
+        }
+
+        @Override
+        Container copy() {
+            return new RunContainer(Arrays.copyOf(runs, 2 * count), count, card);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int r = 0; r < count; r++)
+                for (int v = start(r), e = end(r); v <= e; v++)
+                    action.accept(base | v);
+        }
+
+        @Override
+        PrimitiveIterator.OfInt iterator(int from) {
+            int r = floorRun(from);
+            boolean inRun = r >= 0 && from <= end(r);
+            int firstRun = inRun ? r : r + 1;
+            int first = inRun ? from : firstRun < count ? start(firstRun) : 0;
+            return new PrimitiveIterator.OfInt() {
+                private int run = firstRun;
+                private int next = first;
+
+                @Override
+                public boolean hasNext() {
+                    return run < count;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (run >= count)
+                        throw new NoSuchElementException();
+                    int v = next;
+                    if (v == end(run)) {
+                        if (++run < count)
+                            next = start(run);
+                    } else {
+                        next++;
+                    }
+                    return v;
+                }
+            };
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int r = 0; r < count; r++)
+                setRange(words, start(r), end(r) + 1);
+        }
+
+        @Override
+        Container remove(int x) {
+            int r = floorRun(x);
+            if (r < 0 || x > end(r))
+                return this;
+            card--;
+            int s = start(r);
+            int e = end(r);
+            if (s == e) {
+                deleteRun(r);
+            } else if (x == s) {
+                runs[2 * r] = (char) (s + 1);
+                runs[2 * r + 1]--;
+            } else if (x == e) {
+                runs[2 * r + 1]--;
+            } else {
+                runs[2 * r + 1] = (char) (x - 1 - s);
+                insertRun(r + 1, x + 1, e - x - 1);
+            }
+            return compact();
+        }
+
+        @Override
+        int sumLow() {
+            long s = 0;
+            for (int r = 0; r < count; r++)
+                s += (long) (start(r) + end(r)) * (end(r) - start(r) + 1) / 2;
+            return (int) s;
+        }
+
+        @Override
+        int toArray(int base, int[] a, int offset) {
+            for (int r = 0; r < count; r++)
+                for (int v = start(r), e = end(r); v <= e; v++)
+                    a[offset++] = base | v;
+            return offset;
+        }
+    }
+
+    // Accumulates runs in ascending order for the run kernels, joining each
+    // to the previous one where they overlap or are adjacent
+    private static final class RunWriter {
+        private char[] runs;
+        private int count;
+        private int card;
+
+        RunWriter(int capacity) {
+            runs = new char[2 * Math.max(1, capacity)];
+        }
+
+        void append(int start, int end) {
+            if (count > 0) {
+                int s = runs[2 * count - 2];
+                int last = s + runs[2 * count - 1];
+                if (start <= last + 1) {
+                    if (end > last) {
+                        runs[2 * count - 1] = (char) (end - s);
+                        card += end - last;
+                    }
+                    return;
+                }
+            }
+            if (2 * count == runs.length)
+                runs = Arrays.copyOf(runs, 2 * runs.length);
+            runs[2 * count] = (char) start;
+            runs[2 * count + 1] = (char) (end - start);
+            count++;
+            card += end - start + 1;
+        }
+
+        // Returns the most compact container holding the runs written, or
+        // null if there are none
+        Container toContainer() {
+            if (count == 0)
+                return null;
+            return new RunContainer(Arrays.copyOf(runs, 2 * count), count, card).compact();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Spliterator;
+
+/**
+ * Internal serialized form of the immutable primitive sets and collections in
+ * this package, and of the serializable primitive views. Rather than the
+ * object graph of the original, the proxy holds a snapshot of its elements,
+ * which is written as a kind byte and a length followed by the packed
+ * elements. On deserialization, the most efficient implementation for the
+ * elements is rebuilt: immutable sets and collections are recreated through
+ * the same factories as {@link PrimitiveCollections#sortedSetOf(int...)} and
+ * its siblings, and modifiable views are replaced by the hash sets and array
+ * lists of this package.
+ * <p>The rebuilt sets do not keep an arbitrary encounter order: hash sets have
+ * none, and the unmodifiable sets keep only ascending order, or the order of
+ * a set small enough to be stored as an array. A set view whose spliterator
+ * reports {@link Spliterator#ORDERED}, and whose order would not survive being
+ * rebuilt, therefore keeps its default serialized form, which serializes its
+ * delegate. A modifiable view over a sorted or insertion-ordered set thus
+ * iterates in the same order after deserialization.</p>
+ */
+@PrereleaseContent
+final class SerializationProxy implements Serializable {
+    private static final long serialVersionUID = 1L;
+    // The kind of a proxy combines an element type, a shape and a flag
+    // recording whether the original could be modified
+    private static final int DOUBLE = 0;
+    private static final int INT = 1;
+    private static final int LONG = 2;
+    private static final int TYPE_MASK = 3;
+    private static final int SET = 0;
+    private static final int SORTED_SET = 4;
+    private static final int COLLECTION = 8;
+    private static final int SHAPE_MASK = 12;
+    private static final int MUTABLE = 16;
+    // Arrays read from a stream are grown in steps of at most this many
+    // elements, so that a corrupt length cannot force a huge allocation
+    private static final int READ_CHUNK = 1 << 16;
+
+    private transient int kind;
+    private transient Object elements;
+
+    private SerializationProxy(int kind, Object elements) {
+        this.kind = kind;
+        this.elements = elements;
+    }
+
+    /**
+     * <p>Returns the object to be serialized in place of the specified
+     * collection, which is either a proxy or, where the elements or the
+     * encounter order of the collection cannot be represented faithfully by a
+     * proxy, the collection itself.</p>
+     * @param c the collection to be serialized
+     * @param mutable whether the deserialized collection should be
+     *                modifiable
+     * @return the object to be serialized in place of the collection
+     */
+    static Object replace(PrimitiveCollection<?,?,?,?,?,?,?> c, boolean mutable) {
+        if (!isRepresentableOrder(c, mutable))
+            return c;
+        if (c instanceof PrimitiveCollection.OfInt ints)
+            return new SerializationProxy(INT | shape(c, mutable),
+                    ints.toPrimitiveArray());
+        if (c instanceof PrimitiveCollection.OfLong longs)
+            return new SerializationProxy(LONG | shape(c, mutable),
+                    longs.toPrimitiveArray());
+        var doubles = (PrimitiveCollection.OfDouble) c;
+        var a = doubles.toPrimitiveArray();
+        if (c instanceof PrimitiveSet && !isRepresentableSet(a, mutable))
+            return c;
+        return new SerializationProxy(DOUBLE | shape(c, mutable), a);
+    }
+
+    private static int shape(PrimitiveCollection<?,?,?,?,?,?,?> c, boolean mutable) {
+        if (!(c instanceof PrimitiveSet))
+            return mutable ? COLLECTION | MUTABLE : COLLECTION;
+        if (mutable)
+            return SET | MUTABLE;
+        return c.spliterator().hasCharacteristics(Spliterator.SORTED) ? SORTED_SET : SET;
+    }
+
+    // The immutable sets of this package are rebuilt by the factory which
+    // created them, from the same elements in the same order, so they keep
+    // their order. Any other ordered set keeps it only if it is rebuilt as an
+    // unmodifiable set, which iterates in insertion order unless it is sorted.
+    private static boolean isRepresentableOrder(PrimitiveCollection<?,?,?,?,?,?,?> c,
+                                                boolean mutable) {
+        if (!(c instanceof PrimitiveSet) ||
+                c instanceof PrimitiveCollections.UnmodifiablePrimitiveCollection)
+            return true;
+        var splitr = c.spliterator();
+        if (!splitr.hasCharacteristics(Spliterator.ORDERED))
+            return true;
+        return !mutable;
+    }
+
+    // A view may wrap a set which holds both zeros, which no set rebuilt from
+    // the proxy could hold, or which holds NaN, which DoubleHashSet rejects.
+    // Such sets keep their default serialized form.
+    private static boolean isRepresentableSet(double[] a, boolean mutable) {
+        boolean positiveZero = false;
+        boolean negativeZero = false;
+        for (double d : a) {
+            if (d != d && mutable)
+                return false;
+            if (d == 0) {
+                if (Double.doubleToRawLongBits(d) == 0)
+                    positiveZero = true;
+                else
+                    negativeZero = true;
+            }
+        }
+        return !(positiveZero && negativeZero);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeByte(kind);
+        switch (kind & TYPE_MASK) {
+            case DOUBLE -> {
+                var a = (double[]) elements;
+                out.writeInt(a.length);
+                for (double d : a)
+                    out.writeDouble(d);
+            }
+            case INT -> {
+                var a = (int[]) elements;
+                out.writeInt(a.length);
+                for (int i : a)
+                    out.writeInt(i);
+            }
+            default -> {
+                var a = (long[]) elements;
+                out.writeInt(a.length);
+                for (long l : a)
+                    out.writeLong(l);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        kind = in.readUnsignedByte();
+        if ((kind & TYPE_MASK) > LONG || (kind & SHAPE_MASK) > COLLECTION ||
+                (kind & ~(TYPE_MASK | SHAPE_MASK | MUTABLE)) != 0)
+            throw new InvalidObjectException("Invalid kind " + kind);
+        int length = in.readInt();
+        if (length < 0)
+            throw new InvalidObjectException("Invalid length " + length);
+        elements = switch (kind & TYPE_MASK) {
+            case DOUBLE -> readDoubles(in, length);
+            case INT -> readInts(in, length);
+            default -> readLongs(in, length);
+        };
+    }
+
+    private static double[] readDoubles(ObjectInputStream in, int length) throws IOException {
+        var a = new double[Math.min(length, READ_CHUNK)];
+        for (int i = 0; i < length; i++) {
+            if (i == a.length)
+                a = Arrays.copyOf(a, (int) Math.min(length, (long) a.length + READ_CHUNK));
+            a[i] = in.readDouble();
+        }
+        return a;
+    }
+
+    private static int[] readInts(ObjectInputStream in, int length) throws IOException {
+        var a = new int[Math.min(length, READ_CHUNK)];
+        for (int i = 0; i < length; i++) {
+            if (i == a.length)
+                a = Arrays.copyOf(a, (int) Math.min(length, (long) a.length + READ_CHUNK));
+            a[i] = in.readInt();
+        }
+        return a;
+    }
+
+    private static long[] readLongs(ObjectInputStream in, int length) throws IOException {
+        var a = new long[Math.min(length, READ_CHUNK)];
+        for (int i = 0; i < length; i++) {
+            if (i == a.length)
+                a = Arrays.copyOf(a, (int) Math.min(length, (long) a.length + READ_CHUNK));
+            a[i] = in.readLong();
+        }
+        return a;
+    }
+
+    private Object readResolve() throws InvalidObjectException {
+        try {
+            return switch (kind & TYPE_MASK) {
+                case DOUBLE -> resolve((double[]) elements);
+                case INT -> resolve((int[]) elements);
+                default -> resolve((long[]) elements);
+            };
+        } catch (IllegalArgumentException e) {
+            var ex = new InvalidObjectException("Invalid elements");
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
+    private Object resolve(double[] a) {
+        if ((kind & MUTABLE) != 0) {
+            if ((kind & SHAPE_MASK) == COLLECTION) {
+                var list = new DoubleArrayList(a.length);
+                for (double v : a)
+                    list.addDouble(v);
+                return list;
+            }
+            var set = new DoubleHashSet(a.length);
+            for (double v : a)
+                set.addDouble(v);
+            return set;
+        }
+        return switch (kind & SHAPE_MASK) {
+            case SET -> PrimitiveCollections.setOf(a);
+            case SORTED_SET -> {
+                // The representation chosen by setOf is kept if it also
+                // iterates in ascending order, as a bitmap does
+                var set = PrimitiveCollections.setOf(a);
+                yield set.spliterator().hasCharacteristics(Spliterator.SORTED) ?
+                        set : PrimitiveCollections.sortedSetOf(a);
+            }
+            default -> a.length == 0 ?
+                    PrimitiveCollections.emptyDoubleCollection() :
+                    PrimitiveCollections.asCollection(a);
+        };
+    }
+
+    private Object resolve(int[] a) {
+        if ((kind & MUTABLE) != 0) {
+            if ((kind & SHAPE_MASK) == COLLECTION) {
+                var list = new IntArrayList(a.length);
+                for (int v : a)
+                    list.addInt(v);
+                return list;
+            }
+            var set = new IntHashSet(a.length);
+            for (int v : a)
+                set.addInt(v);
+            return set;
+        }
+        return switch (kind & SHAPE_MASK) {
+            case SET -> PrimitiveCollections.setOf(a);
+            case SORTED_SET -> {
+                // The representation chosen by setOf is kept if it also
+                // iterates in ascending order, as a bitmap does
+                var set = PrimitiveCollections.setOf(a);
+                yield set.spliterator().hasCharacteristics(Spliterator.SORTED) ?
+                        set : PrimitiveCollections.sortedSetOf(a);
+            }
+            default -> a.length == 0 ?
+                    PrimitiveCollections.emptyIntCollection() :
+                    PrimitiveCollections.asCollection(a);
+        };
+    }
+
+    private Object resolve(long[] a) {
+        if ((kind & MUTABLE) != 0) {
+            if ((kind & SHAPE_MASK) == COLLECTION) {
+                var list = new LongArrayList(a.length);
+                for (long v : a)
+                    list.addLong(v);
+                return list;
+            }
+            var set = new LongHashSet(a.length);
+            for (long v : a)
+                set.addLong(v);
+            return set;
+        }
+        return switch (kind & SHAPE_MASK) {
+            case SET -> PrimitiveCollections.setOf(a);
+            case SORTED_SET -> {
+                // The representation chosen by setOf is kept if it also
+                // iterates in ascending order, as a bitmap does
+                var set = PrimitiveCollections.setOf(a);
+                yield set.spliterator().hasCharacteristics(Spliterator.SORTED) ?
+                        set : PrimitiveCollections.sortedSetOf(a);
+            }
+            default -> a.length == 0 ?
+                    PrimitiveCollections.emptyLongCollection() :
+                    PrimitiveCollections.asCollection(a);
+        };
+    }
+}
@@ -0,0 +1,485 @@
+package net.arinoru.collections;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * <p>A thread-safe {@link PrimitiveSet.OfLong} made up of a fixed number of
+ * independently locked segments, each an open-addressing hash table like that
+ * of {@link LongHashSet}. An element is assigned to a segment by the high bits
+ * of its hash, so operations on elements in different segments never contend
+ * with each other.</p>
+ * <p>Each segment grows on its own when it reaches its maximum fill, holding
+ * only its own lock while it does; the other segments remain available
+ * throughout, and no operation ever has to wait for the whole set to be
+ * rebuilt. Lookups first attempt an optimistic read of their segment, and
+ * only take its read lock if a write intervened.</p>
+ * <p>The size of the set is the sum of counters maintained by the segments.
+ * {@link #removeIfLong(LongPredicate)}, and with it {@code removeAll} and
+ * {@code retainAll}, processes large sets one segment per task in parallel,
+ * so the filter must be safe to call from several threads at once.</p>
+ * <p>Iterators and spliterators are <em>weakly consistent</em>. They take a
+ * snapshot of each segment as they reach it, so they never throw
+ * {@link java.util.ConcurrentModificationException} and return every element
+ * present throughout the traversal exactly once. Spliterators split by
+ * segment and report {@link Spliterator#CONCURRENT},
+ * {@link Spliterator#DISTINCT} and {@link Spliterator#NONNULL}.</p>
+ */
+@PrereleaseContent
+public class StripedLongHashSet extends AbstractPrimitiveSet.OfLong {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAX_SEGMENTS = 1 << 16;
+    // Sets smaller than this are filtered sequentially, as the cost of
+    // forking tasks would outweigh the benefit
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final long[] EMPTY = {};
+
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * <p>Constructs a new, empty set with a default expected size, load factor
+     * and concurrency level.</p>
+     */
+    public StripedLongHashSet() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR,
+                DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * <p>Constructs a new, empty set with the specified expected size and the
+     * default load factor and concurrency level.</p>
+     * @param expectedSize the number of elements the set is expected to hold
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public StripedLongHashSet(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * <p>Constructs a new, empty set with the specified expected size, load
+     * factor and concurrency level.</p>
+     * @param expectedSize the number of elements the set is expected to hold
+     * @param loadFactor the load factor of each segment, which must be greater
+     *                   than 0 and smaller than 1
+     * @param concurrencyLevel the expected number of concurrently updating
+     *                         threads; the number of segments is the smallest
+     *                         power of two not less than this, up to
+     *                         2<sup>16</sup>
+     * @throws IllegalArgumentException if the expected size is negative, if
+     * the load factor is not greater than 0 and smaller than 1, or if the
+     * concurrency level is not positive
+     */
+    public StripedLongHashSet(int expectedSize, float loadFactor, int concurrencyLevel) {
+        Hashing.checkArguments(expectedSize, loadFactor);
+        if (concurrencyLevel <= 0)
+            throw new IllegalArgumentException("Illegal concurrency level: " +
+                    concurrencyLevel);
+        int n = 1;
+        while (n < concurrencyLevel && n < MAX_SEGMENTS)
+            n <<= 1;
+        segments = new Segment[n];
+        int perSegment = (int) (((long) expectedSize + n - 1) / n);
+        for (int i = 0; i < n; i++)
+            segments[i] = new Segment(perSegment, loadFactor);
+        // With a single segment, the shift would be 32, which Java reduces to
+        // 0; segmentFor masks the result in that case
+        segmentShift = 32 - Integer.numberOfTrailingZeros(n);
+    }
+
+    /**
+     * <p>Constructs a new set containing the elements in the specified
+     * collection, with the default load factor and concurrency level.</p>
+     * @param c the collection whose elements are to be placed into this set
+     * @throws NullPointerException if the specified collection is null
+     */
+    public StripedLongHashSet(PrimitiveCollection.OfLong c) {
+        this(Math.max(c.size(), Hashing.DEFAULT_EXPECTED_SIZE));
+        addAll(c);
+    }
+
+    // The segment is chosen by the high bits of the hash and the slot within
+    // it by the low bits, so that the two are independent until a segment
+    // grows beyond 2^(32 - log2(segments)) slots.
+    private Segment segmentFor(int h) {
+        return segments[(h >>> segmentShift) & (segments.length - 1)];
+    }
+
+    @Override
+    public boolean addLong(long l) {
+        int h = Hashing.mix(l);
+        return segmentFor(h).add(l, h);
+    }
+
+    @Override
+    public void clear() {
+        for (var segment : segments)
+            segment.clear();
+    }
+
+    @Override
+    public boolean containsLong(long l) {
+        int h = Hashing.mix(l);
+        return segmentFor(h).contains(l, h);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (var segment : segments)
+            if (segment.size != 0)
+                return false;
+        return true;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public boolean removeIfLong(LongPredicate filter) {
+        Objects.requireNonNull(filter);
+        var range = IntStream.range(0, segments.length);
+        if (size() >= PARALLEL_THRESHOLD)
+            range = range.parallel();
+        return range.map(i -> segments[i].removeIf(filter) ? 1 : 0).sum() != 0;
+    }
+
+    @Override
+    public boolean removeLong(long l) {
+        int h = Hashing.mix(l);
+        return segmentFor(h).remove(l, h);
+    }
+
+    @Override
+    public int size() {
+        long n = 0;
+        for (var segment : segments)
+            n += segment.size;
+        return (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new Splitr(0, segments.length);
+    }
+
+    // A segment is an open-addressing table like that of LongHashSet, guarded
+    // by its own lock. The size is volatile so that it can be summed without
+    // taking any locks.
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private final float loadFactor;
+        private long[] table;
+        private boolean containsZero;
+        private int mask;
+        private int maxFill;
+        private volatile int size;
+
+        Segment(int expectedSize, float loadFactor) {
+            this.loadFactor = loadFactor;
+            allocate(Hashing.tableSize(expectedSize, loadFactor));
+        }
+
+        private void allocate(int n) {
+            table = new long[n];
+            mask = n - 1;
+            maxFill = Hashing.maxFill(n, loadFactor);
+        }
+
+        private void rehash(int n) {
+            var old = table;
+            allocate(n);
+            var t = table;
+            int m = mask;
+            for (long k : old) {
+                if (k == 0)
+                    continue;
+                int pos = Hashing.mix(k) & m;
+                while (t[pos] != 0)
+                    pos = (pos + 1) & m;
+                t[pos] = k;
+            }
+        }
+
+        // Under an optimistic read the table may be changing, so the probe is
+        // bounded by the table length; any result is discarded unless the
+        // read is validated.
+        private boolean probe(long l, int h) {
+            if (l == 0)
+                return containsZero;
+            var t = table;
+            int m = t.length - 1;
+            int pos = h & m;
+            for (int n = 0; n <= m; n++) {
+                long cur = t[pos];
+                if (cur == l)
+                    return true;
+                if (cur == 0)
+                    return false;
+                pos = (pos + 1) & m;
+            }
+            return false;
+        }
+
+        boolean contains(long l, int h) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                boolean result = probe(l, h);
+                if (lock.validate(stamp))
+                    return result;
+            }
+            stamp = lock.readLock();
+            try {
+                return probe(l, h);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        boolean add(long l, int h) {
+            long stamp = lock.writeLock();
+            try {
+                if (l == 0) {
+                    if (containsZero)
+                        return false;
+                    containsZero = true;
+                } else {
+                    var t = table;
+                    int m = mask;
+                    int pos = h & m;
+                    long cur;
+                    while ((cur = t[pos]) != 0) {
+                        if (cur == l)
+                            return false;
+                        pos = (pos + 1) & m;
+                    }
+                    t[pos] = l;
+                }
+                int s = size + 1;
+                size = s;
+                if (s > maxFill)
+                    rehash(Hashing.tableSize(s + 1, loadFactor));
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean remove(long l, int h) {
+            long stamp = lock.writeLock();
+            try {
+                if (l == 0) {
+                    if (!containsZero)
+                        return false;
+                    containsZero = false;
+                } else {
+                    var t = table;
+                    int m = mask;
+                    int pos = h & m;
+                    long cur;
+                    while ((cur = t[pos]) != l) {
+                        if (cur == 0)
+                            return false;
+                        pos = (pos + 1) & m;
+                    }
+                    shiftKeys(pos);
+                }
+                size = size - 1;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void shiftKeys(int pos) {
+            var t = table;
+            int m = mask;
+            int last, slot;
+            long cur;
+            for (;;) {
+                pos = ((last = pos) + 1) & m;
+                for (;;) {
+                    if ((cur = t[pos]) == 0) {
+                        t[last] = 0;
+                        return;
+                    }
+                    slot = Hashing.mix(cur) & m;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                        break;
+                    pos = (pos + 1) & m;
+                }
+                t[last] = cur;
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                if (size == 0)
+                    return;
+                Arrays.fill(table, 0);
+                containsZero = false;
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // The filter is applied to every element before any is removed, so
+        // that the segment is left unchanged if it throws; the survivors are
+        // then rehashed into a fresh table of the same length.
+        boolean removeIf(LongPredicate filter) {
+            long stamp = lock.writeLock();
+            try {
+                var t = table;
+                var doomed = new BitSet();
+                for (int i = 0; i < t.length; i++)
+                    if (t[i] != 0 && filter.test(t[i]))
+                        doomed.set(i);
+                boolean removeZero = containsZero && filter.test(0);
+                int removed = doomed.cardinality() + (removeZero ? 1 : 0);
+                if (removed == 0)
+                    return false;
+                if (removeZero)
+                    containsZero = false;
+                if (!doomed.isEmpty()) {
+                    for (int i = doomed.nextSetBit(0); i >= 0; i = doomed.nextSetBit(i + 1))
+                        t[i] = 0;
+                    rehash(t.length);
+                }
+                size = size - removed;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        long[] toArray() {
+            long stamp = lock.readLock();
+            try {
+                if (size == 0)
+                    return EMPTY;
+                var a = new long[size];
+                int j = 0;
+                if (containsZero)
+                    j++;
+                for (long k : table)
+                    if (k != 0)
+                        a[j++] = k;
+                return a;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private final class Itr implements PrimitiveIterator.OfLong {
+        private int segment;
+        private long[] batch = EMPTY;
+        private int index;
+        private long last;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext() {
+            while (index == batch.length) {
+                if (segment == segments.length)
+                    return false;
+                batch = segments[segment++].toArray();
+                index = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            canRemove = true;
+            return last = batch[index++];
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove)
+                throw new IllegalStateException();
+            canRemove = false;
+            removeLong(last);
+        }
+    }
+
+    // Splits the range of segments in half. A spliterator covering a single
+    // segment does not split, and traverses a snapshot of it.
+    private final class Splitr implements Spliterator.OfLong {
+        private int segment;
+        private final int fence;
+        private long[] batch = EMPTY;
+        private int index;
+
+        Splitr(int origin, int fence) {
+            this.segment = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+
+        @Override
+        public long estimateSize() {
+            long n = batch.length - index;
+            for (int i = segment; i < fence; i++)
+                n += segments[i].size;
+            return n;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            for (;;) {
+                var b = batch;
+                for (int i = index; i < b.length; i++)
+                    action.accept(b[i]);
+                index = b.length;
+                if (segment == fence)
+                    return;
+                batch = segments[segment++].toArray();
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            while (index == batch.length) {
+                if (segment == fence)
+                    return false;
+                batch = segments[segment++].toArray();
+                index = 0;
+            }
+            action.accept(batch[index++]);
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int lo = segment, mid = (lo + fence) >>> 1;
+            if (mid <= lo)
+                return null;
+            segment = mid;
+            return new Splitr(lo, mid);
+        }
+    }
+}
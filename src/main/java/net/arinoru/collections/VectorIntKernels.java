@@ -0,0 +1,84 @@
+package net.arinoru.collections;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+import net.arinoru.prerelease.PrereleaseContent;
+
+/**
+ * Internal implementation of {@link IntKernels.Vectorized} on the incubating
+ * Vector API, using the widest vector shape supported by the platform. This
+ * class must only be loaded once {@code jdk.incubator.vector} is known to be
+ * present in the boot layer.
+ *
+ * <p>The sorted-array operations load the first array a vector at a time,
+ * skipping each window whose last lane is below the next element of the
+ * second array. Every element of the second array which falls within a
+ * window is then broadcast and compared against all of its lanes at once.
+ * The elements past the last whole window are merged by
+ * {@link IntKernels}.</p>
+ */
+@PrereleaseContent
+final class VectorIntKernels implements IntKernels.Vectorized {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    public int length() {
+        return LANES;
+    }
+
+    @Override
+    public int indexOf(int[] a, int from, int to, int key) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += LANES) {
+            var eq = IntVector.fromArray(SPECIES, a, i).eq(key);
+            if (eq.anyTrue())
+                return i + eq.firstTrue();
+        }
+        return IntKernels.scalarIndexOf(a, i, to, key);
+    }
+
+    @Override
+    public boolean containsAllSorted(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        for (int bound = a.length - LANES; j < b.length; ) {
+            int key = b[j];
+            while (i <= bound && a[i + LANES - 1] < key)
+                i += LANES;
+            if (i > bound)
+                break;
+            var window = IntVector.fromArray(SPECIES, a, i);
+            int last = a[i + LANES - 1];
+            do {
+                if (!window.eq(b[j]).anyTrue())
+                    return false;
+            } while (++j < b.length && b[j] <= last);
+            i += LANES;
+        }
+        return IntKernels.scalarContainsAllSorted(a, i, b, j);
+    }
+
+    @Override
+    public int intersectSorted(int[] a, int[] b, int[] result) {
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        for (int bound = a.length - LANES; j < b.length; ) {
+            int key = b[j];
+            while (i <= bound && a[i + LANES - 1] < key)
+                i += LANES;
+            if (i > bound)
+                break;
+            var window = IntVector.fromArray(SPECIES, a, i);
+            int last = a[i + LANES - 1];
+            do {
+                int k = b[j];
+                if (window.eq(k).anyTrue())
+                    result[n++] = k;
+            } while (++j < b.length && b[j] <= last);
+            i += LANES;
+        }
+        return IntKernels.scalarIntersectSorted(a, i, b, j, result, n);
+    }
+}
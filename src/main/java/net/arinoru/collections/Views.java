@@ -146,18 +146,30 @@ class Views {
         private final DELEGATE_TYPE delegate;
         private final ForwardingType forwardingType;
         private final boolean subViewsRequireMasking;
+        // The delegate when forwarding is PURE, and null otherwise; views test
+        // it before anything else, so that the common case is a direct call
+        // with neither a lambda nor a switch on the forwarding type
+        final VIEW_TYPE pure;
 
+        @SuppressWarnings("unchecked")
         Forwarder(DELEGATE_TYPE delegate,
                   ForwardingType forwardingType,
                   boolean isUnmodifiableView) {
             this.delegate = delegate;
             this.forwardingType = forwardingType;
+            pure = forwardingType == ForwardingType.PURE ? (VIEW_TYPE) delegate : null;
             if (delegate instanceof UnmodifiableView)
                 subViewsRequireMasking = false;
             else
                 subViewsRequireMasking = isUnmodifiableView;
         }
 
+        // Minimal forwarding cannot enumerate the elements of the delegate, so
+        // views which use it keep their default serialized form
+        boolean isMinimal() {
+            return forwardingType == ForwardingType.MINIMAL;
+        }
+
         @SuppressWarnings("unchecked")
         VIEW_TYPE asViewType() {
             return switch (forwardingType) {
@@ -391,14 +403,22 @@ class Views {
 
         @Override
         public void forEachRemaining(Consumer<? super Double> action) {
-            forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
-                    () -> OfDouble.super.forEachRemaining(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEachRemaining(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
+                        () -> OfDouble.super.forEachRemaining(action));
         }
 
         @Override
         public void forEachRemaining(DoubleConsumer action) {
-            forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
-                    () -> OfDouble.super.forEachRemaining(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEachRemaining(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
+                        () -> OfDouble.super.forEachRemaining(action));
         }
 
         @Override
@@ -408,11 +428,17 @@ class Views {
 
         @Override
         public Double next() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.next();
             return forwarder().boxedOp(Iterator::next, OfDouble.super::next);
         }
 
         @Override
         public double nextDouble() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.nextDouble();
             return forwarder().doubleOp(OfDouble::nextDouble);
         }
 
@@ -490,14 +516,22 @@ class Views {
 
         @Override
         public void forEachRemaining(Consumer<? super Integer> action) {
-            forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
-                    () -> OfInt.super.forEachRemaining(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEachRemaining(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
+                        () -> OfInt.super.forEachRemaining(action));
         }
 
         @Override
         public void forEachRemaining(IntConsumer action) {
-            forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
-                    () -> OfInt.super.forEachRemaining(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEachRemaining(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
+                        () -> OfInt.super.forEachRemaining(action));
         }
 
         @Override
@@ -507,11 +541,17 @@ class Views {
 
         @Override
         public Integer next() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.next();
             return forwarder().boxedOp(Iterator::next, OfInt.super::next);
         }
 
         @Override
         public int nextInt() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.nextInt();
             return forwarder().intOp(OfInt::nextInt);
         }
 
@@ -589,14 +629,22 @@ class Views {
 
         @Override
         public void forEachRemaining(Consumer<? super Long> action) {
-            forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
-                    () -> OfLong.super.forEachRemaining(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEachRemaining(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
+                        () -> OfLong.super.forEachRemaining(action));
         }
 
         @Override
         public void forEachRemaining(LongConsumer action) {
-            forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
-                    () -> OfLong.super.forEachRemaining(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEachRemaining(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEachRemaining(action),
+                        () -> OfLong.super.forEachRemaining(action));
         }
 
         @Override
@@ -606,11 +654,17 @@ class Views {
 
         @Override
         public Long next() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.next();
             return forwarder().boxedOp(Iterator::next, OfLong.super::next);
         }
 
         @Override
         public long nextLong() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.nextLong();
             return forwarder().longOp(OfLong::nextLong);
         }
 
@@ -880,34 +934,55 @@ class Views {
         @Override
         public void clear() {
             checkNotUnmodifiable(this);
-            forwarder().voidOp(Collection::clear, PrimitiveCollection.super::clear);
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.clear();
+            else
+                forwarder().voidOp(Collection::clear, PrimitiveCollection.super::clear);
         }
 
         @Override
         public void forEach(Consumer<? super T> action) {
-            forwarder().voidOp(delegate -> delegate.forEach(action),
-                    () -> PrimitiveCollection.super.forEach(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEach(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEach(action),
+                        () -> PrimitiveCollection.super.forEach(action));
         }
 
         @Override
         public void forEach(T_CONS action) {
-            forwarder().voidOp(delegate -> delegate.forEach(action),
-                    () -> PrimitiveCollection.super.forEach(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEach(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEach(action),
+                        () -> PrimitiveCollection.super.forEach(action));
         }
 
         @Override
         public int hashCode() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.hashCode();
             return forwarder().intOp(Object::hashCode, super::hashCode);
         }
 
         @Override
         public boolean isEmpty() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.isEmpty();
             return forwarder().predicateOp(Collection::isEmpty,
                     PrimitiveCollection.super::isEmpty);
         }
 
         @Override
         public Stream<T> parallelStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.parallelStream();
             return forwarder().boxedOp(Collection::parallelStream,
                     PrimitiveCollection.super::parallelStream);
         }
@@ -919,24 +994,36 @@ class Views {
 
         @Override
         public Stream<T> stream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.stream();
             return forwarder().boxedOp(Collection::stream,
                     PrimitiveCollection.super::stream);
         }
 
         @Override
         public Object[] toArray() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toArray();
             return forwarder().boxedOp(Collection::toArray,
                     PrimitiveCollection.super::toArray);
         }
 
         @Override
         public <U> U[] toArray(IntFunction<U[]> generator) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toArray(generator);
             return forwarder().boxedOp(delegate -> delegate.toArray(generator),
                     () -> PrimitiveCollection.super.toArray(generator));
         }
 
         @Override
         public <U> U[] toArray(U[] a) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toArray(a);
             return forwarder().boxedOp(delegate -> delegate.toArray(a),
                     () -> PrimitiveCollection.super.toArray(a));
         }
@@ -950,6 +1037,9 @@ class Views {
         @Override
         public boolean add(Double t) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.add(t);
             return forwarder().predicateOp(delegate -> delegate.add(t),
                     () -> OfDouble.super.add(t));
         }
@@ -957,6 +1047,9 @@ class Views {
         @Override
         public boolean addAll(Collection<? extends Double> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.addAll(collection),
                     () -> OfDouble.super.addAll(collection));
@@ -965,6 +1058,9 @@ class Views {
         @Override
         public boolean addAll(OfDouble collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.addAll(collection),
                     () -> OfDouble.super.addAll(collection));
@@ -973,18 +1069,27 @@ class Views {
         @Override
         public boolean addDouble(double d) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addDouble(d);
             return forwarder().predicateOp(delegate -> delegate.addDouble(d),
                     () -> OfDouble.super.addDouble(d));
         }
 
         @Override
         public boolean contains(Object o) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.contains(o);
             return forwarder().predicateOp(delegate -> delegate.contains(o),
                     () -> OfDouble.super.contains(o));
         }
 
         @Override
         public boolean containsAll(Collection<?> collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfDouble.super.containsAll(collection));
@@ -992,6 +1097,9 @@ class Views {
 
         @Override
         public boolean containsAll(OfDouble collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                     delegate.containsAll(collection),
                     () -> OfDouble.super.containsAll(collection));
@@ -999,6 +1107,9 @@ class Views {
 
         @Override
         public boolean containsDouble(double d) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsDouble(d);
             return forwarder().predicateOp(delegate ->
                             delegate.containsDouble(d),
                     () -> OfDouble.super.containsDouble(d));
@@ -1006,18 +1117,26 @@ class Views {
 
         @Override
         public PrimitiveIterator.OfDouble iterator() {
-            return forwarder().maskIfNeeded(forwarder().boxedOp(OfDouble::iterator),
+            var pure = forwarder().pure;
+            return forwarder().maskIfNeeded(pure != null ? pure.iterator() :
+                            forwarder().boxedOp(OfDouble::iterator),
                     Views::unmodifiableDoubleIteratorView);
         }
 
         @Override
         public DoubleStream parallelPrimitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.parallelPrimitiveStream();
             return forwarder().boxedOp(OfDouble::parallelPrimitiveStream,
                     OfDouble.super::parallelPrimitiveStream);
         }
 
         @Override
         public DoubleStream primitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.primitiveStream();
             return forwarder().boxedOp(OfDouble::primitiveStream,
                     OfDouble.super::primitiveStream);
         }
@@ -1025,6 +1144,9 @@ class Views {
         @Override
         public boolean remove(Object o) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.remove(o);
             return forwarder().predicateOp(delegate -> delegate.remove(o),
                     () -> OfDouble.super.remove(o));
         }
@@ -1032,6 +1154,9 @@ class Views {
         @Override
         public boolean removeAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.removeAll(collection),
                     () -> OfDouble.super.removeAll(collection));
@@ -1040,6 +1165,9 @@ class Views {
         @Override
         public boolean removeAll(OfDouble collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.removeAll(collection),
                     () -> OfDouble.super.removeAll(collection));
@@ -1048,6 +1176,9 @@ class Views {
         @Override
         public boolean removeDouble(double d) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeDouble(d);
             return forwarder().predicateOp(delegate ->
                             delegate.removeDouble(d),
                     () -> OfDouble.super.removeDouble(d));
@@ -1056,6 +1187,9 @@ class Views {
         @Override
         public boolean removeIf(DoublePredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate ->
                             delegate.removeIf(filter),
                     () -> OfDouble.super.removeIf(filter));
@@ -1064,6 +1198,9 @@ class Views {
         @Override
         public boolean removeIf(Predicate<? super Double> filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate ->
                             delegate.removeIf(filter),
                     () -> OfDouble.super.removeIf(filter));
@@ -1072,6 +1209,9 @@ class Views {
         @Override
         public boolean removeIfDouble(DoublePredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIfDouble(filter);
             return forwarder().predicateOp(delegate ->
                             delegate.removeIfDouble(filter),
                     () -> OfDouble.super.removeIfDouble(filter));
@@ -1080,6 +1220,9 @@ class Views {
         @Override
         public boolean retainAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfDouble.super.retainAll(collection));
@@ -1088,6 +1231,9 @@ class Views {
         @Override
         public boolean retainAll(OfDouble collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfDouble.super.retainAll(collection));
@@ -1095,12 +1241,18 @@ class Views {
 
         @Override
         public Spliterator.OfDouble spliterator() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.spliterator();
             return forwarder().boxedOp(OfDouble::spliterator,
                     OfDouble.super::spliterator);
         }
 
         @Override
         public double[] toPrimitiveArray() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toPrimitiveArray();
             return forwarder().boxedOp(OfDouble::toPrimitiveArray,
                     OfDouble.super::toPrimitiveArray);
         }
@@ -1135,6 +1287,10 @@ class Views {
         public Forwarder<Collection<?>,PrimitiveCollection.OfDouble> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, true);
+        }
     }
 
     @PrereleaseContent
@@ -1166,6 +1322,10 @@ class Views {
         public Forwarder<Collection<?>,PrimitiveCollection.OfDouble> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, false);
+        }
     }
 
     @PrereleaseContent
@@ -1176,6 +1336,9 @@ class Views {
         @Override
         public boolean add(Integer t) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.add(t);
             return forwarder().predicateOp(delegate -> delegate.add(t),
                     () -> OfInt.super.add(t));
         }
@@ -1183,6 +1346,9 @@ class Views {
         @Override
         public boolean addAll(Collection<? extends Integer> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate -> delegate.addAll(collection),
                     () -> OfInt.super.addAll(collection));
         }
@@ -1190,6 +1356,9 @@ class Views {
         @Override
         public boolean addAll(OfInt collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate -> delegate.addAll(collection),
                     () -> OfInt.super.addAll(collection));
         }
@@ -1197,54 +1366,80 @@ class Views {
         @Override
         public boolean addInt(int i) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addInt(i);
             return forwarder().predicateOp(delegate -> delegate.addInt(i),
                     () -> OfInt.super.addInt(i));
         }
 
         @Override
         public boolean contains(Object o) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.contains(o);
             return forwarder().predicateOp(delegate -> delegate.contains(o),
                     () -> OfInt.super.contains(o));
         }
 
         @Override
         public boolean containsAll(Collection<?> collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate -> delegate.containsAll(collection),
                     () -> OfInt.super.containsAll(collection));
         }
 
         @Override
         public boolean containsAll(OfInt collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate -> delegate.containsAll(collection),
                     () -> OfInt.super.containsAll(collection));
         }
 
         @Override
         public boolean containsInt(int i) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsInt(i);
             return forwarder().predicateOp(delegate -> delegate.containsInt(i),
                     () -> OfInt.super.containsInt(i));
         }
 
         @Override
         public PrimitiveIterator.OfInt iterator() {
-            return forwarder().maskIfNeeded(forwarder().boxedOp(OfInt::iterator),
+            var pure = forwarder().pure;
+            return forwarder().maskIfNeeded(pure != null ? pure.iterator() :
+                            forwarder().boxedOp(OfInt::iterator),
                     Views::unmodifiableIntIteratorView);
         }
 
         @Override
         public IntStream parallelPrimitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.parallelPrimitiveStream();
             return forwarder().boxedOp(OfInt::parallelPrimitiveStream,
                     OfInt.super::parallelPrimitiveStream);
         }
 
         @Override
         public IntStream primitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.primitiveStream();
             return forwarder().boxedOp(OfInt::primitiveStream, OfInt.super::primitiveStream);
         }
 
         @Override
         public boolean remove(Object o) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.remove(o);
             return forwarder().predicateOp(delegate -> delegate.remove(o),
                     () -> OfInt.super.remove(o));
         }
@@ -1252,6 +1447,9 @@ class Views {
         @Override
         public boolean removeAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate -> delegate.removeAll(collection),
                     () -> OfInt.super.removeAll(collection));
         }
@@ -1259,6 +1457,9 @@ class Views {
         @Override
         public boolean removeAll(OfInt collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate -> delegate.removeAll(collection),
                     () -> OfInt.super.removeAll(collection));
         }
@@ -1266,6 +1467,9 @@ class Views {
         @Override
         public boolean removeIf(IntPredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIf(filter),
                     () -> OfInt.super.removeIf(filter));
         }
@@ -1273,6 +1477,9 @@ class Views {
         @Override
         public boolean removeIf(Predicate<? super Integer> filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIf(filter),
                     () -> OfInt.super.removeIf(filter));
         }
@@ -1280,6 +1487,9 @@ class Views {
         @Override
         public boolean removeIfInt(IntPredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIfInt(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIfInt(filter),
                     () -> OfInt.super.removeIfInt(filter));
         }
@@ -1287,6 +1497,9 @@ class Views {
         @Override
         public boolean removeInt(int i) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeInt(i);
             return forwarder().predicateOp(delegate -> delegate.removeInt(i),
                     () -> OfInt.super.removeInt(i));
         }
@@ -1294,6 +1507,9 @@ class Views {
         @Override
         public boolean retainAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate -> delegate.retainAll(collection),
                     () -> OfInt.super.retainAll(collection));
         }
@@ -1301,17 +1517,26 @@ class Views {
         @Override
         public boolean retainAll(OfInt collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate -> delegate.retainAll(collection),
                     () -> OfInt.super.retainAll(collection));
         }
 
         @Override
         public Spliterator.OfInt spliterator() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.spliterator();
             return forwarder().boxedOp(OfInt::spliterator, OfInt.super::spliterator);
         }
 
         @Override
         public int[] toPrimitiveArray() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toPrimitiveArray();
             return forwarder().boxedOp(OfInt::toPrimitiveArray,
                     OfInt.super::toPrimitiveArray);
         }
@@ -1346,6 +1571,10 @@ class Views {
         protected Forwarder<Collection<?>,PrimitiveCollection.OfInt> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, true);
+        }
     }
 
     @PrereleaseContent
@@ -1376,6 +1605,10 @@ class Views {
         protected Forwarder<Collection<?>,PrimitiveCollection.OfInt> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, false);
+        }
     }
 
     @PrereleaseContent
@@ -1385,6 +1618,9 @@ class Views {
         @Override
         public boolean add(Long t) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.add(t);
             return forwarder().predicateOp(delegate -> delegate.add(t),
                     () -> OfLong.super.add(t));
         }
@@ -1392,6 +1628,9 @@ class Views {
         @Override
         public boolean addAll(Collection<? extends Long> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate -> delegate.addAll(collection),
                     () -> OfLong.super.addAll(collection));
         }
@@ -1399,6 +1638,9 @@ class Views {
         @Override
         public boolean addAll(OfLong collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate -> delegate.addAll(collection),
                     () -> OfLong.super.addAll(collection));
         }
@@ -1406,18 +1648,27 @@ class Views {
         @Override
         public boolean addLong(long l) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addLong(l);
             return forwarder().predicateOp(delegate -> delegate.addLong(l),
                     () -> OfLong.super.addLong(l));
         }
 
         @Override
         public boolean contains(Object o) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.contains(o);
             return forwarder().predicateOp(delegate -> delegate.contains(o),
                     () -> OfLong.super.contains(o));
         }
 
         @Override
         public boolean containsAll(Collection<?> collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfLong.super.containsAll(collection));
@@ -1425,6 +1676,9 @@ class Views {
 
         @Override
         public boolean containsAll(OfLong collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfLong.super.containsAll(collection));
@@ -1432,24 +1686,35 @@ class Views {
 
         @Override
         public boolean containsLong(long l) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsLong(l);
             return forwarder().predicateOp(delegate -> delegate.containsLong(l),
                     () -> OfLong.super.containsLong(l));
         }
 
         @Override
         public PrimitiveIterator.OfLong iterator() {
-            return forwarder().maskIfNeeded(forwarder().boxedOp(OfLong::iterator),
+            var pure = forwarder().pure;
+            return forwarder().maskIfNeeded(pure != null ? pure.iterator() :
+                            forwarder().boxedOp(OfLong::iterator),
                     Views::unmodifiableLongIteratorView);
         }
 
         @Override
         public LongStream parallelPrimitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.parallelPrimitiveStream();
             return forwarder().boxedOp(OfLong::parallelPrimitiveStream,
                     OfLong.super::parallelPrimitiveStream);
         }
 
         @Override
         public LongStream primitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.primitiveStream();
             return forwarder().boxedOp(OfLong::primitiveStream,
                     OfLong.super::primitiveStream);
         }
@@ -1457,6 +1722,9 @@ class Views {
         @Override
         public boolean remove(Object o) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.remove(o);
             return forwarder().predicateOp(delegate -> delegate.remove(o),
                     () -> OfLong.super.remove(o));
         }
@@ -1464,6 +1732,9 @@ class Views {
         @Override
         public boolean removeAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate -> delegate.removeAll(collection),
                     () -> OfLong.super.removeAll(collection));
         }
@@ -1471,6 +1742,9 @@ class Views {
         @Override
         public boolean removeAll(OfLong collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate -> delegate.removeAll(collection),
                     () -> OfLong.super.removeAll(collection));
         }
@@ -1478,6 +1752,9 @@ class Views {
         @Override
         public boolean removeIf(LongPredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIf(filter),
                     () -> OfLong.super.removeIf(filter));
         }
@@ -1485,6 +1762,9 @@ class Views {
         @Override
         public boolean removeIf(Predicate<? super Long> filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIf(filter),
                     () -> OfLong.super.removeIf(filter));
         }
@@ -1492,6 +1772,9 @@ class Views {
         @Override
         public boolean removeIfLong(LongPredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIfLong(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIfLong(filter),
                     () -> OfLong.super.removeIfLong(filter));
         }
@@ -1499,6 +1782,9 @@ class Views {
         @Override
         public boolean removeLong(long l) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeLong(l);
             return forwarder().predicateOp(delegate -> delegate.removeLong(l),
                     () -> OfLong.super.removeLong(l));
         }
@@ -1506,6 +1792,9 @@ class Views {
         @Override
         public boolean retainAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                     delegate.retainAll(collection),
                     () -> OfLong.super.retainAll(collection));
@@ -1514,6 +1803,9 @@ class Views {
         @Override
         public boolean retainAll(OfLong collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfLong.super.retainAll(collection));
@@ -1521,11 +1813,17 @@ class Views {
 
         @Override
         public Spliterator.OfLong spliterator() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.spliterator();
             return forwarder().boxedOp(OfLong::spliterator, OfLong.super::spliterator);
         }
 
         @Override
         public long[] toPrimitiveArray() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toPrimitiveArray();
             return forwarder().boxedOp(OfLong::toPrimitiveArray,
                     OfLong.super::toPrimitiveArray);
         }
@@ -1560,6 +1858,10 @@ class Views {
         protected Forwarder<Collection<?>,PrimitiveCollection.OfLong> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, true);
+        }
     }
 
     @PrereleaseContent
@@ -1590,6 +1892,10 @@ class Views {
         protected Forwarder<Collection<?>,PrimitiveCollection.OfLong> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, false);
+        }
     }
 
     @PrereleaseContent
@@ -1793,41 +2099,65 @@ class Views {
         @Override
         public void clear() {
             checkNotUnmodifiable(this);
-            forwarder().voidOp(Set::clear, PrimitiveSet.super::clear);
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.clear();
+            else
+                forwarder().voidOp(Set::clear, PrimitiveSet.super::clear);
         }
 
         @Override
         @SuppressWarnings("EqualsDoesntCheckParameterClass")
         public boolean equals(Object o) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.equals(o);
             return forwarder().predicateOp(delegate -> delegate.equals(o),
                     () -> PrimitiveCollections.equals(this, o));
         }
 
         @Override
         public void forEach(Consumer<? super T> action) {
-            forwarder().voidOp(delegate -> delegate.forEach(action),
-                    () -> PrimitiveSet.super.forEach(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEach(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEach(action),
+                        () -> PrimitiveSet.super.forEach(action));
         }
 
         @Override
         public void forEach(T_CONS action) {
-            forwarder().voidOp(delegate -> delegate.forEach(action),
-                    () -> PrimitiveSet.super.forEach(action));
+            var pure = forwarder().pure;
+            if (pure != null)
+                pure.forEach(action);
+            else
+                forwarder().voidOp(delegate -> delegate.forEach(action),
+                        () -> PrimitiveSet.super.forEach(action));
         }
 
         @Override
         public int hashCode() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.hashCode();
             return forwarder().intOp(PrimitiveSet::hashCode,
                     () -> PrimitiveCollections.hashCode(this));
         }
 
         @Override
         public boolean isEmpty() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.isEmpty();
             return forwarder().predicateOp(Set::isEmpty, PrimitiveSet.super::isEmpty);
         }
 
         @Override
         public Stream<T> parallelStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.parallelStream();
             return forwarder().boxedOp(Set::parallelStream,
                     PrimitiveSet.super::parallelStream);
         }
@@ -1839,22 +2169,34 @@ class Views {
 
         @Override
         public Stream<T> stream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.stream();
             return forwarder().boxedOp(Set::stream, PrimitiveSet.super::stream);
         }
 
         @Override
         public Object[] toArray() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toArray();
             return forwarder().boxedOp(Set::toArray, PrimitiveSet.super::toArray);
         }
 
         @Override
         public <U> U[] toArray(IntFunction<U[]> generator) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toArray(generator);
             return forwarder().boxedOp(delegate -> delegate.toArray(generator),
                     () -> PrimitiveSet.super.toArray(generator));
         }
 
         @Override
         public <U> U[] toArray(U[] a) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toArray(a);
             return forwarder().boxedOp(delegate -> delegate.toArray(a),
                     () -> PrimitiveSet.super.toArray(a));
         }
@@ -1868,6 +2210,9 @@ class Views {
         @Override
         public boolean add(Double t) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.add(t);
             return forwarder().predicateOp(delegate -> delegate.add(t),
                     () -> OfDouble.super.add(t));
         }
@@ -1875,6 +2220,9 @@ class Views {
         @Override
         public boolean addAll(Collection<? extends Double> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.addAll(collection),
                     () -> OfDouble.super.addAll(collection));
@@ -1883,6 +2231,9 @@ class Views {
         @Override
         public boolean addAll(PrimitiveCollection.OfDouble collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.addAll(collection),
                     () -> OfDouble.super.addAll(collection));
@@ -1891,18 +2242,27 @@ class Views {
         @Override
         public boolean addDouble(double d) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addDouble(d);
             return forwarder().predicateOp(delegate -> delegate.addDouble(d),
                     () -> OfDouble.super.addDouble(d));
         }
 
         @Override
         public boolean contains(Object o) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.contains(o);
             return forwarder().predicateOp(delegate -> delegate.contains(o),
                     () -> OfDouble.super.contains(o));
         }
 
         @Override
         public boolean containsAll(Collection<?> collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfDouble.super.containsAll(collection));
@@ -1910,6 +2270,9 @@ class Views {
 
         @Override
         public boolean containsAll(PrimitiveCollection.OfDouble collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfDouble.super.containsAll(collection));
@@ -1917,6 +2280,9 @@ class Views {
 
         @Override
         public boolean containsDouble(double d) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsDouble(d);
             return forwarder().predicateOp(delegate ->
                             delegate.containsDouble(d),
                     () -> OfDouble.super.containsDouble(d));
@@ -1924,18 +2290,26 @@ class Views {
 
         @Override
         public PrimitiveIterator.OfDouble iterator() {
-            return forwarder().maskIfNeeded(forwarder().boxedOp(OfDouble::iterator),
+            var pure = forwarder().pure;
+            return forwarder().maskIfNeeded(pure != null ? pure.iterator() :
+                            forwarder().boxedOp(OfDouble::iterator),
                     Views::unmodifiableDoubleIteratorView);
         }
 
         @Override
         public DoubleStream parallelPrimitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.parallelPrimitiveStream();
             return forwarder().boxedOp(OfDouble::parallelPrimitiveStream,
                     OfDouble.super::parallelPrimitiveStream);
         }
 
         @Override
         public DoubleStream primitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.primitiveStream();
             return forwarder().boxedOp(OfDouble::primitiveStream,
                     OfDouble.super::primitiveStream);
         }
@@ -1943,6 +2317,9 @@ class Views {
         @Override
         public boolean remove(Object o) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.remove(o);
             return forwarder().predicateOp(delegate -> delegate.remove(o),
                     () -> OfDouble.super.remove(o));
         }
@@ -1950,6 +2327,9 @@ class Views {
         @Override
         public boolean removeAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.removeAll(collection),
                     () -> OfDouble.super.removeAll(collection));
@@ -1958,6 +2338,9 @@ class Views {
         @Override
         public boolean removeAll(PrimitiveCollection.OfDouble collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.removeAll(collection),
                     () -> OfDouble.super.removeAll(collection));
@@ -1966,6 +2349,9 @@ class Views {
         @Override
         public boolean removeDouble(double d) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeDouble(d);
             return forwarder().predicateOp(delegate ->
                             delegate.removeDouble(d),
                     () -> OfDouble.super.removeDouble(d));
@@ -1974,6 +2360,9 @@ class Views {
         @Override
         public boolean removeIf(DoublePredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate ->
                             delegate.removeIf(filter),
                     () -> OfDouble.super.removeIf(filter));
@@ -1982,6 +2371,9 @@ class Views {
         @Override
         public boolean removeIf(Predicate<? super Double> filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate ->
                             delegate.removeIf(filter),
                     () -> OfDouble.super.removeIf(filter));
@@ -1990,6 +2382,9 @@ class Views {
         @Override
         public boolean removeIfDouble(DoublePredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIfDouble(filter);
             return forwarder().predicateOp(delegate ->
                             delegate.removeIfDouble(filter),
                     () -> OfDouble.super.removeIfDouble(filter));
@@ -1998,6 +2393,9 @@ class Views {
         @Override
         public boolean retainAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfDouble.super.retainAll(collection));
@@ -2006,6 +2404,9 @@ class Views {
         @Override
         public boolean retainAll(PrimitiveCollection.OfDouble collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfDouble.super.retainAll(collection));
@@ -2013,12 +2414,18 @@ class Views {
 
         @Override
         public Spliterator.OfDouble spliterator() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.spliterator();
             return forwarder().boxedOp(OfDouble::spliterator,
                     OfDouble.super::spliterator);
         }
 
         @Override
         public double[] toPrimitiveArray() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toPrimitiveArray();
             return forwarder().boxedOp(OfDouble::toPrimitiveArray,
                     OfDouble.super::toPrimitiveArray);
         }
@@ -2053,6 +2460,10 @@ class Views {
         protected Forwarder<Set<?>,PrimitiveSet.OfDouble> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, true);
+        }
     }
 
     @PrereleaseContent
@@ -2083,6 +2494,10 @@ class Views {
         protected Forwarder<Set<?>,PrimitiveSet.OfDouble> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, false);
+        }
     }
 
     @PrereleaseContent
@@ -2093,6 +2508,9 @@ class Views {
         @Override
         public boolean add(Integer t) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.add(t);
             return forwarder().predicateOp(delegate -> delegate.add(t),
                     () -> OfInt.super.add(t));
         }
@@ -2100,6 +2518,9 @@ class Views {
         @Override
         public boolean addAll(Collection<? extends Integer> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.addAll(collection),
                     () -> OfInt.super.addAll(collection));
@@ -2108,6 +2529,9 @@ class Views {
         @Override
         public boolean addAll(PrimitiveCollection.OfInt collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.addAll(collection),
                     () -> OfInt.super.addAll(collection));
@@ -2116,18 +2540,27 @@ class Views {
         @Override
         public boolean addInt(int i) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addInt(i);
             return forwarder().predicateOp(delegate -> delegate.addInt(i),
                     () -> OfInt.super.addInt(i));
         }
 
         @Override
         public boolean contains(Object o) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.contains(o);
             return forwarder().predicateOp(delegate -> delegate.contains(o),
                     () -> OfInt.super.contains(o));
         }
 
         @Override
         public boolean containsAll(Collection<?> collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfInt.super.containsAll(collection));
@@ -2135,6 +2568,9 @@ class Views {
 
         @Override
         public boolean containsAll(PrimitiveCollection.OfInt collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfInt.super.containsAll(collection));
@@ -2142,24 +2578,35 @@ class Views {
 
         @Override
         public boolean containsInt(int i) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsInt(i);
             return forwarder().predicateOp(delegate -> delegate.containsInt(i),
                     () -> OfInt.super.containsInt(i));
         }
 
         @Override
         public PrimitiveIterator.OfInt iterator() {
-            return forwarder().maskIfNeeded(forwarder().boxedOp(OfInt::iterator),
+            var pure = forwarder().pure;
+            return forwarder().maskIfNeeded(pure != null ? pure.iterator() :
+                            forwarder().boxedOp(OfInt::iterator),
                     Views::unmodifiableIntIteratorView);
         }
 
         @Override
         public IntStream parallelPrimitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.parallelPrimitiveStream();
             return forwarder().boxedOp(OfInt::parallelPrimitiveStream,
                     OfInt.super::parallelPrimitiveStream);
         }
 
         @Override
         public IntStream primitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.primitiveStream();
             return forwarder().boxedOp(OfInt::primitiveStream,
                     OfInt.super::primitiveStream);
         }
@@ -2167,6 +2614,9 @@ class Views {
         @Override
         public boolean remove(Object o) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.remove(o);
             return forwarder().predicateOp(delegate -> delegate.remove(o),
                     () -> OfInt.super.remove(o));
         }
@@ -2174,6 +2624,9 @@ class Views {
         @Override
         public boolean removeAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.removeAll(collection),
                     () -> OfInt.super.removeAll(collection));
@@ -2182,6 +2635,9 @@ class Views {
         @Override
         public boolean removeAll(PrimitiveCollection.OfInt collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.removeAll(collection),
                     () -> OfInt.super.removeAll(collection));
@@ -2190,6 +2646,9 @@ class Views {
         @Override
         public boolean removeIf(IntPredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIf(filter),
                     () -> OfInt.super.removeIf(filter));
         }
@@ -2197,6 +2656,9 @@ class Views {
         @Override
         public boolean removeIf(Predicate<? super Integer> filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIf(filter),
                     () -> OfInt.super.removeIf(filter));
         }
@@ -2204,6 +2666,9 @@ class Views {
         @Override
         public boolean removeIfInt(IntPredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIfInt(filter);
             return forwarder().predicateOp(delegate ->
                             delegate.removeIfInt(filter),
                     () -> OfInt.super.removeIfInt(filter));
@@ -2212,6 +2677,9 @@ class Views {
         @Override
         public boolean removeInt(int i) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeInt(i);
             return forwarder().predicateOp(delegate -> delegate.removeInt(i),
                     () -> OfInt.super.removeInt(i));
         }
@@ -2219,6 +2687,9 @@ class Views {
         @Override
         public boolean retainAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfInt.super.retainAll(collection));
@@ -2227,6 +2698,9 @@ class Views {
         @Override
         public boolean retainAll(PrimitiveCollection.OfInt collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfInt.super.retainAll(collection));
@@ -2234,11 +2708,17 @@ class Views {
 
         @Override
         public Spliterator.OfInt spliterator() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.spliterator();
             return forwarder().boxedOp(OfInt::spliterator, OfInt.super::spliterator);
         }
 
         @Override
         public int[] toPrimitiveArray() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toPrimitiveArray();
             return forwarder().boxedOp(OfInt::toPrimitiveArray,
                     OfInt.super::toPrimitiveArray);
         }
@@ -2273,6 +2753,10 @@ class Views {
         protected Forwarder<Set<?>,PrimitiveSet.OfInt> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, true);
+        }
     }
 
     @PrereleaseContent
@@ -2303,6 +2787,10 @@ class Views {
         protected Forwarder<Set<?>,PrimitiveSet.OfInt> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, false);
+        }
     }
 
     @PrereleaseContent
@@ -2313,6 +2801,9 @@ class Views {
         @Override
         public boolean add(Long t) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.add(t);
             return forwarder().predicateOp(delegate -> delegate.add(t),
                     () -> OfLong.super.add(t));
         }
@@ -2320,6 +2811,9 @@ class Views {
         @Override
         public boolean addAll(Collection<? extends Long> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.addAll(collection),
                     () -> OfLong.super.addAll(collection));
@@ -2328,6 +2822,9 @@ class Views {
         @Override
         public boolean addAll(PrimitiveCollection.OfLong collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.addAll(collection),
                     () -> OfLong.super.addAll(collection));
@@ -2336,18 +2833,27 @@ class Views {
         @Override
         public boolean addLong(long l) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.addLong(l);
             return forwarder().predicateOp(delegate -> delegate.addLong(l),
                     () -> OfLong.super.addLong(l));
         }
 
         @Override
         public boolean contains(Object o) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.contains(o);
             return forwarder().predicateOp(delegate -> delegate.contains(o),
                     () -> OfLong.super.contains(o));
         }
 
         @Override
         public boolean containsAll(Collection<?> collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfLong.super.containsAll(collection));
@@ -2355,6 +2861,9 @@ class Views {
 
         @Override
         public boolean containsAll(PrimitiveCollection.OfLong collection) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.containsAll(collection),
                     () -> OfLong.super.containsAll(collection));
@@ -2362,24 +2871,35 @@ class Views {
 
         @Override
         public boolean containsLong(long l) {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.containsLong(l);
             return forwarder().predicateOp(delegate -> delegate.containsLong(l),
                     () -> OfLong.super.containsLong(l));
         }
 
         @Override
         public PrimitiveIterator.OfLong iterator() {
-            return forwarder().maskIfNeeded(forwarder().boxedOp(OfLong::iterator),
+            var pure = forwarder().pure;
+            return forwarder().maskIfNeeded(pure != null ? pure.iterator() :
+                            forwarder().boxedOp(OfLong::iterator),
                     Views::unmodifiableLongIteratorView);
         }
 
         @Override
         public LongStream parallelPrimitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.parallelPrimitiveStream();
             return forwarder().boxedOp(OfLong::parallelPrimitiveStream,
                     OfLong.super::parallelPrimitiveStream);
         }
 
         @Override
         public LongStream primitiveStream() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.primitiveStream();
             return forwarder().boxedOp(OfLong::primitiveStream,
                     OfLong.super::primitiveStream);
         }
@@ -2387,6 +2907,9 @@ class Views {
         @Override
         public boolean remove(Object o) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.remove(o);
             return forwarder().predicateOp(delegate -> delegate.remove(o),
                     () -> OfLong.super.remove(o));
         }
@@ -2394,6 +2917,9 @@ class Views {
         @Override
         public boolean removeAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.removeAll(collection),
                     () -> OfLong.super.removeAll(collection));
@@ -2402,6 +2928,9 @@ class Views {
         @Override
         public boolean removeAll(PrimitiveCollection.OfLong collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.removeAll(collection),
                     () -> OfLong.super.removeAll(collection));
@@ -2410,6 +2939,9 @@ class Views {
         @Override
         public boolean removeIf(LongPredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIf(filter),
                     () -> OfLong.super.removeIf(filter));
         }
@@ -2417,6 +2949,9 @@ class Views {
         @Override
         public boolean removeIf(Predicate<? super Long> filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIf(filter);
             return forwarder().predicateOp(delegate -> delegate.removeIf(filter),
                     () -> OfLong.super.removeIf(filter));
         }
@@ -2424,6 +2959,9 @@ class Views {
         @Override
         public boolean removeIfLong(LongPredicate filter) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeIfLong(filter);
             return forwarder().predicateOp(delegate ->
                             delegate.removeIfLong(filter),
                     () -> OfLong.super.removeIfLong(filter));
@@ -2432,6 +2970,9 @@ class Views {
         @Override
         public boolean removeLong(long l) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.removeLong(l);
             return forwarder().predicateOp(delegate -> delegate.removeLong(l),
                     () -> OfLong.super.removeLong(l));
         }
@@ -2439,6 +2980,9 @@ class Views {
         @Override
         public boolean retainAll(Collection<?> collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfLong.super.retainAll(collection));
@@ -2447,6 +2991,9 @@ class Views {
         @Override
         public boolean retainAll(PrimitiveCollection.OfLong collection) {
             checkNotUnmodifiable(this);
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.retainAll(collection);
             return forwarder().predicateOp(delegate ->
                             delegate.retainAll(collection),
                     () -> OfLong.super.retainAll(collection));
@@ -2454,12 +3001,18 @@ class Views {
 
         @Override
         public Spliterator.OfLong spliterator() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.spliterator();
             return forwarder().boxedOp(OfLong::spliterator,
                     OfLong.super::spliterator);
         }
 
         @Override
         public long[] toPrimitiveArray() {
+            var pure = forwarder().pure;
+            if (pure != null)
+                return pure.toPrimitiveArray();
             return forwarder().boxedOp(OfLong::toPrimitiveArray,
                     OfLong.super::toPrimitiveArray);
         }
@@ -2494,6 +3047,10 @@ class Views {
         protected Forwarder<Set<?>,PrimitiveSet.OfLong> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, true);
+        }
     }
 
     @PrereleaseContent
@@ -2524,5 +3081,9 @@ class Views {
         protected Forwarder<Set<?>,PrimitiveSet.OfLong> forwarder() {
             return forwarder;
         }
+
+        private Object writeReplace() {
+            return forwarder.isMinimal() ? this : SerializationProxy.replace(this, false);
+        }
     }
 }
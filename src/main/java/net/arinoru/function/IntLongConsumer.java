@@ -0,0 +1,9 @@
+package net.arinoru.function;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+@PrereleaseContent
+@FunctionalInterface
+public interface IntLongConsumer {
+    void accept(int key, long value);
+}
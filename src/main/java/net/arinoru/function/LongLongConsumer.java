@@ -0,0 +1,9 @@
+package net.arinoru.function;
+
+import net.arinoru.prerelease.PrereleaseContent;
+
+@PrereleaseContent
+@FunctionalInterface
+public interface LongLongConsumer {
+    void accept(long key, long value);
+}
@@ -25,6 +25,55 @@ public class ArrayDoubleSetTest {
                 .hasMessage("Duplicate element");
     }
 
+    @Test
+    void fromArray__largeArrayContainsDuplicates__throwsException() {
+        var arr = new double[10_000];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = i * 0.1;
+        arr[arr.length - 1] = arr[arr.length / 2];
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__largeArrayContainsBothSignedZeros__throwsException() {
+        var arr = new double[10_000];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = i * 0.1;
+        arr[arr.length - 1] = -0.0;
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__largeArrayContainsMultipleNaNs__returnsSetWithAllElements() {
+        // NaN is not == to itself, so repeated NaNs are not duplicates
+        var arr = new double[10_000];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = i % 100 == 0 ? Double.NaN : i * 0.1;
+
+        var result = PrimitiveCollections.setOf(arr);
+
+        assertThat(result.size()).isEqualTo(arr.length);
+    }
+
+    @Test
+    void fromArray__largeArrayWithoutDuplicates__preservesInsertionOrder() {
+        var arr = new double[10_000];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = (arr.length - i) * 0.1;
+
+        var result = PrimitiveCollections.setOf(arr);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(arr);
+    }
+
     @Test
     void fromArray__validArray__returnedSetNotBackedByProvidedArray() {
         var arr = new double[] { 1.0, 2.0, 3.0, 4.0, 5.0 };
@@ -202,4 +251,15 @@ public class ArrayDoubleSetTest {
 
         assertThat(arr1).isNotSameAs(arr2).containsExactly(arr2);
     }
+
+    @Test
+    void equals__cachedHashCodesDifferOnlyBySignOfZero__returnsTrue() {
+        var cut = PrimitiveCollections.setOf(new double[] { 0.0, 1.0 });
+        var other = PrimitiveCollections.setOf(new double[] { -0.0, 1.0 });
+        assertThat(cut.hashCode()).isNotEqualTo(other.hashCode());
+
+        var result = cut.equals(other);
+
+        assertThat(result).isTrue();
+    }
 }
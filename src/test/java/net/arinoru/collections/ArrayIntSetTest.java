@@ -25,6 +25,30 @@ public class ArrayIntSetTest {
                 .hasMessage("Duplicate element");
     }
 
+    @Test
+    void fromArray__largeArrayContainsDuplicates__throwsException() {
+        var arr = new int[10_000];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = i * 1_000_003;
+        arr[arr.length - 1] = arr[arr.length / 2];
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__largeArrayWithoutDuplicates__preservesInsertionOrder() {
+        var arr = new int[10_000];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = (arr.length - i) * 1_000_003;
+
+        var result = PrimitiveCollections.setOf(arr);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(arr);
+    }
+
     @Test
     void fromArray__validArray__returnedSetNotBackedByProvidedArray() {
         var arr = new int[] { 1, 2, 3, 4, 5 };
@@ -202,4 +226,26 @@ public class ArrayIntSetTest {
 
         assertThat(arr1).isNotSameAs(arr2).containsExactly(arr2);
     }
+
+    @Test
+    void hashCode__firstInvocation__cachesHashCode() {
+        var cut = (PrimitiveCollections.ArrayIntSet) PrimitiveCollections.setOf(new int[] { 1, 2, 3 });
+
+        assertThat(cut.isHashCodeCached()).isFalse();
+        var result = cut.hashCode();
+
+        assertThat(result).isEqualTo(6);
+        assertThat(cut.isHashCodeCached()).isTrue();
+        assertThat(cut.hashCode()).isEqualTo(result);
+    }
+
+    @Test
+    void hashCode__hashCodeIsZero__cachesHashCode() {
+        var cut = (PrimitiveCollections.ArrayIntSet) PrimitiveCollections.setOf(new int[] { -1, 0, 1 });
+
+        var result = cut.hashCode();
+
+        assertThat(result).isZero();
+        assertThat(cut.isHashCodeCached()).isTrue();
+    }
 }
@@ -25,6 +25,30 @@ public class ArrayLongSetTest {
                 .hasMessage("Duplicate element");
     }
 
+    @Test
+    void fromArray__largeArrayContainsDuplicates__throwsException() {
+        var arr = new long[10_000];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = i * 0x1_0000_0007L;
+        arr[arr.length - 1] = arr[arr.length / 2];
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__largeArrayWithoutDuplicates__preservesInsertionOrder() {
+        var arr = new long[10_000];
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = (arr.length - i) * 0x1_0000_0007L;
+
+        var result = PrimitiveCollections.setOf(arr);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(arr);
+    }
+
     @Test
     void fromArray__validArray__returnedSetNotBackedByProvidedArray() {
         var arr = new long[] { 1L, 2L, 3L, 4L, 5L };
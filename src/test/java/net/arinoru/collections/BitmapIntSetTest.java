@@ -0,0 +1,282 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BitmapIntSetTest {
+    @Test
+    void fromArray__denseLargeArray__returnsBitmapSet() {
+        var result = PrimitiveCollections.setOf(IntStream.range(-100, 100).toArray());
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.BitmapIntSet.class);
+    }
+
+    @Test
+    void fromArray__denseSmallArray__returnsArraySet() {
+        var result = PrimitiveCollections.setOf(IntStream.range(0,
+                PrimitiveCollections.ArrayPrimitiveSet.HASHED_SET_THRESHOLD).toArray());
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.ArrayIntSet.class);
+    }
+
+    @Test
+    void of__denseDescendingElements__preservesInsertionOrder() {
+        var elements = IntStream.range(0, 40).map(i -> 39 - i).toArray();
+
+        var result = PrimitiveSet.OfInt.of(elements);
+
+        assertThat(result).isNotInstanceOf(PrimitiveCollections.BitmapIntSet.class);
+        assertThat(result.toPrimitiveArray()).containsExactly(elements);
+        assertThat(result.primitiveStream().toArray()).containsExactly(elements);
+    }
+
+    @Test
+    void copyOf__denseUnsortedCollection__preservesEncounterOrder() {
+        var elements = IntStream.range(0, 100).map(i -> (i * 37) % 100).toArray();
+
+        var result = PrimitiveSet.OfInt.copyOf(PrimitiveCollections.asCollection(elements));
+
+        assertThat(result.toPrimitiveArray()).containsExactly(elements);
+    }
+
+    @Test
+    void fromArray__sparseLargeArray__returnsHashedSet() {
+        var result = PrimitiveCollections.setOf(
+                IntStream.range(0, 100).map(i -> i * 1000).toArray());
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.HashedArrayIntSet.class);
+    }
+
+    @Test
+    void fromArray__arrayContainsDuplicates__throwsException() {
+        var arr = IntStream.range(0, 100).toArray();
+        arr[99] = 50;
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromCollection__denseCollection__returnedSetNotBackedByCollection() {
+        var values = IntStream.range(0, 100).toArray();
+        var collection = mock(PrimitiveCollection.OfInt.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.setOf(collection);
+        values[0] = 500;
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.BitmapIntSet.class);
+        assertThat(result.toPrimitiveArray()).containsExactly(IntStream.range(0, 100).toArray());
+    }
+
+    @Test
+    void copyOf__bitmapSet__returnsSameInstance() {
+        var set = PrimitiveCollections.setOf(IntStream.range(0, 100).toArray());
+
+        var result = PrimitiveSet.OfInt.copyOf(set);
+
+        assertThat(result).isSameAs(set);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1000, -65, -64, -1, 0, 63, 64, 999 })
+    void containsInt__elementInSet__returnsTrue(int v) {
+        var cut = PrimitiveCollections.setOf(IntStream.range(-1000, 1000).toArray());
+
+        assertThat(cut.containsInt(v)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1001, 1000, 1024, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void containsInt__elementNotInSet__returnsFalse(int v) {
+        var cut = PrimitiveCollections.setOf(IntStream.range(-1000, 1000).toArray());
+
+        assertThat(cut.containsInt(v)).isFalse();
+    }
+
+    @Test
+    void containsInt__extremeValues__returnsTrueOnlyForElements() {
+        var arr = IntStream.range(0, 100).map(i -> Integer.MAX_VALUE - i * 2).toArray();
+        var cut = PrimitiveCollections.setOf(arr);
+
+        for (int v : arr) {
+            assertThat(cut.containsInt(v)).isTrue();
+            assertThat(cut.containsInt(v - 1)).isFalse();
+        }
+    }
+
+    @Test
+    void containsAll__bitmapSet__returnsWhetherAllElementsAreContained() {
+        var cut = PrimitiveCollections.setOf(IntStream.range(-100, 100).toArray());
+
+        assertThat(cut.containsAll(PrimitiveCollections.setOf(
+                IntStream.range(-100, 0).toArray()))).isTrue();
+        assertThat(cut.containsAll(PrimitiveCollections.setOf(
+                IntStream.range(-101, 0).toArray()))).isFalse();
+        assertThat(cut.containsAll(PrimitiveCollections.setOf(
+                IntStream.range(50, 150).toArray()))).isFalse();
+    }
+
+    @Test
+    void containsAll__bitmapSetOfSameSize__returnsWhetherEqual() {
+        var cut = PrimitiveCollections.setOf(IntStream.range(0, 100).toArray());
+        var equal = PrimitiveCollections.setOf(IntStream.range(0, 100).map(i -> 99 - i).toArray());
+        var shifted = PrimitiveCollections.setOf(IntStream.range(64, 164).toArray());
+
+        assertThat(cut.containsAll(equal)).isTrue();
+        assertThat(cut.containsAll(shifted)).isFalse();
+    }
+
+    @Test
+    void copyInto__always__copiesElementsInAscendingOrderAtOffset() {
+        var cut = (PrimitiveCollections.BitmapIntSet) PrimitiveCollections.setOf(
+                IntStream.range(-100, 100).toArray());
+        var dest = new int[205];
+
+        cut.copyInto(dest, 3);
+
+        assertThat(Arrays.copyOfRange(dest, 3, 203))
+                .containsExactly(IntStream.range(-100, 100).toArray());
+        assertThat(dest[2]).isZero();
+        assertThat(dest[203]).isZero();
+    }
+
+    @Test
+    void copyInto__destinationTooSmall__throwsException() {
+        var cut = (PrimitiveCollections.BitmapIntSet) PrimitiveCollections.setOf(
+                IntStream.range(0, 100).toArray());
+
+        var t = catchThrowable(() -> cut.copyInto(new int[100], 1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = PrimitiveCollections.setOf(IntStream.range(-100, 100).toArray());
+        var expected = IntStream.range(-100, 100).boxed().collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsElementsInAscendingOrder() {
+        var arr = IntStream.range(-100, 100).map(i -> -i).toArray();
+        var cut = PrimitiveCollections.BitmapIntSet.fromArray(arr);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Integer>();
+        while (iterator.hasNext())
+            result.add(iterator.nextInt());
+
+        assertThat(result).containsExactlyElementsOf(
+                IntStream.rangeClosed(-99, 100).boxed().toList());
+    }
+
+    @Test
+    void spliterator__always__returnsSpliteratorWithExpectedCharacteristics() {
+        var cut = PrimitiveCollections.setOf(IntStream.range(0, 100).toArray());
+
+        var spliterator = cut.spliterator();
+        var result = spliterator.characteristics();
+
+        assertThat(result & Spliterator.IMMUTABLE).isNotZero();
+        assertThat(result & Spliterator.ORDERED).isNotZero();
+        assertThat(result & Spliterator.DISTINCT).isNotZero();
+        assertThat(result & Spliterator.SORTED).isNotZero();
+        assertThat(spliterator.estimateSize()).isEqualTo(100);
+    }
+
+    @Test
+    void spliterator__splitRecursively__reportsExactSizesAndVisitsElementsInOrder() {
+        var cut = PrimitiveCollections.setOf(IntStream.range(-10_000, 10_000).toArray());
+        var result = new ArrayList<Integer>();
+        var pending = new ArrayDeque<Spliterator.OfInt>();
+        pending.push(cut.spliterator());
+        while (!pending.isEmpty()) {
+            var spliterator = pending.pop();
+            var prefix = spliterator.estimateSize() > 100 ? spliterator.trySplit() : null;
+            if (prefix != null) {
+                assertThat(prefix.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+                pending.push(spliterator);
+                pending.push(prefix);
+            } else {
+                long size = spliterator.estimateSize();
+                int before = result.size();
+                spliterator.tryAdvance((int v) -> result.add(v));
+                assertThat(spliterator.estimateSize()).isEqualTo(Math.max(0, size - 1));
+                spliterator.forEachRemaining((int v) -> result.add(v));
+                assertThat(result.size() - before).isEqualTo(size);
+            }
+        }
+
+        assertThat(result).containsExactlyElementsOf(
+                IntStream.range(-10_000, 10_000).boxed().toList());
+    }
+
+    @Test
+    void toPrimitiveArray__always__returnsElementsInAscendingOrder() {
+        var cut = PrimitiveCollections.BitmapIntSet.fromArray(
+                IntStream.range(-100, 100).map(i -> -i).toArray());
+
+        var result = cut.toPrimitiveArray();
+
+        assertThat(result).containsExactly(IntStream.rangeClosed(-99, 100).toArray());
+    }
+
+    @Test
+    void hashCode__firstInvocation__cachesHashCode() {
+        var cut = (PrimitiveCollections.BitmapIntSet) PrimitiveCollections.setOf(
+                IntStream.range(0, 100).toArray());
+
+        assertThat(cut.isHashCodeCached()).isFalse();
+        var result = cut.hashCode();
+
+        assertThat(result).isEqualTo(4950);
+        assertThat(cut.isHashCodeCached()).isTrue();
+        assertThat(cut.hashCode()).isEqualTo(result);
+    }
+
+    @Test
+    void equals__cachedHashCodesDiffer__returnsFalse() {
+        var cut = PrimitiveCollections.setOf(IntStream.range(0, 100).toArray());
+        var other = PrimitiveCollections.setOf(IntStream.range(1, 101).toArray());
+        cut.hashCode();
+        other.hashCode();
+
+        var result = cut.equals(other);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void equals__cachedHashCodesEqual__comparesElements() {
+        var cut = PrimitiveCollections.setOf(IntStream.range(0, 100).toArray());
+        var other = PrimitiveCollections.setOf(IntStream.range(0, 100).map(i -> 99 - i).toArray());
+        var swapped = PrimitiveCollections.setOf(IntStream.range(0, 100)
+                .map(i -> i == 0 ? 1000 : i == 1 ? -999 : i).toArray());
+        cut.hashCode();
+        other.hashCode();
+        swapped.hashCode();
+
+        assertThat(cut.equals(other)).isTrue();
+        assertThat(cut.equals(swapped)).isFalse();
+    }
+}
@@ -0,0 +1,371 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ConcurrentIntHashSetTest {
+    private static final int THREADS = 8;
+
+    // Runs the specified task on several threads at once, failing if any of
+    // them throws
+    private static void runConcurrently(IntTask task) throws InterruptedException {
+        var barrier = new CyclicBarrier(THREADS);
+        var failures = new ArrayList<Throwable>();
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < THREADS; i++) {
+            int id = i;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    barrier.await();
+                    task.run(id);
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                }
+            }));
+        }
+        for (var thread : threads)
+            thread.join();
+        assertThat(failures).isEmpty();
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int id) throws Exception;
+    }
+
+    @Test
+    void constructor__negativeExpectedSize__throwsException() {
+        var t = catchThrowable(() -> new ConcurrentIntHashSet(-1));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = { 0f, 1f, -0.5f, Float.NaN })
+    void constructor__invalidLoadFactor__throwsException(float loadFactor) {
+        var t = catchThrowable(() -> new ConcurrentIntHashSet(16, loadFactor));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_OfInt__always__containsElementsOfCollection() {
+        var cut = new ConcurrentIntHashSet(PrimitiveCollections.setOf(new int[] { 0, 1, 2, 3 }));
+
+        assertThat(cut).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void addInt__elementNotInSet__returnsTrueAndAddsElement(int v) {
+        var cut = new ConcurrentIntHashSet();
+
+        var result = cut.addInt(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsInt(v)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void addInt__elementInSet__returnsFalse(int v) {
+        var cut = new ConcurrentIntHashSet();
+        cut.addInt(v);
+
+        var result = cut.addInt(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 1000, 100_000 })
+    void addInt__manyElements__growsAndRetainsAllElements(int size) {
+        var cut = new ConcurrentIntHashSet(0);
+
+        for (int i = 0; i < size; i++)
+            cut.addInt(i * 31);
+
+        assertThat(cut.size()).isEqualTo(size);
+        for (int i = 0; i < size; i++)
+            assertThat(cut.containsInt(i * 31)).isTrue();
+        assertThat(cut.containsInt(size * 31)).isFalse();
+    }
+
+    @Test
+    void addInt__repeatedlyAddingAndRemoving__rebuildsAndRetainsLastElement() {
+        var cut = new ConcurrentIntHashSet(0);
+
+        // Every element claims a new slot, so the table must be rebuilt to
+        // discard the vacant ones
+        for (int i = 1; i <= 1_000_000; i++) {
+            assertThat(cut.addInt(i)).isTrue();
+            assertThat(cut.removeInt(i - 1)).isEqualTo(i > 1);
+        }
+
+        assertThat(cut).containsExactly(1_000_000);
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        var cut = new ConcurrentIntHashSet();
+        for (int i = 0; i < 100; i++)
+            cut.addInt(i);
+
+        cut.clear();
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsInt(0)).isFalse();
+        assertThat(cut.containsInt(50)).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = new ConcurrentIntHashSet();
+        var expected = new HashSet<Integer>();
+        for (int i = -50; i < 50; i++) {
+            cut.addInt(i);
+            expected.add(i);
+        }
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsEachElementOnce() {
+        var cut = new ConcurrentIntHashSet(0);
+        for (int i = -500; i < 500; i++)
+            cut.addInt(i);
+
+        var visited = new ArrayList<Integer>();
+        var iterator = cut.iterator();
+        while (iterator.hasNext())
+            visited.add(iterator.nextInt());
+
+        assertThat(visited).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(-500, 500).boxed().toList());
+    }
+
+    @Test
+    void iterator__exhausted__throwsNoSuchElementException() {
+        var cut = new ConcurrentIntHashSet();
+        cut.addInt(0);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator__setModifiedDuringIteration__doesNotThrowException() {
+        var cut = new ConcurrentIntHashSet(0);
+        for (int i = 0; i < 100; i++)
+            cut.addInt(i);
+
+        var visited = new HashSet<Integer>();
+        var iterator = cut.iterator();
+        int n = 1000;
+        while (iterator.hasNext()) {
+            visited.add(iterator.nextInt());
+            // Forces the table to be rebuilt while it is being traversed
+            cut.addInt(n++);
+        }
+
+        assertThat(visited).containsAll(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void iterator_remove__calledTwice__throwsIllegalStateException() {
+        var cut = new ConcurrentIntHashSet();
+        cut.addInt(1);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+        iterator.remove();
+
+        var t = catchThrowable(iterator::remove);
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+        assertThat(cut).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42 })
+    void removeInt__elementInSet__returnsTrueAndRemovesElement(int v) {
+        var cut = new ConcurrentIntHashSet();
+        cut.addInt(v);
+        cut.addInt(v + 1);
+
+        var result = cut.removeInt(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsInt(v)).isFalse();
+        assertThat(cut.containsInt(v + 1)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42 })
+    void removeInt__elementNotInSet__returnsFalse(int v) {
+        var cut = new ConcurrentIntHashSet();
+        cut.addInt(v + 1);
+
+        var result = cut.removeInt(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeInt__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var cut = new ConcurrentIntHashSet(0);
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            int v = random.nextInt(1024);
+            if (random.nextBoolean())
+                assertThat(cut.addInt(v)).isEqualTo(expected.add(v));
+            else
+                assertThat(cut.removeInt(v)).isEqualTo(expected.remove(v));
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void spliterator__always__reportsConcurrentAndNotSized() {
+        var cut = new ConcurrentIntHashSet();
+
+        var spliterator = cut.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.CONCURRENT)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.DISTINCT)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    void parallelPrimitiveStream__always__visitsEachElementOnce() {
+        var cut = new ConcurrentIntHashSet();
+        for (int i = 0; i < 10_000; i++)
+            cut.addInt(i * 7);
+
+        var result = cut.parallelPrimitiveStream().boxed().collect(Collectors.toList());
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, 10_000).map(i -> i * 7).boxed().toList());
+    }
+
+    @Test
+    void addInt__concurrentDisjointAdds__addsEveryElement() throws InterruptedException {
+        var cut = new ConcurrentIntHashSet(0);
+        int perThread = 50_000;
+
+        runConcurrently(id -> {
+            for (int i = 0; i < perThread; i++)
+                assertThat(cut.addInt(id * perThread + i)).isTrue();
+        });
+
+        assertThat(cut.size()).isEqualTo(THREADS * perThread);
+        for (int i = 0; i < THREADS * perThread; i++)
+            assertThat(cut.containsInt(i)).isTrue();
+    }
+
+    @Test
+    void addInt__concurrentOverlappingAdds__exactlyOneAddSucceedsPerElement()
+            throws InterruptedException {
+        var cut = new ConcurrentIntHashSet(0);
+        var successes = new AtomicInteger();
+        int range = 100_000;
+
+        runConcurrently(id -> {
+            for (int i = 0; i < range; i++)
+                if (cut.addInt((i * 31 + id) % range))
+                    successes.incrementAndGet();
+        });
+
+        assertThat(successes.get()).isEqualTo(range);
+        assertThat(cut.size()).isEqualTo(range);
+    }
+
+    @Test
+    void removeInt__concurrentAddsAndRemoves__matchesNetOperations()
+            throws InterruptedException {
+        var cut = new ConcurrentIntHashSet(0);
+        var expected = ConcurrentHashMap.<Integer>newKeySet();
+
+        // Each thread owns the elements congruent to its id, so the final
+        // contents are determined even though operations interleave
+        runConcurrently(id -> {
+            var random = new Random(id);
+            var own = new HashSet<Integer>();
+            for (int i = 0; i < 100_000; i++) {
+                int v = random.nextInt(4096) * THREADS + id;
+                if (random.nextBoolean())
+                    assertThat(cut.addInt(v)).isEqualTo(own.add(v));
+                else
+                    assertThat(cut.removeInt(v)).isEqualTo(own.remove(v));
+            }
+            expected.addAll(own);
+        });
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void iterator__concurrentModification__returnsStableElementsExactlyOnce()
+            throws InterruptedException {
+        var cut = new ConcurrentIntHashSet(0);
+        // Negative elements are never modified; the others churn, forcing the
+        // table to be rebuilt repeatedly while it is being traversed
+        for (int i = 1; i <= 10_000; i++)
+            cut.addInt(-i);
+
+        runConcurrently(id -> {
+            if (id == 0) {
+                for (int round = 0; round < 5; round++) {
+                    var visited = new HashSet<Integer>();
+                    var iterator = cut.iterator();
+                    while (iterator.hasNext()) {
+                        int v = iterator.nextInt();
+                        assertThat(visited.add(v)).isTrue();
+                    }
+                    for (int i = 1; i <= 10_000; i++)
+                        assertThat(visited.contains(-i)).isTrue();
+                }
+            } else {
+                var random = new Random(id);
+                for (int i = 0; i < 50_000; i++) {
+                    int v = random.nextInt(1 << 20) + 1;
+                    if (random.nextBoolean())
+                        cut.addInt(v);
+                    else
+                        cut.removeInt(v);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentLongHashSetTest {
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 42, Long.MIN_VALUE, Long.MAX_VALUE })
+    void addLong__elementNotInSet__returnsTrueAndAddsElement(long v) {
+        var cut = new ConcurrentLongHashSet();
+
+        assertThat(cut.addLong(v)).isTrue();
+        assertThat(cut.addLong(v)).isFalse();
+
+        assertThat(cut.containsLong(v)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void addLong__concurrentDisjointAdds__addsEveryElement() throws InterruptedException {
+        var cut = new ConcurrentLongHashSet(0);
+        int threads = 8;
+        int perThread = 50_000;
+        var barrier = new CyclicBarrier(threads);
+        var failures = new ArrayList<Throwable>();
+        var workers = new ArrayList<Thread>();
+        for (int i = 0; i < threads; i++) {
+            long id = i;
+            workers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    barrier.await();
+                    for (long j = 0; j < perThread; j++)
+                        assertThat(cut.addLong((id * perThread + j) << 32)).isTrue();
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                }
+            }));
+        }
+        for (var worker : workers)
+            worker.join();
+
+        assertThat(failures).isEmpty();
+        assertThat(cut.size()).isEqualTo(threads * perThread);
+        for (long j = 0; j < (long) threads * perThread; j++)
+            assertThat(cut.containsLong(j << 32)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeLong__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var cut = new ConcurrentLongHashSet(0);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            long v = random.nextInt(1024) * 0x1_0000_0001L;
+            if (random.nextBoolean())
+                assertThat(cut.addLong(v)).isEqualTo(expected.add(v));
+            else
+                assertThat(cut.removeLong(v)).isEqualTo(expected.remove(v));
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void spliterator__always__reportsConcurrentAndNotSized() {
+        var cut = new ConcurrentLongHashSet();
+
+        var spliterator = cut.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.CONCURRENT)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+}
@@ -0,0 +1,58 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class DoubleArrayCollectionTest {
+    @Test
+    void asCollection__invalidRange__throwsException() {
+        var arr = new double[] { 1.0, 2.0, 3.0 };
+
+        var t = catchThrowable(() -> PrimitiveCollections.asCollection(arr, 2, 1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void containsDouble__always__comparesUsingEqualityOperator() {
+        var cut = PrimitiveCollections.asCollection(new double[] { 0.0, 1.0, Double.NaN });
+
+        assertThat(cut.containsDouble(-0.0)).isTrue();
+        assertThat(cut.containsDouble(1.0)).isTrue();
+        assertThat(cut.containsDouble(Double.NaN)).isFalse();
+    }
+
+    @Test
+    void iterator__always__returnsElementsOfRangeInOrder() {
+        var cut = PrimitiveCollections.asCollection(new double[] { 1.0, 2.0, 3.0, 4.0 }, 1, 3);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Double>();
+        while (iterator.hasNext())
+            result.add(iterator.nextDouble());
+
+        assertThat(result).containsExactly(2.0, 3.0);
+    }
+
+    @Test
+    void spliterator__always__returnsSizedOrderedSpliteratorOverRange() {
+        var cut = PrimitiveCollections.asCollection(new double[] { 1.0, 2.0, 3.0, 4.0 }, 1, 3);
+
+        var spliterator = cut.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(2);
+    }
+
+    @Test
+    void toPrimitiveArray__always__returnsCopyOfRange() {
+        var cut = PrimitiveCollections.asCollection(new double[] { 1.0, 2.0, 3.0, 4.0 }, 1, 3);
+
+        assertThat(cut.toPrimitiveArray()).containsExactly(2.0, 3.0);
+    }
+}
@@ -0,0 +1,71 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DoubleArrayListTest {
+    private static DoubleArrayList listOf(double... elements) {
+        var list = new DoubleArrayList();
+        for (double d : elements)
+            list.addDouble(d);
+        return list;
+    }
+
+    @Test
+    void addDouble_index__always__insertsElementAtIndex() {
+        var cut = listOf(1.0, 2.0);
+
+        cut.addDouble(0, 0.5);
+
+        assertThat(cut).containsExactly(0.5, 1.0, 2.0);
+    }
+
+    @Test
+    void equals__comparedToBoxedList__followsBoxedEquality() {
+        var cut = listOf(Double.NaN, 0.0);
+
+        assertThat(cut).isEqualTo(List.of(Double.NaN, 0.0));
+        assertThat(cut.equals(listOf(Double.NaN, 0.0))).isTrue();
+        assertThat(cut.equals(listOf(Double.NaN, -0.0))).isFalse();
+        assertThat(cut.hashCode()).isEqualTo(List.of(Double.NaN, 0.0).hashCode());
+    }
+
+    @Test
+    void indexOfDouble__zeroAndNaN__comparesWithEqualityOperator() {
+        var cut = listOf(-0.0, Double.NaN);
+
+        assertThat(cut.indexOfDouble(0.0)).isEqualTo(0);
+        assertThat(cut.indexOfDouble(Double.NaN)).isEqualTo(-1);
+        assertThat(cut.removeDouble(0.0)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeAt__always__returnsAndRemovesElementAtIndex() {
+        var cut = listOf(1.0, 2.5);
+
+        assertThat(cut.removeAt(1)).isEqualTo(2.5);
+        assertThat(cut).containsExactly(1.0);
+    }
+
+    @Test
+    void sort__nullComparator__sortsInNaturalOrder() {
+        var cut = listOf(Double.NaN, 0.0, -0.0, -1.0);
+
+        cut.sort(null);
+
+        assertThat(cut).containsExactly(-1.0, -0.0, 0.0, Double.NaN);
+    }
+
+    @Test
+    void subList__modified__writesThroughToList() {
+        var cut = listOf(0.0, 1.0, 2.0);
+
+        cut.subList(1, 2).addDouble(1.5);
+
+        assertThat(cut).containsExactly(0.0, 1.0, 1.5, 2.0);
+    }
+}
@@ -1518,6 +1518,7 @@ class DoubleCollectionViewTest {
         var cut = new DoubleCollectionView(collection, ForwardingType.SHALLOW);
         when(collection.iterator()).thenReturn(iterator);
         when(collection.size()).thenReturn(3);
+        doCallRealMethod().when(iterator).forEachRemaining(any(DoubleConsumer.class));
         when(iterator.hasNext()).thenReturn(true, true, true, false);
         when(iterator.nextDouble()).thenReturn(1.0, 2.0, 3.0);
 
@@ -1526,6 +1527,7 @@ class DoubleCollectionViewTest {
         assertThat(result).containsExactly(1.0, 2.0, 3.0);
         verify(collection).iterator();
         verify(collection).size();
+        verify(iterator).forEachRemaining(any(DoubleConsumer.class));
         verify(iterator, times(4)).hasNext();
         verify(iterator, times(3)).nextDouble();
         verifyNoMoreInteractions(collection, iterator);
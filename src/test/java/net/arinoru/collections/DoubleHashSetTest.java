@@ -0,0 +1,436 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class DoubleHashSetTest {
+    @Test
+    void constructor__negativeExpectedSize__throwsException() {
+        var t = catchThrowable(() -> new DoubleHashSet(-1));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = { 0f, 1f, -0.5f, Float.NaN })
+    void constructor__invalidLoadFactor__throwsException(float loadFactor) {
+        var t = catchThrowable(() -> new DoubleHashSet(16, loadFactor));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_OfDouble__always__containsElementsOfCollection() {
+        var cut = new DoubleHashSet(PrimitiveCollections.setOf(new double[] { 0, 1.5, 2, 3 }));
+
+        assertThat(cut).containsExactlyInAnyOrder(0.0, 1.5, 2.0, 3.0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0, -0.0, 1, -1, 0.1, Double.MIN_VALUE, Double.MAX_VALUE,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY })
+    void addDouble__elementNotInSet__returnsTrueAndAddsElement(double v) {
+        var cut = new DoubleHashSet();
+
+        var result = cut.addDouble(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsDouble(v)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0, -0.0, 1, -1, 0.1, Double.MIN_VALUE, Double.MAX_VALUE,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY })
+    void addDouble__elementInSet__returnsFalse(double v) {
+        var cut = new DoubleHashSet();
+        cut.addDouble(v);
+
+        var result = cut.addDouble(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void addDouble__NaN__throwsExceptionAndLeavesSetUnchanged() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(1);
+
+        var t = catchThrowable(() -> cut.addDouble(Double.NaN));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0, -0.0 })
+    void addDouble__otherSignedZeroInSet__returnsFalseAndRetainsFirstZero(double v) {
+        var cut = new DoubleHashSet();
+        cut.addDouble(v);
+
+        var result = cut.addDouble(-v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+        assertThat(cut.containsDouble(-v)).isTrue();
+        assertThat(Double.doubleToRawLongBits(cut.iterator().nextDouble()))
+                .isEqualTo(Double.doubleToRawLongBits(v));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 1000, 100_000 })
+    void addDouble__manyElements__growsAndRetainsAllElements(int size) {
+        var cut = new DoubleHashSet(0);
+
+        for (int i = 0; i < size; i++)
+            cut.addDouble(i * 0.25);
+
+        assertThat(cut.size()).isEqualTo(size);
+        for (int i = 0; i < size; i++)
+            assertThat(cut.containsDouble(i * 0.25)).isTrue();
+        assertThat(cut.containsDouble(size * 0.25)).isFalse();
+    }
+
+    @Test
+    void addAll__collectionContainsNaN__throwsException() {
+        var cut = new DoubleHashSet();
+
+        var t = catchThrowable(() -> cut.addAll(
+                PrimitiveCollections.setOf(new double[] { Double.NaN })));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        var cut = new DoubleHashSet();
+        IntStream.range(-10, 10).asDoubleStream().forEach(cut::addDouble);
+
+        cut.clear();
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsDouble(0)).isFalse();
+        assertThat(cut.containsDouble(5)).isFalse();
+        assertThat(cut.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void containsDouble__elementNotInSet__returnsFalse() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(1);
+
+        assertThat(cut.containsDouble(0)).isFalse();
+        assertThat(cut.containsDouble(2)).isFalse();
+        assertThat(cut.containsDouble(Math.nextUp(1.0))).isFalse();
+    }
+
+    @Test
+    void containsDouble__NaN__returnsFalse() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(1);
+
+        assertThat(cut.containsDouble(Double.NaN)).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = new DoubleHashSet();
+        IntStream.range(-100, 100).mapToDouble(i -> i * 0.5).forEach(cut::addDouble);
+        var expected = IntStream.range(-100, 100).mapToDouble(i -> i * 0.5).boxed()
+                .collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 10, 1000 })
+    void hashCode__always__matchesBoxedSet(int size) {
+        var cut = new DoubleHashSet();
+        IntStream.range(-size, size).mapToDouble(i -> i * 0.1).forEach(cut::addDouble);
+        var expected = IntStream.range(-size, size).mapToDouble(i -> i * 0.1).boxed()
+                .collect(Collectors.toSet());
+
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void hashCode__negativeZero__matchesBoxedSet() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(-0.0);
+        cut.addDouble(1);
+
+        assertThat(cut.hashCode()).isEqualTo(Set.of(-0.0, 1.0).hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsEachElementOnce() {
+        var cut = new DoubleHashSet();
+        IntStream.range(-500, 500).asDoubleStream().forEach(cut::addDouble);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Double>();
+        while (iterator.hasNext())
+            result.add(iterator.nextDouble());
+
+        assertThat(result).hasSize(1000)
+                .containsExactlyInAnyOrderElementsOf(
+                        IntStream.range(-500, 500).asDoubleStream().boxed().toList());
+    }
+
+    @Test
+    void iterator__exhausted__throwsNoSuchElementException() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(1);
+        var iterator = cut.iterator();
+        iterator.nextDouble();
+
+        var t = catchThrowable(iterator::nextDouble);
+
+        assertThat(t).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator__setModifiedDuringIteration__throwsConcurrentModificationException() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(1);
+        cut.addDouble(2);
+        var iterator = cut.iterator();
+        iterator.nextDouble();
+        cut.addDouble(3);
+
+        var t = catchThrowable(iterator::nextDouble);
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iterator_remove__calledTwice__throwsIllegalStateException() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(1);
+        var iterator = cut.iterator();
+        iterator.nextDouble();
+        iterator.remove();
+
+        var t = catchThrowable(iterator::remove);
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5 })
+    void iterator_remove__removingDuringIteration__visitsEveryElementAndRemovesSelected(
+            long seed) {
+        // A small table with many colliding entries ensures that entries
+        // wrapping around the end of the table get shifted during removal.
+        var random = new Random(seed);
+        var cut = new DoubleHashSet(0);
+        var expected = new HashSet<Double>();
+        for (int i = 0; i < 2000; i++) {
+            double v = random.nextInt(4096) - 2048;
+            cut.addDouble(v);
+            expected.add(v + 0.0);
+        }
+
+        var originalSize = expected.size();
+        var visited = new HashSet<Double>();
+        var iterator = cut.iterator();
+        while (iterator.hasNext()) {
+            double v = iterator.nextDouble();
+            assertThat(visited.add(v)).isTrue();
+            if (v % 2 == 0)
+                iterator.remove();
+        }
+        expected.removeIf(v -> v % 2 == 0);
+
+        assertThat(visited).hasSize(originalSize);
+        assertThat(cut).isEqualTo(expected);
+        assertThat(cut.size()).isEqualTo(expected.size());
+        for (double v : expected)
+            assertThat(cut.containsDouble(v)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0, -0.0, 1, -1, 42.5 })
+    void removeDouble__elementInSet__returnsTrueAndRemovesElement(double v) {
+        var cut = new DoubleHashSet();
+        cut.addDouble(v);
+        cut.addDouble(v + 1);
+
+        var result = cut.removeDouble(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsDouble(v)).isFalse();
+        assertThat(cut.containsDouble(v + 1)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0, -0.0, 1, -1, 42.5 })
+    void removeDouble__elementNotInSet__returnsFalse(double v) {
+        var cut = new DoubleHashSet();
+        cut.addDouble(v + 1);
+
+        var result = cut.removeDouble(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeDouble__NaN__returnsFalse() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(1);
+
+        var result = cut.removeDouble(Double.NaN);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeDouble__otherSignedZeroInSet__returnsTrueAndRemovesZero() {
+        var cut = new DoubleHashSet();
+        cut.addDouble(-0.0);
+
+        var result = cut.removeDouble(0.0);
+
+        assertThat(result).isTrue();
+        assertThat(cut.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeDouble__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var cut = new DoubleHashSet(0);
+        Set<Double> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            double v = random.nextInt(1024) * 0.125;
+            if (random.nextBoolean())
+                assertThat(cut.addDouble(v)).isEqualTo(expected.add(v));
+            else
+                assertThat(cut.removeDouble(v)).isEqualTo(expected.remove(v));
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void retainAll__always__retainsOnlyElementsInCollection() {
+        var cut = new DoubleHashSet();
+        IntStream.range(0, 100).asDoubleStream().forEach(cut::addDouble);
+
+        var result = cut.retainAll(PrimitiveCollections.setOf(new double[] { 0, 50, 200 }));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactlyInAnyOrder(0.0, 50.0);
+    }
+
+    @Test
+    void spliterator__splitRecursively__visitsEachElementOnce() {
+        var cut = new DoubleHashSet();
+        IntStream.range(0, 10_000).asDoubleStream().forEach(cut::addDouble);
+        var result = new ArrayList<Double>();
+        var pending = new ArrayDeque<Spliterator.OfDouble>();
+        pending.push(cut.spliterator());
+        while (!pending.isEmpty()) {
+            var spliterator = pending.pop();
+            var prefix = spliterator.estimateSize() > 100 ? spliterator.trySplit() : null;
+            if (prefix != null) {
+                pending.push(spliterator);
+                pending.push(prefix);
+            } else {
+                spliterator.tryAdvance((double v) -> result.add(v));
+                spliterator.forEachRemaining((double v) -> result.add(v));
+            }
+        }
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, 10_000).asDoubleStream().boxed().toList());
+    }
+
+    @Test
+    void spliterator__split__onlyUnsplitSpliteratorReportsSized() {
+        var cut = new DoubleHashSet();
+        IntStream.range(0, 100).asDoubleStream().forEach(cut::addDouble);
+
+        var spliterator = cut.spliterator();
+        var sized = spliterator.hasCharacteristics(Spliterator.SIZED);
+        var size = spliterator.estimateSize();
+        var prefix = spliterator.trySplit();
+
+        assertThat(sized).isTrue();
+        assertThat(size).isEqualTo(100);
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    void spliterator__setModifiedDuringTraversal__throwsConcurrentModificationException() {
+        var cut = new DoubleHashSet();
+        IntStream.range(0, 100).asDoubleStream().forEach(cut::addDouble);
+        var spliterator = cut.spliterator();
+        spliterator.tryAdvance((double v) -> {});
+        cut.addDouble(1000);
+
+        var t = catchThrowable(() -> spliterator.forEachRemaining((double v) -> {}));
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void toPrimitiveArray__always__returnsElementArray() {
+        var cut = new DoubleHashSet();
+        IntStream.range(-5, 5).asDoubleStream().forEach(cut::addDouble);
+
+        var result = cut.toPrimitiveArray();
+
+        assertThat(result).containsExactlyInAnyOrder(
+                IntStream.range(-5, 5).asDoubleStream().toArray());
+    }
+
+    @Test
+    void copyInto__offset__writesEveryElementAfterOffset() {
+        var cut = new DoubleHashSet();
+        IntStream.range(-5, 5).asDoubleStream().forEach(cut::addDouble);
+        var dest = new double[12];
+        Arrays.fill(dest, 42);
+
+        cut.copyInto(dest, 1);
+
+        assertThat(dest[0]).isEqualTo(42.0);
+        assertThat(dest[11]).isEqualTo(42.0);
+        assertThat(Arrays.copyOfRange(dest, 1, 11)).containsExactlyInAnyOrder(
+                IntStream.range(-5, 5).asDoubleStream().toArray());
+    }
+
+    @Test
+    void copyInto__arrayTooSmall__throwsIndexOutOfBoundsException() {
+        var cut = new DoubleHashSet();
+        IntStream.range(-5, 5).asDoubleStream().forEach(cut::addDouble);
+
+        var t = catchThrowable(() -> cut.copyInto(new double[10], 1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
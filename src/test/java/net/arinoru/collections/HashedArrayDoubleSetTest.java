@@ -0,0 +1,148 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HashedArrayDoubleSetTest {
+    private static double[] values(int size) {
+        return IntStream.range(0, size).mapToDouble(i -> (size - i) * 0.5).toArray();
+    }
+
+    @Test
+    void fromArray__smallArray__returnsArraySet() {
+        var result = PrimitiveCollections.setOf(values(
+                PrimitiveCollections.ArrayPrimitiveSet.HASHED_SET_THRESHOLD));
+
+        assertThat(result.getClass()).isEqualTo(PrimitiveCollections.ArrayDoubleSet.class);
+    }
+
+    @Test
+    void fromArray__largeArray__returnsHashedSet() {
+        var result = PrimitiveCollections.setOf(values(
+                PrimitiveCollections.ArrayPrimitiveSet.HASHED_SET_THRESHOLD + 1));
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.HashedArrayDoubleSet.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 999 })
+    void fromArray__arrayContainsDuplicates__throwsException(int duplicate) {
+        var arr = values(1000);
+        arr[duplicate] = 0.0;
+        arr[500] = 0.0;
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__arrayContainsBothSignedZeros__throwsException() {
+        var arr = values(1000);
+        arr[0] = 0.0;
+        arr[999] = -0.0;
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__arrayContainsMultipleNaNs__returnsSetWithAllElements() {
+        var arr = values(1000);
+        arr[0] = Double.NaN;
+        arr[999] = Double.NaN;
+
+        var result = PrimitiveCollections.setOf(arr);
+
+        assertThat(result.size()).isEqualTo(1000);
+        assertThat(result.containsDouble(Double.NaN)).isFalse();
+    }
+
+    @Test
+    void fromArray__validArray__preservesInsertionOrder() {
+        var arr = values(1000);
+
+        var result = PrimitiveCollections.setOf(arr);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(arr);
+    }
+
+    @Test
+    void fromCollection__largeCollection__returnsHashedSetNotBackedByCollection() {
+        var values = values(1000);
+        var collection = mock(PrimitiveCollection.OfDouble.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.setOf(collection);
+        values[0] = 0.0;
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.HashedArrayDoubleSet.class);
+        assertThat(result.toPrimitiveArray()).containsExactly(values(1000));
+    }
+
+    @Test
+    void containsDouble__elementInSet__returnsTrue() {
+        var arr = values(1000);
+        arr[0] = -0.0;
+        arr[1] = Double.NEGATIVE_INFINITY;
+        arr[2] = Double.MIN_VALUE;
+        var cut = PrimitiveCollections.setOf(arr);
+
+        for (double v : arr)
+            assertThat(cut.containsDouble(v)).isTrue();
+        assertThat(cut.containsDouble(0.0)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0.0, -0.0, 0.25, -0.5, 500.25, Double.NaN,
+            Double.POSITIVE_INFINITY })
+    void containsDouble__elementNotInSet__returnsFalse(double v) {
+        var cut = PrimitiveCollections.setOf(values(1000));
+
+        var result = cut.containsDouble(v);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = PrimitiveCollections.setOf(values(1000));
+        var expected = DoubleStream.of(values(1000)).boxed().collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void spliterator__always__reportsOrderedAndVisitsElementsInInsertionOrder() {
+        var arr = values(1000);
+        arr[500] = -0.0;
+        var cut = PrimitiveCollections.setOf(arr);
+
+        var visited = new DoubleArrayList();
+        cut.forEach((DoubleConsumer) visited::addDouble);
+        var iterated = new DoubleArrayList();
+        cut.iterator().forEachRemaining((DoubleConsumer) iterated::addDouble);
+
+        assertThat(cut.spliterator().hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(visited.toPrimitiveArray()).containsExactly(arr);
+        assertThat(iterated.toPrimitiveArray()).containsExactly(arr);
+        assertThat(cut.parallelPrimitiveStream().toArray()).containsExactly(arr);
+    }
+}
@@ -0,0 +1,145 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HashedArrayIntSetTest {
+    // Sparse values, so that the result is a hashed set
+    private static int[] values(int size) {
+        return IntStream.range(0, size).map(i -> (size - i) * 1_000_003).toArray();
+    }
+
+    @Test
+    void fromArray__smallArray__returnsArraySet() {
+        var result = PrimitiveCollections.setOf(values(
+                PrimitiveCollections.ArrayPrimitiveSet.HASHED_SET_THRESHOLD));
+
+        assertThat(result.getClass()).isEqualTo(PrimitiveCollections.ArrayIntSet.class);
+    }
+
+    @Test
+    void fromArray__largeArray__returnsHashedSet() {
+        var result = PrimitiveCollections.setOf(values(
+                PrimitiveCollections.ArrayPrimitiveSet.HASHED_SET_THRESHOLD + 1));
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.HashedArrayIntSet.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 999 })
+    void fromArray__arrayContainsDuplicates__throwsException(int duplicate) {
+        var arr = values(1000);
+        arr[duplicate] = 0;
+        arr[500] = 0;
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__validArray__preservesInsertionOrder() {
+        var arr = values(1000);
+
+        var result = PrimitiveCollections.setOf(arr);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(arr);
+    }
+
+    @Test
+    void fromCollection__largeCollection__returnsHashedSetNotBackedByCollection() {
+        var values = values(1000);
+        var collection = mock(PrimitiveCollection.OfInt.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.setOf(collection);
+        values[0] = 0;
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.HashedArrayIntSet.class);
+        assertThat(result.toPrimitiveArray()).containsExactly(values(1000));
+    }
+
+    @Test
+    void copyOf__hashedSet__returnsSameInstance() {
+        var set = PrimitiveCollections.setOf(values(1000));
+
+        var result = PrimitiveSet.OfInt.copyOf(set);
+
+        assertThat(result).isSameAs(set);
+    }
+
+    @Test
+    void containsAll__arraySets__probesEachElementOfOtherSet() {
+        var cut = PrimitiveCollections.setOf(values(100));
+        var subset = PrimitiveCollections.setOf(Arrays.copyOf(values(100), 40));
+        var sorted = PrimitiveCollections.sortedSetOf(values(100));
+        var small = PrimitiveCollections.setOf(new int[] { 1_000_003, 1 });
+
+        assertThat(cut.containsAll(subset)).isTrue();
+        assertThat(cut.containsAll(sorted)).isTrue();
+        assertThat(cut.containsAll(small)).isFalse();
+        assertThat(subset.containsAll(cut)).isFalse();
+    }
+
+    @Test
+    void containsInt__elementInSet__returnsTrue() {
+        var arr = values(1000);
+        arr[0] = 0;
+        arr[1] = Integer.MIN_VALUE;
+        arr[2] = Integer.MAX_VALUE;
+        var cut = PrimitiveCollections.setOf(arr);
+
+        for (int v : arr)
+            assertThat(cut.containsInt(v)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 1_000_004, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void containsInt__elementNotInSet__returnsFalse(int v) {
+        var cut = PrimitiveCollections.setOf(values(1000));
+
+        var result = cut.containsInt(v);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = PrimitiveCollections.setOf(values(1000));
+        var expected = IntStream.of(values(1000)).boxed().collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void spliterator__always__reportsOrderedAndVisitsElementsInInsertionOrder() {
+        var arr = values(1000);
+        arr[500] = 0;
+        var cut = PrimitiveCollections.setOf(arr);
+
+        var visited = new IntArrayList();
+        cut.forEach((IntConsumer) visited::addInt);
+        var iterated = new IntArrayList();
+        cut.iterator().forEachRemaining((IntConsumer) iterated::addInt);
+
+        assertThat(cut.spliterator().hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(visited.toPrimitiveArray()).containsExactly(arr);
+        assertThat(iterated.toPrimitiveArray()).containsExactly(arr);
+        assertThat(cut.parallelPrimitiveStream().toArray()).containsExactly(arr);
+    }
+}
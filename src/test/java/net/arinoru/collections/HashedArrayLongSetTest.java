@@ -0,0 +1,131 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HashedArrayLongSetTest {
+    // Sparse values, so that the result is a hashed set
+    private static long[] values(int size) {
+        return LongStream.range(0, size).map(i -> (size - i) * 0x1_0000_0007L).toArray();
+    }
+
+    @Test
+    void fromArray__smallArray__returnsArraySet() {
+        var result = PrimitiveCollections.setOf(values(
+                PrimitiveCollections.ArrayPrimitiveSet.HASHED_SET_THRESHOLD));
+
+        assertThat(result.getClass()).isEqualTo(PrimitiveCollections.ArrayLongSet.class);
+    }
+
+    @Test
+    void fromArray__largeArray__returnsHashedSet() {
+        var result = PrimitiveCollections.setOf(values(
+                PrimitiveCollections.ArrayPrimitiveSet.HASHED_SET_THRESHOLD + 1));
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.HashedArrayLongSet.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 999 })
+    void fromArray__arrayContainsDuplicates__throwsException(int duplicate) {
+        var arr = values(1000);
+        arr[duplicate] = 0;
+        arr[500] = 0;
+
+        var t = catchThrowable(() -> PrimitiveCollections.setOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__validArray__preservesInsertionOrder() {
+        var arr = values(1000);
+
+        var result = PrimitiveCollections.setOf(arr);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(arr);
+    }
+
+    @Test
+    void fromCollection__largeCollection__returnsHashedSetNotBackedByCollection() {
+        var values = values(1000);
+        var collection = mock(PrimitiveCollection.OfLong.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.setOf(collection);
+        values[0] = 0;
+
+        assertThat(result).isInstanceOf(PrimitiveCollections.HashedArrayLongSet.class);
+        assertThat(result.toPrimitiveArray()).containsExactly(values(1000));
+    }
+
+    @Test
+    void copyOf__hashedSet__returnsSameInstance() {
+        var set = PrimitiveCollections.setOf(values(1000));
+
+        var result = PrimitiveSet.OfLong.copyOf(set);
+
+        assertThat(result).isSameAs(set);
+    }
+
+    @Test
+    void containsLong__elementInSet__returnsTrue() {
+        var arr = values(1000);
+        arr[0] = 0;
+        arr[1] = Long.MIN_VALUE;
+        arr[2] = Long.MAX_VALUE;
+        var cut = PrimitiveCollections.setOf(arr);
+
+        for (long v : arr)
+            assertThat(cut.containsLong(v)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 0x1_0000_0008L, Long.MIN_VALUE, Long.MAX_VALUE })
+    void containsLong__elementNotInSet__returnsFalse(long v) {
+        var cut = PrimitiveCollections.setOf(values(1000));
+
+        var result = cut.containsLong(v);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = PrimitiveCollections.setOf(values(1000));
+        var expected = LongStream.of(values(1000)).boxed().collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void spliterator__always__reportsOrderedAndVisitsElementsInInsertionOrder() {
+        var arr = values(1000);
+        arr[500] = 0;
+        var cut = PrimitiveCollections.setOf(arr);
+
+        var visited = new LongArrayList();
+        cut.forEach((LongConsumer) visited::addLong);
+        var iterated = new LongArrayList();
+        cut.iterator().forEachRemaining((LongConsumer) iterated::addLong);
+
+        assertThat(cut.spliterator().hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(visited.toPrimitiveArray()).containsExactly(arr);
+        assertThat(iterated.toPrimitiveArray()).containsExactly(arr);
+        assertThat(cut.parallelPrimitiveStream().toArray()).containsExactly(arr);
+    }
+}
@@ -0,0 +1,150 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IntArrayCollectionTest {
+    @ParameterizedTest
+    @CsvSource({ "-1,2", "0,6", "3,2" })
+    void asCollection__invalidRange__throwsException(int fromIndex, int toIndex) {
+        var arr = new int[] { 1, 2, 3, 4, 5 };
+
+        var t = catchThrowable(() -> PrimitiveCollections.asCollection(arr, fromIndex, toIndex));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void asCollection__arrayModified__reflectsModification() {
+        var arr = new int[] { 1, 2, 3, 4, 5 };
+
+        var result = PrimitiveCollections.asCollection(arr);
+        arr[0] = 10;
+
+        assertThat(result.toPrimitiveArray()).containsExactly(10, 2, 3, 4, 5);
+        assertThat(result.containsInt(10)).isTrue();
+        assertThat(result.containsInt(1)).isFalse();
+    }
+
+    @Test
+    void containsInt__elementOutsideRange__returnsFalse() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3, 4, 5 }, 1, 4);
+
+        assertThat(cut.containsInt(2)).isTrue();
+        assertThat(cut.containsInt(4)).isTrue();
+        assertThat(cut.containsInt(1)).isFalse();
+        assertThat(cut.containsInt(5)).isFalse();
+    }
+
+    @Test
+    void forEach__always__visitsElementsOfRangeInOrder() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3, 4, 5 }, 1, 4);
+        var result = new ArrayList<Integer>();
+
+        cut.forEach((IntConsumer) result::add);
+
+        assertThat(result).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void iterator__always__returnsElementsOfRangeInOrder() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3, 4, 5 }, 1, 4);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Integer>();
+        while (iterator.hasNext())
+            result.add(iterator.nextInt());
+
+        assertThat(result).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void iterator_remove__always__throwsUnsupportedOperationException() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3 });
+        var iterator = cut.iterator();
+        iterator.nextInt();
+
+        var t = catchThrowable(iterator::remove);
+
+        assertThat(t).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void modifyingOperations__always__throwUnsupportedOperationException() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3 });
+
+        assertThat(catchThrowable(() -> cut.addInt(4)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(catchThrowable(() -> cut.removeInt(1)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(catchThrowable(cut::clear))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void primitiveStream__always__returnsElementsOfRange() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3, 4, 5 }, 1, 4);
+
+        assertThat(cut.primitiveStream().toArray()).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void size__emptyRange__returnsZero() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3 }, 2, 2);
+
+        assertThat(cut.size()).isZero();
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.toPrimitiveArray()).isEmpty();
+    }
+
+    @Test
+    void spliterator__always__returnsSizedOrderedSpliteratorOverRange() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3, 4, 5 }, 1, 4);
+
+        var spliterator = cut.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    void toArray_array__passedArrayWithLargerSize__marksEndWithNull() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3, 4, 5 }, 1, 4);
+        var arr = new Integer[] { 9, 9, 9, 9, 9 };
+
+        var result = cut.toArray(arr);
+
+        assertThat(result).isSameAs(arr).containsExactly(2, 3, 4, null, 9);
+    }
+
+    @Test
+    void toPrimitiveArray__always__returnsCopyOfRange() {
+        var arr = new int[] { 1, 2, 3, 4, 5 };
+        var cut = PrimitiveCollections.asCollection(arr, 1, 4);
+
+        var result = cut.toPrimitiveArray();
+        result[0] = 10;
+
+        assertThat(result).containsExactly(10, 3, 4);
+        assertThat(arr).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void copyOf__arrayCollection__returnsSetOfElementsOfRange() {
+        var cut = PrimitiveCollections.asCollection(new int[] { 1, 2, 3, 4, 5 }, 1, 4);
+
+        var result = PrimitiveSet.OfInt.copyOf(cut);
+
+        assertThat(result).containsExactlyInAnyOrder(2, 3, 4);
+    }
+}
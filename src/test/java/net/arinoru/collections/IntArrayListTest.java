@@ -0,0 +1,470 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IntArrayListTest {
+    private static IntArrayList listOf(int... elements) {
+        var list = new IntArrayList();
+        for (int i : elements)
+            list.addInt(i);
+        return list;
+    }
+
+    @Test
+    void constructor__negativeInitialCapacity__throwsException() {
+        var t = catchThrowable(() -> new IntArrayList(-1));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_OfInt__always__containsElementsOfCollectionInOrder() {
+        var cut = new IntArrayList(PrimitiveCollections.asCollection(new int[] { 3, 1, 2, 1 }));
+
+        assertThat(cut).containsExactly(3, 1, 2, 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 10, 1000, 100_000 })
+    void addInt__manyElements__growsAndRetainsOrder(int size) {
+        var cut = new IntArrayList(0);
+
+        for (int i = 0; i < size; i++)
+            cut.addInt(i * 31);
+
+        assertThat(cut.size()).isEqualTo(size);
+        for (int i = 0; i < size; i++)
+            assertThat(cut.getInt(i)).isEqualTo(i * 31);
+    }
+
+    @Test
+    void addInt_index__always__insertsElementAtIndex() {
+        var cut = listOf(1, 2, 3);
+
+        cut.addInt(0, 0);
+        cut.addInt(2, 9);
+        cut.addInt(cut.size(), 4);
+
+        assertThat(cut).containsExactly(0, 1, 9, 2, 3, 4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 4 })
+    void addInt_index__indexOutOfRange__throwsIndexOutOfBoundsException(int index) {
+        var cut = listOf(1, 2, 3);
+
+        var t = catchThrowable(() -> cut.addInt(index, 0));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(cut).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void addAll_index__sameClass__insertsElementsInOrder() {
+        var cut = listOf(1, 2, 3);
+
+        var result = cut.addAll(1, listOf(7, 8, 9));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactly(1, 7, 8, 9, 2, 3);
+    }
+
+    @Test
+    void addAll_index__self__insertsCopyOfElements() {
+        var cut = listOf(1, 2, 3);
+
+        cut.addAll(1, cut);
+
+        assertThat(cut).containsExactly(1, 1, 2, 3, 2, 3);
+    }
+
+    @Test
+    void addAll_index__bulkCopyingCollection__insertsElementsInOrder() {
+        var cut = listOf(1, 2, 3);
+
+        cut.addAll(3, PrimitiveCollections.asCollection(new int[] { 4, 5, 6, 7 }, 1, 3));
+
+        assertThat(cut).containsExactly(1, 2, 3, 5, 6);
+    }
+
+    @Test
+    void addAll_index__otherCollection__insertsElementsInIterationOrder() {
+        var cut = listOf(1, 2, 3);
+        var other = new IntHashSet();
+        other.addInt(5);
+        var expected = new ArrayList<>(List.of(1, 2, 3));
+        expected.add(0, 5);
+
+        cut.addAll(0, other);
+
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void addAll_index__emptyCollection__returnsFalse() {
+        var cut = listOf(1, 2, 3);
+
+        var result = cut.addAll(1, new IntArrayList());
+
+        assertThat(result).isFalse();
+        assertThat(cut).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void addAll_boxedCollection__always__appendsElementsInOrder() {
+        var cut = listOf(1);
+
+        cut.addAll(List.of(2, 3));
+
+        assertThat(cut).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        var cut = listOf(1, 2, 3);
+
+        cut.clear();
+
+        assertThat(cut).isEmpty();
+        assertThat(cut.size()).isEqualTo(0);
+    }
+
+    @Test
+    void equals__comparedToBoxedListWithSameElements__returnsTrue() {
+        var cut = listOf(1, 2, 3);
+
+        assertThat(cut.equals(List.of(1, 2, 3))).isTrue();
+        assertThat(cut.equals(List.of(1, 3, 2))).isFalse();
+        assertThat(cut.equals(List.of(1, 2))).isFalse();
+        assertThat(cut.equals(java.util.Set.of(1, 2, 3))).isFalse();
+    }
+
+    @Test
+    void equals__comparedToSameClassWithLargerCapacity__returnsTrue() {
+        var cut = listOf(1, 2, 3);
+        var other = new IntArrayList(100);
+        other.addAll(cut);
+
+        assertThat(cut.equals(other)).isTrue();
+        other.addInt(4);
+        assertThat(cut.equals(other)).isFalse();
+    }
+
+    @Test
+    void equals__comparedToOtherListType__returnsTrueForSameElements() {
+        var cut = listOf(1, 2, 3);
+
+        assertThat(cut.equals(listOf(1, 2, 3).subList(0, 3))).isTrue();
+        assertThat(cut.equals(new LongArrayList(PrimitiveCollections.asCollection(new long[] { 1, 2, 3 }))))
+                .isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 100 })
+    void hashCode__always__matchesBoxedList(int size) {
+        var cut = new IntArrayList();
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < size; i++) {
+            cut.addInt(i * 7919 - 50);
+            expected.add(i * 7919 - 50);
+        }
+
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(cut.subList(0, size).hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void getInt__indexOutOfRange__throwsIndexOutOfBoundsException() {
+        var cut = new IntArrayList(10);
+        cut.addInt(1);
+
+        var t = catchThrowable(() -> cut.getInt(1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void indexOfInt__always__returnsFirstAndLastOccurrence() {
+        var cut = listOf(5, 1, 5, 2);
+
+        assertThat(cut.indexOfInt(5)).isEqualTo(0);
+        assertThat(cut.lastIndexOfInt(5)).isEqualTo(2);
+        assertThat(cut.indexOfInt(3)).isEqualTo(-1);
+        assertThat(cut.lastIndexOfInt(3)).isEqualTo(-1);
+        assertThat(cut.indexOf(2)).isEqualTo(3);
+        assertThat(cut.indexOf(2L)).isEqualTo(-1);
+        assertThat(cut.containsInt(1)).isTrue();
+    }
+
+    @Test
+    void iterator__listModifiedDuringIteration__throwsConcurrentModificationException() {
+        var cut = listOf(1, 2, 3);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+        cut.addInt(4);
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void listIterator__traversedBothWays__returnsElementsAndIndices() {
+        var cut = listOf(1, 2, 3);
+        var iterator = cut.listIterator(1);
+
+        assertThat(iterator.previousIndex()).isEqualTo(0);
+        assertThat(iterator.nextInt()).isEqualTo(2);
+        assertThat(iterator.nextInt()).isEqualTo(3);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.previousInt()).isEqualTo(3);
+        assertThat(iterator.previousInt()).isEqualTo(2);
+        assertThat(iterator.previousInt()).isEqualTo(1);
+        assertThat(iterator.hasPrevious()).isFalse();
+        assertThat(catchThrowable(iterator::previousInt))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void listIterator__modifiedThroughIterator__updatesList() {
+        var cut = listOf(1, 2, 3);
+        var iterator = cut.listIterator();
+
+        iterator.nextInt();
+        iterator.setInt(10);
+        iterator.addInt(15);
+        iterator.nextInt();
+        iterator.remove();
+
+        assertThat(cut).containsExactly(10, 15, 3);
+        assertThat(catchThrowable(iterator::remove)).isInstanceOf(IllegalStateException.class);
+        assertThat(catchThrowable(() -> iterator.setInt(0)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void removeAt__always__returnsAndRemovesElementAtIndex() {
+        var cut = listOf(1, 2, 3);
+
+        var result = cut.removeAt(1);
+
+        assertThat(result).isEqualTo(2);
+        assertThat(cut).containsExactly(1, 3);
+    }
+
+    @Test
+    void remove_index__always__removesByIndexNotByValue() {
+        var cut = listOf(3, 2, 1, 0);
+
+        Integer removedAt = cut.remove(0);
+        boolean removed = cut.remove(Integer.valueOf(0));
+
+        assertThat(removedAt).isEqualTo(3);
+        assertThat(removed).isTrue();
+        assertThat(cut).containsExactly(2, 1);
+    }
+
+    @Test
+    void removeInt__always__removesFirstOccurrence() {
+        var cut = listOf(1, 2, 1);
+
+        assertThat(cut.removeInt(1)).isTrue();
+        assertThat(cut.removeInt(5)).isFalse();
+        assertThat(cut).containsExactly(2, 1);
+    }
+
+    @Test
+    void removeIfInt__always__removesMatchingElementsPreservingOrder() {
+        var cut = listOf(1, 2, 3, 4, 5, 6);
+
+        var result = cut.removeIfInt(i -> i % 2 == 0);
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactly(1, 3, 5);
+        assertThat(cut.removeIfInt(i -> i > 10)).isFalse();
+    }
+
+    @Test
+    void removeIfInt__filterThrows__retainsUntestedElements() {
+        var cut = listOf(1, 2, 3, 4);
+
+        var t = catchThrowable(() -> cut.removeIfInt(i -> {
+            if (i == 3)
+                throw new IllegalStateException();
+            return i == 2;
+        }));
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+        assertThat(cut).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    void removeAll__always__removesAllOccurrences() {
+        var cut = listOf(1, 2, 1, 3);
+
+        cut.removeAll(listOf(1, 3));
+
+        assertThat(cut).containsExactly(2);
+    }
+
+    @Test
+    void replaceAllInt__always__replacesEachElement() {
+        var cut = listOf(1, 2, 3);
+
+        cut.replaceAllInt(i -> i * 10);
+
+        assertThat(cut).containsExactly(10, 20, 30);
+    }
+
+    @Test
+    void setInt__always__returnsPreviousElement() {
+        var cut = listOf(1, 2, 3);
+
+        var result = cut.setInt(1, 20);
+
+        assertThat(result).isEqualTo(2);
+        assertThat(cut).containsExactly(1, 20, 3);
+    }
+
+    @Test
+    void sort__nullComparator__sortsAscending() {
+        var cut = listOf(3, -1, 2, Integer.MIN_VALUE);
+
+        cut.sort(null);
+
+        assertThat(cut).containsExactly(Integer.MIN_VALUE, -1, 2, 3);
+    }
+
+    @Test
+    void sort__comparator__sortsByComparator() {
+        var cut = listOf(3, -1, 2);
+
+        cut.sort(Comparator.reverseOrder());
+
+        assertThat(cut).containsExactly(3, 2, -1);
+    }
+
+    @Test
+    void subList__modified__writesThroughToList() {
+        var cut = listOf(0, 1, 2, 3, 4, 5);
+        var sub = cut.subList(1, 5);
+
+        sub.setInt(0, 10);
+        sub.addInt(2, 15);
+        sub.removeAt(3);
+        sub.subList(1, 2).clear();
+
+        assertThat(sub).containsExactly(10, 15, 4);
+        assertThat(cut).containsExactly(0, 10, 15, 4, 5);
+    }
+
+    @Test
+    void subList__listModifiedStructurally__throwsConcurrentModificationException() {
+        var cut = listOf(0, 1, 2, 3);
+        var sub = cut.subList(1, 3);
+        cut.addInt(4);
+
+        var t = catchThrowable(() -> sub.getInt(0));
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void subList__invalidRange__throwsIndexOutOfBoundsException() {
+        var cut = listOf(0, 1, 2, 3);
+
+        assertThat(catchThrowable(() -> cut.subList(-1, 2)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> cut.subList(3, 2)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(catchThrowable(() -> cut.subList(0, 5)))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1L, 2L, 3L })
+    void randomOperations__always__matchesBoxedList(long seed) {
+        var random = new Random(seed);
+        var cut = new IntArrayList();
+        var expected = new ArrayList<Integer>();
+        for (int n = 0; n < 10_000; n++) {
+            int v = random.nextInt(50);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    cut.addInt(v);
+                    expected.add(v);
+                }
+                case 1 -> {
+                    int index = random.nextInt(expected.size() + 1);
+                    cut.addInt(index, v);
+                    expected.add(index, v);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertThat(cut.removeAt(index)).isEqualTo(expected.remove(index));
+                    }
+                }
+                default -> assertThat(cut.removeInt(v)).isEqualTo(expected.remove((Integer) v));
+            }
+        }
+
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void spliterator__splitRecursively__visitsEachElementOnceInOrder() {
+        var cut = new IntArrayList();
+        for (int i = 0; i < 1000; i++)
+            cut.addInt(i);
+
+        var result = cut.parallelPrimitiveStream().boxed().collect(Collectors.toList());
+
+        assertThat(result).isEqualTo(cut);
+        assertThat(cut.spliterator().hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+    }
+
+    @Test
+    void spliterator__listModifiedBeforeTraversal__reflectsModification() {
+        var cut = listOf(1, 2);
+        var spliterator = cut.spliterator();
+        cut.addInt(3);
+
+        assertThat(spliterator.estimateSize()).isEqualTo(3);
+    }
+
+    @Test
+    void spliterator__listModifiedDuringTraversal__throwsConcurrentModificationException() {
+        var cut = listOf(1, 2, 3);
+        var spliterator = cut.spliterator();
+
+        var t = catchThrowable(() -> spliterator.forEachRemaining((int i) -> cut.addInt(i)));
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void toPrimitiveArray__always__returnsElementsInOrder() {
+        var cut = listOf(3, 1, 2);
+        cut.ensureCapacity(100);
+
+        assertThat(cut.toPrimitiveArray()).containsExactly(3, 1, 2);
+        cut.trimToSize();
+        assertThat(cut.toPrimitiveArray()).containsExactly(3, 1, 2);
+    }
+}
@@ -0,0 +1,381 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IntBitmapSetTest {
+    private static IntBitmapSet setOf(int... values) {
+        var set = new IntBitmapSet();
+        for (int v : values)
+            set.addInt(v);
+        return set;
+    }
+
+    @Test
+    void constructor__negativeCapacity__throwsException() {
+        var t = catchThrowable(() -> new IntBitmapSet(-1));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_OfInt__always__containsElementsOfCollection() {
+        var cut = new IntBitmapSet(PrimitiveCollections.setOf(new int[] { 3, 0, 200, 64 }));
+
+        assertThat(cut).containsExactly(0, 3, 64, 200);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 63, 64, 65, 1000, Integer.MAX_VALUE })
+    void addInt__elementNotInSet__returnsTrueAndAddsElement(int v) {
+        var cut = new IntBitmapSet();
+
+        var result = cut.addInt(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsInt(v)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 63, 64, 1000 })
+    void addInt__elementInSet__returnsFalse(int v) {
+        var cut = setOf(v);
+
+        var result = cut.addInt(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, -64, Integer.MIN_VALUE })
+    void addInt__negativeElement__throwsException(int v) {
+        var cut = new IntBitmapSet();
+
+        var t = catchThrowable(() -> cut.addInt(v));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+        assertThat(cut.isEmpty()).isTrue();
+    }
+
+    @Test
+    void addAll__bitmapSet__addsElementsAndReturnsTrue() {
+        var cut = setOf(1, 2, 3);
+
+        var result = cut.addAll(setOf(3, 4, 1000));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactly(1, 2, 3, 4, 1000);
+    }
+
+    @Test
+    void addAll__bitmapSetWithContainedElements__returnsFalse() {
+        var cut = setOf(1, 2, 3, 1000);
+
+        var result = cut.addAll(setOf(3, 1000));
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(4);
+    }
+
+    @Test
+    void addAll__immutableBitmapSet__addsElements() {
+        var cut = setOf(1);
+        var other = PrimitiveCollections.setOf(IntStream.range(1000, 1100).toArray());
+
+        var result = cut.addAll(other);
+
+        assertThat(result).isTrue();
+        assertThat(cut.size()).isEqualTo(101);
+        assertThat(cut).isEqualTo(PrimitiveCollections.setOf(
+                IntStream.concat(IntStream.of(1), IntStream.range(1000, 1100)).toArray()));
+    }
+
+    @Test
+    void addAll__immutableBitmapSetWithNegativeElements__throwsExceptionAndLeavesSetUnchanged() {
+        var cut = setOf(1);
+        var other = PrimitiveCollections.setOf(IntStream.range(-50, 50).toArray());
+
+        var t = catchThrowable(() -> cut.addAll(other));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+        assertThat(cut).containsExactly(1);
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        var cut = setOf(0, 5, 500);
+
+        cut.clear();
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsInt(5)).isFalse();
+        assertThat(cut.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void containsAll__bitmapSet__returnsWhetherAllElementsAreContained() {
+        var cut = setOf(1, 2, 3, 1000);
+
+        assertThat(cut.containsAll(setOf(1, 1000))).isTrue();
+        assertThat(cut.containsAll(setOf())).isTrue();
+        assertThat(cut.containsAll(setOf(1, 4))).isFalse();
+        assertThat(cut.containsAll(setOf(5000))).isFalse();
+    }
+
+    @Test
+    void containsAll__immutableBitmapSet__returnsWhetherAllElementsAreContained() {
+        var cut = new IntBitmapSet();
+        IntStream.range(0, 200).forEach(cut::addInt);
+
+        assertThat(cut.containsAll(PrimitiveCollections.setOf(
+                IntStream.range(100, 200).toArray()))).isTrue();
+        assertThat(cut.containsAll(PrimitiveCollections.setOf(
+                IntStream.range(100, 201).toArray()))).isFalse();
+        assertThat(cut.containsAll(PrimitiveCollections.setOf(
+                IntStream.range(-1, 100).toArray()))).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 2, 64, 1_000_000, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void containsInt__elementNotInSet__returnsFalse(int v) {
+        var cut = setOf(0, 1, 63);
+
+        assertThat(cut.containsInt(v)).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = new IntBitmapSet();
+        IntStream.range(0, 1000).map(i -> i * 3).forEach(cut::addInt);
+        var expected = IntStream.range(0, 1000).map(i -> i * 3).boxed()
+                .collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsElementsInAscendingOrder() {
+        var cut = setOf(1000, 3, 64, 0, 63);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Integer>();
+        while (iterator.hasNext())
+            result.add(iterator.nextInt());
+
+        assertThat(result).containsExactly(0, 3, 63, 64, 1000);
+    }
+
+    @Test
+    void iterator__exhausted__throwsNoSuchElementException() {
+        var cut = setOf(1);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator__setModifiedDuringIteration__throwsConcurrentModificationException() {
+        var cut = setOf(1, 2);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+        cut.addInt(3);
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iterator_remove__removingDuringIteration__removesSelectedElements() {
+        var cut = new IntBitmapSet();
+        IntStream.range(0, 1000).forEach(cut::addInt);
+
+        var iterator = cut.iterator();
+        while (iterator.hasNext())
+            if (iterator.nextInt() % 3 != 0)
+                iterator.remove();
+
+        assertThat(cut.toPrimitiveArray())
+                .containsExactly(IntStream.range(0, 334).map(i -> i * 3).toArray());
+    }
+
+    @Test
+    void iterator_remove__calledTwice__throwsIllegalStateException() {
+        var cut = setOf(1);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+        iterator.remove();
+
+        var t = catchThrowable(iterator::remove);
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void removeAll__bitmapSet__removesElementsAndReturnsTrue() {
+        var cut = setOf(1, 2, 3, 1000);
+
+        var result = cut.removeAll(setOf(2, 1000, 5000));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactly(1, 3);
+    }
+
+    @Test
+    void removeAll__bitmapSetWithNoCommonElements__returnsFalse() {
+        var cut = setOf(1, 2, 3);
+
+        var result = cut.removeAll(setOf(4, 5000));
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeInt__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var cut = new IntBitmapSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            int v = random.nextInt(4096);
+            if (random.nextBoolean())
+                assertThat(cut.addInt(v)).isEqualTo(expected.add(v));
+            else
+                assertThat(cut.removeInt(v)).isEqualTo(expected.remove(v));
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 5, 64, Integer.MAX_VALUE })
+    void removeInt__elementNotInSet__returnsFalse(int v) {
+        var cut = setOf(1);
+
+        assertThat(cut.removeInt(v)).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void retainAll__bitmapSet__retainsOnlyCommonElements() {
+        var cut = setOf(1, 2, 3, 1000, 5000);
+
+        var result = cut.retainAll(setOf(2, 1000));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactly(2, 1000);
+    }
+
+    @Test
+    void retainAll__immutableBitmapSet__retainsOnlyCommonElements() {
+        var cut = new IntBitmapSet();
+        IntStream.range(0, 200).forEach(cut::addInt);
+
+        var result = cut.retainAll(PrimitiveCollections.setOf(
+                IntStream.range(150, 250).toArray()));
+
+        assertThat(result).isTrue();
+        assertThat(cut.toPrimitiveArray()).containsExactly(IntStream.range(150, 200).toArray());
+    }
+
+    @Test
+    void retainAll__otherCollection__retainsOnlyCommonElements() {
+        var cut = setOf(1, 2, 3);
+
+        var result = cut.retainAll(PrimitiveCollections.setOf(new int[] { 2, -5 }));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactly(2);
+    }
+
+    @Test
+    void spliterator__always__returnsSpliteratorWithExpectedCharacteristics() {
+        var cut = setOf(1, 2, 3);
+
+        var spliterator = cut.spliterator();
+        var result = spliterator.characteristics();
+
+        assertThat(result & Spliterator.DISTINCT).isNotZero();
+        assertThat(result & Spliterator.ORDERED).isNotZero();
+        assertThat(result & Spliterator.SORTED).isNotZero();
+        assertThat(spliterator.getComparator()).isNull();
+    }
+
+    @Test
+    void spliterator__splitRecursively__reportsExactSizesAndVisitsElementsInOrder() {
+        var cut = new IntBitmapSet(PrimitiveCollections.setOf(
+                IntStream.range(0, 20_000).map(i -> i * 3).toArray()));
+        var result = new ArrayList<Integer>();
+        var pending = new ArrayDeque<Spliterator.OfInt>();
+        pending.push(cut.spliterator());
+        while (!pending.isEmpty()) {
+            var spliterator = pending.pop();
+            var prefix = spliterator.estimateSize() > 100 ? spliterator.trySplit() : null;
+            if (prefix != null) {
+                assertThat(prefix.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+                pending.push(spliterator);
+                pending.push(prefix);
+            } else {
+                long size = spliterator.estimateSize();
+                int before = result.size();
+                spliterator.tryAdvance((int v) -> result.add(v));
+                assertThat(spliterator.estimateSize()).isEqualTo(Math.max(0, size - 1));
+                spliterator.forEachRemaining((int v) -> result.add(v));
+                assertThat(result.size() - before).isEqualTo(size);
+            }
+        }
+
+        assertThat(result).containsExactlyElementsOf(
+                IntStream.range(0, 20_000).map(i -> i * 3).boxed().toList());
+    }
+
+    @Test
+    void copyInto__offset__writesElementsInOrderAfterOffset() {
+        var cut = new IntBitmapSet();
+        var expected = IntStream.range(0, 1000).map(i -> i * 7).toArray();
+        IntStream.of(expected).forEach(cut::addInt);
+        var dest = new int[expected.length + 2];
+        Arrays.fill(dest, -1);
+
+        cut.copyInto(dest, 1);
+
+        assertThat(dest[0]).isEqualTo(-1);
+        assertThat(dest[dest.length - 1]).isEqualTo(-1);
+        assertThat(Arrays.copyOfRange(dest, 1, dest.length - 1)).containsExactly(expected);
+    }
+
+    @Test
+    void copyInto__arrayTooSmall__throwsIndexOutOfBoundsException() {
+        var cut = new IntBitmapSet();
+        IntStream.range(0, 10).forEach(cut::addInt);
+
+        var t = catchThrowable(() -> cut.copyInto(new int[10], 1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,391 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IntHashSetTest {
+    @Test
+    void constructor__negativeExpectedSize__throwsException() {
+        var t = catchThrowable(() -> new IntHashSet(-1));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = { 0f, 1f, -0.5f, Float.NaN })
+    void constructor__invalidLoadFactor__throwsException(float loadFactor) {
+        var t = catchThrowable(() -> new IntHashSet(16, loadFactor));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_OfInt__always__containsElementsOfCollection() {
+        var cut = new IntHashSet(PrimitiveCollections.setOf(new int[] { 0, 1, 2, 3 }));
+
+        assertThat(cut).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    void addAll__sameClass__addsElementsOfOtherSet() {
+        var cut = new IntHashSet();
+        cut.addInt(1);
+        cut.addInt(2);
+        var other = new IntHashSet();
+        for (int i = 0; i < 100; i++)
+            other.addInt(i);
+
+        var result = cut.addAll(other);
+
+        assertThat(result).isTrue();
+        assertThat(cut).isEqualTo(other);
+        assertThat(cut.addAll(other)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void addInt__elementNotInSet__returnsTrueAndAddsElement(int v) {
+        var cut = new IntHashSet();
+
+        var result = cut.addInt(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsInt(v)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void addInt__elementInSet__returnsFalse(int v) {
+        var cut = new IntHashSet();
+        cut.addInt(v);
+
+        var result = cut.addInt(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 1000, 100_000 })
+    void addInt__manyElements__growsAndRetainsAllElements(int size) {
+        var cut = new IntHashSet(0);
+
+        for (int i = 0; i < size; i++)
+            cut.addInt(i * 31);
+
+        assertThat(cut.size()).isEqualTo(size);
+        for (int i = 0; i < size; i++)
+            assertThat(cut.containsInt(i * 31)).isTrue();
+        assertThat(cut.containsInt(size * 31)).isFalse();
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        var cut = new IntHashSet();
+        IntStream.range(-10, 10).forEach(cut::addInt);
+
+        cut.clear();
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsInt(0)).isFalse();
+        assertThat(cut.containsInt(5)).isFalse();
+        assertThat(cut.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void containsAll__sameClass__returnsWhetherSubset() {
+        var cut = new IntHashSet();
+        IntStream.range(-100, 100).forEach(cut::addInt);
+        var subset = new IntHashSet();
+        IntStream.range(-10, 10).forEach(subset::addInt);
+        var other = new IntHashSet();
+        other.addInt(1);
+        other.addInt(1000);
+        var zero = new IntHashSet();
+        zero.addInt(0);
+
+        assertThat(cut.containsAll(subset)).isTrue();
+        assertThat(cut.containsAll(other)).isFalse();
+        assertThat(subset.containsAll(cut)).isFalse();
+        assertThat(other.containsAll(zero)).isFalse();
+    }
+
+    @Test
+    void containsInt__elementNotInSet__returnsFalse() {
+        var cut = new IntHashSet();
+        cut.addInt(1);
+
+        assertThat(cut.containsInt(0)).isFalse();
+        assertThat(cut.containsInt(2)).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = new IntHashSet();
+        IntStream.range(-100, 100).forEach(cut::addInt);
+        var expected = IntStream.range(-100, 100).boxed().collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 10, 1000 })
+    void hashCode__always__matchesBoxedSet(int size) {
+        var cut = new IntHashSet();
+        IntStream.range(-size, size).map(i -> i * 7).forEach(cut::addInt);
+        var expected = IntStream.range(-size, size).map(i -> i * 7).boxed()
+                .collect(Collectors.toSet());
+
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsEachElementOnce() {
+        var cut = new IntHashSet();
+        IntStream.range(-500, 500).forEach(cut::addInt);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Integer>();
+        while (iterator.hasNext())
+            result.add(iterator.nextInt());
+
+        assertThat(result).hasSize(1000)
+                .containsExactlyInAnyOrderElementsOf(
+                        IntStream.range(-500, 500).boxed().toList());
+    }
+
+    @Test
+    void iterator__exhausted__throwsNoSuchElementException() {
+        var cut = new IntHashSet();
+        cut.addInt(1);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator__setModifiedDuringIteration__throwsConcurrentModificationException() {
+        var cut = new IntHashSet();
+        cut.addInt(1);
+        cut.addInt(2);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+        cut.addInt(3);
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iterator_remove__calledTwice__throwsIllegalStateException() {
+        var cut = new IntHashSet();
+        cut.addInt(1);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+        iterator.remove();
+
+        var t = catchThrowable(iterator::remove);
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5 })
+    void iterator_remove__removingDuringIteration__visitsEveryElementAndRemovesSelected(
+            long seed) {
+        // A small table with many colliding entries ensures that entries
+        // wrapping around the end of the table get shifted during removal.
+        var random = new Random(seed);
+        var cut = new IntHashSet(0);
+        var expected = new HashSet<Integer>();
+        for (int i = 0; i < 2000; i++) {
+            int v = random.nextInt(4096) - 2048;
+            cut.addInt(v);
+            expected.add(v);
+        }
+
+        var originalSize = expected.size();
+        var visited = new HashSet<Integer>();
+        var iterator = cut.iterator();
+        while (iterator.hasNext()) {
+            int v = iterator.nextInt();
+            assertThat(visited.add(v)).isTrue();
+            if ((v & 1) == 0)
+                iterator.remove();
+        }
+        expected.removeIf(v -> (v & 1) == 0);
+
+        assertThat(visited).hasSize(originalSize);
+        assertThat(cut).isEqualTo(expected);
+        assertThat(cut.size()).isEqualTo(expected.size());
+        for (int v : expected)
+            assertThat(cut.containsInt(v)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42 })
+    void removeInt__elementInSet__returnsTrueAndRemovesElement(int v) {
+        var cut = new IntHashSet();
+        cut.addInt(v);
+        cut.addInt(v + 1);
+
+        var result = cut.removeInt(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsInt(v)).isFalse();
+        assertThat(cut.containsInt(v + 1)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42 })
+    void removeInt__elementNotInSet__returnsFalse(int v) {
+        var cut = new IntHashSet();
+        cut.addInt(v + 1);
+
+        var result = cut.removeInt(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeInt__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var cut = new IntHashSet(0);
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            int v = random.nextInt(1024);
+            if (random.nextBoolean())
+                assertThat(cut.addInt(v)).isEqualTo(expected.add(v));
+            else
+                assertThat(cut.removeInt(v)).isEqualTo(expected.remove(v));
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void retainAll__always__retainsOnlyElementsInCollection() {
+        var cut = new IntHashSet();
+        IntStream.range(0, 100).forEach(cut::addInt);
+
+        var result = cut.retainAll(PrimitiveCollections.setOf(new int[] { 0, 50, 200 }));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactlyInAnyOrder(0, 50);
+    }
+
+    @Test
+    void spliterator__splitRecursively__visitsEachElementOnce() {
+        var cut = new IntHashSet();
+        IntStream.range(0, 10_000).forEach(cut::addInt);
+        var result = new ArrayList<Integer>();
+        var pending = new ArrayDeque<Spliterator.OfInt>();
+        pending.push(cut.spliterator());
+        while (!pending.isEmpty()) {
+            var spliterator = pending.pop();
+            var prefix = spliterator.estimateSize() > 100 ? spliterator.trySplit() : null;
+            if (prefix != null) {
+                pending.push(spliterator);
+                pending.push(prefix);
+            } else {
+                spliterator.tryAdvance((int v) -> result.add(v));
+                spliterator.forEachRemaining((int v) -> result.add(v));
+            }
+        }
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, 10_000).boxed().toList());
+    }
+
+    @Test
+    void spliterator__split__onlyUnsplitSpliteratorReportsSized() {
+        var cut = new IntHashSet();
+        IntStream.range(0, 100).forEach(cut::addInt);
+
+        var spliterator = cut.spliterator();
+        var sized = spliterator.hasCharacteristics(Spliterator.SIZED);
+        var size = spliterator.estimateSize();
+        var prefix = spliterator.trySplit();
+
+        assertThat(sized).isTrue();
+        assertThat(size).isEqualTo(100);
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    void spliterator__setModifiedDuringTraversal__throwsConcurrentModificationException() {
+        var cut = new IntHashSet();
+        IntStream.range(0, 100).forEach(cut::addInt);
+        var spliterator = cut.spliterator();
+        spliterator.tryAdvance((int v) -> {});
+        cut.addInt(1000);
+
+        var t = catchThrowable(() -> spliterator.forEachRemaining((int v) -> {}));
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void toPrimitiveArray__always__returnsElementArray() {
+        var cut = new IntHashSet();
+        IntStream.range(-5, 5).forEach(cut::addInt);
+
+        var result = cut.toPrimitiveArray();
+
+        assertThat(result).containsExactlyInAnyOrder(
+                IntStream.range(-5, 5).toArray());
+    }
+
+    @Test
+    void copyInto__offset__writesEveryElementAfterOffset() {
+        var cut = new IntHashSet();
+        IntStream.range(-5, 5).forEach(cut::addInt);
+        var dest = new int[12];
+        Arrays.fill(dest, 42);
+
+        cut.copyInto(dest, 1);
+
+        assertThat(dest[0]).isEqualTo(42);
+        assertThat(dest[11]).isEqualTo(42);
+        assertThat(Arrays.copyOfRange(dest, 1, 11)).containsExactlyInAnyOrder(
+                IntStream.range(-5, 5).toArray());
+    }
+
+    @Test
+    void copyInto__arrayTooSmall__throwsIndexOutOfBoundsException() {
+        var cut = new IntHashSet();
+        IntStream.range(-5, 5).forEach(cut::addInt);
+
+        var t = catchThrowable(() -> cut.copyInto(new int[10], 1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
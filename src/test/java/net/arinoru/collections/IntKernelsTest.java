@@ -0,0 +1,82 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntKernelsTest {
+    private static int[] sortedDistinct(Random random, int size, int bound) {
+        return random.ints(size * 2L, -bound, bound).distinct().limit(size).sorted().toArray();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 7, 8, 16, 17, 33, 1000 })
+    void indexOf__everyKeyInRange__returnsFirstOccurrence(int size) {
+        var a = IntStream.range(0, size).map(i -> i % 5 - 2).toArray();
+
+        for (int from = 0; from <= Math.min(size, 3); from++)
+            for (int key = -3; key <= 3; key++) {
+                int k = key;
+                int expected = IntStream.range(from, size).filter(i -> a[i] == k).findFirst().orElse(-1);
+                assertThat(IntKernels.indexOf(a, from, size, key)).isEqualTo(expected);
+            }
+    }
+
+    @Test
+    void indexOf__keyOnlyInTail__returnsTailIndex() {
+        var a = new int[97];
+        a[a.length - 1] = 42;
+
+        assertThat(IntKernels.indexOf(a, 0, a.length, 42)).isEqualTo(a.length - 1);
+        assertThat(IntKernels.indexOf(a, 0, a.length - 1, 42)).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void containsAllSorted__randomArrays__matchesMembership(long seed) {
+        var random = new Random(seed);
+        for (int n = 0; n < 200; n++) {
+            var a = sortedDistinct(random, random.nextInt(100), 200);
+            var b = random.nextBoolean()
+                    ? IntStream.of(a).filter(i -> random.nextInt(4) != 0).toArray()
+                    : sortedDistinct(random, random.nextInt(20), 200);
+            boolean expected = IntStream.of(b).allMatch(i -> IntStream.of(a).anyMatch(j -> j == i));
+
+            assertThat(IntKernels.containsAllSorted(a, b)).isEqualTo(expected);
+            assertThat(IntKernels.scalarContainsAllSorted(a, 0, b, 0)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void containsAllSorted__extremeValues__findsEveryElement() {
+        var a = IntStream.concat(IntStream.of(Integer.MIN_VALUE),
+                IntStream.concat(IntStream.range(0, 100), IntStream.of(Integer.MAX_VALUE))).toArray();
+
+        assertThat(IntKernels.containsAllSorted(a, new int[] { Integer.MIN_VALUE, 50, Integer.MAX_VALUE }))
+                .isTrue();
+        assertThat(IntKernels.containsAllSorted(a, new int[] { Integer.MIN_VALUE, 100 })).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void intersectSorted__randomArrays__returnsCommonElementsInOrder(long seed) {
+        var random = new Random(seed);
+        for (int n = 0; n < 200; n++) {
+            var a = sortedDistinct(random, random.nextInt(100), 200);
+            var b = sortedDistinct(random, random.nextInt(100), 200);
+            var expected = IntStream.of(a).filter(i -> IntStream.of(b).anyMatch(j -> j == i)).toArray();
+
+            assertThat(IntKernels.intersectSorted(a, b)).containsExactly(expected);
+            assertThat(IntKernels.intersectSorted(b, a)).containsExactly(expected);
+            var result = new int[b.length];
+            int count = IntKernels.scalarIntersectSorted(a, 0, b, 0, result, 0);
+            assertThat(Arrays.copyOf(result, count)).containsExactly(expected);
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IntToIntHashMapTest {
+    @Test
+    void constructor__negativeExpectedSize__throwsException() {
+        var t = catchThrowable(() -> new IntToIntHashMap(-1));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = { 0f, 1f, -0.5f, Float.NaN })
+    void constructor__invalidLoadFactor__throwsException(float loadFactor) {
+        var t = catchThrowable(() -> new IntToIntHashMap(16, loadFactor));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_IntToInt__always__containsMappingsOfMap() {
+        var source = new IntToIntHashMap();
+        source.put(0, 1);
+        source.put(2, 3);
+
+        var cut = new IntToIntHashMap(source);
+
+        assertThat(cut).isEqualTo(Map.of(0, 1, 2, 3));
+    }
+
+    @Test
+    void addTo__absentKey__returnsZeroAndMapsKeyToIncrement() {
+        var cut = new IntToIntHashMap();
+
+        var result = cut.addTo(5, 3);
+
+        assertThat(result).isZero();
+        assertThat(cut.get(5)).isEqualTo(3);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, Integer.MIN_VALUE })
+    void addTo__presentKey__returnsPreviousValueAndAddsIncrement(int key) {
+        var cut = new IntToIntHashMap();
+        cut.put(key, 10);
+
+        var result = cut.addTo(key, 5);
+
+        assertThat(result).isEqualTo(10);
+        assertThat(cut.get(key)).isEqualTo(15);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void addTo__countingOccurrences__matchesBoxedMerge() {
+        var random = new Random(1);
+        var cut = new IntToIntHashMap(0);
+        var expected = new HashMap<Integer,Integer>();
+        for (int i = 0; i < 10_000; i++) {
+            int v = random.nextInt(100) - 50;
+            cut.addTo(v, 1);
+            expected.merge(v, 1, Integer::sum);
+        }
+
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void clear__always__removesAllMappings() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 1);
+        cut.put(1, 2);
+
+        cut.clear();
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsKey(0)).isFalse();
+        assertThat(cut.containsKey(1)).isFalse();
+    }
+
+    @Test
+    void containsValue__always__returnsWhetherAnyKeyMapsToValue() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 7);
+        cut.put(3, 8);
+
+        assertThat(cut.containsValue(7)).isTrue();
+        assertThat(cut.containsValue(8)).isTrue();
+        assertThat(cut.containsValue(0)).isFalse();
+        assertThat(cut.containsValue((Object) 8)).isTrue();
+        assertThat(cut.containsValue((Object) 8L)).isFalse();
+    }
+
+    @Test
+    void entrySet_setValue__always__writesThroughToMap() {
+        var cut = new IntToIntHashMap();
+        cut.put(1, 2);
+        var entry = cut.entrySet().iterator().next();
+
+        var result = entry.setValue(5);
+
+        assertThat(result).isEqualTo(2);
+        assertThat(entry.getValue()).isEqualTo(5);
+        assertThat(cut.get(1)).isEqualTo(5);
+    }
+
+    @Test
+    void entrySet__always__equalsEntrySetOfBoxedMap() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 1);
+        cut.put(2, 3);
+
+        assertThat(cut.entrySet()).isEqualTo(Map.of(0, 1, 2, 3).entrySet());
+        assertThat(cut.entrySet().contains(Map.entry(2, 3))).isTrue();
+        assertThat(cut.entrySet().contains(Map.entry(2, 4))).isFalse();
+    }
+
+    @Test
+    void entrySet_remove__presentEntry__removesMapping() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 1);
+        cut.put(2, 3);
+
+        assertThat(cut.entrySet().remove(Map.entry(2, 4))).isFalse();
+        assertThat(cut.entrySet().remove(Map.entry(2, 3))).isTrue();
+        assertThat(cut).isEqualTo(Map.of(0, 1));
+    }
+
+    @Test
+    void equals__comparedToBoxedMapWithSameMappings__returnsTrue() {
+        var cut = new IntToIntHashMap();
+        var expected = new HashMap<Integer,Integer>();
+        for (int i = -50; i < 50; i++) {
+            cut.put(i, i * i);
+            expected.put(i, i * i);
+        }
+
+        assertThat(cut.equals(expected)).isTrue();
+        assertThat(expected.equals(cut)).isTrue();
+        expected.put(0, 1);
+        assertThat(cut.equals(expected)).isFalse();
+    }
+
+    @Test
+    void equals__absentKeyComparedToZeroValue__returnsFalse() {
+        var cut = new IntToIntHashMap();
+        cut.put(1, 0);
+        var other = new IntToIntHashMap();
+        other.put(2, 0);
+
+        assertThat(cut.equals(other)).isFalse();
+    }
+
+    @Test
+    void forEach__always__visitsEachMappingOnce() {
+        var cut = new IntToIntHashMap();
+        for (int i = 0; i < 100; i++)
+            cut.put(i, -i);
+        var visited = new HashMap<Integer,Integer>();
+
+        cut.forEach((int k, int v) -> assertThat(visited.put(k, v)).isNull());
+
+        assertThat(visited).isEqualTo(cut);
+    }
+
+    @Test
+    void forEach__mapModifiedDuringTraversal__throwsConcurrentModificationException() {
+        var cut = new IntToIntHashMap();
+        cut.put(1, 1);
+
+        var t = catchThrowable(() -> cut.forEach((int k, int v) -> cut.put(k + 1, v)));
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void get__absentKey__returnsZeroOrNull(int key) {
+        var cut = new IntToIntHashMap();
+        cut.put(key + 1, 5);
+
+        assertThat(cut.get(key)).isZero();
+        assertThat(cut.get((Object) key)).isNull();
+        assertThat(cut.getOrDefault(key, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void get_Object__keyOfWrongType__returnsNull() {
+        var cut = new IntToIntHashMap();
+        cut.put(1, 5);
+
+        assertThat(cut.get((Object) 1L)).isNull();
+        assertThat(cut.get((Object) "1")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 1000, 100_000 })
+    void hashCode__always__matchesBoxedMap(int size) {
+        var cut = new IntToIntHashMap();
+        var expected = new HashMap<Integer,Integer>();
+        for (int i = 0; i < size; i++) {
+            cut.put(i * 31, i);
+            expected.put(i * 31, i);
+        }
+
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void keySet__always__containsEachKey() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 1);
+        cut.put(2, 3);
+
+        assertThat(cut.keySet()).isEqualTo(Set.of(0, 2));
+        assertThat(cut.keySet().containsInt(2)).isTrue();
+        assertThat(cut.keySet().containsInt(1)).isFalse();
+    }
+
+    @Test
+    void keySet_removeInt__presentKey__removesMapping() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 1);
+        cut.put(2, 3);
+
+        assertThat(cut.keySet().removeInt(1)).isFalse();
+        assertThat(cut.keySet().removeInt(0)).isTrue();
+        assertThat(cut).isEqualTo(Map.of(2, 3));
+    }
+
+    @Test
+    void iterator__exhausted__throwsNoSuchElementException() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 0);
+        var iterator = cut.keySet().iterator();
+        iterator.nextInt();
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator__mapModifiedDuringIteration__throwsConcurrentModificationException() {
+        var cut = new IntToIntHashMap();
+        cut.put(1, 1);
+        cut.put(2, 2);
+        var iterator = cut.values().iterator();
+        iterator.nextInt();
+        cut.put(3, 3);
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iterator_remove__calledTwice__throwsIllegalStateException() {
+        var cut = new IntToIntHashMap();
+        cut.put(1, 1);
+        var iterator = cut.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        var t = catchThrowable(iterator::remove);
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5 })
+    void iterator_remove__removingDuringIteration__visitsEveryMappingAndRemovesSelected(
+            long seed) {
+        // A small table with many colliding entries ensures that entries
+        // wrapping around the end of the table get shifted during removal.
+        var random = new Random(seed);
+        var cut = new IntToIntHashMap(0);
+        var expected = new HashMap<Integer,Integer>();
+        for (int i = 0; i < 2000; i++) {
+            int k = random.nextInt(4096) - 2048;
+            cut.put(k, i);
+            expected.put(k, i);
+        }
+
+        var originalSize = expected.size();
+        var visited = new HashSet<Integer>();
+        var iterator = cut.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            assertThat(visited.add(entry.getKey())).isTrue();
+            assertThat(entry.getValue()).isEqualTo(expected.get(entry.getKey()));
+            if ((entry.getKey() & 1) == 0)
+                iterator.remove();
+        }
+        expected.keySet().removeIf(k -> (k & 1) == 0);
+
+        assertThat(visited).hasSize(originalSize);
+        assertThat(cut).isEqualTo(expected);
+        assertThat(cut.size()).isEqualTo(expected.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void put__absentKey__returnsZeroAndAddsMapping(int key) {
+        var cut = new IntToIntHashMap();
+
+        var result = cut.put(key, 7);
+
+        assertThat(result).isZero();
+        assertThat(cut.containsKey(key)).isTrue();
+        assertThat(cut.get(key)).isEqualTo(7);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void put__presentKey__returnsPreviousValueAndReplacesIt(int key) {
+        var cut = new IntToIntHashMap();
+        cut.put(key, 7);
+
+        var result = cut.put(key, 8);
+
+        assertThat(result).isEqualTo(7);
+        assertThat(cut.get(key)).isEqualTo(8);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void put_boxed__absentKey__returnsNull() {
+        var cut = new IntToIntHashMap();
+
+        var result = cut.put(Integer.valueOf(1), Integer.valueOf(0));
+
+        assertThat(result).isNull();
+        assertThat(cut.put(Integer.valueOf(1), Integer.valueOf(2))).isEqualTo(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 1000, 100_000 })
+    void put__manyMappings__growsAndRetainsAllMappings(int size) {
+        var cut = new IntToIntHashMap(0);
+
+        for (int i = 0; i < size; i++)
+            cut.put(i * 31, i);
+
+        assertThat(cut.size()).isEqualTo(size);
+        for (int i = 0; i < size; i++)
+            assertThat(cut.get(i * 31)).isEqualTo(i);
+        assertThat(cut.containsKey(size * 31)).isFalse();
+    }
+
+    @Test
+    void putAll__boxedMap__addsEachMapping() {
+        var cut = new IntToIntHashMap();
+        cut.put(1, 1);
+
+        cut.putAll(Map.of(1, 2, 3, 4));
+
+        assertThat(cut).isEqualTo(Map.of(1, 2, 3, 4));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42 })
+    void remove__presentKey__returnsValueAndRemovesMapping(int key) {
+        var cut = new IntToIntHashMap();
+        cut.put(key, 5);
+        cut.put(key + 1, 6);
+
+        var result = cut.remove(key);
+
+        assertThat(result).isEqualTo(5);
+        assertThat(cut.containsKey(key)).isFalse();
+        assertThat(cut.get(key + 1)).isEqualTo(6);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42 })
+    void remove__absentKey__returnsZero(int key) {
+        var cut = new IntToIntHashMap();
+        cut.put(key + 1, 6);
+
+        assertThat(cut.remove(key)).isZero();
+        assertThat(cut.remove((Object) key)).isNull();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void remove__randomOperations__matchesBoxedMap(long seed) {
+        var random = new Random(seed);
+        var cut = new IntToIntHashMap(0);
+        var expected = new HashMap<Integer,Integer>();
+        for (int i = 0; i < 50_000; i++) {
+            int k = random.nextInt(1024);
+            if (random.nextBoolean()) {
+                var previous = expected.put(k, i);
+                assertThat(cut.put(k, i)).isEqualTo(previous == null ? 0 : previous);
+            } else {
+                var previous = expected.remove(k);
+                assertThat(cut.remove(k)).isEqualTo(previous == null ? 0 : previous);
+            }
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void values__always__containsEachValue() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 5);
+        cut.put(1, 5);
+        cut.put(2, 6);
+
+        assertThat(cut.values()).containsExactlyInAnyOrder(5, 5, 6);
+        assertThat(cut.values().containsInt(6)).isTrue();
+        assertThat(cut.values().containsInt(0)).isFalse();
+    }
+
+    @Test
+    void values_removeInt__presentValue__removesOneMapping() {
+        var cut = new IntToIntHashMap();
+        cut.put(0, 5);
+        cut.put(1, 5);
+
+        assertThat(cut.values().removeInt(5)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+        assertThat(cut.containsValue(5)).isTrue();
+    }
+}
@@ -0,0 +1,102 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntToLongHashMapTest {
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void addTo__always__returnsPreviousValueAndAddsIncrement(int key) {
+        var cut = new IntToLongHashMap();
+
+        assertThat(cut.addTo(key, 5)).isZero();
+        assertThat(cut.addTo(key, Long.MAX_VALUE)).isEqualTo(5);
+
+        assertThat(cut.get(key)).isEqualTo(Long.MIN_VALUE + 4);
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 1000, 100_000 })
+    void hashCode__always__matchesBoxedMap(int size) {
+        var cut = new IntToLongHashMap();
+        var expected = new HashMap<Integer,Long>();
+        for (int i = 0; i < size; i++) {
+            cut.put(i * 31, (long) i << 33);
+            expected.put(i * 31, (long) i << 33);
+        }
+
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5 })
+    void iterator_remove__removingDuringIteration__visitsEveryMappingAndRemovesSelected(
+            long seed) {
+        // A small table with many colliding entries ensures that entries
+        // wrapping around the end of the table get shifted during removal.
+        var random = new Random(seed);
+        var cut = new IntToLongHashMap(0);
+        var expected = new HashMap<Integer,Long>();
+        for (int i = 0; i < 2000; i++) {
+            int k = random.nextInt(4096) - 2048;
+            cut.put(k, i);
+            expected.put(k, (long) i);
+        }
+
+        var originalSize = expected.size();
+        var visited = new HashSet<Integer>();
+        var iterator = cut.keySet().iterator();
+        while (iterator.hasNext()) {
+            int k = iterator.nextInt();
+            assertThat(visited.add(k)).isTrue();
+            if ((k & 1) == 0)
+                iterator.remove();
+        }
+        expected.keySet().removeIf(k -> (k & 1) == 0);
+
+        assertThat(visited).hasSize(originalSize);
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void put__always__returnsPreviousValueOrZero(int key) {
+        var cut = new IntToLongHashMap();
+
+        assertThat(cut.put(key, Long.MIN_VALUE)).isZero();
+        assertThat(cut.put(key, 3)).isEqualTo(Long.MIN_VALUE);
+
+        assertThat(cut.get(key)).isEqualTo(3);
+        assertThat(cut.containsValue(3)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void remove__randomOperations__matchesBoxedMap(long seed) {
+        var random = new Random(seed);
+        var cut = new IntToLongHashMap(0);
+        var expected = new HashMap<Integer,Long>();
+        for (int i = 0; i < 50_000; i++) {
+            int k = random.nextInt(1024);
+            if (random.nextBoolean()) {
+                var previous = expected.put(k, (long) i);
+                assertThat(cut.put(k, i)).isEqualTo(previous == null ? 0 : previous);
+            } else {
+                var previous = expected.remove(k);
+                assertThat(cut.remove(k)).isEqualTo(previous == null ? 0 : previous);
+            }
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+}
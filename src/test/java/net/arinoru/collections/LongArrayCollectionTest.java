@@ -0,0 +1,62 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LongArrayCollectionTest {
+    @Test
+    void asCollection__invalidRange__throwsException() {
+        var arr = new long[] { 1, 2, 3 };
+
+        var t = catchThrowable(() -> PrimitiveCollections.asCollection(arr, 2, 4));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void containsLong__elementOutsideRange__returnsFalse() {
+        var cut = PrimitiveCollections.asCollection(new long[] { 1, 2, 3, 4, 5 }, 1, 4);
+
+        assertThat(cut.containsLong(2)).isTrue();
+        assertThat(cut.containsLong(5)).isFalse();
+    }
+
+    @Test
+    void iterator__always__returnsElementsOfRangeInOrder() {
+        var cut = PrimitiveCollections.asCollection(new long[] { 1, 2, 3, 4, 5 }, 1, 4);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Long>();
+        while (iterator.hasNext())
+            result.add(iterator.nextLong());
+
+        assertThat(result).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void spliterator__always__returnsSizedOrderedSpliteratorOverRange() {
+        var cut = PrimitiveCollections.asCollection(new long[] { 1, 2, 3, 4, 5 }, 1, 4);
+
+        var spliterator = cut.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+    }
+
+    @Test
+    void toPrimitiveArray__always__returnsCopyOfRange() {
+        var arr = new long[] { 1, 2, 3, 4, 5 };
+        var cut = PrimitiveCollections.asCollection(arr, 1, 4);
+
+        var result = cut.toPrimitiveArray();
+        arr[1] = 10;
+
+        assertThat(result).containsExactly(2, 3, 4);
+        assertThat(cut.toPrimitiveArray()).containsExactly(10, 3, 4);
+    }
+}
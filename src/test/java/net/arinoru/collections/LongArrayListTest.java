@@ -0,0 +1,98 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LongArrayListTest {
+    private static LongArrayList listOf(long... elements) {
+        var list = new LongArrayList();
+        for (long l : elements)
+            list.addLong(l);
+        return list;
+    }
+
+    @Test
+    void addLong_index__always__insertsElementAtIndex() {
+        var cut = listOf(1L, 2L, 3L);
+
+        cut.addLong(1, Long.MAX_VALUE);
+
+        assertThat(cut).containsExactly(1L, Long.MAX_VALUE, 2L, 3L);
+    }
+
+    @Test
+    void addAll_index__sameClass__insertsElementsInOrder() {
+        var cut = listOf(1L, 2L);
+
+        cut.addAll(1, listOf(5L, 6L));
+
+        assertThat(cut).containsExactly(1L, 5L, 6L, 2L);
+    }
+
+    @Test
+    void equals__comparedToBoxedListWithSameElements__returnsTrue() {
+        var cut = listOf(1L, 2L, Long.MIN_VALUE);
+
+        assertThat(cut).isEqualTo(List.of(1L, 2L, Long.MIN_VALUE));
+        assertThat(cut.hashCode()).isEqualTo(List.of(1L, 2L, Long.MIN_VALUE).hashCode());
+        assertThat(cut.equals(List.of(1, 2))).isFalse();
+    }
+
+    @Test
+    void getLong__indexOutOfRange__throwsIndexOutOfBoundsException() {
+        var cut = listOf(1L);
+
+        var t = catchThrowable(() -> cut.getLong(-1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void removeAt__always__returnsAndRemovesElementAtIndex() {
+        var cut = listOf(1L, 2L, 3L);
+
+        assertThat(cut.removeAt(2)).isEqualTo(3L);
+        assertThat(cut).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void removeIfLong__always__removesMatchingElementsPreservingOrder() {
+        var cut = listOf(1L, 2L, 3L, 4L);
+
+        cut.removeIfLong(l -> l % 2 == 1);
+
+        assertThat(cut).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void sort__nullComparator__sortsAscending() {
+        var cut = listOf(3L, -1L, Long.MIN_VALUE);
+
+        cut.sort(null);
+
+        assertThat(cut).containsExactly(Long.MIN_VALUE, -1L, 3L);
+    }
+
+    @Test
+    void subList__modified__writesThroughToList() {
+        var cut = listOf(0L, 1L, 2L, 3L);
+
+        cut.subList(1, 3).clear();
+
+        assertThat(cut).containsExactly(0L, 3L);
+    }
+
+    @Test
+    void primitiveStream__always__streamsElementsInOrder() {
+        var cut = listOf(5L, 3L, 4L);
+
+        var result = cut.primitiveStream().boxed().collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+
+        assertThat(result).containsExactly(5L, 3L, 4L);
+    }
+}
@@ -0,0 +1,358 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LongHashSetTest {
+    @Test
+    void constructor__negativeExpectedSize__throwsException() {
+        var t = catchThrowable(() -> new LongHashSet(-1));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = { 0f, 1f, -0.5f, Float.NaN })
+    void constructor__invalidLoadFactor__throwsException(float loadFactor) {
+        var t = catchThrowable(() -> new LongHashSet(16, loadFactor));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_OfLong__always__containsElementsOfCollection() {
+        var cut = new LongHashSet(PrimitiveCollections.setOf(new long[] { 0, 1, 2, 3 }));
+
+        assertThat(cut).containsExactlyInAnyOrder(0L, 1L, 2L, 3L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 42, Long.MIN_VALUE, Long.MAX_VALUE })
+    void addLong__elementNotInSet__returnsTrueAndAddsElement(long v) {
+        var cut = new LongHashSet();
+
+        var result = cut.addLong(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsLong(v)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 42, Long.MIN_VALUE, Long.MAX_VALUE })
+    void addLong__elementInSet__returnsFalse(long v) {
+        var cut = new LongHashSet();
+        cut.addLong(v);
+
+        var result = cut.addLong(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 10, 1000, 100_000 })
+    void addLong__manyElements__growsAndRetainsAllElements(long size) {
+        var cut = new LongHashSet(0);
+
+        for (int i = 0; i < size; i++)
+            cut.addLong(i * 31);
+
+        assertThat(cut.size()).isEqualTo(size);
+        for (int i = 0; i < size; i++)
+            assertThat(cut.containsLong(i * 31)).isTrue();
+        assertThat(cut.containsLong(size * 31)).isFalse();
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        var cut = new LongHashSet();
+        LongStream.range(-10, 10).forEach(cut::addLong);
+
+        cut.clear();
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsLong(0)).isFalse();
+        assertThat(cut.containsLong(5)).isFalse();
+        assertThat(cut.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void containsLong__elementNotInSet__returnsFalse() {
+        var cut = new LongHashSet();
+        cut.addLong(1);
+
+        assertThat(cut.containsLong(0)).isFalse();
+        assertThat(cut.containsLong(2)).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = new LongHashSet();
+        LongStream.range(-100, 100).forEach(cut::addLong);
+        var expected = LongStream.range(-100, 100).boxed().collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, 10, 1000 })
+    void hashCode__always__matchesBoxedSet(long size) {
+        var cut = new LongHashSet();
+        LongStream.range(-size, size).map(i -> i * 0x1_0000_0007L).forEach(cut::addLong);
+        var expected = LongStream.range(-size, size).map(i -> i * 0x1_0000_0007L).boxed()
+                .collect(Collectors.toSet());
+
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsEachElementOnce() {
+        var cut = new LongHashSet();
+        LongStream.range(-500, 500).forEach(cut::addLong);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Long>();
+        while (iterator.hasNext())
+            result.add(iterator.nextLong());
+
+        assertThat(result).hasSize(1000)
+                .containsExactlyInAnyOrderElementsOf(
+                        LongStream.range(-500, 500).boxed().toList());
+    }
+
+    @Test
+    void iterator__exhausted__throwsNoSuchElementException() {
+        var cut = new LongHashSet();
+        cut.addLong(1);
+        var iterator = cut.iterator();
+        iterator.nextLong();
+
+        var t = catchThrowable(iterator::nextLong);
+
+        assertThat(t).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator__setModifiedDuringIteration__throwsConcurrentModificationException() {
+        var cut = new LongHashSet();
+        cut.addLong(1);
+        cut.addLong(2);
+        var iterator = cut.iterator();
+        iterator.nextLong();
+        cut.addLong(3);
+
+        var t = catchThrowable(iterator::nextLong);
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iterator_remove__calledTwice__throwsIllegalStateException() {
+        var cut = new LongHashSet();
+        cut.addLong(1);
+        var iterator = cut.iterator();
+        iterator.nextLong();
+        iterator.remove();
+
+        var t = catchThrowable(iterator::remove);
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5 })
+    void iterator_remove__removingDuringIteration__visitsEveryElementAndRemovesSelected(
+            long seed) {
+        // A small table with many colliding entries ensures that entries
+        // wrapping around the end of the table get shifted during removal.
+        var random = new Random(seed);
+        var cut = new LongHashSet(0);
+        var expected = new HashSet<Long>();
+        for (int i = 0; i < 2000; i++) {
+            long v = random.nextInt(4096) - 2048;
+            cut.addLong(v);
+            expected.add(v);
+        }
+
+        var originalSize = expected.size();
+        var visited = new HashSet<Long>();
+        var iterator = cut.iterator();
+        while (iterator.hasNext()) {
+            long v = iterator.nextLong();
+            assertThat(visited.add(v)).isTrue();
+            if ((v & 1) == 0)
+                iterator.remove();
+        }
+        expected.removeIf(v -> (v & 1) == 0);
+
+        assertThat(visited).hasSize(originalSize);
+        assertThat(cut).isEqualTo(expected);
+        assertThat(cut.size()).isEqualTo(expected.size());
+        for (long v : expected)
+            assertThat(cut.containsLong(v)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 42 })
+    void removeLong__elementInSet__returnsTrueAndRemovesElement(long v) {
+        var cut = new LongHashSet();
+        cut.addLong(v);
+        cut.addLong(v + 1);
+
+        var result = cut.removeLong(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsLong(v)).isFalse();
+        assertThat(cut.containsLong(v + 1)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 42 })
+    void removeLong__elementNotInSet__returnsFalse(long v) {
+        var cut = new LongHashSet();
+        cut.addLong(v + 1);
+
+        var result = cut.removeLong(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeLong__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var cut = new LongHashSet(0);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            long v = random.nextInt(1024);
+            if (random.nextBoolean())
+                assertThat(cut.addLong(v)).isEqualTo(expected.add(v));
+            else
+                assertThat(cut.removeLong(v)).isEqualTo(expected.remove(v));
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void retainAll__always__retainsOnlyElementsInCollection() {
+        var cut = new LongHashSet();
+        LongStream.range(0, 100).forEach(cut::addLong);
+
+        var result = cut.retainAll(PrimitiveCollections.setOf(new long[] { 0, 50, 200 }));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactlyInAnyOrder(0L, 50L);
+    }
+
+    @Test
+    void spliterator__splitRecursively__visitsEachElementOnce() {
+        var cut = new LongHashSet();
+        IntStream.range(0, 10_000).asLongStream().forEach(cut::addLong);
+        var result = new ArrayList<Long>();
+        var pending = new ArrayDeque<Spliterator.OfLong>();
+        pending.push(cut.spliterator());
+        while (!pending.isEmpty()) {
+            var spliterator = pending.pop();
+            var prefix = spliterator.estimateSize() > 100 ? spliterator.trySplit() : null;
+            if (prefix != null) {
+                pending.push(spliterator);
+                pending.push(prefix);
+            } else {
+                spliterator.tryAdvance((long v) -> result.add(v));
+                spliterator.forEachRemaining((long v) -> result.add(v));
+            }
+        }
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, 10_000).asLongStream().boxed().toList());
+    }
+
+    @Test
+    void spliterator__split__onlyUnsplitSpliteratorReportsSized() {
+        var cut = new LongHashSet();
+        IntStream.range(0, 100).asLongStream().forEach(cut::addLong);
+
+        var spliterator = cut.spliterator();
+        var sized = spliterator.hasCharacteristics(Spliterator.SIZED);
+        var size = spliterator.estimateSize();
+        var prefix = spliterator.trySplit();
+
+        assertThat(sized).isTrue();
+        assertThat(size).isEqualTo(100);
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    void spliterator__setModifiedDuringTraversal__throwsConcurrentModificationException() {
+        var cut = new LongHashSet();
+        IntStream.range(0, 100).asLongStream().forEach(cut::addLong);
+        var spliterator = cut.spliterator();
+        spliterator.tryAdvance((long v) -> {});
+        cut.addLong(1000);
+
+        var t = catchThrowable(() -> spliterator.forEachRemaining((long v) -> {}));
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void toPrimitiveArray__always__returnsElementArray() {
+        var cut = new LongHashSet();
+        LongStream.range(-5, 5).forEach(cut::addLong);
+
+        var result = cut.toPrimitiveArray();
+
+        assertThat(result).containsExactlyInAnyOrder(
+                LongStream.range(-5, 5).toArray());
+    }
+
+    @Test
+    void copyInto__offset__writesEveryElementAfterOffset() {
+        var cut = new LongHashSet();
+        LongStream.range(-5, 5).forEach(cut::addLong);
+        var dest = new long[12];
+        Arrays.fill(dest, 42);
+
+        cut.copyInto(dest, 1);
+
+        assertThat(dest[0]).isEqualTo(42L);
+        assertThat(dest[11]).isEqualTo(42L);
+        assertThat(Arrays.copyOfRange(dest, 1, 11)).containsExactlyInAnyOrder(
+                LongStream.range(-5, 5).toArray());
+    }
+
+    @Test
+    void copyInto__arrayTooSmall__throwsIndexOutOfBoundsException() {
+        var cut = new LongHashSet();
+        LongStream.range(-5, 5).forEach(cut::addLong);
+
+        var t = catchThrowable(() -> cut.copyInto(new long[10], 1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
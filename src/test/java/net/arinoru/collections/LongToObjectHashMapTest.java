@@ -0,0 +1,122 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongToObjectHashMapTest {
+    @Test
+    void containsValue__nullValue__returnsWhetherAnyKeyMapsToNull() {
+        var cut = new LongToObjectHashMap<String>();
+        cut.put(1, "a");
+
+        assertThat(cut.containsValue(null)).isFalse();
+        cut.put(0, null);
+        assertThat(cut.containsValue(null)).isTrue();
+        assertThat(cut.containsValue("a")).isTrue();
+    }
+
+    @Test
+    void equals__nullValues__distinguishesAbsentKeys() {
+        var cut = new LongToObjectHashMap<String>();
+        cut.put(1, null);
+        var other = new HashMap<Long,String>();
+        other.put(2L, null);
+
+        assertThat(cut.equals(other)).isFalse();
+        other.clear();
+        other.put(1L, null);
+        assertThat(cut.equals(other)).isTrue();
+        assertThat(cut.hashCode()).isEqualTo(other.hashCode());
+    }
+
+    @Test
+    void get__absentKey__returnsNull() {
+        var cut = new LongToObjectHashMap<String>();
+        cut.put(1, "a");
+
+        assertThat(cut.get(0)).isNull();
+        assertThat(cut.get(2)).isNull();
+        assertThat(cut.getOrDefault(2, "b")).isEqualTo("b");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5 })
+    void iterator_remove__removingDuringIteration__visitsEveryMappingAndRemovesSelected(
+            long seed) {
+        // A small table with many colliding entries ensures that entries
+        // wrapping around the end of the table get shifted during removal.
+        var random = new Random(seed);
+        var cut = new LongToObjectHashMap<String>(0);
+        var expected = new HashMap<Long,String>();
+        for (int i = 0; i < 2000; i++) {
+            long k = random.nextInt(4096) - 2048;
+            cut.put(k, "v" + i);
+            expected.put(k, "v" + i);
+        }
+
+        var originalSize = expected.size();
+        var visited = new HashSet<Long>();
+        var iterator = cut.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            assertThat(visited.add(entry.getKey())).isTrue();
+            assertThat(entry.getValue()).isEqualTo(expected.get(entry.getKey()));
+            if ((entry.getKey() & 1) == 0)
+                iterator.remove();
+        }
+        expected.keySet().removeIf(k -> (k & 1) == 0);
+
+        assertThat(visited).hasSize(originalSize);
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 42, Long.MIN_VALUE, Long.MAX_VALUE })
+    void put__always__returnsPreviousValueOrNull(long key) {
+        var cut = new LongToObjectHashMap<String>();
+
+        assertThat(cut.put(key, "a")).isNull();
+        assertThat(cut.put(key, "b")).isEqualTo("a");
+
+        assertThat(cut.get(key)).isEqualTo("b");
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void putAll__boxedMap__addsEachMapping() {
+        var cut = new LongToObjectHashMap<String>();
+        cut.put(1, "a");
+
+        cut.putAll(Map.of(1L, "b", 0L, "c"));
+
+        assertThat(cut).isEqualTo(Map.of(1L, "b", 0L, "c"));
+        assertThat(cut.values()).containsExactlyInAnyOrder("b", "c");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void remove__randomOperations__matchesBoxedMap(long seed) {
+        var random = new Random(seed);
+        var cut = new LongToObjectHashMap<Integer>(0);
+        var expected = new HashMap<Long,Integer>();
+        for (int i = 0; i < 50_000; i++) {
+            long k = random.nextInt(1024) * 0x1_0000_0001L;
+            Integer v = i;
+            if (random.nextBoolean())
+                assertThat(cut.put(k, v)).isEqualTo(expected.put(k, v));
+            else
+                assertThat(cut.remove(k)).isEqualTo(expected.remove(k));
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+}
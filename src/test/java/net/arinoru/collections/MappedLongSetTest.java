@@ -0,0 +1,123 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class MappedLongSetTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void addLong__always__throwsUnsupportedOperationException() throws IOException {
+        var file = dir.resolve("set");
+        MappedLongSet.write(file, PrimitiveCollections.setOf(new long[] { 1 }));
+
+        try (var cut = MappedLongSet.open(file)) {
+            assertThat(catchThrowable(() -> cut.addLong(2)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThat(catchThrowable(() -> cut.removeLong(1)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Test
+    void close__always__rejectsFurtherAccess() throws IOException {
+        var file = dir.resolve("set");
+        MappedLongSet.write(file, PrimitiveCollections.setOf(new long[] { 1, 2, 3 }));
+        var cut = MappedLongSet.open(file);
+
+        cut.close();
+        cut.close();
+
+        assertThat(cut.isClosed()).isTrue();
+        assertThat(catchThrowable(() -> cut.containsLong(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void iterator__always__returnsElementsInAscendingOrder() throws IOException {
+        var file = dir.resolve("set");
+        MappedLongSet.write(file, PrimitiveCollections.setOf(new long[] { 5, -3, Long.MAX_VALUE, 0 }));
+
+        try (var cut = MappedLongSet.open(file)) {
+            assertThat(cut.toPrimitiveArray()).containsExactly(-3, 0, 5, Long.MAX_VALUE);
+            assertThat(cut.primitiveStream().boxed().toList())
+                    .containsExactly(-3L, 0L, 5L, Long.MAX_VALUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 2, 1000 })
+    void open__writtenSet__containsExactlyTheWrittenElements(int size) throws IOException {
+        var random = new Random(size);
+        var expected = new LongHashSet();
+        while (expected.size() < size)
+            expected.addLong(random.nextLong());
+        var file = dir.resolve("set");
+        MappedLongSet.write(file, expected);
+
+        // Pages of 256 bytes, so that larger sets span several mappings
+        try (var cut = MappedLongSet.open(file, 8)) {
+            assertThat(cut).isEqualTo(expected);
+            assertThat(cut.size()).isEqualTo(size);
+            for (long l : expected.toPrimitiveArray())
+                assertThat(cut.containsLong(l)).isTrue();
+            for (int i = 0; i < 1000; i++) {
+                long l = random.nextLong();
+                assertThat(cut.containsLong(l)).isEqualTo(expected.containsLong(l));
+            }
+        }
+    }
+
+    @Test
+    void open__fileIsNotASet__throwsIOException() throws IOException {
+        var file = dir.resolve("set");
+        Files.write(file, new byte[32]);
+
+        var t = catchThrowable(() -> MappedLongSet.open(file));
+
+        assertThat(t).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void open__truncatedFile__throwsIOException() throws IOException {
+        var file = dir.resolve("set");
+        MappedLongSet.write(file, PrimitiveCollections.setOf(new long[] { 1, 2, 3 }));
+        var bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+        var t = catchThrowable(() -> MappedLongSet.open(file));
+
+        assertThat(t).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void parallelPrimitiveStream__always__visitsElementsInOrder() throws IOException {
+        var source = new LongHashSet();
+        for (long i = 0; i < 100_000; i++)
+            source.addLong(i * 3);
+        var file = dir.resolve("set");
+        MappedLongSet.write(file, source);
+
+        try (var cut = MappedLongSet.open(file, 12)) {
+            var result = cut.parallelPrimitiveStream().boxed().collect(Collectors.toList());
+
+            assertThat(result).isEqualTo(LongStream.range(0, 100_000).map(i -> i * 3).boxed().toList());
+            assertThat(cut.spliterator().hasCharacteristics(Spliterator.SORTED)).isTrue();
+        }
+    }
+}
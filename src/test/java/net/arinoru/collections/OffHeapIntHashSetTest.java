@@ -0,0 +1,77 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class OffHeapIntHashSetTest {
+    // Pages of 256 bytes, so that even small tables span several pages
+    private static final int SMALL_PAGE_SHIFT = 8;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void addInt__elementNotInSet__returnsTrueAndAddsElement(int v) {
+        try (var cut = new OffHeapIntHashSet()) {
+            assertThat(cut.addInt(v)).isTrue();
+            assertThat(cut.addInt(v)).isFalse();
+
+            assertThat(cut.containsInt(v)).isTrue();
+            assertThat(cut.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void close__always__releasesSetAndRejectsFurtherAccess() {
+        var cut = new OffHeapIntHashSet();
+        for (int i = 0; i < 100; i++)
+            cut.addInt(i);
+
+        cut.close();
+
+        assertThat(cut.isClosed()).isTrue();
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(catchThrowable(cut::iterator))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void parallelPrimitiveStream__tableSpanningPages__visitsEachElementOnce() {
+        try (var cut = new OffHeapIntHashSet(0, .75f, SMALL_PAGE_SHIFT)) {
+            for (int i = 0; i < 100_000; i++)
+                cut.addInt(i * 7);
+
+            var result = cut.parallelPrimitiveStream().sorted().toArray();
+
+            assertThat(result).containsExactly(IntStream.range(0, 100_000).map(i -> i * 7).toArray());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeInt__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        try (var cut = new OffHeapIntHashSet(0, .75f, SMALL_PAGE_SHIFT)) {
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < 50_000; i++) {
+                int v = random.nextInt(1024) << 20;
+                if (random.nextBoolean())
+                    assertThat(cut.addInt(v)).isEqualTo(expected.add(v));
+                else
+                    assertThat(cut.removeInt(v)).isEqualTo(expected.remove(v));
+            }
+
+            assertThat(cut.size()).isEqualTo(expected.size());
+            assertThat(cut).isEqualTo(expected);
+            assertThat(IntStream.of(cut.toPrimitiveArray()).boxed().toList())
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class OffHeapLongHashSetTest {
+    // Pages of 256 bytes, so that even small tables span several pages
+    private static final int SMALL_PAGE_SHIFT = 8;
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 42, Long.MIN_VALUE, Long.MAX_VALUE })
+    void addLong__elementNotInSet__returnsTrueAndAddsElement(long v) {
+        try (var cut = new OffHeapLongHashSet()) {
+            assertThat(cut.addLong(v)).isTrue();
+            assertThat(cut.addLong(v)).isFalse();
+
+            assertThat(cut.containsLong(v)).isTrue();
+            assertThat(cut.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        try (var cut = new OffHeapLongHashSet(0, .75f, SMALL_PAGE_SHIFT)) {
+            for (long i = 0; i < 1000; i++)
+                cut.addLong(i);
+
+            cut.clear();
+
+            assertThat(cut.isEmpty()).isTrue();
+            assertThat(cut.containsLong(0)).isFalse();
+            assertThat(cut.containsLong(500)).isFalse();
+            assertThat(cut.addLong(500)).isTrue();
+        }
+    }
+
+    @Test
+    void close__always__releasesSetAndRejectsFurtherAccess() {
+        var cut = new OffHeapLongHashSet();
+        cut.addLong(1);
+
+        cut.close();
+
+        assertThat(cut.isClosed()).isTrue();
+        assertThat(cut.size()).isZero();
+        assertThat(catchThrowable(() -> cut.containsLong(1)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(catchThrowable(() -> cut.addLong(1)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(catchThrowable(cut::primitiveStream))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void close__calledTwice__hasNoEffect() {
+        var cut = new OffHeapLongHashSet();
+        cut.close();
+
+        cut.close();
+
+        assertThat(cut.isClosed()).isTrue();
+    }
+
+    @Test
+    void forEach__actionClosesSet__throwsConcurrentModificationException() {
+        var cut = new OffHeapLongHashSet(0, .75f, SMALL_PAGE_SHIFT);
+        for (long i = 1; i <= 100; i++)
+            cut.addLong(i);
+
+        var t = catchThrowable(() -> cut.forEach((LongConsumer) l -> cut.close()));
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5 })
+    void iterator_remove__removingDuringIteration__visitsEveryElementAndRemovesSelected(
+            long seed) {
+        // A small table with many colliding entries ensures that entries
+        // wrapping around the end of the table get shifted during removal.
+        var random = new Random(seed);
+        try (var cut = new OffHeapLongHashSet(0, .75f, SMALL_PAGE_SHIFT)) {
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < 2000; i++) {
+                long v = random.nextInt(4096) - 2048;
+                cut.addLong(v);
+                expected.add(v);
+            }
+
+            var visited = new HashSet<Long>();
+            var iterator = cut.iterator();
+            while (iterator.hasNext()) {
+                long v = iterator.nextLong();
+                assertThat(visited.add(v)).isTrue();
+                if ((v & 1) == 0)
+                    iterator.remove();
+            }
+
+            assertThat(visited).isEqualTo(expected);
+            expected.removeIf(v -> (v & 1) == 0);
+            assertThat(cut).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void parallelPrimitiveStream__tableSpanningPages__visitsEachElementOnce() {
+        try (var cut = new OffHeapLongHashSet(0, .75f, SMALL_PAGE_SHIFT)) {
+            for (long i = 0; i < 100_000; i++)
+                cut.addLong(i << 32);
+
+            var result = cut.parallelPrimitiveStream().sorted().toArray();
+
+            assertThat(result).containsExactly(LongStream.range(0, 100_000).map(i -> i << 32).toArray());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeLong__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        try (var cut = new OffHeapLongHashSet(0, .75f, SMALL_PAGE_SHIFT)) {
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < 50_000; i++) {
+                long v = random.nextInt(1024) * 0x1_0000_0001L;
+                if (random.nextBoolean())
+                    assertThat(cut.addLong(v)).isEqualTo(expected.add(v));
+                else
+                    assertThat(cut.removeLong(v)).isEqualTo(expected.remove(v));
+            }
+
+            assertThat(cut.size()).isEqualTo(expected.size());
+            assertThat(cut).isEqualTo(expected);
+            assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+        }
+    }
+}
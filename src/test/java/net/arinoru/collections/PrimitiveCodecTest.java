@@ -0,0 +1,229 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class PrimitiveCodecTest {
+    @Test
+    void readDoubleCollection__writtenCollection__preservesOrderAndBits() throws IOException {
+        var list = new DoubleArrayList();
+        for (double d : new double[] { 1.5, -0.0, Double.NaN, 1.5, Double.NEGATIVE_INFINITY })
+            list.addDouble(d);
+        var bytes = new ByteArrayOutputStream();
+        PrimitiveCodec.writeCollection(new DataOutputStream(bytes), list);
+
+        var result = PrimitiveCodec.readDoubleCollection(input(bytes));
+
+        assertThat(result).isEqualTo(list);
+        assertThat(Double.doubleToRawLongBits(result.getDouble(1)))
+                .isEqualTo(Double.doubleToRawLongBits(-0.0));
+    }
+
+    @Test
+    void readDoubleSet__writtenSet__returnsEqualSet() throws IOException {
+        var set = new DoubleHashSet();
+        for (int i = 0; i < 10_000; i++)
+            set.addDouble(i / 7.0);
+        set.addDouble(Double.MAX_VALUE);
+        var bytes = new ByteArrayOutputStream();
+        PrimitiveCodec.writeSet(new DataOutputStream(bytes), set);
+
+        var result = PrimitiveCodec.readDoubleSet(input(bytes));
+
+        assertThat(result).isEqualTo(set);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 4096, 100_000 })
+    void readIntCollection__writtenCollection__preservesOrderAndDuplicates(int size)
+            throws IOException {
+        var random = new Random(size);
+        var list = new IntArrayList();
+        for (int i = 0; i < size; i++)
+            list.addInt(random.nextBoolean() ? random.nextInt() : random.nextInt(3));
+        var bytes = new ByteArrayOutputStream();
+        PrimitiveCodec.writeCollection(new DataOutputStream(bytes), list);
+
+        var result = PrimitiveCodec.readIntCollection(input(bytes));
+
+        assertThat(result).isEqualTo(list);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 4096, 100_000 })
+    void readIntSet__writtenSet__returnsEqualSet(int size) throws IOException {
+        var random = new Random(size);
+        var set = new IntHashSet();
+        if (size > 0) {
+            set.addInt(Integer.MIN_VALUE);
+            set.addInt(Integer.MAX_VALUE);
+        }
+        while (set.size() < size)
+            set.addInt(random.nextInt());
+        var bytes = new ByteArrayOutputStream();
+        PrimitiveCodec.writeSet(new DataOutputStream(bytes), set);
+
+        var result = PrimitiveCodec.readIntSet(input(bytes));
+
+        assertThat(result).isEqualTo(set);
+    }
+
+    @Test
+    void readIntSet__wrongKind__throwsStreamCorruptedException() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        PrimitiveCodec.writeSet(new DataOutputStream(bytes), new LongHashSet());
+
+        var t = catchThrowable(() -> PrimitiveCodec.readIntSet(input(bytes)));
+
+        assertThat(t).isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    void readIntSet__truncatedInput__throwsEOFException() throws IOException {
+        var set = new IntHashSet();
+        for (int i = 0; i < 100; i++)
+            set.addInt(i * 1000);
+        var bytes = new ByteArrayOutputStream();
+        PrimitiveCodec.writeSet(new DataOutputStream(bytes), set);
+        var truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 10);
+
+        var t = catchThrowable(() -> PrimitiveCodec.readIntSet(
+                new DataInputStream(new ByteArrayInputStream(truncated))));
+
+        assertThat(t).isInstanceOf(EOFException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {
+            PrimitiveCodec.INT_SET, PrimitiveCodec.LONG_SET, PrimitiveCodec.DOUBLE_SET,
+            PrimitiveCodec.INT_SEQUENCE, PrimitiveCodec.LONG_SEQUENCE,
+            PrimitiveCodec.DOUBLE_SEQUENCE})
+    void read__hugeCountWithoutElements__throwsStreamCorruptedException(int kind) {
+        var bytes = hugeCountHeader(kind, 1);
+
+        var t = catchThrowable(() -> read(kind, bytes));
+
+        assertThat(t).isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {
+            PrimitiveCodec.INT_SET, PrimitiveCodec.LONG_SET, PrimitiveCodec.DOUBLE_SET,
+            PrimitiveCodec.INT_SEQUENCE, PrimitiveCodec.LONG_SEQUENCE,
+            PrimitiveCodec.DOUBLE_SEQUENCE})
+    void read__hugeCountTruncatedAfterHeader__throwsEOFException(int kind) {
+        var bytes = hugeCountHeader(kind, 0);
+
+        var t = catchThrowable(() -> read(kind, bytes));
+
+        assertThat(t).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void readLongCollection__extremeDifferences__preservesElements() throws IOException {
+        var list = new LongArrayList();
+        for (long l : new long[] { Long.MAX_VALUE, Long.MIN_VALUE, 0, -1, Long.MAX_VALUE })
+            list.addLong(l);
+        var bytes = new ByteArrayOutputStream();
+        PrimitiveCodec.writeCollection(new DataOutputStream(bytes), list);
+
+        var result = PrimitiveCodec.readLongCollection(input(bytes));
+
+        assertThat(result).isEqualTo(list);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 2, 4096, 100_000 })
+    void readLongSet__writtenSet__returnsEqualSet(int size) throws IOException {
+        var random = new Random(size);
+        var set = new LongHashSet();
+        set.addLong(Long.MIN_VALUE);
+        set.addLong(Long.MAX_VALUE);
+        while (set.size() < size)
+            set.addLong(random.nextLong());
+        var bytes = new ByteArrayOutputStream();
+        PrimitiveCodec.writeSet(new DataOutputStream(bytes), set);
+
+        var result = PrimitiveCodec.readLongSet(input(bytes));
+
+        assertThat(result).isEqualTo(set);
+    }
+
+    @Test
+    void readLongSet__channel__consumesOnlyTheSet() throws IOException {
+        var first = new LongHashSet();
+        var second = new LongHashSet();
+        for (long l = 0; l < 10_000; l++) {
+            first.addLong(l << 20);
+            second.addLong(-l);
+        }
+        var bytes = new ByteArrayOutputStream();
+        var out = Channels.newChannel(bytes);
+        PrimitiveCodec.writeSet(out, first);
+        PrimitiveCodec.writeSet(out, second);
+        out.write(ByteBuffer.wrap(new byte[] { 42 }));
+        var in = Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertThat(PrimitiveCodec.readLongSet(in)).isEqualTo(first);
+        assertThat(PrimitiveCodec.readLongSet(in)).isEqualTo(second);
+        var trailing = ByteBuffer.allocate(2);
+        assertThat(in.read(trailing)).isEqualTo(1);
+        assertThat(trailing.get(0)).isEqualTo((byte) 42);
+    }
+
+    @Test
+    void writeSet__denseIntSet__takesOneBytePerElement() throws IOException {
+        var set = new IntHashSet();
+        for (int i = 0; i < 100_000; i++)
+            set.addInt(i * 3);
+        var bytes = new ByteArrayOutputStream();
+
+        PrimitiveCodec.writeSet(new DataOutputStream(bytes), set);
+
+        assertThat(bytes.size()).isLessThan(100_000 + 200);
+    }
+
+    // A header declaring Integer.MAX_VALUE elements, followed by the given
+    // number of end-of-collection markers
+    private static byte[] hugeCountHeader(int kind, int terminators) {
+        var bytes = new byte[7 + terminators];
+        bytes[0] = PrimitiveCodec.VERSION;
+        bytes[1] = (byte) kind;
+        bytes[2] = bytes[3] = bytes[4] = bytes[5] = (byte) 0xFF;
+        bytes[6] = 0x07;
+        return bytes;
+    }
+
+    private static Object read(int kind, byte[] bytes) throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(bytes));
+        return switch (kind) {
+            case PrimitiveCodec.INT_SET -> PrimitiveCodec.readIntSet(in);
+            case PrimitiveCodec.LONG_SET -> PrimitiveCodec.readLongSet(in);
+            case PrimitiveCodec.DOUBLE_SET -> PrimitiveCodec.readDoubleSet(in);
+            case PrimitiveCodec.INT_SEQUENCE -> PrimitiveCodec.readIntCollection(in);
+            case PrimitiveCodec.LONG_SEQUENCE -> PrimitiveCodec.readLongCollection(in);
+            case PrimitiveCodec.DOUBLE_SEQUENCE -> PrimitiveCodec.readDoubleCollection(in);
+            default -> throw new IllegalArgumentException();
+        };
+    }
+
+    private static DataInputStream input(ByteArrayOutputStream bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
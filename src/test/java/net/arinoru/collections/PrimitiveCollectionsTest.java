@@ -18,10 +18,50 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("SuspiciousMethodCalls")
 class PrimitiveCollectionsTest {
+    @ParameterizedTest
+    @ValueSource(ints = { 100, 200_000 })
+    void difference__intSets__matchesBoxedDifference(int size) {
+        var a = intSetOf(IntStream.range(0, size));
+        var b = intSetOf(IntStream.range(0, size).map(i -> i * 3 + 1));
+        var expected = boxed(a);
+        expected.removeAll(boxed(b));
+
+        var result = PrimitiveCollections.difference(a, b);
+
+        assertThat(result).isEqualTo(expected);
+        assertThat(a.size()).isEqualTo(size);
+        assertThat(b.size()).isEqualTo(size);
+    }
+
+    @Test
+    void difference__doubleSetsWithSignedZeros__usesContainmentOfSecondSet() {
+        var a = new DoubleHashSet();
+        a.addDouble(0.0);
+        a.addDouble(-0.0);
+        a.addDouble(1.5);
+        var b = new DoubleHashSet();
+        b.addDouble(-0.0);
+
+        var result = PrimitiveCollections.difference(a, b);
+
+        assertThat(result).isEqualTo(Set.of(1.5));
+    }
+
+    @Test
+    void difference__resultSet__isUnmodifiable() {
+        var result = PrimitiveCollections.difference(
+                intSetOf(IntStream.range(0, 10)), intSetOf(IntStream.range(0, 5)));
+
+        var t = catchThrowable(() -> result.addInt(20));
+
+        assertThat(t).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void doubleSpliterator__noCharacteristicsSpecified__returnedSpliteratorIsSizedAndSubsized() {
         var collection = mock(PrimitiveCollection.OfDouble.class);
@@ -587,6 +627,44 @@ class PrimitiveCollectionsTest {
         verifyNoMoreInteractions(set);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = { 100, 200_000 })
+    void intersection__intSets__matchesBoxedIntersection(int size) {
+        var a = intSetOf(IntStream.range(0, size).map(i -> i * 2));
+        var b = intSetOf(IntStream.range(0, size / 2).map(i -> i * 3));
+        var expected = boxed(a);
+        expected.retainAll(boxed(b));
+
+        assertThat(PrimitiveCollections.intersection(a, b)).isEqualTo(expected);
+        assertThat(PrimitiveCollections.intersection(b, a)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 3, 40, 1000, 100_000 })
+    void intersection__sortedIntSets__returnsSortedIntersection(int size) {
+        var a = PrimitiveCollections.sortedSetOf(IntStream.range(-size, size).map(i -> i * 2).toArray());
+        var b = PrimitiveCollections.sortedSetOf(IntStream.range(-size, size).map(i -> i * 3).toArray());
+
+        var result = PrimitiveCollections.intersection(a, b);
+
+        assertThat(result.spliterator().hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertThat(result.primitiveStream().toArray()).containsExactly(
+                IntStream.range(-size, size).map(i -> i * 2).filter(i -> i % 3 == 0).toArray());
+    }
+
+    @Test
+    void intersection__disjointLongSets__returnsEmptySet() {
+        var a = new LongHashSet();
+        a.addLong(Long.MIN_VALUE);
+        a.addLong(0);
+        var b = new LongHashSet();
+        b.addLong(Long.MAX_VALUE);
+
+        var result = PrimitiveCollections.intersection(a, b);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
     @Test
     void intSpliterator__noCharacteristicsSpecified__returnedSpliteratorIsSizedAndSubsized() {
         var collection = mock(PrimitiveCollection.OfInt.class);
@@ -647,6 +725,40 @@ class PrimitiveCollectionsTest {
         verifyNoMoreInteractions(collection);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = { 100, 200_000 })
+    void symmetricDifference__longSets__matchesBoxedSymmetricDifference(int size) {
+        var a = longSetOf(LongStream.range(0, size).map(l -> l << 32));
+        var b = longSetOf(LongStream.range(size / 2, size * 2L).map(l -> l << 32));
+        var expected = LongStream.range(0, size / 2).map(l -> l << 32).boxed()
+                .collect(Collectors.toSet());
+        LongStream.range(size, size * 2L).map(l -> l << 32).forEach(expected::add);
+
+        var result = PrimitiveCollections.symmetricDifference(a, b);
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 100, 200_000 })
+    void union__intSets__matchesBoxedUnion(int size) {
+        var a = intSetOf(IntStream.range(0, size).map(i -> i * 2));
+        var b = intSetOf(IntStream.range(0, size / 4).map(i -> -i * 3));
+        var expected = boxed(a);
+        expected.addAll(boxed(b));
+
+        assertThat(PrimitiveCollections.union(a, b)).isEqualTo(expected);
+        assertThat(PrimitiveCollections.union(b, a)).isEqualTo(expected);
+    }
+
+    @Test
+    void union__emptySets__returnsEmptySet() {
+        var result = PrimitiveCollections.union(
+                PrimitiveCollections.emptyDoubleSet(), new DoubleHashSet());
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
     @ParameterizedTest
     @ValueSource(ints = { 0, 1, 2, 5, 10, 1000, 100_000 })
     void setOf_doubleArray__comparedToSet__returnedSetIsEqual(int size) {
@@ -723,6 +835,56 @@ class PrimitiveCollectionsTest {
         assertThat(result).isEqualTo(expected);
     }
 
+    @Test
+    void toPrimitiveArray_OfInt__bulkCopyingCollection__copiesElementsWithoutIterator() {
+        var values = IntStream.range(0, 1000).toArray();
+        var collection = PrimitiveCollections.asCollection(values, 10, 990);
+
+        var result = PrimitiveCollections.toPrimitiveArray(collection);
+
+        assertThat(result).containsExactly(Arrays.copyOfRange(values, 10, 990));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void toPrimitiveArray_OfInt__externalBulkCopyingCollection__usesCopyInto() {
+        var collection = mock(PrimitiveCollection.OfInt.class,
+                withSettings().extraInterfaces(BulkCopying.class));
+        when(collection.size()).thenReturn(3);
+        doAnswer(invocation -> {
+            int[] dest = invocation.getArgument(0);
+            int offset = invocation.getArgument(1);
+            System.arraycopy(new int[] { 4, 5, 6 }, 0, dest, offset, 3);
+            return null;
+        }).when((BulkCopying<int[]>) collection).copyInto(any(), anyInt());
+
+        var result = PrimitiveCollections.toPrimitiveArray(collection);
+
+        assertThat(result).containsExactly(4, 5, 6);
+        verify(collection, never()).iterator();
+    }
+
+    @Test
+    void toPrimitiveArray_OfInt__hashSet__returnsExpectedElements() {
+        var set = new IntHashSet();
+        IntStream.range(-50, 50).forEach(set::addInt);
+
+        var result = PrimitiveCollections.toPrimitiveArray(set);
+
+        assertThat(result).containsExactlyInAnyOrder(IntStream.range(-50, 50).toArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 100 })
+    void toPrimitiveArray_OfLong__bulkCopyingSet__returnsExpectedElements(int size) {
+        var values = LongStream.range(0, size).map(i -> i * 1_000_003).toArray();
+        var set = PrimitiveCollections.setOf(values);
+
+        var result = PrimitiveCollections.toPrimitiveArray(set);
+
+        assertThat(result).containsExactly(values);
+    }
+
     @Test
     void toPrimitiveArray_OfDouble__emptyCollection__returnsEmptyArray() {
         var collection = mock(PrimitiveCollection.OfDouble.class);
@@ -1084,4 +1246,20 @@ class PrimitiveCollectionsTest {
         verify(collection).iterator();
         verifyNoMoreInteractions(collection);
     }
+
+    private static IntHashSet intSetOf(IntStream stream) {
+        var set = new IntHashSet();
+        stream.forEach(set::addInt);
+        return set;
+    }
+
+    private static LongHashSet longSetOf(LongStream stream) {
+        var set = new LongHashSet();
+        stream.forEach(set::addLong);
+        return set;
+    }
+
+    private static Set<Integer> boxed(PrimitiveSet.OfInt set) {
+        return set.primitiveStream().boxed().collect(Collectors.toSet());
+    }
 }
@@ -0,0 +1,95 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class PrimitiveCollectorsTest {
+    private static IntStream ints(boolean parallel) {
+        var stream = IntStream.range(0, 100_000).map(i -> i % 1000 - 500);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void toSet_IntStream__always__containsDistinctElements(boolean parallel) {
+        var result = PrimitiveCollectors.toSet(ints(parallel));
+
+        assertThat(result).isInstanceOf(IntHashSet.class);
+        assertThat(result).isEqualTo(ints(false).boxed().collect(Collectors.toSet()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void toList_IntStream__always__containsElementsInEncounterOrder(boolean parallel) {
+        var result = PrimitiveCollectors.toList(ints(parallel));
+
+        assertThat(result).isInstanceOf(IntArrayList.class);
+        assertThat(result).isEqualTo(ints(false).boxed().toList());
+    }
+
+    @Test
+    void toUnmodifiableSet_IntStream__always__returnsUnmodifiableSet() {
+        var result = PrimitiveCollectors.toUnmodifiableSet(IntStream.of(3, 1, 3, 2));
+
+        var t = catchThrowable(() -> result.addInt(4));
+
+        assertThat(result).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(t).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void toSet_LongStream__always__containsDistinctElements(boolean parallel) {
+        var stream = LongStream.range(0, 100_000).map(l -> (l % 1000) << 32);
+
+        var result = PrimitiveCollectors.toSet(parallel ? stream.parallel() : stream);
+
+        assertThat(result).isEqualTo(LongStream.range(0, 1000).map(l -> l << 32)
+                .boxed().collect(Collectors.toSet()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void toList_LongStream__always__containsElementsInEncounterOrder(boolean parallel) {
+        var stream = LongStream.range(0, 100_000);
+
+        var result = PrimitiveCollectors.toList(parallel ? stream.parallel() : stream);
+
+        assertThat(result).isEqualTo(LongStream.range(0, 100_000).boxed().toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void toSet_DoubleStream__signedZeros__containsSingleZero(boolean parallel) {
+        var stream = DoubleStream.of(0.0, -0.0, 1.5, 1.5, -0.0);
+
+        var result = PrimitiveCollectors.toSet(parallel ? stream.parallel() : stream);
+
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.containsDouble(0.0)).isTrue();
+        assertThat(result.containsDouble(1.5)).isTrue();
+    }
+
+    @Test
+    void toSet_DoubleStream__containsNaN__throwsException() {
+        var t = catchThrowable(() -> PrimitiveCollectors.toSet(DoubleStream.of(1, Double.NaN)));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void toList_DoubleStream__always__containsElementsInEncounterOrder() {
+        var result = PrimitiveCollectors.toList(DoubleStream.of(2.5, Double.NaN, -0.0));
+
+        assertThat(result.toPrimitiveArray()).containsExactly(2.5, Double.NaN, -0.0);
+    }
+}
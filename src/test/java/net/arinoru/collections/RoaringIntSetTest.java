@@ -0,0 +1,516 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class RoaringIntSetTest {
+    private static RoaringIntSet setOf(int... values) {
+        var set = new RoaringIntSet();
+        for (int v : values)
+            set.addInt(v);
+        return set;
+    }
+
+    // Builds a set spanning a handful of chunks, each of which is sparse,
+    // dense, or made up of a few long runs, so that all container kinds are
+    // exercised.
+    private static Set<Integer> randomElements(Random random) {
+        Set<Integer> result = new HashSet<>();
+        int[] chunks = { -32768, -2, -1, 0, 1, 2, 7, 32767 };
+        for (int chunk : chunks) {
+            int base = chunk << 16;
+            switch (random.nextInt(4)) {
+                case 0 -> {}
+                case 1 -> random.ints(200, 0, 1 << 16).forEach(v -> result.add(base | v));
+                case 2 -> random.ints(20_000, 0, 1 << 16).forEach(v -> result.add(base | v));
+                default -> {
+                    for (int r = 0; r < 5; r++) {
+                        int start = random.nextInt(60_000);
+                        int length = random.nextInt(5000);
+                        for (int v = start; v < start + length; v++)
+                            result.add(base | v);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // Builds the elements of a single chunk held in one container of the
+    // specified kind once optimized
+    private static Set<Integer> chunkElements(String kind, Random random) {
+        Set<Integer> result = new HashSet<>();
+        switch (kind) {
+            case "array" -> random.ints(300, 0, 1 << 16).forEach(result::add);
+            case "bitmap" -> random.ints(30_000, 0, 1 << 16).forEach(result::add);
+            case "full" -> IntStream.range(0, 1 << 16).forEach(result::add);
+            default -> {
+                for (int r = 0; r < 20; r++) {
+                    int start = random.nextInt(62_000);
+                    IntStream.range(start, start + random.nextInt(1, 3000)).forEach(result::add);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static RoaringIntSet roaringOf(Set<Integer> elements, boolean optimize) {
+        var set = new RoaringIntSet();
+        elements.forEach(set::addInt);
+        if (optimize)
+            set.optimize();
+        return set;
+    }
+
+    @Test
+    void constructor_OfInt__always__containsElementsOfCollection() {
+        var cut = new RoaringIntSet(PrimitiveCollections.setOf(new int[] { 3, -5, 200_000, 64 }));
+
+        assertThat(cut).containsExactly(-5, 3, 64, 200_000);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, -1, 65535, 65536, -65536, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void addInt__elementNotInSet__returnsTrueAndAddsElement(int v) {
+        var cut = new RoaringIntSet();
+
+        var result = cut.addInt(v);
+
+        assertThat(result).isTrue();
+        assertThat(cut.containsInt(v)).isTrue();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1, 65536, Integer.MIN_VALUE })
+    void addInt__elementInSet__returnsFalse(int v) {
+        var cut = setOf(v);
+
+        var result = cut.addInt(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void addInt__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var cut = new RoaringIntSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            // Values are concentrated on the first chunk, whose containers
+            // therefore cross between the array and bitmap representations
+            int v = random.nextBoolean() ? random.nextInt(10_000) : random.nextInt() >> 12;
+            if (random.nextInt(3) != 0)
+                assertThat(cut.addInt(v)).isEqualTo(expected.add(v));
+            else
+                assertThat(cut.removeInt(v)).isEqualTo(expected.remove(v));
+            if (i % 50_000 == 0)
+                cut.optimize();
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+        assertThat(cut.toPrimitiveArray()).containsExactly(
+                new TreeSet<>(expected).stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    void addInt__runContainer__extendsMergesAndSplitsRuns() {
+        var cut = new RoaringIntSet();
+        IntStream.range(100, 200).forEach(cut::addInt);
+        IntStream.range(300, 400).forEach(cut::addInt);
+        cut.optimize();
+
+        cut.addInt(200);
+        cut.addInt(99);
+        IntStream.range(201, 300).forEach(cut::addInt);
+        cut.removeInt(250);
+        cut.removeInt(99);
+        cut.removeInt(399);
+
+        var expected = IntStream.range(100, 399).filter(v -> v != 250).toArray();
+        assertThat(cut.toPrimitiveArray()).containsExactly(expected);
+        assertThat(cut.containsInt(250)).isFalse();
+        assertThat(cut.containsInt(251)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4 })
+    void addAll__roaringSet__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var a = randomElements(random);
+        var b = randomElements(random);
+        var cut = roaringOf(a, random.nextBoolean());
+        Set<Integer> expected = new HashSet<>(a);
+
+        var result = cut.addAll(roaringOf(b, random.nextBoolean()));
+
+        assertThat(result).isEqualTo(expected.addAll(b));
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void addAll__roaringSetWithContainedElements__returnsFalse() {
+        var cut = setOf(1, 2, 3, 1_000_000);
+
+        var result = cut.addAll(setOf(3, 1_000_000));
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(4);
+    }
+
+    @Test
+    void addAll__argumentModifiedAfterwards__setIsUnaffected() {
+        var cut = setOf(1);
+        var other = setOf(1_000_000, 1_000_001);
+
+        cut.addAll(other);
+        other.addInt(1_000_002);
+        other.removeInt(1_000_000);
+
+        assertThat(cut).containsExactly(1, 1_000_000, 1_000_001);
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        var cut = setOf(0, 5, -500_000);
+
+        cut.clear();
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsInt(5)).isFalse();
+        assertThat(cut.iterator().hasNext()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4 })
+    void containsAll__roaringSet__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var a = randomElements(random);
+        var cut = roaringOf(a, random.nextBoolean());
+        var subset = a.stream().filter(v -> random.nextInt(4) == 0).collect(Collectors.toSet());
+        var notSubset = new HashSet<>(subset);
+        notSubset.add(a.stream().mapToInt(Integer::intValue).max().orElse(0) + 1);
+
+        assertThat(cut.containsAll(roaringOf(subset, random.nextBoolean()))).isTrue();
+        assertThat(cut.containsAll(roaringOf(notSubset, random.nextBoolean()))).isFalse();
+        assertThat(cut.containsAll(cut)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 2, 64, 65537, 1_000_000, Integer.MIN_VALUE, Integer.MAX_VALUE })
+    void containsInt__elementNotInSet__returnsFalse(int v) {
+        var cut = setOf(0, 1, 63, 65536, -65536);
+
+        assertThat(cut.containsInt(v)).isFalse();
+    }
+
+    @Test
+    void equals__comparedToBoxedSetWithSameElements__returnsTrue() {
+        var cut = new RoaringIntSet();
+        IntStream.range(-100_000, 100_000).map(i -> i * 3).forEach(cut::addInt);
+        IntStream.range(1 << 20, 1 << 21).forEach(cut::addInt);
+        cut.optimize();
+        var expected = IntStream.concat(IntStream.range(-100_000, 100_000).map(i -> i * 3),
+                IntStream.range(1 << 20, 1 << 21)).boxed().collect(Collectors.toSet());
+
+        assertThat(cut).isEqualTo(expected);
+        assertThat(expected).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsElementsInAscendingOrder() {
+        var cut = setOf(1000, 3, -64, 0, Integer.MIN_VALUE, 70_000, Integer.MAX_VALUE);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Integer>();
+        while (iterator.hasNext())
+            result.add(iterator.nextInt());
+
+        assertThat(result).containsExactly(
+                Integer.MIN_VALUE, -64, 0, 3, 1000, 70_000, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void iterator__exhausted__throwsNoSuchElementException() {
+        var cut = setOf(1);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator__setModifiedDuringIteration__throwsConcurrentModificationException() {
+        var cut = setOf(1, 2);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+        cut.addInt(3);
+
+        var t = catchThrowable(iterator::nextInt);
+
+        assertThat(t).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void iterator_remove__removingDuringIteration__removesSelectedElements(boolean optimize) {
+        var cut = new RoaringIntSet();
+        IntStream.range(0, 10_000).forEach(cut::addInt);
+        IntStream.range(100_000, 101_000).forEach(cut::addInt);
+        IntStream.range(0, 5000).map(i -> 200_000 + i * 7).forEach(cut::addInt);
+        if (optimize)
+            cut.optimize();
+        var expected = IntStream.of(cut.toPrimitiveArray()).filter(v -> v % 3 == 0).toArray();
+
+        var iterator = cut.iterator();
+        while (iterator.hasNext())
+            if (iterator.nextInt() % 3 != 0)
+                iterator.remove();
+
+        assertThat(cut.toPrimitiveArray()).containsExactly(expected);
+    }
+
+    @Test
+    void iterator_remove__removingWholeChunks__continuesWithNextChunk() {
+        var cut = setOf(1, 65536, 65537, 131072);
+
+        var iterator = cut.iterator();
+        var visited = new ArrayList<Integer>();
+        while (iterator.hasNext()) {
+            int v = iterator.nextInt();
+            visited.add(v);
+            if (v != 65537)
+                iterator.remove();
+        }
+
+        assertThat(visited).containsExactly(1, 65536, 65537, 131072);
+        assertThat(cut).containsExactly(65537);
+    }
+
+    @Test
+    void iterator_remove__calledTwice__throwsIllegalStateException() {
+        var cut = setOf(1);
+        var iterator = cut.iterator();
+        iterator.nextInt();
+        iterator.remove();
+
+        var t = catchThrowable(iterator::remove);
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void optimize__always__preservesElements() {
+        var cut = new RoaringIntSet();
+        IntStream.range(0, 100_000).forEach(cut::addInt);
+        IntStream.range(0, 1000).map(i -> -1_000_000 + i * 5).forEach(cut::addInt);
+        var expected = cut.toPrimitiveArray();
+
+        cut.optimize();
+
+        assertThat(cut.toPrimitiveArray()).containsExactly(expected);
+        assertThat(cut.size()).isEqualTo(101_000);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2 })
+    void setOperations__everyPairOfContainerKinds__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var kinds = new String[] { "array", "bitmap", "runs", "full" };
+        for (var kindA : kinds)
+            for (var kindB : kinds) {
+                var a = chunkElements(kindA, random);
+                var b = chunkElements(kindB, random);
+                var subset = b.stream().filter(v -> random.nextInt(3) != 0).collect(Collectors.toSet());
+                Set<Integer> union = new HashSet<>(a);
+                union.addAll(b);
+                Set<Integer> intersection = new HashSet<>(a);
+                intersection.retainAll(b);
+                Set<Integer> difference = new HashSet<>(a);
+                difference.removeAll(b);
+
+                var or = roaringOf(a, true);
+                or.addAll(roaringOf(b, true));
+                var and = roaringOf(a, true);
+                and.retainAll(roaringOf(b, true));
+                var andNot = roaringOf(a, true);
+                andNot.removeAll(roaringOf(b, true));
+
+                assertThat(or).as("%s | %s", kindA, kindB).isEqualTo(union);
+                assertThat(or.size()).isEqualTo(union.size());
+                assertThat(and).as("%s & %s", kindA, kindB).isEqualTo(intersection);
+                assertThat(and.size()).isEqualTo(intersection.size());
+                assertThat(andNot).as("%s - %s", kindA, kindB).isEqualTo(difference);
+                assertThat(andNot.size()).isEqualTo(difference.size());
+                assertThat(roaringOf(a, true).containsAll(roaringOf(b, true)))
+                        .isEqualTo(a.containsAll(b));
+                assertThat(roaringOf(b, true).containsAll(roaringOf(subset, true))).isTrue();
+                assertThat(roaringOf(union, true).containsAll(roaringOf(a, true))).isTrue();
+            }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4 })
+    void removeAll__roaringSet__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var a = randomElements(random);
+        var b = randomElements(random);
+        var cut = roaringOf(a, random.nextBoolean());
+        Set<Integer> expected = new HashSet<>(a);
+
+        var result = cut.removeAll(roaringOf(b, random.nextBoolean()));
+
+        assertThat(result).isEqualTo(expected.removeAll(b));
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void removeAll__itself__removesAllElements() {
+        var cut = setOf(1, 2, 100_000);
+
+        var result = cut.removeAll(cut);
+
+        assertThat(result).isTrue();
+        assertThat(cut.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeAll__otherCollection__removesCommonElements() {
+        var cut = setOf(1, 2, 3, 100_000);
+
+        var result = cut.removeAll(PrimitiveCollections.setOf(new int[] { 2, 100_000, -5 }));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactly(1, 3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 5, 65536, Integer.MAX_VALUE })
+    void removeInt__elementNotInSet__returnsFalse(int v) {
+        var cut = setOf(1);
+
+        assertThat(cut.removeInt(v)).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4 })
+    void retainAll__roaringSet__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var a = randomElements(random);
+        var b = randomElements(random);
+        var cut = roaringOf(a, random.nextBoolean());
+        Set<Integer> expected = new HashSet<>(a);
+
+        var result = cut.retainAll(roaringOf(b, random.nextBoolean()));
+
+        assertThat(result).isEqualTo(expected.retainAll(b));
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void retainAll__otherCollection__retainsOnlyCommonElements() {
+        var cut = setOf(1, 2, 3, 100_000);
+
+        var result = cut.retainAll(PrimitiveCollections.setOf(new int[] { 2, 100_000, -5 }));
+
+        assertThat(result).isTrue();
+        assertThat(cut).containsExactly(2, 100_000);
+    }
+
+    @Test
+    void spliterator__always__returnsSpliteratorWithExpectedCharacteristics() {
+        var cut = setOf(1, 2, 3);
+
+        var spliterator = cut.spliterator();
+        var result = spliterator.characteristics();
+
+        assertThat(result & Spliterator.DISTINCT).isNotZero();
+        assertThat(result & Spliterator.ORDERED).isNotZero();
+        assertThat(result & Spliterator.SORTED).isNotZero();
+        assertThat(spliterator.getComparator()).isNull();
+    }
+
+    @Test
+    void spliterator__splitRecursively__reportsExactSizesAndVisitsElementsInOrder() {
+        var cut = new RoaringIntSet(PrimitiveCollections.setOf(
+                IntStream.range(-20_000, 20_000).map(i -> i * 17).toArray()));
+        var result = new ArrayList<Integer>();
+        var pending = new ArrayDeque<Spliterator.OfInt>();
+        pending.push(cut.spliterator());
+        while (!pending.isEmpty()) {
+            var spliterator = pending.pop();
+            var prefix = spliterator.estimateSize() > 100 ? spliterator.trySplit() : null;
+            if (prefix != null) {
+                assertThat(prefix.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+                pending.push(spliterator);
+                pending.push(prefix);
+            } else {
+                long size = spliterator.estimateSize();
+                int before = result.size();
+                spliterator.tryAdvance((int v) -> result.add(v));
+                assertThat(spliterator.estimateSize()).isEqualTo(Math.max(0, size - 1));
+                spliterator.forEachRemaining((int v) -> result.add(v));
+                assertThat(result.size() - before).isEqualTo(size);
+            }
+        }
+
+        assertThat(result).containsExactlyElementsOf(
+                IntStream.range(-20_000, 20_000).map(i -> i * 17).boxed().toList());
+    }
+
+    @Test
+    void copyInto__offset__writesElementsInOrderAfterOffset() {
+        var cut = new RoaringIntSet();
+        var expected = IntStream.range(0, 100_000).map(i -> i * 7).toArray();
+        IntStream.of(expected).forEach(cut::addInt);
+        IntStream.range(1 << 20, (1 << 20) + 5000).forEach(cut::addInt);
+        cut.optimize();
+        expected = IntStream.concat(IntStream.of(expected),
+                IntStream.range(1 << 20, (1 << 20) + 5000)).toArray();
+        var dest = new int[expected.length + 2];
+        Arrays.fill(dest, -1);
+
+        cut.copyInto(dest, 1);
+
+        assertThat(dest[0]).isEqualTo(-1);
+        assertThat(dest[dest.length - 1]).isEqualTo(-1);
+        assertThat(Arrays.copyOfRange(dest, 1, dest.length - 1)).containsExactly(expected);
+    }
+
+    @Test
+    void copyInto__arrayTooSmall__throwsIndexOutOfBoundsException() {
+        var cut = new RoaringIntSet();
+        IntStream.range(0, 10).forEach(cut::addInt);
+
+        var t = catchThrowable(() -> cut.copyInto(new int[10], 1));
+
+        assertThat(t).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
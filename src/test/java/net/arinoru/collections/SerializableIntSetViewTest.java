@@ -1545,6 +1545,7 @@ class SerializableIntSetViewTest {
         var cut = new SerializableIntSetView(set, ForwardingType.SHALLOW);
         when(set.iterator()).thenReturn(iterator);
         when(set.size()).thenReturn(3);
+        doCallRealMethod().when(iterator).forEachRemaining(any(IntConsumer.class));
         when(iterator.hasNext()).thenReturn(true, true, true, false);
         when(iterator.nextInt()).thenReturn(1, 2, 3);
 
@@ -1553,6 +1554,7 @@ class SerializableIntSetViewTest {
         assertThat(result).containsExactly(1, 2, 3);
         verify(set).iterator();
         verify(set).size();
+        verify(iterator).forEachRemaining(any(IntConsumer.class));
         verify(iterator, times(4)).hasNext();
         verify(iterator, times(3)).nextInt();
         verifyNoMoreInteractions(set, iterator);
@@ -1518,6 +1518,7 @@ class SerializableLongCollectionViewTest {
         var cut = new SerializableLongCollectionView(collection, ForwardingType.SHALLOW);
         when(collection.iterator()).thenReturn(iterator);
         when(collection.size()).thenReturn(3);
+        doCallRealMethod().when(iterator).forEachRemaining(any(LongConsumer.class));
         when(iterator.hasNext()).thenReturn(true, true, true, false);
         when(iterator.nextLong()).thenReturn(1L, 2L, 3L);
 
@@ -1526,6 +1527,7 @@ class SerializableLongCollectionViewTest {
         assertThat(result).containsExactly(1L, 2L, 3L);
         verify(collection).iterator();
         verify(collection).size();
+        verify(iterator).forEachRemaining(any(LongConsumer.class));
         verify(iterator, times(4)).hasNext();
         verify(iterator, times(3)).nextLong();
         verifyNoMoreInteractions(collection, iterator);
@@ -1545,6 +1545,7 @@ class SerializableLongSetViewTest {
         var cut = new SerializableLongSetView(set, ForwardingType.SHALLOW);
         when(set.iterator()).thenReturn(iterator);
         when(set.size()).thenReturn(3);
+        doCallRealMethod().when(iterator).forEachRemaining(any(LongConsumer.class));
         when(iterator.hasNext()).thenReturn(true, true, true, false);
         when(iterator.nextLong()).thenReturn(1L, 2L, 3L);
 
@@ -1553,6 +1554,7 @@ class SerializableLongSetViewTest {
         assertThat(result).containsExactly(1L, 2L, 3L);
         verify(set).iterator();
         verify(set).size();
+        verify(iterator).forEachRemaining(any(LongConsumer.class));
         verify(iterator, times(4)).hasNext();
         verify(iterator, times(3)).nextLong();
         verifyNoMoreInteractions(set, iterator);
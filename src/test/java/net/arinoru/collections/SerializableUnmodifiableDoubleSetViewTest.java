@@ -1011,6 +1011,7 @@ class SerializableUnmodifiableDoubleSetViewTest {
         var cut = new SerializableUnmodifiableDoubleSetView(set, ForwardingType.SHALLOW);
         when(set.iterator()).thenReturn(iterator);
         when(set.size()).thenReturn(3);
+        doCallRealMethod().when(iterator).forEachRemaining(any(DoubleConsumer.class));
         when(iterator.hasNext()).thenReturn(true, true, true, false);
         when(iterator.nextDouble()).thenReturn(1.0, 2.0, 3.0);
 
@@ -1019,6 +1020,7 @@ class SerializableUnmodifiableDoubleSetViewTest {
         assertThat(result).containsExactly(1.0, 2.0, 3.0);
         verify(set).iterator();
         verify(set).size();
+        verify(iterator).forEachRemaining(any(DoubleConsumer.class));
         verify(iterator, times(4)).hasNext();
         verify(iterator, times(3)).nextDouble();
         verifyNoMoreInteractions(set, iterator);
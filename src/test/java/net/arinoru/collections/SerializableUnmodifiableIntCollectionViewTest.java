@@ -983,6 +983,7 @@ class SerializableUnmodifiableIntCollectionViewTest {
         var cut = new SerializableUnmodifiableIntCollectionView(collection, ForwardingType.SHALLOW);
         when(collection.iterator()).thenReturn(iterator);
         when(collection.size()).thenReturn(3);
+        doCallRealMethod().when(iterator).forEachRemaining(any(IntConsumer.class));
         when(iterator.hasNext()).thenReturn(true, true, true, false);
         when(iterator.nextInt()).thenReturn(1, 2, 3);
 
@@ -991,6 +992,7 @@ class SerializableUnmodifiableIntCollectionViewTest {
         assertThat(result).containsExactly(1, 2, 3);
         verify(collection).iterator();
         verify(collection).size();
+        verify(iterator).forEachRemaining(any(IntConsumer.class));
         verify(iterator, times(4)).hasNext();
         verify(iterator, times(3)).nextInt();
         verifyNoMoreInteractions(collection, iterator);
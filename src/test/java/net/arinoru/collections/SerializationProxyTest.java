@@ -0,0 +1,234 @@
+package net.arinoru.collections;
+
+import net.arinoru.collections.Views.ForwardingType;
+import net.arinoru.collections.Views.SerializableDoubleSetView;
+import net.arinoru.collections.Views.SerializableIntCollectionView;
+import net.arinoru.collections.Views.SerializableIntSetView;
+import net.arinoru.collections.Views.SerializableUnmodifiableIntSetView;
+import net.arinoru.collections.Views.SerializableUnmodifiableLongSetView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializationProxyTest {
+    @Test
+    void asCollection__roundTrip__preservesOrderAndDuplicates() throws Exception {
+        var cut = PrimitiveCollections.asCollection(new long[] { 3, 1, 3, Long.MIN_VALUE });
+
+        var result = (PrimitiveCollection.OfLong) roundTrip(cut);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(3, 1, 3, Long.MIN_VALUE);
+        assertThat(result).isInstanceOf(UnmodifiableView.class);
+    }
+
+    @Test
+    void emptyIntSet__roundTrip__returnsSameInstance() throws Exception {
+        var cut = PrimitiveCollections.emptyIntSet();
+
+        var result = roundTrip(cut);
+
+        assertThat(result).isSameAs(cut);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 5, 100, 10_000 })
+    void setOf__roundTrip__rebuildsSameRepresentation(int size) throws Exception {
+        var cut = PrimitiveCollections.setOf(IntStream.range(0, size).map(i -> i * 977).toArray());
+
+        var result = roundTrip(cut);
+
+        assertThat(result).isEqualTo(cut);
+        assertThat(result).isExactlyInstanceOf(cut.getClass());
+    }
+
+    @Test
+    void setOf__denseElements__rebuildsBitmap() throws Exception {
+        var cut = PrimitiveCollections.setOf(IntStream.range(0, 10_000).toArray());
+
+        var result = roundTrip(cut);
+
+        assertThat(result).isEqualTo(cut);
+        assertThat(result).isExactlyInstanceOf(PrimitiveCollections.BitmapIntSet.class);
+    }
+
+    @Test
+    void sortedSetOf__roundTrip__preservesAscendingOrder() throws Exception {
+        var cut = PrimitiveCollections.sortedSetOf(5.5, -1.0, 3.25, 100.0);
+
+        var result = (PrimitiveSet.OfDouble) roundTrip(cut);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(-1.0, 3.25, 5.5, 100.0);
+        assertThat(result).isExactlyInstanceOf(cut.getClass());
+    }
+
+    @Test
+    void serializableIntCollectionView__roundTrip__returnsModifiableList() throws Exception {
+        var cut = new SerializableIntCollectionView(
+                PrimitiveCollections.asCollection(new int[] { 4, 2, 4 }), ForwardingType.PURE);
+
+        var result = (PrimitiveCollection.OfInt) roundTrip(cut);
+
+        assertThat(result).isInstanceOf(IntArrayList.class);
+        assertThat(result.toPrimitiveArray()).containsExactly(4, 2, 4);
+        assertThat(result.addInt(1)).isTrue();
+    }
+
+    @Test
+    void serializableIntSetView__roundTrip__returnsModifiableHashSet() throws Exception {
+        var delegate = new IntHashSet();
+        IntStream.range(0, 1000).forEach(delegate::addInt);
+        var cut = new SerializableIntSetView(delegate, ForwardingType.PURE);
+
+        var result = (PrimitiveSet.OfInt) roundTrip(cut);
+
+        assertThat(result).isInstanceOf(IntHashSet.class);
+        assertThat(result).isEqualTo(delegate);
+        assertThat(result.addInt(-1)).isTrue();
+    }
+
+    @Test
+    void serializableIntSetView__minimalForwarding__keepsDefaultForm() throws Exception {
+        var cut = new SerializableIntSetView(new HashSet<>(Set.of("a")), ForwardingType.MINIMAL);
+
+        var result = roundTrip(cut);
+
+        assertThat(result).isInstanceOf(SerializableIntSetView.class);
+    }
+
+    @Test
+    void serializableDoubleSetView__nanElement__keepsDefaultForm() throws Exception {
+        var cut = new SerializableDoubleSetView(
+                PrimitiveCollections.setOf(new double[] { Double.NaN, 1.0 }), ForwardingType.PURE);
+
+        var result = (PrimitiveSet.OfDouble) roundTrip(cut);
+
+        assertThat(result).isInstanceOf(SerializableDoubleSetView.class);
+        assertThat(result.size()).isEqualTo(2);
+    }
+
+    @Test
+    void serializableUnmodifiableLongSetView__roundTrip__isSmallerThanBoxedForm()
+            throws Exception {
+        var delegate = PrimitiveCollections.setOf(LongStream.range(0, 1000).toArray());
+        var cut = new SerializableUnmodifiableLongSetView(delegate, ForwardingType.PURE);
+        var boxed = LongStream.range(0, 1000).boxed().collect(Collectors.toCollection(HashSet::new));
+
+        var result = roundTrip(cut);
+
+        assertThat(result).isEqualTo(delegate);
+        assertThat(result).isInstanceOf(UnmodifiableView.class);
+        assertThat(serialize(cut).length).isLessThan(1000 * Long.BYTES + 200);
+        assertThat(serialize(cut).length).isLessThan(serialize(boxed).length);
+    }
+
+    @Test
+    void serializableIntSetView__orderedDelegate__preservesIterationOrder() throws Exception {
+        var delegate = new LinkedIntSet(IntStream.range(0, 1000).map(i -> (i * 7919) % 1000).toArray());
+        var cut = new SerializableIntSetView(delegate, ForwardingType.PURE);
+
+        var result = (PrimitiveSet.OfInt) roundTrip(cut);
+
+        assertThat(result).isInstanceOf(SerializableIntSetView.class);
+        assertThat(result.toPrimitiveArray()).containsExactly(delegate.toPrimitiveArray());
+        assertThat(result.addInt(-1)).isTrue();
+    }
+
+    @Test
+    void serializableUnmodifiableIntSetView__largeOrderedDelegate__preservesIterationOrder()
+            throws Exception {
+        var delegate = new LinkedIntSet(IntStream.range(0, 1000).map(i -> 999 - i).toArray());
+        var cut = new SerializableUnmodifiableIntSetView(delegate, ForwardingType.PURE);
+
+        var result = (PrimitiveSet.OfInt) roundTrip(cut);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(delegate.toPrimitiveArray());
+        assertThat(result).isInstanceOf(UnmodifiableView.class);
+    }
+
+    @Test
+    void serializableUnmodifiableIntSetView__smallOrderedDelegate__rebuildsArraySet()
+            throws Exception {
+        var delegate = new LinkedIntSet(5, -3, 17, 0);
+        var cut = new SerializableUnmodifiableIntSetView(delegate, ForwardingType.PURE);
+
+        var result = (PrimitiveSet.OfInt) roundTrip(cut);
+
+        assertThat(result).isExactlyInstanceOf(PrimitiveCollections.ArrayIntSet.class);
+        assertThat(result.toPrimitiveArray()).containsExactly(5, -3, 17, 0);
+    }
+
+    private static byte[] serialize(Object o) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(o);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object roundTrip(Object o) throws IOException, ClassNotFoundException {
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(serialize(o)))) {
+            return in.readObject();
+        }
+    }
+
+    // An insertion-ordered primitive set, standing in for a view over a
+    // LinkedHashSet
+    private static class LinkedIntSet extends AbstractPrimitiveSet.OfInt implements Serializable {
+        private final LinkedHashSet<Integer> elements = new LinkedHashSet<>();
+
+        LinkedIntSet(int... values) {
+            for (int v : values)
+                elements.add(v);
+        }
+
+        @Override
+        public boolean addInt(int i) {
+            return elements.add(i);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            var iterator = elements.iterator();
+            return new PrimitiveIterator.OfInt() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public int nextInt() {
+                    return iterator.next();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public Spliterator.OfInt spliterator() {
+            return Spliterators.spliterator(iterator(), size(),
+                    Spliterator.ORDERED | Spliterator.DISTINCT);
+        }
+    }
+}
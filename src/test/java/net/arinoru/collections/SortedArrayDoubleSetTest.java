@@ -0,0 +1,194 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SortedArrayDoubleSetTest {
+    @Test
+    void fromArray__arrayContainsDuplicates__throwsException() {
+        var arr = new double[] { 5.0, 3.0, 1.0, 3.0, 2.0 };
+
+        var t = catchThrowable(() -> PrimitiveCollections.sortedSetOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__arrayContainsBothSignedZeros__throwsException() {
+        var arr = new double[] { 1.0, 0.0, -0.0 };
+
+        var t = catchThrowable(() -> PrimitiveCollections.sortedSetOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__arrayContainsMultipleNaNs__retainsNaNsAfterOtherElements() {
+        var arr = new double[] { Double.NaN, 2.0, Double.NaN, 1.0 };
+
+        var result = PrimitiveCollections.sortedSetOf(arr);
+
+        assertThat(result.toPrimitiveArray())
+                .containsExactly(1.0, 2.0, Double.NaN, Double.NaN);
+    }
+
+    @Test
+    void fromArray__validArray__returnedSetNotBackedByProvidedArray() {
+        var arr = new double[] { 5.0, 4.0, 3.0, 2.0, 1.0 };
+
+        var result = PrimitiveCollections.sortedSetOf(arr);
+        arr[0] = 0.0;
+
+        assertThat(result.toPrimitiveArray())
+                .containsExactly(1.0, 2.0, 3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void fromCollection__collectionContainsDuplicates__returnsSetWithSingleInstances() {
+        var values = new double[] { 3.0, 0.0, 3.0, -0.0, 1.0 };
+        var collection = mock(PrimitiveCollection.OfDouble.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.sortedCopyOf(collection);
+
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.containsDouble(0.0)).isTrue();
+        assertThat(result.containsDouble(1.0)).isTrue();
+        assertThat(result.containsDouble(3.0)).isTrue();
+    }
+
+    @Test
+    void fromCollection__validCollection__returnedSetNotBackedByCollection() {
+        var values = new double[] { 1.0, 2.0, 3.0, 4.0, 5.0 };
+        var collection = mock(PrimitiveCollection.OfDouble.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.sortedCopyOf(collection);
+        values[0] = 0.0;
+
+        assertThat(result.toPrimitiveArray())
+                .containsExactly(1.0, 2.0, 3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void fromCollection__sortedSet__returnsSameInstance() {
+        var set = PrimitiveCollections.sortedSetOf(3.0, 1.0, 2.0);
+
+        var result = PrimitiveCollections.sortedCopyOf(set);
+
+        assertThat(result).isSameAs(set);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { Double.NEGATIVE_INFINITY, -7.5, 0.0, -0.0, 0.5, 24999.5,
+            Double.POSITIVE_INFINITY })
+    void containsDouble__elementInSet__returnsTrue(double v) {
+        var cut = PrimitiveCollections.sortedSetOf(DoubleStream.concat(
+                DoubleStream.of(Double.NEGATIVE_INFINITY, -7.5,
+                        Double.POSITIVE_INFINITY, Double.NaN),
+                IntStream.range(0, 50_000).mapToDouble(i -> i * 0.5)).toArray());
+
+        var result = cut.containsDouble(v);
+
+        assertThat(result).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { -Double.MAX_VALUE, -7.0, -0.5, 0.25, 25000.0,
+            Double.MAX_VALUE, Double.NaN })
+    void containsDouble__elementNotInSet__returnsFalse(double v) {
+        var cut = PrimitiveCollections.sortedSetOf(DoubleStream.concat(
+                DoubleStream.of(Double.NEGATIVE_INFINITY, -7.5,
+                        Double.POSITIVE_INFINITY, Double.NaN),
+                IntStream.range(0, 50_000).mapToDouble(i -> i * 0.5)).toArray());
+
+        var result = cut.containsDouble(v);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void containsAll__sortedSetWithOtherSignedZero__returnsTrue() {
+        var cut = PrimitiveCollections.sortedSetOf(new double[] { -1.0, 0.0, 1.0 });
+        var other = PrimitiveCollections.sortedSetOf(new double[] { -0.0, 1.0 });
+
+        assertThat(cut.containsAll(other)).isTrue();
+        assertThat(cut).isEqualTo(PrimitiveCollections.sortedSetOf(
+                new double[] { 1.0, -0.0, -1.0 }));
+    }
+
+    @Test
+    void containsAll__sortedSetContainingNaN__returnsFalse() {
+        var cut = PrimitiveCollections.sortedSetOf(new double[] { 1.0, 2.0, Double.NaN });
+        var other = PrimitiveCollections.sortedSetOf(new double[] { 1.0, Double.NaN });
+
+        assertThat(cut.containsAll(other)).isFalse();
+        assertThat(cut.containsAll(PrimitiveCollections.sortedSetOf(new double[] { 2.0 })))
+                .isTrue();
+    }
+
+    @Test
+    void containsDouble__onlyNaNs__returnsFalse() {
+        var cut = PrimitiveCollections.sortedSetOf(Double.NaN, Double.NaN);
+
+        assertThat(cut.containsDouble(Double.NaN)).isFalse();
+        assertThat(cut.containsDouble(0.0)).isFalse();
+    }
+
+    @Test
+    void equals__arraySetWithSameElements__returnsTrue() {
+        var cut = PrimitiveCollections.sortedSetOf(3.0, 1.0, 2.0);
+        var other = PrimitiveSet.OfDouble.of(1.0, 2.0, 3.0);
+
+        assertThat(cut).isEqualTo(other);
+        assertThat(other).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(other.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsElementsInAscendingOrder() {
+        var cut = PrimitiveCollections.sortedSetOf(3.0, -1.0, 2.0);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Double>();
+        while (iterator.hasNext())
+            result.add(iterator.nextDouble());
+        assertThat(result).containsExactly(-1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void primitiveStream__always__returnsElementsInAscendingOrder() {
+        var cut = PrimitiveCollections.sortedSetOf(3.0, -1.0, 2.0);
+
+        var result = cut.primitiveStream().toArray();
+
+        assertThat(result).containsExactly(-1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void spliterator__always__returnsSpliteratorWithExpectedCharacteristics() {
+        var cut = PrimitiveCollections.sortedSetOf(3.0, 1.0, 2.0);
+
+        var spliterator = cut.spliterator();
+        var result = spliterator.characteristics();
+
+        assertThat(result & Spliterator.IMMUTABLE).isNotZero();
+        assertThat(result & Spliterator.ORDERED).isNotZero();
+        assertThat(result & Spliterator.DISTINCT).isNotZero();
+        assertThat(result & Spliterator.SORTED).isNotZero();
+        assertThat(spliterator.getComparator()).isNull();
+    }
+}
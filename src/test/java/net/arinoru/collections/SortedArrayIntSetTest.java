@@ -0,0 +1,187 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SortedArrayIntSetTest {
+    @Test
+    void fromArray__arrayContainsDuplicates__throwsException() {
+        var arr = new int[] { 5, 3, 1, 3, 2 };
+
+        var t = catchThrowable(() -> PrimitiveCollections.sortedSetOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__validArray__returnedSetNotBackedByProvidedArray() {
+        var arr = new int[] { 5, 4, 3, 2, 1 };
+
+        var result = PrimitiveCollections.sortedSetOf(arr);
+        arr[0] = 0;
+
+        assertThat(result.toPrimitiveArray())
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void fromCollection__collectionContainsDuplicates__returnsSetWithSingleInstances() {
+        var values = new int[] { 3, 1, 3, 2, 1 };
+        var collection = mock(PrimitiveCollection.OfInt.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.sortedCopyOf(collection);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void fromCollection__validCollection__returnedSetNotBackedByCollection() {
+        var values = new int[] { 1, 2, 3, 4, 5 };
+        var collection = mock(PrimitiveCollection.OfInt.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.sortedCopyOf(collection);
+        values[0] = 0;
+
+        assertThat(result.toPrimitiveArray())
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void fromCollection__sortedSet__returnsSameInstance() {
+        var set = PrimitiveCollections.sortedSetOf(3, 1, 2);
+
+        var result = PrimitiveCollections.sortedCopyOf(set);
+
+        assertThat(result).isSameAs(set);
+    }
+
+    @Test
+    void copyOf__sortedSet__returnsSameInstance() {
+        var set = PrimitiveCollections.sortedSetOf(3, 1, 2);
+
+        var result = PrimitiveSet.OfInt.copyOf(set);
+
+        assertThat(result).isSameAs(set);
+    }
+
+    @Test
+    void containsAll__sortedSubset__returnsTrue() {
+        var cut = PrimitiveCollections.sortedSetOf(IntStream.range(-50, 50).toArray());
+        var other = PrimitiveCollections.sortedSetOf(
+                IntStream.range(-50, 50).filter(i -> i % 3 == 0).toArray());
+
+        assertThat(cut.containsAll(other)).isTrue();
+        assertThat(other.containsAll(cut)).isFalse();
+    }
+
+    @Test
+    void containsAll__sortedSetWithElementNotInSet__returnsFalse() {
+        var cut = PrimitiveCollections.sortedSetOf(new int[] { 1, 3, 5, 7 });
+
+        assertThat(cut.containsAll(PrimitiveCollections.sortedSetOf(new int[] { 3, 4 })))
+                .isFalse();
+        assertThat(cut.containsAll(PrimitiveCollections.sortedSetOf(new int[] { 7, 8 })))
+                .isFalse();
+        assertThat(cut.containsAll(PrimitiveCollections.sortedSetOf(new int[] { 0, 1 })))
+                .isFalse();
+    }
+
+    @Test
+    void containsAll__sortedSetOfSameSize__returnsWhetherEqual() {
+        var cut = PrimitiveCollections.sortedSetOf(new int[] { 1, 2, 3 });
+
+        assertThat(cut.containsAll(PrimitiveCollections.sortedSetOf(new int[] { 3, 2, 1 })))
+                .isTrue();
+        assertThat(cut.containsAll(PrimitiveCollections.sortedSetOf(new int[] { 1, 2, 4 })))
+                .isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { Integer.MIN_VALUE, -7, 0, 1, 49_999, Integer.MAX_VALUE })
+    void containsInt__elementInSet__returnsTrue(int v) {
+        var cut = PrimitiveCollections.sortedSetOf(IntStream.concat(
+                IntStream.of(Integer.MIN_VALUE, -7, Integer.MAX_VALUE),
+                IntStream.range(0, 50_000)).toArray());
+
+        var result = cut.containsInt(v);
+
+        assertThat(result).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { Integer.MIN_VALUE + 1, -8, -1, 50_000, Integer.MAX_VALUE - 1 })
+    void containsInt__elementNotInSet__returnsFalse(int v) {
+        var cut = PrimitiveCollections.sortedSetOf(IntStream.concat(
+                IntStream.of(Integer.MIN_VALUE, -7, Integer.MAX_VALUE),
+                IntStream.range(0, 50_000)).toArray());
+
+        var result = cut.containsInt(v);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void containsInt__emptySet__returnsFalse() {
+        var cut = PrimitiveCollections.sortedSetOf(new int[0]);
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsInt(0)).isFalse();
+    }
+
+    @Test
+    void equals__arraySetWithSameElements__returnsTrue() {
+        var cut = PrimitiveCollections.sortedSetOf(3, 1, 2);
+        var other = PrimitiveSet.OfInt.of(1, 2, 3);
+
+        assertThat(cut).isEqualTo(other);
+        assertThat(other).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(other.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsElementsInAscendingOrder() {
+        var cut = PrimitiveCollections.sortedSetOf(3, -1, 2);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Integer>();
+        while (iterator.hasNext())
+            result.add(iterator.nextInt());
+        assertThat(result).containsExactly(-1, 2, 3);
+    }
+
+    @Test
+    void primitiveStream__always__returnsElementsInAscendingOrder() {
+        var cut = PrimitiveCollections.sortedSetOf(3, -1, 2);
+
+        var result = cut.primitiveStream().toArray();
+
+        assertThat(result).containsExactly(-1, 2, 3);
+    }
+
+    @Test
+    void spliterator__always__returnsSpliteratorWithExpectedCharacteristics() {
+        var cut = PrimitiveCollections.sortedSetOf(3, 1, 2);
+
+        var spliterator = cut.spliterator();
+        var result = spliterator.characteristics();
+
+        assertThat(result & Spliterator.IMMUTABLE).isNotZero();
+        assertThat(result & Spliterator.ORDERED).isNotZero();
+        assertThat(result & Spliterator.DISTINCT).isNotZero();
+        assertThat(result & Spliterator.SORTED).isNotZero();
+        assertThat(spliterator.getComparator()).isNull();
+    }
+}
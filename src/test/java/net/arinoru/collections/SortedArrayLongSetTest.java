@@ -0,0 +1,155 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SortedArrayLongSetTest {
+    @Test
+    void fromArray__arrayContainsDuplicates__throwsException() {
+        var arr = new long[] { 5L, 3L, 1L, 3L, 2L };
+
+        var t = catchThrowable(() -> PrimitiveCollections.sortedSetOf(arr));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate element");
+    }
+
+    @Test
+    void fromArray__validArray__returnedSetNotBackedByProvidedArray() {
+        var arr = new long[] { 5L, 4L, 3L, 2L, 1L };
+
+        var result = PrimitiveCollections.sortedSetOf(arr);
+        arr[0] = 0;
+
+        assertThat(result.toPrimitiveArray())
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void fromCollection__collectionContainsDuplicates__returnsSetWithSingleInstances() {
+        var values = new long[] { 3L, 1L, 3L, 2L, 1L };
+        var collection = mock(PrimitiveCollection.OfLong.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.sortedCopyOf(collection);
+
+        assertThat(result.toPrimitiveArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void fromCollection__validCollection__returnedSetNotBackedByCollection() {
+        var values = new long[] { 1L, 2L, 3L, 4L, 5L };
+        var collection = mock(PrimitiveCollection.OfLong.class);
+        when(collection.toPrimitiveArray()).thenReturn(values);
+
+        var result = PrimitiveCollections.sortedCopyOf(collection);
+        values[0] = 0;
+
+        assertThat(result.toPrimitiveArray())
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void fromCollection__sortedSet__returnsSameInstance() {
+        var set = PrimitiveCollections.sortedSetOf(3L, 1L, 2L);
+
+        var result = PrimitiveCollections.sortedCopyOf(set);
+
+        assertThat(result).isSameAs(set);
+    }
+
+    @Test
+    void copyOf__sortedSet__returnsSameInstance() {
+        var set = PrimitiveCollections.sortedSetOf(3L, 1L, 2L);
+
+        var result = PrimitiveSet.OfLong.copyOf(set);
+
+        assertThat(result).isSameAs(set);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { Long.MIN_VALUE, -7, 0, 1, 49_999, Long.MAX_VALUE })
+    void containsLong__elementInSet__returnsTrue(long v) {
+        var cut = PrimitiveCollections.sortedSetOf(LongStream.concat(
+                LongStream.of(Long.MIN_VALUE, -7, Long.MAX_VALUE),
+                LongStream.range(0, 50_000)).toArray());
+
+        var result = cut.containsLong(v);
+
+        assertThat(result).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { Long.MIN_VALUE + 1, -8, -1, 50_000, Long.MAX_VALUE - 1 })
+    void containsLong__elementNotInSet__returnsFalse(long v) {
+        var cut = PrimitiveCollections.sortedSetOf(LongStream.concat(
+                LongStream.of(Long.MIN_VALUE, -7, Long.MAX_VALUE),
+                LongStream.range(0, 50_000)).toArray());
+
+        var result = cut.containsLong(v);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void containsLong__emptySet__returnsFalse() {
+        var cut = PrimitiveCollections.sortedSetOf(new long[0]);
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsLong(0)).isFalse();
+    }
+
+    @Test
+    void equals__arraySetWithSameElements__returnsTrue() {
+        var cut = PrimitiveCollections.sortedSetOf(3L, 1L, 2L);
+        var other = PrimitiveSet.OfLong.of(1L, 2L, 3L);
+
+        assertThat(cut).isEqualTo(other);
+        assertThat(other).isEqualTo(cut);
+        assertThat(cut.hashCode()).isEqualTo(other.hashCode());
+    }
+
+    @Test
+    void iterator__always__returnsElementsInAscendingOrder() {
+        var cut = PrimitiveCollections.sortedSetOf(3L, -1L, 2L);
+
+        var iterator = cut.iterator();
+        var result = new ArrayList<Long>();
+        while (iterator.hasNext())
+            result.add(iterator.nextLong());
+        assertThat(result).containsExactly(-1L, 2L, 3L);
+    }
+
+    @Test
+    void primitiveStream__always__returnsElementsInAscendingOrder() {
+        var cut = PrimitiveCollections.sortedSetOf(3L, -1L, 2L);
+
+        var result = cut.primitiveStream().toArray();
+
+        assertThat(result).containsExactly(-1, 2, 3);
+    }
+
+    @Test
+    void spliterator__always__returnsSpliteratorWithExpectedCharacteristics() {
+        var cut = PrimitiveCollections.sortedSetOf(3L, 1L, 2L);
+
+        var spliterator = cut.spliterator();
+        var result = spliterator.characteristics();
+
+        assertThat(result & Spliterator.IMMUTABLE).isNotZero();
+        assertThat(result & Spliterator.ORDERED).isNotZero();
+        assertThat(result & Spliterator.DISTINCT).isNotZero();
+        assertThat(result & Spliterator.SORTED).isNotZero();
+        assertThat(spliterator.getComparator()).isNull();
+    }
+}
@@ -0,0 +1,189 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CyclicBarrier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class StripedLongHashSetTest {
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1 })
+    void constructor__nonPositiveConcurrencyLevel__throwsException(int concurrencyLevel) {
+        var t = catchThrowable(() -> new StripedLongHashSet(16, .75f, concurrencyLevel));
+
+        assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 16, 1 << 20 })
+    void addLong__anyConcurrencyLevel__retainsAllElements(int concurrencyLevel) {
+        var cut = new StripedLongHashSet(0, .75f, concurrencyLevel);
+
+        for (long i = 0; i < 10_000; i++)
+            assertThat(cut.addLong(i << 32)).isTrue();
+
+        assertThat(cut.size()).isEqualTo(10_000);
+        for (long i = 0; i < 10_000; i++)
+            assertThat(cut.containsLong(i << 32)).isTrue();
+        assertThat(cut.containsLong(1)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, -1, 42, Long.MIN_VALUE, Long.MAX_VALUE })
+    void addLong__elementInSet__returnsFalse(long v) {
+        var cut = new StripedLongHashSet();
+        cut.addLong(v);
+
+        var result = cut.addLong(v);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(1);
+    }
+
+    @Test
+    void clear__always__removesAllElements() {
+        var cut = new StripedLongHashSet();
+        for (long i = 0; i < 100; i++)
+            cut.addLong(i);
+
+        cut.clear();
+
+        assertThat(cut.isEmpty()).isTrue();
+        assertThat(cut.containsLong(0)).isFalse();
+        assertThat(cut.containsLong(50)).isFalse();
+    }
+
+    @Test
+    void iterator_remove__always__removesReturnedElement() {
+        var cut = new StripedLongHashSet();
+        for (long i = 0; i < 100; i++)
+            cut.addLong(i);
+
+        var iterator = cut.iterator();
+        while (iterator.hasNext())
+            if (iterator.nextLong() % 3 == 0)
+                iterator.remove();
+
+        assertThat(cut).isEqualTo(LongStream.range(0, 100).filter(i -> i % 3 != 0)
+                .boxed().collect(Collectors.toSet()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1000, 100_000 })
+    void removeIfLong__always__removesMatchingElements(int size) {
+        var cut = new StripedLongHashSet();
+        for (long i = 0; i < size; i++)
+            cut.addLong(i);
+
+        var result = cut.removeIfLong(l -> (l & 1) == 0);
+
+        assertThat(result).isTrue();
+        assertThat(cut.size()).isEqualTo(size / 2);
+        for (long i = 0; i < size; i++)
+            assertThat(cut.containsLong(i)).isEqualTo((i & 1) != 0);
+    }
+
+    @Test
+    void removeIfLong__noMatchingElements__returnsFalse() {
+        var cut = new StripedLongHashSet();
+        for (long i = 1; i <= 100; i++)
+            cut.addLong(i);
+
+        var result = cut.removeIfLong(l -> l > 100);
+
+        assertThat(result).isFalse();
+        assertThat(cut.size()).isEqualTo(100);
+    }
+
+    @Test
+    void removeIfLong__filterThrows__leavesSegmentUnchanged() {
+        var cut = new StripedLongHashSet(16, .75f, 1);
+        for (long i = 0; i < 100; i++)
+            cut.addLong(i);
+
+        var t = catchThrowable(() -> cut.removeIfLong(l -> {
+            if (l == 50)
+                throw new IllegalStateException();
+            return true;
+        }));
+
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+        assertThat(cut.size()).isEqualTo(100);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void removeLong__randomOperations__matchesBoxedSet(long seed) {
+        var random = new Random(seed);
+        var cut = new StripedLongHashSet(0);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            long v = random.nextInt(1024) * 0x1_0000_0001L;
+            if (random.nextBoolean())
+                assertThat(cut.addLong(v)).isEqualTo(expected.add(v));
+            else
+                assertThat(cut.removeLong(v)).isEqualTo(expected.remove(v));
+        }
+
+        assertThat(cut.size()).isEqualTo(expected.size());
+        assertThat(cut).isEqualTo(expected);
+    }
+
+    @Test
+    void spliterator__splitRecursively__visitsEachElementOnce() {
+        var cut = new StripedLongHashSet();
+        for (long i = 0; i < 10_000; i++)
+            cut.addLong(i * 7);
+
+        var result = cut.parallelPrimitiveStream().boxed().collect(Collectors.toList());
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(
+                LongStream.range(0, 10_000).map(i -> i * 7).boxed().toList());
+        assertThat(cut.spliterator().hasCharacteristics(Spliterator.CONCURRENT)).isTrue();
+    }
+
+    @Test
+    void addLong__concurrentDisjointAdds__addsEveryElement() throws InterruptedException {
+        var cut = new StripedLongHashSet(0);
+        int threads = 8;
+        int perThread = 50_000;
+        var barrier = new CyclicBarrier(threads);
+        var failures = new ArrayList<Throwable>();
+        var workers = new ArrayList<Thread>();
+        for (int i = 0; i < threads; i++) {
+            long id = i;
+            workers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    barrier.await();
+                    for (long j = 0; j < perThread; j++) {
+                        long v = id * perThread + j;
+                        assertThat(cut.addLong(v)).isTrue();
+                        assertThat(cut.containsLong(v)).isTrue();
+                    }
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                }
+            }));
+        }
+        for (var worker : workers)
+            worker.join();
+
+        assertThat(failures).isEmpty();
+        assertThat(cut.size()).isEqualTo(threads * perThread);
+        for (long j = 0; j < (long) threads * perThread; j++)
+            assertThat(cut.containsLong(j)).isTrue();
+    }
+}
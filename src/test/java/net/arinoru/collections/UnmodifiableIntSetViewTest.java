@@ -1011,6 +1011,7 @@ class UnmodifiableIntSetViewTest {
         var cut = new UnmodifiableIntSetView(set, ForwardingType.SHALLOW);
         when(set.iterator()).thenReturn(iterator);
         when(set.size()).thenReturn(3);
+        doCallRealMethod().when(iterator).forEachRemaining(any(IntConsumer.class));
         when(iterator.hasNext()).thenReturn(true, true, true, false);
         when(iterator.nextInt()).thenReturn(1, 2, 3);
 
@@ -1019,6 +1020,7 @@ class UnmodifiableIntSetViewTest {
         assertThat(result).containsExactly(1, 2, 3);
         verify(set).iterator();
         verify(set).size();
+        verify(iterator).forEachRemaining(any(IntConsumer.class));
         verify(iterator, times(4)).hasNext();
         verify(iterator, times(3)).nextInt();
         verifyNoMoreInteractions(set, iterator);
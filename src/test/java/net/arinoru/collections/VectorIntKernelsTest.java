@@ -0,0 +1,100 @@
+package net.arinoru.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VectorIntKernelsTest {
+    private final VectorIntKernels cut = new VectorIntKernels();
+
+    private static int[] sortedDistinct(Random random, int size, int bound) {
+        return random.ints(size * 2L, -bound, bound).distinct().limit(size).sorted().toArray();
+    }
+
+    @Test
+    void isVectorized__vectorModuleAdded__returnsTrue() {
+        assertThat(IntKernels.isVectorized()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 7, 8, 16, 17, 33, 1000 })
+    void indexOf__everyKeyInRange__matchesScalarScan(int size) {
+        var a = IntStream.range(0, size).map(i -> i % 5 - 2).toArray();
+
+        for (int from = 0; from <= Math.min(size, 3); from++)
+            for (int key = -3; key <= 3; key++)
+                assertThat(cut.indexOf(a, from, size, key))
+                        .isEqualTo(IntKernels.scalarIndexOf(a, from, size, key));
+    }
+
+    @Test
+    void indexOf__keyOnlyInTail__returnsTailIndex() {
+        var a = new int[cut.length() * 3 + 1];
+        a[a.length - 1] = 42;
+
+        assertThat(cut.indexOf(a, 0, a.length, 42)).isEqualTo(a.length - 1);
+        assertThat(cut.indexOf(a, 0, a.length - 1, 42)).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void containsAllSorted__randomArrays__matchesScalarMerge(long seed) {
+        var random = new Random(seed);
+        for (int n = 0; n < 500; n++) {
+            int bound = 1 + random.nextInt(2000);
+            var a = sortedDistinct(random, cut.length() + random.nextInt(bound), bound);
+            var b = random.nextBoolean()
+                    ? IntStream.of(a).filter(i -> random.nextInt(8) != 0).toArray()
+                    : sortedDistinct(random, random.nextInt(Math.min(a.length, 40) + 1), bound);
+
+            assertThat(cut.containsAllSorted(a, b))
+                    .isEqualTo(IntKernels.scalarContainsAllSorted(a, 0, b, 0));
+        }
+    }
+
+    @Test
+    void containsAllSorted__elementsInEveryWindowAndTail__findsEveryElement() {
+        var a = IntStream.range(0, cut.length() * 4 + 3).map(i -> i * 2).toArray();
+
+        assertThat(cut.containsAllSorted(a, a)).isTrue();
+        assertThat(cut.containsAllSorted(a, new int[] { 0, a[a.length - 1] })).isTrue();
+        assertThat(cut.containsAllSorted(a, new int[] { 0, a[a.length - 1] + 2 })).isFalse();
+        assertThat(cut.containsAllSorted(a, new int[] { -2, 0 })).isFalse();
+        assertThat(cut.containsAllSorted(a, new int[] { 0, 3 })).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3 })
+    void intersectSorted__randomArrays__matchesScalarMerge(long seed) {
+        var random = new Random(seed);
+        for (int n = 0; n < 500; n++) {
+            int bound = 1 + random.nextInt(2000);
+            var a = sortedDistinct(random, cut.length() + random.nextInt(bound), bound);
+            var b = sortedDistinct(random, random.nextInt(a.length + 1), bound);
+            var expected = new int[b.length];
+            int count = IntKernels.scalarIntersectSorted(a, 0, b, 0, expected, 0);
+            var result = new int[b.length];
+
+            assertThat(cut.intersectSorted(a, b, result)).isEqualTo(count);
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void intersectSorted__extremeValues__keepsEveryCommonElement() {
+        var a = IntStream.concat(IntStream.of(Integer.MIN_VALUE),
+                IntStream.concat(IntStream.range(0, cut.length() * 3), IntStream.of(Integer.MAX_VALUE))).toArray();
+        var b = new int[] { Integer.MIN_VALUE, -1, 1, cut.length() * 3, Integer.MAX_VALUE };
+        var result = new int[b.length];
+
+        int n = cut.intersectSorted(a, b, result);
+
+        assertThat(result).startsWith(Integer.MIN_VALUE, 1, Integer.MAX_VALUE);
+        assertThat(n).isEqualTo(3);
+    }
+}